@@ -0,0 +1,174 @@
+package org.example.internship.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.example.internship.model.task.Solution;
+import org.example.internship.model.task.SolutionStatus;
+import org.example.internship.model.task.Task;
+import org.example.internship.model.user.User;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение вставки решений с идентификаторами из identity-столбца и из последовательности,
+ * которая выделяет идентификаторы блоками по 50.
+ * <br>
+ * При identity Hibernate выполняет INSERT сразу в persist, чтобы узнать идентификатор, и пакетная вставка
+ * отключается: каждая строка отправляется отдельным запросом. При последовательности на каждые 50 строк
+ * приходится одно обращение к последовательности и один пакет INSERT. Вариант identity получается
+ * переопределением генерации идентификатора решения в identity-ids.xml, столбец id при этом заполняется
+ * значением по умолчанию из последовательности.
+ * <br>
+ * Одно измерение — вставка rows решений в пустую таблицу в одной транзакции с настройками пакетной записи
+ * из application.properties. Счетчик statements показывает число подготовленных JDBC-запросов за вставку
+ * по статистике Hibernate.
+ * <br>
+ * Запуск: {@code BENCHMARK_DB_URL=jdbc:postgresql://localhost:5432/benchmark gradle jmh}; пользователь
+ * и пароль задаются переменными BENCHMARK_DB_USER и BENCHMARK_DB_PASSWORD. Перед каждым запуском
+ * база полностью очищается.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BatchInsertBenchmark {
+    private static final int TASKS = 100;
+    private static final int USERS = 100;
+
+    @Param({"identity", "sequence"})
+    private String ids;
+
+    @Param({"10000"})
+    private int rows;
+
+    private HikariDataSource dataSource;
+    private EntityManagerFactory entityManagerFactory;
+    private Statistics statistics;
+
+    /**
+     * Число подготовленных JDBC-запросов за итерацию; в режиме SingleShotTime итерация — одна вставка.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        public long statements;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            statements = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() throws SQLException {
+        String url = System.getenv("BENCHMARK_DB_URL");
+        if (url == null || url.isBlank()) {
+            throw new IllegalStateException("BENCHMARK_DB_URL is not set");
+        }
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(System.getenv("BENCHMARK_DB_USER"));
+        dataSource.setPassword(System.getenv("BENCHMARK_DB_PASSWORD"));
+        dataSource.addDataSourceProperty("reWriteBatchedInserts", "true");
+
+        Flyway flyway = Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .cleanDisabled(false)
+                .load();
+        flyway.clean();
+        flyway.migrate();
+        execute(List.of(
+                "INSERT INTO internships (id, name, description, start_date, end_date, registration_end_date, " +
+                        "status) VALUES (1, 'internship', 'description', current_date, current_date + 90, " +
+                        "current_date, 'OPEN')",
+                "INSERT INTO lessons (id, name, description, is_published, internship_id) " +
+                        "VALUES (1, 'lesson', 'description', true, 1)",
+                "INSERT INTO tasks (id, name, description, publish_date, repository, repository_id, lesson_id) " +
+                        "SELECT i, 'task ' || i, 'description', current_date - 1, 'repository-' || i, i, 1 " +
+                        "FROM generate_series(1, " + TASKS + ") i",
+                "INSERT INTO users (id, username, name, email, password, role, internship_id) " +
+                        "SELECT i, 'user' || i, 'User ' || i, 'user' || i || '@example.com', 'password', 'USER', 1 " +
+                        "FROM generate_series(1, " + USERS + ") i"));
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("org.example.internship.model");
+        if ("identity".equals(ids)) {
+            factoryBean.setMappingResources("identity-ids.xml");
+        }
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName(),
+                "hibernate.jdbc.batch_size", "50",
+                "hibernate.order_inserts", "true",
+                "hibernate.order_updates", "true",
+                "hibernate.generate_statistics", "true"));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManagerFactory.close();
+        dataSource.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void clear() throws SQLException {
+        execute(List.of("TRUNCATE task_solutions"));
+        statistics.clear();
+    }
+
+    @Benchmark
+    public void insertSolutions(Counters counters) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            LocalDateTime now = LocalDateTime.now();
+            for (int i = 0; i < rows; i++) {
+                entityManager.persist(Solution.builder()
+                        .repositoryUrl("repository-" + i)
+                        .lastCommitTime(now)
+                        .lastCommitUrl("commit-" + i)
+                        .isArchived(false)
+                        .status(SolutionStatus.SENT)
+                        .task(entityManager.getReference(Task.class, (long) (i % TASKS + 1)))
+                        .user(entityManager.getReference(User.class, (long) (i / TASKS % USERS + 1)))
+                        .build());
+            }
+            entityManager.getTransaction().commit();
+        } finally {
+            entityManager.close();
+        }
+        counters.statements += statistics.getPrepareStatementCount();
+    }
+
+    private void execute(List<String> sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String query : sql) {
+                statement.execute(query);
+            }
+        }
+    }
+}
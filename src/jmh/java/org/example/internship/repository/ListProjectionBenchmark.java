@@ -0,0 +1,182 @@
+package org.example.internship.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.example.internship.dto.response.application.ApplicationDto;
+import org.example.internship.dto.response.solution.SolutionDto;
+import org.example.internship.mapper.ApplicationMapper;
+import org.example.internship.mapper.SolutionMapper;
+import org.example.internship.model.application.Application;
+import org.example.internship.model.task.Solution;
+import org.flywaydb.core.Flyway;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Сравнение загрузки списков решений и заявок через сущности с последующим маппингом
+ * и через конструкторные проекции репозиториев прямо в DTO ответа.
+ * <br>
+ * Оба варианта выполняются в сессии только для чтения, как при {@code @Transactional(readOnly = true)}.
+ * Профилировщик gc показывает объем памяти, выделяемой на один список; деление на параметр rows
+ * дает выделение на строку.
+ * <br>
+ * Запуск: {@code BENCHMARK_DB_URL=jdbc:postgresql://localhost:5432/benchmark gradle jmh}; пользователь
+ * и пароль задаются переменными BENCHMARK_DB_USER и BENCHMARK_DB_PASSWORD. Перед каждым запуском
+ * база полностью очищается.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListProjectionBenchmark {
+
+    @Param({"1000", "10000"})
+    private int rows;
+
+    private HikariDataSource dataSource;
+    private EntityManagerFactory entityManagerFactory;
+    private SolutionMapper solutionMapper;
+    private ApplicationMapper applicationMapper;
+
+    @Setup
+    public void setUp() throws SQLException {
+        String url = System.getenv("BENCHMARK_DB_URL");
+        if (url == null || url.isBlank()) {
+            throw new IllegalStateException("BENCHMARK_DB_URL is not set");
+        }
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(System.getenv("BENCHMARK_DB_USER"));
+        dataSource.setPassword(System.getenv("BENCHMARK_DB_PASSWORD"));
+
+        Flyway flyway = Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .cleanDisabled(false)
+                .load();
+        flyway.clean();
+        flyway.migrate();
+        seed();
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("org.example.internship.model");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName()));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+
+        solutionMapper = Mappers.getMapper(SolutionMapper.class);
+        applicationMapper = Mappers.getMapper(ApplicationMapper.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManagerFactory.close();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public List<SolutionDto> solutionEntities() {
+        return readOnly(entityManager -> entityManager
+                .createQuery("SELECT s FROM Solution s ORDER BY s.id", Solution.class)
+                .getResultList().stream()
+                .map(solutionMapper::modelToDto)
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public List<SolutionDto> solutionProjection() {
+        return readOnly(entityManager -> entityManager
+                .createQuery(SolutionRepository.SELECT_DTO + "ORDER BY s.id", SolutionDto.class)
+                .getResultList());
+    }
+
+    @Benchmark
+    public List<ApplicationDto> applicationEntities() {
+        return readOnly(entityManager -> entityManager
+                .createQuery("SELECT a FROM Application a ORDER BY a.id", Application.class)
+                .getResultList().stream()
+                .map(applicationMapper::toDto)
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public List<ApplicationDto> applicationProjection() {
+        return readOnly(entityManager -> entityManager
+                .createQuery(ApplicationRepository.SELECT_DTO + "ORDER BY a.id", ApplicationDto.class)
+                .getResultList());
+    }
+
+    private <T> T readOnly(Function<EntityManager, T> query) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            Session session = entityManager.unwrap(Session.class);
+            session.setDefaultReadOnly(true);
+            session.setHibernateFlushMode(FlushMode.MANUAL);
+            entityManager.getTransaction().begin();
+            T result = query.apply(entityManager);
+            entityManager.getTransaction().commit();
+            return result;
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    /**
+     * Заполнение базы: rows решений (сто заданий на каждого пользователя) и rows заявок.
+     */
+    private void seed() throws SQLException {
+        int users = Math.max(1, rows / 100);
+        List<String> seed = List.of(
+                "INSERT INTO internships (id, name, description, start_date, end_date, registration_end_date, " +
+                        "status) VALUES (1, 'internship', 'description', current_date, current_date + 90, " +
+                        "current_date, 'OPEN')",
+                "INSERT INTO lessons (id, name, description, is_published, internship_id) " +
+                        "SELECT i, 'lesson ' || i, repeat('x', 500), true, 1 FROM generate_series(1, 10) i",
+                "INSERT INTO tasks (id, name, description, publish_date, repository, repository_id, lesson_id) " +
+                        "SELECT i, 'task ' || i, repeat('x', 500), current_date - 1, 'repository-' || i, i, " +
+                        "(i - 1) / 10 + 1 FROM generate_series(1, 100) i",
+                "INSERT INTO users (id, username, name, email, password, role, internship_id) " +
+                        "SELECT i, 'user' || i, 'User ' || i, 'user' || i || '@example.com', 'password', 'USER', 1 " +
+                        "FROM generate_series(1, " + users + ") i",
+                "INSERT INTO task_solutions (last_commit_time, last_commit_url, repository_url, status, task_id, " +
+                        "user_id, is_archived) " +
+                        "SELECT now(), 'commit-' || u.id || '-' || t.id, 'repository-' || u.id || '-' || t.id, " +
+                        "'SENT', t.id, u.id, false FROM users u CROSS JOIN tasks t",
+                "INSERT INTO applications (full_name, email, phone_number, username, telegram_id, about, " +
+                        "birth_date, city, education_status, university, faculty, specialty, course, status, " +
+                        "internship_id) " +
+                        "SELECT 'Applicant ' || i, 'applicant' || i || '@example.com', '+7900' || i, " +
+                        "'applicant' || i, '@applicant' || i, repeat('x', 200), date '2000-01-01', 'city', " +
+                        "'STUDENT', 'university', 'faculty', 'specialty', 3, 'SENT', 1 " +
+                        "FROM generate_series(1, " + rows + ") i",
+                "ANALYZE");
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String sql : seed) {
+                statement.execute(sql);
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.internship.service.gitlab;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.gitlab4j.api.models.Project;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Пропускная способность форков при публикации заданий через {@link GitlabServiceImpl}
+ * и заглушку {@link FakeGitlabServer} вместо контейнера GitLab.
+ * <br>
+ * Запуск: {@code gradle jmh}. Параметры: задержка ответа заглушки, ограничение частоты запросов клиента
+ * и транспорт — пул соединений Apache HttpClient или транспорт GitLab API по умолчанию.
+ * Число потоков соответствует параллелизму публикации по умолчанию.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class GitlabForkBenchmark {
+
+    @Param({"0", "20"})
+    private long latencyMillis;
+
+    @Param({"10", "1000"})
+    private double requestsPerSecond;
+
+    @Param({"true", "false"})
+    private boolean pooled;
+
+    private FakeGitlabServer gitlab;
+    private GitlabConnectionPool connectionPool;
+    private GitlabClient gitlabClient;
+    private GitlabServiceImpl gitlabService;
+    private long repositoryId;
+    private final AtomicLong namespaces = new AtomicLong();
+
+    @Setup
+    public void setUp() throws Exception {
+        gitlab = new FakeGitlabServer();
+        gitlab.setLatency(latencyMillis);
+        repositoryId = gitlab.addProject("task").id;
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        connectionPool = new GitlabConnectionPool(meterRegistry, pooled, 32, 16, 300000, 2000);
+        gitlabClient = new GitlabClient(gitlab.getUrl(), "token", 1000, 5000, connectionPool, meterRegistry,
+                new GitlabCircuitBreaker(meterRegistry, 5, 30000),
+                requestsPerSecond, 20, 0, 1000, 3, 16, 32, 15000);
+        gitlabService = new GitlabServiceImpl(gitlabClient, meterRegistry, 10000, 60000, 60000, 60000);
+    }
+
+    @TearDown
+    public void tearDown() {
+        gitlabClient.stop();
+        connectionPool.stop();
+        gitlab.close();
+    }
+
+    @Benchmark
+    public Project fork() {
+        return gitlabService.forkRepository(repositoryId, "user" + namespaces.incrementAndGet());
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.internship.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.internship.dto.request.solution.SolutionPushDto;
+import org.gitlab4j.api.systemhooks.PushSystemHookEvent;
+import org.gitlab4j.api.utils.JacksonJson;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение потокового разбора события пуша с привязкой к {@link PushSystemHookEvent}.
+ * <br>
+ * Запуск: {@code gradle jmh}. Параметры события: число коммитов и число измененных файлов в каждом коммите.
+ * Профилировщик gc показывает объем памяти, выделяемой на один разбор.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PushEventParserBenchmark {
+
+    @Param({"3", "20"})
+    private int commits;
+
+    @Param({"5", "1000"})
+    private int filesPerCommit;
+
+    private byte[] payload;
+    private ObjectMapper objectMapper;
+    private PushEventParser pushEventParser;
+
+    @Setup
+    public void setUp() {
+        payload = payload(commits, filesPerCommit).getBytes(StandardCharsets.UTF_8);
+        objectMapper = new JacksonJson().getObjectMapper();
+        pushEventParser = new PushEventParser();
+    }
+
+    @Benchmark
+    public PushSystemHookEvent eventBinding() throws Exception {
+        return objectMapper.readValue(payload, PushSystemHookEvent.class);
+    }
+
+    @Benchmark
+    public SolutionPushDto streamingParser() {
+        return pushEventParser.parse(payload);
+    }
+
+    private static String payload(int commits, int filesPerCommit) {
+        StringBuilder json = new StringBuilder()
+                .append("{\"event_name\": \"push\", \"ref\": \"refs/heads/master\", \"user_id\": 4,")
+                .append("\"user_name\": \"John Smith\", \"user_username\": \"jsmith\", \"project_id\": 15,")
+                .append("\"project\": {\"id\": 15, \"name\": \"task-1\", \"namespace\": \"jsmith\",")
+                .append("\"web_url\": \"https://gitlab.localhost.com/jsmith/task-1\"},")
+                .append("\"repository\": {\"name\": \"task-1\", \"url\": \"git@gitlab.localhost.com:jsmith/task-1.git\"},")
+                .append("\"commits\": [");
+        for (int i = 0; i < commits; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\": \"").append(String.format("%040x", i)).append("\",")
+                    .append("\"message\": \"").append("Commit message line. ".repeat(20)).append("\",")
+                    .append("\"timestamp\": \"2024-01-01T12:").append(String.format("%02d", i % 60)).append(":00+03:00\",")
+                    .append("\"url\": \"https://gitlab.localhost.com/jsmith/task-1/commit/").append(i).append("\",")
+                    .append("\"author\": {\"name\": \"John Smith\", \"email\": \"jsmith@example.com\"},")
+                    .append("\"added\": [], \"removed\": [], \"modified\": [");
+            for (int j = 0; j < filesPerCommit; j++) {
+                if (j > 0) {
+                    json.append(',');
+                }
+                json.append("\"src/main/java/org/example/module").append(j).append("/File").append(j).append(".java\"");
+            }
+            json.append("]}");
+        }
+        return json.append("], \"total_commits_count\": ").append(commits).append('}').toString();
+    }
+}
@@ -47,7 +47,8 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                         "/api/solution/add",
                         "/api-docs",
                         "/swagger-ui/**",
-                        "/v3/api-docs").permitAll()
+                        "/v3/api-docs",
+                        "/actuator/health/**").permitAll()
                 .anyRequest().authenticated()
                 .and()
                 .httpBasic().authenticationEntryPoint(authEntryPoint)
@@ -11,19 +11,22 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.example.internship.dto.request.application.ApplicationStatusDto;
 import org.example.internship.dto.request.application.NewApplicationDto;
+import org.example.internship.dto.response.CursorPage;
 import org.example.internship.dto.response.application.ApplicationDto;
 import org.example.internship.dto.response.internship.PublicInternshipDto;
 import org.example.internship.exception.ExceptionResponse;
 import org.example.internship.service.application.ApplicationService;
+import org.example.internship.service.export.ExportFormat;
+import org.example.internship.service.export.ExportService;
 import org.example.internship.service.internship.InternshipService;
 import org.example.internship.utils.Validator;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
-import java.util.List;
 
 
 /**
@@ -38,6 +41,7 @@ public class ApplicationController {
     private final ApplicationService applicationService;
     private final Validator validator;
     private final InternshipService internshipService;
+    private final ExportService exportService;
 
     /**
      * Создание новой заявки на стажировку.
@@ -99,45 +103,89 @@ public class ApplicationController {
     }
 
     /**
-     * Получение всех заявок на стажировку.
+     * Получение страницы заявок на стажировку.
      * Доступно только пользователям с ролью ADMIN.
      *
-     * @return ResponseEntity с списком объектов ApplicationDto и HTTP-статусом 200 OK,
+     * @param status       статус заявки (необязательный параметр)
+     * @param internshipId идентификатор стажировки (необязательный параметр)
+     * @param cursor       идентификатор последнего элемента предыдущей страницы (необязательный параметр)
+     * @param limit        размер страницы, не больше 500 (необязательный параметр, по умолчанию 50)
+     * @return ResponseEntity со страницей объектов ApplicationDto и HTTP-статусом 200 OK,
      * или ResponseEntity с HTTP-статусом 204 NO CONTENT, если заявки не найдены.
      */
     @GetMapping("/all")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Получить все заявки на стажировку",
-            description = "Возвращает список всех заявок на стажировку с указанным статусом (если он указан). " +
+            description = "Возвращает страницу заявок на стажировку с указанным статусом (если он указан) " +
+                    "в порядке возрастания идентификатора. Следующая страница запрашивается с курсором next_cursor. " +
                     "Доступно только администраторам.")
     @SecurityRequirement(name = "basicAuth")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Список заявок получен"),
             @ApiResponse(responseCode = "204", description = "Заявки не найдены"),
+            @ApiResponse(responseCode = "400", description = "Некорректный курсор или размер страницы"),
             @ApiResponse(responseCode = "403", description = "У пользователя нет нужных прав")
     })
     @Parameters({
             @Parameter(name = "status", description = "Статус заявки для получения заявок с определенным статусом"),
-            @Parameter(name = "internshipId", description = "Идентификатор стажировки, на которую была оставлена заявка")
+            @Parameter(name = "internshipId", description = "Идентификатор стажировки, на которую была оставлена заявка"),
+            @Parameter(name = "cursor", description = "Курсор страницы: значение next_cursor из предыдущего ответа"),
+            @Parameter(name = "limit", description = "Размер страницы, не больше 500 (по умолчанию 50)")
     })
-    public ResponseEntity<List<ApplicationDto>> getAllApplications(@RequestParam(required = false) String status,
-                                                                   @RequestParam(required = false) Long internshipId) {
-        List<ApplicationDto> applications;
+    public ResponseEntity<CursorPage<ApplicationDto>> getAllApplications(@RequestParam(required = false) String status,
+                                                                         @RequestParam(required = false) Long internshipId,
+                                                                         @RequestParam(required = false) Long cursor,
+                                                                         @RequestParam(required = false) Integer limit) {
+        CursorPage<ApplicationDto> applications;
         if (status == null && internshipId == null) {
-            applications = applicationService.getAll();
+            applications = applicationService.getAll(cursor, limit);
         } else if (status != null && internshipId == null) {
-            applications = applicationService.getByStatus(status);
+            applications = applicationService.getByStatus(status, cursor, limit);
         } else if (status == null) {
-            applications = applicationService.getAllByInternshipId(internshipId);
+            applications = applicationService.getAllByInternshipId(internshipId, cursor, limit);
         } else {
-            applications = applicationService.getAllByInternshipIdAndStatus(internshipId, status);
+            applications = applicationService.getAllByInternshipIdAndStatus(internshipId, status, cursor, limit);
         }
-        if (applications.isEmpty()) {
+        if (applications.getItems().isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
         }
         return new ResponseEntity<>(applications, HttpStatus.OK);
     }
 
+    /**
+     * Выгрузка заявок на стажировку в файл.
+     * Заявки передаются клиенту по мере чтения из базы.
+     * Доступно только пользователям с ролью ADMIN.
+     *
+     * @param status       статус заявки (необязательный параметр)
+     * @param internshipId идентификатор стажировки (необязательный параметр)
+     * @param format       формат файла (csv или xlsx)
+     * @return ResponseEntity с файлом заявок и HTTP-статусом 200 OK.
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Выгрузить заявки на стажировку",
+            description = "Потоково выгружает заявки на стажировку с указанным статусом и стажировкой (если они указаны) " +
+                    "в формате CSV или XLSX. Доступно только администраторам.")
+    @SecurityRequirement(name = "basicAuth")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Файл заявок"),
+            @ApiResponse(responseCode = "400", description = "Неизвестный формат файла или статус заявки"),
+            @ApiResponse(responseCode = "403", description = "У пользователя нет нужных прав")
+    })
+    @Parameters({
+            @Parameter(name = "status", description = "Статус заявки для получения заявок с определенным статусом"),
+            @Parameter(name = "internshipId", description = "Идентификатор стажировки, на которую была оставлена заявка"),
+            @Parameter(name = "format", description = "Формат файла: csv или xlsx")
+    })
+    public ResponseEntity<StreamingResponseBody> exportApplications(@RequestParam(required = false) String status,
+                                                                    @RequestParam(required = false) Long internshipId,
+                                                                    @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.fromString(format);
+        StreamingResponseBody body = exportService.exportApplications(status, internshipId, exportFormat);
+        return new ResponseEntity<>(body, exportFormat.attachmentHeaders("applications"), HttpStatus.OK);
+    }
+
     /**
      * Получение заявки на стажировку по идентификатору.
      * Доступно только пользователям с ролью ADMIN.
@@ -3,6 +3,7 @@ package org.example.internship.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -11,16 +12,24 @@ import lombok.RequiredArgsConstructor;
 import org.example.internship.dto.request.internship.InternshipStatusDto;
 import org.example.internship.dto.request.internship.NewInternshipDto;
 import org.example.internship.dto.request.internship.UpdateInternshipDto;
+import org.example.internship.dto.response.CursorPage;
 import org.example.internship.dto.response.ReportDto;
+import org.example.internship.dto.response.gradebook.GradebookCheckDto;
 import org.example.internship.dto.response.internship.AdminInternshipDto;
+import org.example.internship.dto.response.internship.ArchiveReportDto;
 import org.example.internship.dto.response.internship.PublicInternshipDto;
 import org.example.internship.exception.ExceptionResponse;
+import org.example.internship.service.export.ExportFormat;
+import org.example.internship.service.export.ExportService;
+import org.example.internship.service.gradebook.GradebookService;
+import org.example.internship.service.internship.InternshipArchiveService;
 import org.example.internship.service.internship.InternshipService;
 import org.example.internship.utils.Validator;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -34,6 +43,9 @@ import java.util.List;
 public class InternshipController {
     private final InternshipService internshipService;
     private final Validator validator;
+    private final ExportService exportService;
+    private final GradebookService gradebookService;
+    private final InternshipArchiveService internshipArchiveService;
 
     /**
      * Создание новой программы стажировки.
@@ -89,32 +101,43 @@ public class InternshipController {
     }
 
     /**
-     * Получение списка всех программ стажировок.
+     * Получение страницы программ стажировок.
      * Доступно только пользователям с ролью ADMIN.
      *
      * @param status фильтр по статусу программы стажировки (необязательный)
-     * @return HTTP-ответ со списком программ стажировок и кодом состояния 200 OK в случае успешного получения данных,
+     * @param cursor идентификатор последнего элемента предыдущей страницы (необязательный параметр)
+     * @param limit  размер страницы, не больше 500 (необязательный параметр, по умолчанию 50)
+     * @return HTTP-ответ со страницей программ стажировок и кодом состояния 200 OK в случае успешного получения данных,
      * или кодом состояния 204 NO CONTENT, если список пуст
      */
     @GetMapping("/all")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Получить все стажировки",
-            description = "Возвращает список всех стажировок c указанным статусом (если он указан). Доступно только администраторам.")
+            description = "Возвращает страницу стажировок c указанным статусом (если он указан) в порядке возрастания " +
+                    "идентификатора. Следующая страница запрашивается с курсором next_cursor. " +
+                    "Доступно только администраторам.")
     @SecurityRequirement(name = "basicAuth")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Список стажировок"),
             @ApiResponse(responseCode = "204", description = "Список пуст"),
+            @ApiResponse(responseCode = "400", description = "Некорректный курсор или размер страницы"),
             @ApiResponse(responseCode = "403", description = "У пользователя нет нужных прав")
     })
-    @Parameter(name = "status", description = "Статус стажировки")
-    public ResponseEntity<List<AdminInternshipDto>> getAllInternships(@RequestParam(required = false) String status) {
-        List<AdminInternshipDto> internships;
+    @Parameters({
+            @Parameter(name = "status", description = "Статус стажировки"),
+            @Parameter(name = "cursor", description = "Курсор страницы: значение next_cursor из предыдущего ответа"),
+            @Parameter(name = "limit", description = "Размер страницы, не больше 500 (по умолчанию 50)")
+    })
+    public ResponseEntity<CursorPage<AdminInternshipDto>> getAllInternships(@RequestParam(required = false) String status,
+                                                                            @RequestParam(required = false) Long cursor,
+                                                                            @RequestParam(required = false) Integer limit) {
+        CursorPage<AdminInternshipDto> internships;
         if (status != null) {
-            internships = internshipService.getByStatus(status);
+            internships = internshipService.getByStatus(status, cursor, limit);
         } else {
-            internships = internshipService.getAll();
+            internships = internshipService.getAll(cursor, limit);
         }
-        if (internships.isEmpty()) {
+        if (internships.getItems().isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
         }
         return new ResponseEntity<>(internships, HttpStatus.OK);
@@ -211,4 +234,107 @@ public class InternshipController {
         List<ReportDto> report = internshipService.createReport(id);
         return new ResponseEntity<>(report, HttpStatus.OK);
     }
+
+    /**
+     * Закрытие программы стажировки: архивирование участников и их решений, блокировка аккаунтов в GitLab
+     * и сохранение итоговой ведомости.
+     * Доступно только пользователям с ролью ADMIN.
+     *
+     * @param id идентификатор программы стажировки
+     * @return HTTP-ответ с отчетом о закрытии стажировки и кодом состояния 200 OK
+     */
+    @PostMapping("/{id}/archive")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Закрыть стажировку",
+            description = "Помещает в архив участников стажировки и их решения, блокирует их аккаунты в GitLab " +
+                    "и сохраняет итоговую ведомость. Доступно только администраторам")
+    @SecurityRequirement(name = "basicAuth")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Стажировка закрыта, отчет содержит неудачные блокировки"),
+            @ApiResponse(responseCode = "400", description = "Стажировка уже закрыта"),
+            @ApiResponse(responseCode = "404", description = "Стажировка не найдена"),
+            @ApiResponse(responseCode = "403", description = "У пользователя нет нужных прав")
+    })
+    @Parameter(name = "id", description = "Идентификатор стажировки", required = true)
+    public ResponseEntity<ArchiveReportDto> archive(@PathVariable Long id) {
+        return new ResponseEntity<>(internshipArchiveService.archive(id), HttpStatus.OK);
+    }
+
+    /**
+     * Перестроение ведомости о программе стажировки, хранящейся в памяти, по базе данных.
+     * Доступно только пользователям с ролью ADMIN.
+     *
+     * @param id идентификатор программы стажировки
+     * @return HTTP-ответ с кодом состояния 200 OK в случае успешного перестроения ведомости
+     */
+    @PostMapping("/{id}/gradebook/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Перестроить ведомость стажировки",
+            description = "Заново строит ведомость стажировки в памяти по данным из базы. Доступно только администраторам")
+    @SecurityRequirement(name = "basicAuth")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Ведомость перестроена"),
+            @ApiResponse(responseCode = "404", description = "Стажировка не найдена"),
+            @ApiResponse(responseCode = "403", description = "У пользователя нет нужных прав")
+    })
+    @Parameter(name = "id", description = "Идентификатор стажировки", required = true)
+    public ResponseEntity<Void> rebuildGradebook(@PathVariable Long id) {
+        gradebookService.rebuild(id);
+        return new ResponseEntity<>(HttpStatus.OK);
+    }
+
+    /**
+     * Проверка ведомости о программе стажировки, хранящейся в памяти, на соответствие базе данных.
+     * Доступно только пользователям с ролью ADMIN.
+     *
+     * @param id идентификатор программы стажировки
+     * @return HTTP-ответ с результатом проверки и кодом состояния 200 OK
+     */
+    @GetMapping("/{id}/gradebook/verify")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Проверить ведомость стажировки",
+            description = "Сравнивает ведомость стажировки в памяти с данными из базы и возвращает расхождения. " +
+                    "Доступно только администраторам")
+    @SecurityRequirement(name = "basicAuth")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Проверка выполнена"),
+            @ApiResponse(responseCode = "404", description = "Стажировка не найдена"),
+            @ApiResponse(responseCode = "403", description = "У пользователя нет нужных прав")
+    })
+    @Parameter(name = "id", description = "Идентификатор стажировки", required = true)
+    public ResponseEntity<GradebookCheckDto> verifyGradebook(@PathVariable Long id) {
+        return new ResponseEntity<>(gradebookService.verify(id), HttpStatus.OK);
+    }
+
+    /**
+     * Выгрузка ведомости о программе стажировки в файл.
+     * Строки ведомости формируются и передаются клиенту по мере чтения из базы.
+     * Доступно только пользователям с ролью ADMIN.
+     *
+     * @param id     идентификатор программы стажировки
+     * @param format формат файла (csv или xlsx)
+     * @return HTTP-ответ с файлом ведомости и кодом состояния 200 OK
+     */
+    @GetMapping("/{id}/report/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Выгрузить ведомость стажировки",
+            description = "Потоково выгружает ведомость об успеваемости участников стажировки в формате CSV или XLSX. " +
+                    "Доступно только администраторам")
+    @SecurityRequirement(name = "basicAuth")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Файл ведомости"),
+            @ApiResponse(responseCode = "400", description = "Неизвестный формат файла"),
+            @ApiResponse(responseCode = "404", description = "Стажировка не найдена"),
+            @ApiResponse(responseCode = "403", description = "У пользователя нет нужных прав")
+    })
+    @Parameters({
+            @Parameter(name = "id", description = "Идентификатор стажировки", required = true),
+            @Parameter(name = "format", description = "Формат файла: csv или xlsx")
+    })
+    public ResponseEntity<StreamingResponseBody> exportReport(@PathVariable Long id,
+                                                              @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.fromString(format);
+        StreamingResponseBody body = exportService.exportReport(id, exportFormat);
+        return new ResponseEntity<>(body, exportFormat.attachmentHeaders("report-" + id), HttpStatus.OK);
+    }
 }
@@ -2,12 +2,14 @@ package org.example.internship.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.example.internship.dto.request.lesson.NewLessonDto;
+import org.example.internship.dto.response.CursorPage;
 import org.example.internship.dto.response.lesson.AdminLessonDto;
 import org.example.internship.dto.response.lesson.UserLessonDto;
 import org.example.internship.service.lesson.LessonService;
@@ -74,24 +76,33 @@ public class LessonController {
     }
 
     /**
-     * Получение списка всех занятий.
+     * Получение страницы занятий.
      * Доступно только пользователям с ролью ADMIN.
      *
-     * @return HTTP-ответ со списком всех занятий и кодом состояния 200 OK в случае успешного получения данных,
+     * @param cursor идентификатор последнего элемента предыдущей страницы (необязательный параметр)
+     * @param limit  размер страницы, не больше 500 (необязательный параметр, по умолчанию 50)
+     * @return HTTP-ответ со страницей занятий и кодом состояния 200 OK в случае успешного получения данных,
      * или кодом состояния 204 NO CONTENT, если список пуст
      */
     @GetMapping("/all")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Получить список всех занятий",
-            description = "Возвращает список всех занятий. Доступно только администраторам.")
+            description = "Возвращает страницу занятий в порядке возрастания идентификатора. " +
+                    "Следующая страница запрашивается с курсором next_cursor. Доступно только администраторам.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Список всех занятий"),
             @ApiResponse(responseCode = "204", description = "Список занятий пуст"),
+            @ApiResponse(responseCode = "400", description = "Некорректный курсор или размер страницы"),
             @ApiResponse(responseCode = "403", description = "У пользователя нет нужных прав")
     })
-    public ResponseEntity<List<AdminLessonDto>> getAllLessons() {
-        List<AdminLessonDto> lessons = lessonService.getAll();
-        if (lessons.isEmpty()) {
+    @Parameters({
+            @Parameter(name = "cursor", description = "Курсор страницы: значение next_cursor из предыдущего ответа"),
+            @Parameter(name = "limit", description = "Размер страницы, не больше 500 (по умолчанию 50)")
+    })
+    public ResponseEntity<CursorPage<AdminLessonDto>> getAllLessons(@RequestParam(required = false) Long cursor,
+                                                                    @RequestParam(required = false) Integer limit) {
+        CursorPage<AdminLessonDto> lessons = lessonService.getAll(cursor, limit);
+        if (lessons.getItems().isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
         }
         return new ResponseEntity<>(lessons, HttpStatus.OK);
@@ -3,6 +3,8 @@ package org.example.internship.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Parameters;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -10,16 +12,19 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.example.internship.annotation.GitlabTokenRequired;
 import org.example.internship.dto.request.solution.SolutionStatusDto;
+import org.example.internship.dto.response.CursorPage;
 import org.example.internship.dto.response.solution.SolutionDto;
-import org.example.internship.service.gitlab.GitlabService;
+import org.example.internship.service.export.ExportFormat;
+import org.example.internship.service.export.ExportService;
+import org.example.internship.service.inbox.SolutionInboxService;
 import org.example.internship.service.solution.SolutionService;
 import org.gitlab4j.api.systemhooks.PushSystemHookEvent;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
 
 
 /**
@@ -31,29 +36,32 @@ import java.util.List;
 @Tag(name = "Управление решениями заданий")
 public class SolutionController {
     private final SolutionService solutionService;
-    private final GitlabService gitlabService;
+    private final SolutionInboxService solutionInboxService;
+    private final ExportService exportService;
 
     /**
      * Добавление нового решения задания.
+     * Событие пуша сохраняется во входящую очередь и обрабатывается асинхронно.
      * Доступно только пользователям Gitlab, у которых имеется токен
      *
-     * @param request информация о пуше в репозиторий
-     * @return HTTP-ответ с кодом состояния 201 CREATED в случае успешного добавления решения
+     * @param request информация о пуше в репозиторий в формате JSON
+     * @return HTTP-ответ с кодом состояния 202 ACCEPTED в случае успешного сохранения события
      */
     @PostMapping("/add")
     @GitlabTokenRequired
     @Operation(summary = "Добавить новое решение задания",
-            description = "Добавляет новое решение задания. Доступно только пользователям GitLab с токеном.")
+            description = "Принимает событие пуша в очередь для добавления решения задания. " +
+                    "Доступно только пользователям GitLab с токеном.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "201", description = "Решение успешно добавлено"),
+            @ApiResponse(responseCode = "202", description = "Событие принято в обработку"),
+            @ApiResponse(responseCode = "400", description = "Событие не является корректным JSON или не содержит идентификатора проекта"),
             @ApiResponse(responseCode = "403", description = "У пользователя нет нужных прав")
     })
-    @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Информация о пуше в репозиторий", required = true)
-    public ResponseEntity<Void> addSolution(@RequestBody PushSystemHookEvent request) {
-        if (gitlabService.isForkedRepository(request.getProjectId())) {
-            solutionService.add(request);
-        }
-        return new ResponseEntity<>(HttpStatus.CREATED);
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Информация о пуше в репозиторий", required = true,
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = PushSystemHookEvent.class)))
+    public ResponseEntity<Void> addSolution(@RequestBody byte[] request) {
+        solutionInboxService.enqueue(request);
+        return new ResponseEntity<>(HttpStatus.ACCEPTED);
     }
 
     /**
@@ -102,46 +110,91 @@ public class SolutionController {
     }
 
     /**
-     * Получение списка всех решений заданий.
+     * Получение страницы решений заданий.
      * Доступно только пользователям с ролью ADMIN.
      *
      * @param status статус решения (необязательный параметр)
      * @param taskId идентификатор задания, которому соответствуют решения (необязательный параметр)
-     * @return HTTP-ответ со списком всех решений заданий и кодом состояния 200 OK в случае успешного получения данных,
+     * @param cursor идентификатор последнего элемента предыдущей страницы (необязательный параметр)
+     * @param limit  размер страницы, не больше 500 (необязательный параметр, по умолчанию 50)
+     * @return HTTP-ответ со страницей решений заданий и кодом состояния 200 OK в случае успешного получения данных,
      * или кодом состояния 204 NO CONTENT, если список пуст
      */
     @GetMapping("/all")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Получить список решений заданий",
-            description = "Возвращает список всех решений заданий. Доступно только администраторам.")
+            description = "Возвращает страницу решений заданий в порядке возрастания идентификатора. " +
+                    "Следующая страница запрашивается с курсором next_cursor. Доступно только администраторам.")
     @SecurityRequirement(name = "basicAuth")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Список решений успешно получен"),
             @ApiResponse(responseCode = "204", description = "Решения не найдены"),
-            @ApiResponse(responseCode = "400", description = "Некорректный запрос (указаны оба параметра одновременно)"),
+            @ApiResponse(responseCode = "400", description = "Некорректный запрос (указаны оба параметра одновременно, " +
+                    "некорректный курсор или размер страницы)"),
             @ApiResponse(responseCode = "403", description = "У пользователя нет нужных прав")
     })
     @Parameters({
             @Parameter(name = "status", description = "Статус решения"),
-            @Parameter(name = "taskId", description = "Идентификатор задания, которому соответствуют решения")
+            @Parameter(name = "taskId", description = "Идентификатор задания, которому соответствуют решения"),
+            @Parameter(name = "cursor", description = "Курсор страницы: значение next_cursor из предыдущего ответа"),
+            @Parameter(name = "limit", description = "Размер страницы, не больше 500 (по умолчанию 50)")
     })
-    public ResponseEntity<List<SolutionDto>> getAllSolutions(@RequestParam(required = false) String status,
-                                                             @RequestParam(required = false) Long taskId) {
+    public ResponseEntity<CursorPage<SolutionDto>> getAllSolutions(@RequestParam(required = false) String status,
+                                                                   @RequestParam(required = false) Long taskId,
+                                                                   @RequestParam(required = false) Long cursor,
+                                                                   @RequestParam(required = false) Integer limit) {
         if (status != null && taskId != null) {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
-        List<SolutionDto> solutions;
+        CursorPage<SolutionDto> solutions;
         if (status != null) {
-            solutions = solutionService.getAllByStatus(status);
+            solutions = solutionService.getAllByStatus(status, cursor, limit);
         } else if (taskId != null) {
-            solutions = solutionService.getAllByTaskId(taskId);
+            solutions = solutionService.getAllByTaskId(taskId, cursor, limit);
         } else {
-            solutions = solutionService.getAll();
+            solutions = solutionService.getAll(cursor, limit);
         }
-        if (solutions.isEmpty()) {
+        if (solutions.getItems().isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
         }
         return new ResponseEntity<>(solutions, HttpStatus.OK);
     }
 
+    /**
+     * Выгрузка решений заданий в файл.
+     * Решения передаются клиенту по мере чтения из базы.
+     * Доступно только пользователям с ролью ADMIN.
+     *
+     * @param status статус решения (необязательный параметр)
+     * @param taskId идентификатор задания, которому соответствуют решения (необязательный параметр)
+     * @param format формат файла (csv или xlsx)
+     * @return HTTP-ответ с файлом решений и кодом состояния 200 OK,
+     * или кодом состояния 400 BAD REQUEST, если указаны оба параметра фильтрации
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Выгрузить решения заданий",
+            description = "Потоково выгружает решения заданий в формате CSV или XLSX. Доступно только администраторам.")
+    @SecurityRequirement(name = "basicAuth")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Файл решений"),
+            @ApiResponse(responseCode = "400", description = "Некорректный запрос (указаны оба параметра одновременно " +
+                    "или неизвестный формат файла)"),
+            @ApiResponse(responseCode = "403", description = "У пользователя нет нужных прав")
+    })
+    @Parameters({
+            @Parameter(name = "status", description = "Статус решения"),
+            @Parameter(name = "taskId", description = "Идентификатор задания, которому соответствуют решения"),
+            @Parameter(name = "format", description = "Формат файла: csv или xlsx")
+    })
+    public ResponseEntity<StreamingResponseBody> exportSolutions(@RequestParam(required = false) String status,
+                                                                 @RequestParam(required = false) Long taskId,
+                                                                 @RequestParam(defaultValue = "csv") String format) {
+        if (status != null && taskId != null) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        ExportFormat exportFormat = ExportFormat.fromString(format);
+        StreamingResponseBody body = exportService.exportSolutions(status, taskId, exportFormat);
+        return new ResponseEntity<>(body, exportFormat.attachmentHeaders("solutions"), HttpStatus.OK);
+    }
 }
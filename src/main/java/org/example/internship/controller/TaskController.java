@@ -3,6 +3,7 @@ package org.example.internship.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -10,7 +11,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.example.internship.dto.request.task.NewTaskDto;
 import org.example.internship.dto.request.task.UpdateTaskDto;
+import org.example.internship.dto.response.CursorPage;
+import org.example.internship.dto.response.task.PublishJobDto;
 import org.example.internship.dto.response.task.TaskDto;
+import org.example.internship.service.publish.PublishJobService;
 import org.example.internship.service.task.TaskService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -29,6 +33,7 @@ import java.util.List;
 @Tag(name = "Управление заданиями")
 public class TaskController {
     private final TaskService taskService;
+    private final PublishJobService publishJobService;
 
     /**
      * Создание нового задания.
@@ -79,37 +84,41 @@ public class TaskController {
      * Публикация задания по его идентификатору.
      * Доступно только пользователям с ролью ADMIN.
      *
+     * Форки репозитория создаются асинхронно, за ходом публикации можно следить по идентификатору задачи.
+     *
      * @param id идентификатор задания для публикации
-     * @return HTTP-ответ с кодом состояния 200 OK в случае успешной публикации задания
+     * @return HTTP-ответ с состоянием задачи публикации и кодом состояния 202 ACCEPTED
      */
     @PatchMapping("/{id}/publish")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Опубликовать задание по ID",
             description = "Публикует задание по его идентификатору. Доступно только администраторам.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Задание успешно опубликовано"),
+            @ApiResponse(responseCode = "202", description = "Задание опубликовано, форки создаются"),
             @ApiResponse(responseCode = "404", description = "Задание не найдено"),
             @ApiResponse(responseCode = "409", description = "Задание уже опубликовано"),
             @ApiResponse(responseCode = "403", description = "У пользователя нет нужных прав")
     })
-    public ResponseEntity<Void> publishTaskById(@PathVariable Long id) {
-        taskService.publishById(id);
-        return new ResponseEntity<>(HttpStatus.OK);
+    public ResponseEntity<PublishJobDto> publishTaskById(@PathVariable Long id) {
+        PublishJobDto job = taskService.publishById(id);
+        return new ResponseEntity<>(job, HttpStatus.ACCEPTED);
     }
 
     /**
      * Публикация заданий по идентификатору занятия.
      * Доступно только пользователям с ролью ADMIN.
      *
+     * Форки репозиториев создаются асинхронно, за ходом публикации можно следить по идентификатору задачи.
+     *
      * @param lessonId идентификатор занятия, к которому относятся задания
-     * @return HTTP-ответ с кодом состояния 200 OK в случае успешной публикации задания
+     * @return HTTP-ответ с состоянием задачи публикации и кодом состояния 202 ACCEPTED
      */
     @PatchMapping("/publish")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Опубликовать задания по ID занятия",
             description = "Публикует все задания, связанные с указанным ID занятия. Доступно только администраторам.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Задания успешно опубликованы"),
+            @ApiResponse(responseCode = "202", description = "Задания опубликованы, форки создаются"),
             @ApiResponse(responseCode = "404", description = "Занятие не найдено"),
             @ApiResponse(responseCode = "409", description = "Занятие, к которому относятся задания" +
                     "еще не опубликовано"),
@@ -117,29 +126,81 @@ public class TaskController {
 
     })
     @Parameter(name = "lessonId", description = "ID занятия", required = true)
-    public ResponseEntity<Void> publishTasksByLessonId(@RequestParam Long lessonId) {
-        taskService.publishByLessonId(lessonId);
-        return new ResponseEntity<>(HttpStatus.OK);
+    public ResponseEntity<PublishJobDto> publishTasksByLessonId(@RequestParam Long lessonId) {
+        PublishJobDto job = taskService.publishByLessonId(lessonId);
+        return new ResponseEntity<>(job, HttpStatus.ACCEPTED);
     }
 
     /**
-     * Получение всех заданий.
+     * Получение состояния задачи публикации.
+     * Доступно только пользователям с ролью ADMIN.
      *
-     * @return HTTP-ответ со списком всех заданий и кодом состояния 200 OK в случае успешного получения данных
+     * @param id идентификатор задачи публикации
+     * @return HTTP-ответ с состоянием задачи публикации и кодом состояния 200 OK
+     */
+    @GetMapping("/publish/jobs/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Получить состояние задачи публикации",
+            description = "Возвращает количество созданных, ожидающих и неудавшихся форков задачи публикации. " +
+                    "Доступно только администраторам.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Состояние задачи успешно получено"),
+            @ApiResponse(responseCode = "404", description = "Задача публикации не найдена"),
+            @ApiResponse(responseCode = "403", description = "У пользователя нет нужных прав")
+    })
+    public ResponseEntity<PublishJobDto> getPublishJob(@PathVariable Long id) {
+        PublishJobDto job = publishJobService.getById(id);
+        return new ResponseEntity<>(job, HttpStatus.OK);
+    }
+
+    /**
+     * Возобновление задачи публикации.
+     * Повторно создаются только форки, которые не удалось создать. Доступно только пользователям с ролью ADMIN.
+     *
+     * @param id идентификатор задачи публикации
+     * @return HTTP-ответ с состоянием задачи публикации и кодом состояния 202 ACCEPTED
+     */
+    @PostMapping("/publish/jobs/{id}/resume")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Возобновить задачу публикации",
+            description = "Повторяет создание форков, которые не удалось создать. Доступно только администраторам.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Задача публикации возобновлена"),
+            @ApiResponse(responseCode = "404", description = "Задача публикации не найдена"),
+            @ApiResponse(responseCode = "403", description = "У пользователя нет нужных прав")
+    })
+    public ResponseEntity<PublishJobDto> resumePublishJob(@PathVariable Long id) {
+        PublishJobDto job = publishJobService.resume(id);
+        return new ResponseEntity<>(job, HttpStatus.ACCEPTED);
+    }
+
+    /**
+     * Получение страницы заданий.
+     *
+     * @param cursor идентификатор последнего элемента предыдущей страницы (необязательный параметр)
+     * @param limit  размер страницы, не больше 500 (необязательный параметр, по умолчанию 50)
+     * @return HTTP-ответ со страницей заданий и кодом состояния 200 OK в случае успешного получения данных
      * или кодом состояния 204 NO CONTENT, если список пуст
      */
     @GetMapping("/all")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Получить список всех заданий",
-            description = "Возвращает список всех заданий. Доступно только администраторам.")
+            description = "Возвращает страницу заданий в порядке возрастания идентификатора. " +
+                    "Следующая страница запрашивается с курсором next_cursor. Доступно только администраторам.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Список заданий успешно получен"),
             @ApiResponse(responseCode = "204", description = "Список заданий пуст"),
+            @ApiResponse(responseCode = "400", description = "Некорректный курсор или размер страницы"),
             @ApiResponse(responseCode = "403", description = "У пользователя нет нужных прав")
     })
-    public ResponseEntity<List<TaskDto>> getAllTasks() {
-        List<TaskDto> tasks = taskService.getAll();
-        if (tasks.isEmpty()) {
+    @Parameters({
+            @Parameter(name = "cursor", description = "Курсор страницы: значение next_cursor из предыдущего ответа"),
+            @Parameter(name = "limit", description = "Размер страницы, не больше 500 (по умолчанию 50)")
+    })
+    public ResponseEntity<CursorPage<TaskDto>> getAllTasks(@RequestParam(required = false) Long cursor,
+                                                           @RequestParam(required = false) Integer limit) {
+        CursorPage<TaskDto> tasks = taskService.getAll(cursor, limit);
+        if (tasks.getItems().isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
         }
         return new ResponseEntity<>(tasks, HttpStatus.OK);
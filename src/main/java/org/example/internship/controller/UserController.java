@@ -11,14 +11,16 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.example.internship.annotation.UsernameMatches;
 import org.example.internship.dto.request.NewUserDto;
+import org.example.internship.dto.response.CursorPage;
 import org.example.internship.dto.response.UserDto;
+import org.example.internship.dto.response.user.ProvisionReportDto;
+import org.example.internship.service.user.UserProvisionService;
 import org.example.internship.service.user.UserService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 
 
 /**
@@ -31,6 +33,7 @@ import java.util.List;
 @Tag(name = "Управление пользователями")
 public class UserController {
     private final UserService userService;
+    private final UserProvisionService userProvisionService;
 
     /**
      * Создание нового пользователя.
@@ -54,6 +57,28 @@ public class UserController {
         return new ResponseEntity<>(HttpStatus.CREATED);
     }
 
+    /**
+     * Создание пользователей по всем одобренным заявкам на стажировку.
+     * Доступно только пользователям с ролью ADMIN.
+     *
+     * @param internshipId идентификатор стажировки
+     * @return HTTP-ответ с отчетом о создании каждого пользователя и кодом состояния 200 OK
+     */
+    @PostMapping("/provision/{internshipId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Создать пользователей по одобренным заявкам",
+            description = "Создает пользователей и аккаунты в GitLab для всех одобренных заявок на стажировку " +
+                    "и возвращает результат для каждой заявки. Доступно только администраторам.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Заявки обработаны, отчет содержит результат по каждой"),
+            @ApiResponse(responseCode = "404", description = "Стажировка не найдена"),
+            @ApiResponse(responseCode = "403", description = "У пользователя нет нужных прав")
+    })
+    @Parameter(name = "internshipId", description = "Идентификатор стажировки", required = true)
+    public ResponseEntity<ProvisionReportDto> provision(@PathVariable Long internshipId) {
+        return new ResponseEntity<>(userProvisionService.provision(internshipId), HttpStatus.OK);
+    }
+
     /**
      * Получение информации о пользователе по параметрам.
      * Доступно только пользователям с ролью ADMIN.
@@ -94,25 +119,34 @@ public class UserController {
     }
 
     /**
-     * Получение списка всех пользователей.
+     * Получение страницы пользователей.
      * Доступно только пользователям с ролью ADMIN.
      *
-     * @return HTTP-ответ со списком всех пользователей и кодом состояния 200 OK в случае успешного получения данных,
+     * @param cursor идентификатор последнего элемента предыдущей страницы (необязательный параметр)
+     * @param limit  размер страницы, не больше 500 (необязательный параметр, по умолчанию 50)
+     * @return HTTP-ответ со страницей пользователей и кодом состояния 200 OK в случае успешного получения данных,
      * или кодом состояния 204 NO CONTENT, если список пуст
      */
     @GetMapping("/all")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Получить список всех пользователей",
-            description = "Возвращает список всех пользователей. Доступно только администраторам.")
+            description = "Возвращает страницу пользователей в порядке возрастания идентификатора. " +
+                    "Следующая страница запрашивается с курсором next_cursor. Доступно только администраторам.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Список пользователей успешно получен"),
             @ApiResponse(responseCode = "204", description = "Список пользователей пуст"),
+            @ApiResponse(responseCode = "400", description = "Некорректный курсор или размер страницы"),
             @ApiResponse(responseCode = "403", description = "У пользователя нет нужных прав")
 
     })
-    public ResponseEntity<List<UserDto>> getAll() {
-        List<UserDto> users = userService.getAllUsers();
-        if (users.isEmpty()) {
+    @Parameters({
+            @Parameter(name = "cursor", description = "Курсор страницы: значение next_cursor из предыдущего ответа"),
+            @Parameter(name = "limit", description = "Размер страницы, не больше 500 (по умолчанию 50)")
+    })
+    public ResponseEntity<CursorPage<UserDto>> getAll(@RequestParam(required = false) Long cursor,
+                                                      @RequestParam(required = false) Integer limit) {
+        CursorPage<UserDto> users = userService.getAllUsers(cursor, limit);
+        if (users.getItems().isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
         }
         return new ResponseEntity<>(users, HttpStatus.OK);
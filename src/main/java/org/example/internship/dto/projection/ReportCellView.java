@@ -0,0 +1,18 @@
+package org.example.internship.dto.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.internship.model.task.SolutionStatus;
+
+/**
+ * Проекция ячейки ведомости: участник стажировки и статус его решения одного из заданий.
+ * Для участника без решений идентификатор задания и статус равны null.
+ */
+@Getter
+@AllArgsConstructor
+public class ReportCellView {
+    private final Long userId;
+    private final String username;
+    private final Long taskId;
+    private final SolutionStatus status;
+}
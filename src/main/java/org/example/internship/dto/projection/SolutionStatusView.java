@@ -0,0 +1,17 @@
+package org.example.internship.dto.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.internship.model.task.SolutionStatus;
+
+/**
+ * Проекция решения, содержащая только данные, необходимые для построения ведомости:
+ * идентификаторы пользователя и задания и статус решения.
+ */
+@Getter
+@AllArgsConstructor
+public class SolutionStatusView {
+    private final Long userId;
+    private final Long taskId;
+    private final SolutionStatus status;
+}
@@ -0,0 +1,15 @@
+package org.example.internship.dto.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.internship.model.publish.PublishItemStatus;
+
+/**
+ * Проекция с количеством элементов задачи публикации в одном статусе.
+ */
+@Getter
+@AllArgsConstructor
+public class StatusCountView {
+    private final PublishItemStatus status;
+    private final long count;
+}
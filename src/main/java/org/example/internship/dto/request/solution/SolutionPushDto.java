@@ -0,0 +1,27 @@
+package org.example.internship.dto.request.solution;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO с данными пуша в репозиторий решения, необходимыми для сохранения решения.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SolutionPushDto {
+    private Long projectId;
+    private String repositoryUrl;
+    private String projectName;
+    private String username;
+    private LocalDateTime lastCommitTime;
+    private String lastCommitUrl;
+    private String afterSha;
+    private Long taskId;
+    private Long userId;
+}
@@ -0,0 +1,25 @@
+package org.example.internship.dto.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO для получения одной страницы списка при постраничной выборке по курсору.
+ * Курсор следующей страницы равен идентификатору последнего элемента страницы
+ * и отсутствует, если страница последняя.
+ *
+ * @param <T> тип элементов страницы
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class CursorPage<T> {
+    private List<T> items;
+    private Long nextCursor;
+}
@@ -0,0 +1,22 @@
+package org.example.internship.dto.response.gradebook;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO для получения результата проверки ведомости в памяти на соответствие базе данных.
+ */
+@Data
+@AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class GradebookCheckDto {
+    private Long internshipId;
+    private boolean loaded;
+    private boolean consistent;
+    private int checkedCells;
+    private List<GradebookMismatchDto> mismatches;
+}
@@ -0,0 +1,19 @@
+package org.example.internship.dto.response.gradebook;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * DTO для описания расхождения ячейки ведомости в памяти с базой данных.
+ */
+@Data
+@AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class GradebookMismatchDto {
+    private Long userId;
+    private Long taskId;
+    private String expectedStatus;
+    private String actualStatus;
+}
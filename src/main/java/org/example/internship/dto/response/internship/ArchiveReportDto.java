@@ -0,0 +1,29 @@
+package org.example.internship.dto.response.internship;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.internship.dto.response.user.BlockFailureDto;
+
+import java.util.List;
+
+/**
+ * DTO для получения отчета о закрытии стажировки: сколько участников и решений помещено в архив,
+ * сколько аккаунтов заблокировано в GitLab и какие заблокировать не удалось.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class ArchiveReportDto {
+    private Long internshipId;
+    private int archivedUsers;
+    private int archivedSolutions;
+    private int blocked;
+    private List<BlockFailureDto> blockFailures;
+    private long wallTimeMillis;
+}
@@ -0,0 +1,20 @@
+package org.example.internship.dto.response.task;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * DTO для получения информации о форке задания, который не удалось создать.
+ */
+@Data
+@AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class ForkFailureDto {
+    private Long taskId;
+    private Long userId;
+    private String username;
+    private int attempts;
+    private String error;
+}
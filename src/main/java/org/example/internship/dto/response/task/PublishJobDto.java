@@ -0,0 +1,35 @@
+package org.example.internship.dto.response.task;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.internship.model.publish.PublishJobStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO для получения состояния задачи публикации заданий: сколько форков создано,
+ * сколько ожидает создания, какие не удалось создать, сколько времени заняла публикация.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class PublishJobDto {
+    private Long id;
+    private PublishJobStatus status;
+    private long total;
+    private long succeeded;
+    private long pending;
+    private long failed;
+    private List<ForkFailureDto> failures;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+    private long wallTimeMillis;
+    private double forksPerSecond;
+}
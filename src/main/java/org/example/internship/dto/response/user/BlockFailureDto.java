@@ -0,0 +1,17 @@
+package org.example.internship.dto.response.user;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * DTO для получения информации о пользователе, которого не удалось заблокировать в GitLab.
+ */
+@Data
+@AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class BlockFailureDto {
+    private String username;
+    private String error;
+}
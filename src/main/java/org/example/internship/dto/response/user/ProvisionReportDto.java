@@ -0,0 +1,29 @@
+package org.example.internship.dto.response.user;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO для получения отчета о создании пользователей по одобренным заявкам на стажировку:
+ * сколько пользователей создано, сколько уже существовало, для скольких не удалось создать аккаунт в GitLab.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class ProvisionReportDto {
+    private Long internshipId;
+    private long total;
+    private long created;
+    private long alreadyExisted;
+    private long gitlabFailed;
+    private List<ProvisionResultDto> results;
+    private long wallTimeMillis;
+}
@@ -0,0 +1,20 @@
+package org.example.internship.dto.response.user;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * DTO для получения результата создания пользователя по одобренной заявке.
+ */
+@Data
+@AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class ProvisionResultDto {
+    private Long applicationId;
+    private Long userId;
+    private String username;
+    private ProvisionStatus status;
+    private String error;
+}
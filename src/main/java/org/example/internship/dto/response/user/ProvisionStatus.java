@@ -0,0 +1,8 @@
+package org.example.internship.dto.response.user;
+
+/**
+ * Перечисление результатов создания пользователя по заявке.
+ */
+public enum ProvisionStatus {
+    CREATED, ALREADY_EXISTS, GITLAB_FAILED
+}
@@ -0,0 +1,11 @@
+package org.example.internship.exception;
+
+/**
+ * Исключение, которое выбрасывается, когда GitLab недоступен: размыкатель разомкнут,
+ * пул запросов к GitLab переполнен или запрос не уложился в таймаут.
+ */
+public class GitlabUnavailableException extends GitlabException {
+    public GitlabUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -4,9 +4,12 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.example.internship.model.internship.Internship;
 import org.example.internship.model.task.Task;
+import org.hibernate.annotations.BatchSize;
 
 import javax.persistence.*;
 import java.util.List;
@@ -26,7 +29,8 @@ public class Lesson {
      * ID занятия.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lessons_seq")
+    @SequenceGenerator(name = "lessons_seq", sequenceName = "lessons_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -50,13 +54,19 @@ public class Lesson {
     /**
      * Стажировка, к которой относится занятие.
      */
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Internship internship;
 
     /**
      * Список заданий, привязанных к занятию.
+     * При постраничной выборке занятий задания загружаются одним запросом на страницу.
      */
     @OneToMany(mappedBy = "lesson")
+    @BatchSize(size = 50)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @JsonIgnore
     private List<Task> tasks;
 
@@ -3,7 +3,9 @@ package org.example.internship.model.application;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.example.internship.model.internship.Internship;
 
 import javax.persistence.*;
@@ -24,7 +26,8 @@ public class Application {
      * ID заявки.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "applications_seq")
+    @SequenceGenerator(name = "applications_seq", sequenceName = "applications_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -119,6 +122,8 @@ public class Application {
     /**
      * Стажировка, на которую подана заявка.
      */
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Internship internship;
 }
\ No newline at end of file
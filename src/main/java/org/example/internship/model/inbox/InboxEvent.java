@@ -0,0 +1,79 @@
+package org.example.internship.model.inbox;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Сущность, представляющая событие пуша GitLab во входящей очереди.
+ */
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+@Table(name = "solution_inbox")
+public class InboxEvent {
+
+    /**
+     * ID события.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "solution_inbox_seq")
+    @SequenceGenerator(name = "solution_inbox_seq", sequenceName = "solution_inbox_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * ID проекта GitLab, в который был выполнен пуш.
+     */
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    /**
+     * Сокращенное событие системного хука в формате JSON.
+     */
+    @Column(name = "payload", nullable = false)
+    private String payload;
+
+    /**
+     * Статус обработки события.
+     */
+    @Column(name = "status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private InboxStatus status;
+
+    /**
+     * Количество неудачных попыток обработки.
+     */
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    /**
+     * Время, раньше которого событие не будет обработано.
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * Время получения события.
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Время захвата события обработчиком. Захват считается действующим в течение срока аренды,
+     * после чего незавершенное событие возвращается в очередь.
+     */
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    /**
+     * Текст последней ошибки обработки.
+     */
+    @Column(name = "last_error")
+    private String lastError;
+}
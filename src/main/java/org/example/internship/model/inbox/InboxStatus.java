@@ -0,0 +1,8 @@
+package org.example.internship.model.inbox;
+
+/**
+ * Перечисление статусов события во входящей очереди.
+ */
+public enum InboxStatus {
+    NEW, PROCESSING, FAILED
+}
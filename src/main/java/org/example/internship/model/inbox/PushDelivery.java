@@ -0,0 +1,55 @@
+package org.example.internship.model.inbox;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Сущность, представляющая принятую доставку события пуша GitLab.
+ * Используется для отбрасывания повторных доставок одного и того же пуша.
+ */
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+@Table(name = "push_deliveries")
+@IdClass(PushDelivery.Key.class)
+public class PushDelivery {
+
+    /**
+     * ID проекта GitLab, в который был выполнен пуш.
+     */
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    /**
+     * SHA коммита, на который указывает ветка после пуша.
+     */
+    @Id
+    @Column(name = "after_sha")
+    private String afterSha;
+
+    /**
+     * Время получения доставки.
+     */
+    @Column(name = "received_at", nullable = false)
+    private LocalDateTime receivedAt;
+
+    /**
+     * Составной ключ доставки.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long projectId;
+        private String afterSha;
+    }
+}
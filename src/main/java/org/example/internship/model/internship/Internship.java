@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 import org.example.internship.model.Lesson;
 import org.example.internship.model.user.User;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -25,7 +26,8 @@ public class Internship {
      * ID стажировки.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "internships_seq")
+    @SequenceGenerator(name = "internships_seq", sequenceName = "internships_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -71,13 +73,19 @@ public class Internship {
      * Список пользователей, привязанных к стажировке.
      */
     @OneToMany(mappedBy = "internship")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @JsonIgnore
     private List<User> users;
 
     /**
      * Список занятий, привязанных к стажировке.
+     * При постраничной выборке стажировок занятия загружаются одним запросом на страницу.
      */
     @OneToMany(mappedBy = "internship")
+    @BatchSize(size = 50)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @JsonIgnore
     private List<Lesson> lessons;
 
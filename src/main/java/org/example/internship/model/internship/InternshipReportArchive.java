@@ -0,0 +1,40 @@
+package org.example.internship.model.internship;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Сущность, хранящая итоговую ведомость стажировки, зафиксированную при ее закрытии.
+ */
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+@Table(name = "internship_report_archives")
+public class InternshipReportArchive {
+
+    /**
+     * ID стажировки.
+     */
+    @Id
+    @Column(name = "internship_id")
+    private Long internshipId;
+
+    /**
+     * Ведомость в формате JSON.
+     */
+    @Column(name = "report", nullable = false)
+    private String report;
+
+    /**
+     * Время закрытия стажировки.
+     */
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
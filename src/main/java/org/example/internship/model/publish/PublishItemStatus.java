@@ -0,0 +1,8 @@
+package org.example.internship.model.publish;
+
+/**
+ * Перечисление статусов форка задания пользователю в задаче публикации.
+ */
+public enum PublishItemStatus {
+    NEW, PROCESSING, DONE, FAILED
+}
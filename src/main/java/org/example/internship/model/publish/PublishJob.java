@@ -0,0 +1,48 @@
+package org.example.internship.model.publish;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Сущность, представляющая задачу публикации заданий.
+ */
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+@Table(name = "publish_jobs")
+public class PublishJob {
+
+    /**
+     * ID задачи.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "publish_jobs_seq")
+    @SequenceGenerator(name = "publish_jobs_seq", sequenceName = "publish_jobs_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * Статус задачи.
+     */
+    @Column(name = "status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private PublishJobStatus status;
+
+    /**
+     * Время создания задачи.
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Время обработки последнего форка задачи.
+     */
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
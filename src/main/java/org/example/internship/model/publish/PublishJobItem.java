@@ -0,0 +1,97 @@
+package org.example.internship.model.publish;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Сущность, представляющая форк репозитория задания одному пользователю в задаче публикации.
+ */
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+@Table(name = "publish_job_items")
+public class PublishJobItem {
+
+    /**
+     * ID элемента задачи.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "publish_job_items_seq")
+    @SequenceGenerator(name = "publish_job_items_seq", sequenceName = "publish_job_items_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * ID задачи публикации.
+     */
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    /**
+     * ID публикуемого задания.
+     */
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    /**
+     * ID пользователя, которому создается форк.
+     */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * ID репозитория задания в GitLab.
+     */
+    @Column(name = "repository_id", nullable = false)
+    private Long repositoryId;
+
+    /**
+     * Имя пользователя, в пространстве имен которого создается форк.
+     */
+    @Column(name = "username", nullable = false)
+    private String username;
+
+    /**
+     * Статус создания форка.
+     */
+    @Column(name = "status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private PublishItemStatus status;
+
+    /**
+     * Количество неудачных попыток создания форка.
+     */
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    /**
+     * Время, раньше которого форк не будет создаваться.
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * ID созданного форка в GitLab.
+     */
+    @Column(name = "fork_project_id")
+    private Long forkProjectId;
+
+    /**
+     * Время захвата элемента обработчиком. Захват считается действующим в течение срока аренды,
+     * после чего незавершенный элемент возвращается в очередь.
+     */
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    /**
+     * Текст последней ошибки создания форка.
+     */
+    @Column(name = "last_error")
+    private String lastError;
+}
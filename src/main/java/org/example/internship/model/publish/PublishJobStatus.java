@@ -0,0 +1,11 @@
+package org.example.internship.model.publish;
+
+/**
+ * Перечисление статусов задачи публикации.
+ * <br>
+ * COMPLETED_WITH_FAILURES означает, что часть форков не удалось создать после всех попыток;
+ * такую задачу можно возобновить.
+ */
+public enum PublishJobStatus {
+    RUNNING, COMPLETED, COMPLETED_WITH_FAILURES
+}
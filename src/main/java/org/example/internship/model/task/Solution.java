@@ -3,7 +3,9 @@ package org.example.internship.model.task;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.example.internship.model.user.User;
 
 import javax.persistence.*;
@@ -24,7 +26,8 @@ public class Solution {
      * ID решения.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_solutions_seq")
+    @SequenceGenerator(name = "task_solutions_seq", sequenceName = "task_solutions_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -66,13 +69,17 @@ public class Solution {
     /**
      * Пользователь, предоставивший решение.
      */
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private User user;
 
     /**
      * Задание, к которому относится решение.
      */
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Task task;
 
     /**
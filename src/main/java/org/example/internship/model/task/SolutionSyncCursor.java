@@ -0,0 +1,52 @@
+package org.example.internship.model.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Сущность, хранящая состояние сверки решений для форка репозитория задания.
+ */
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+@Table(name = "solution_sync_cursors")
+public class SolutionSyncCursor {
+
+    /**
+     * ID проекта-форка в GitLab.
+     */
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    /**
+     * ID задания, репозиторий которого был форкнут.
+     */
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    /**
+     * Время последней активности в форке на момент сверки.
+     */
+    @Column(name = "last_activity_at", nullable = false)
+    private LocalDateTime lastActivityAt;
+
+    /**
+     * Время последнего учтенного коммита. Коммиты не позднее этого времени повторно не запрашиваются.
+     */
+    @Column(name = "last_commit_time", nullable = false)
+    private LocalDateTime lastCommitTime;
+
+    /**
+     * Время последней сверки форка.
+     */
+    @Column(name = "synced_at", nullable = false)
+    private LocalDateTime syncedAt;
+}
@@ -0,0 +1,39 @@
+package org.example.internship.model.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * Сущность, связывающая форк репозитория задания в GitLab с заданием и пользователем.
+ */
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+@Table(name = "task_forks")
+public class TaskFork {
+
+    /**
+     * ID проекта-форка в GitLab.
+     */
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    /**
+     * ID задания, репозиторий которого был форкнут.
+     */
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    /**
+     * ID пользователя, которому принадлежит форк.
+     */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+}
@@ -1,17 +1,31 @@
 package org.example.internship.repository;
 
+import org.example.internship.dto.response.application.ApplicationDto;
 import org.example.internship.model.application.Application;
 import org.example.internship.model.application.ApplicationStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 /**
  * Репозиторий для работы с заявками на стажировку.
  */
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
+    String SELECT_DTO = "SELECT new org.example.internship.dto.response.application.ApplicationDto(" +
+            "a.id, a.fullName, a.email, a.phoneNumber, a.username, a.telegramId, a.about, a.birthDate, " +
+            "a.creationDate, a.city, a.educationStatus, a.university, a.faculty, a.specialty, a.course, " +
+            "a.internship.id) FROM Application a ";
+
     /**
      * Поиск заявки по номеру телефона человека и идентификатору стажировки.
      *
@@ -19,6 +33,7 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
      * @param internshipId идентификатор стажировки
      * @return найденная заявка или null, если заявка не найдена
      */
+    @EntityGraph(attributePaths = "internship")
     Application findByPhoneNumberAndInternshipId(String phoneNumber, Long internshipId);
 
     /**
@@ -45,4 +60,94 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
      * @return список заявок с указанным статусом и оставленных на указанную стажировку
      */
     List<Application> findAllByInternshipIdAndStatus(Long internshipId, ApplicationStatus status);
+
+    /**
+     * Получение страницы DTO заявок без загрузки сущностей.
+     *
+     * @param cursor   идентификатор, после которого начинается страница
+     * @param pageable размер страницы
+     * @return список DTO заявок в порядке возрастания идентификатора
+     */
+    @Query(SELECT_DTO + "WHERE a.id > :cursor ORDER BY a.id")
+    List<ApplicationDto> findPageAsDto(long cursor, Pageable pageable);
+
+    /**
+     * Получение страницы DTO заявок с указанным статусом без загрузки сущностей.
+     *
+     * @param status   статус заявки
+     * @param cursor   идентификатор, после которого начинается страница
+     * @param pageable размер страницы
+     * @return список DTO заявок в порядке возрастания идентификатора
+     */
+    @Query(SELECT_DTO + "WHERE a.status = :status AND a.id > :cursor ORDER BY a.id")
+    List<ApplicationDto> findPageAsDtoByStatus(ApplicationStatus status, long cursor, Pageable pageable);
+
+    /**
+     * Получение страницы DTO заявок на указанную стажировку без загрузки сущностей.
+     *
+     * @param internshipId идентификатор стажировки
+     * @param cursor       идентификатор, после которого начинается страница
+     * @param pageable     размер страницы
+     * @return список DTO заявок в порядке возрастания идентификатора
+     */
+    @Query(SELECT_DTO + "WHERE a.internship.id = :internshipId AND a.id > :cursor ORDER BY a.id")
+    List<ApplicationDto> findPageAsDtoByInternshipId(Long internshipId, long cursor, Pageable pageable);
+
+    /**
+     * Получение страницы DTO заявок на указанную стажировку с указанным статусом без загрузки сущностей.
+     *
+     * @param internshipId идентификатор стажировки
+     * @param status       статус заявки
+     * @param cursor       идентификатор, после которого начинается страница
+     * @param pageable     размер страницы
+     * @return список DTO заявок в порядке возрастания идентификатора
+     */
+    @Query(SELECT_DTO + "WHERE a.internship.id = :internshipId AND a.status = :status AND a.id > :cursor " +
+            "ORDER BY a.id")
+    List<ApplicationDto> findPageAsDtoByInternshipIdAndStatus(Long internshipId, ApplicationStatus status,
+                                                              long cursor, Pageable pageable);
+
+    /**
+     * Потоковое чтение всех заявок в порядке возрастания идентификатора.
+     * Поток должен быть прочитан и закрыт внутри транзакции.
+     *
+     * @return поток DTO заявок
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_DTO + "ORDER BY a.id")
+    Stream<ApplicationDto> streamAll();
+
+    /**
+     * Потоковое чтение заявок с указанным статусом.
+     * Поток должен быть прочитан и закрыт внутри транзакции.
+     *
+     * @param status статус заявки
+     * @return поток DTO заявок
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_DTO + "WHERE a.status = :status ORDER BY a.id")
+    Stream<ApplicationDto> streamAllByStatus(ApplicationStatus status);
+
+    /**
+     * Потоковое чтение заявок на указанную стажировку.
+     * Поток должен быть прочитан и закрыт внутри транзакции.
+     *
+     * @param internshipId идентификатор стажировки
+     * @return поток DTO заявок
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_DTO + "WHERE a.internship.id = :internshipId ORDER BY a.id")
+    Stream<ApplicationDto> streamAllByInternshipId(Long internshipId);
+
+    /**
+     * Потоковое чтение заявок на указанную стажировку с указанным статусом.
+     * Поток должен быть прочитан и закрыт внутри транзакции.
+     *
+     * @param internshipId идентификатор стажировки
+     * @param status       статус заявки
+     * @return поток DTO заявок
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_DTO + "WHERE a.internship.id = :internshipId AND a.status = :status ORDER BY a.id")
+    Stream<ApplicationDto> streamAllByInternshipIdAndStatus(Long internshipId, ApplicationStatus status);
 }
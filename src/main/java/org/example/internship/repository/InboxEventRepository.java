@@ -0,0 +1,104 @@
+package org.example.internship.repository;
+
+import org.example.internship.model.inbox.InboxEvent;
+import org.example.internship.model.inbox.InboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Репозиторий для работы с входящей очередью событий пуша.
+ */
+@Repository
+public interface InboxEventRepository extends JpaRepository<InboxEvent, Long> {
+
+    /**
+     * Поиск событий, готовых к обработке.
+     * Для каждого проекта выбирается только самое раннее необработанное событие,
+     * поэтому события одного репозитория обрабатываются строго по порядку поступления.
+     * События, исчерпавшие попытки обработки, очередь проекта не блокируют.
+     *
+     * @param now         текущее время
+     * @param readyBefore время, раньше которого событие должно поступить в очередь
+     * @param pageable    ограничение количества событий
+     * @return список событий в порядке поступления
+     */
+    @Query("SELECT e FROM InboxEvent e " +
+            "WHERE e.status = org.example.internship.model.inbox.InboxStatus.NEW AND e.nextAttemptAt <= :now " +
+            "AND e.createdAt <= :readyBefore " +
+            "AND NOT EXISTS (SELECT p.id FROM InboxEvent p WHERE p.projectId = e.projectId AND p.id < e.id " +
+            "AND p.status <> org.example.internship.model.inbox.InboxStatus.FAILED) " +
+            "ORDER BY e.id")
+    List<InboxEvent> findReady(LocalDateTime now, LocalDateTime readyBefore, Pageable pageable);
+
+    /**
+     * Поиск событий проектов с указанным статусом.
+     *
+     * @param projectIds идентификаторы проектов GitLab
+     * @param status     статус события
+     * @return список событий в порядке поступления
+     */
+    List<InboxEvent> findAllByProjectIdInAndStatusOrderById(Collection<Long> projectIds, InboxStatus status);
+
+    /**
+     * Захват событий для обработки.
+     *
+     * @param ids       идентификаторы событий
+     * @param claimedAt время захвата, с которого отсчитывается срок аренды
+     * @return количество захваченных событий
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE InboxEvent e SET e.status = org.example.internship.model.inbox.InboxStatus.PROCESSING, " +
+            "e.claimedAt = :claimedAt " +
+            "WHERE e.id IN :ids AND e.status = org.example.internship.model.inbox.InboxStatus.NEW")
+    int claim(Collection<Long> ids, LocalDateTime claimedAt);
+
+    /**
+     * Возврат захваченных событий в очередь без увеличения счетчика попыток.
+     *
+     * @param ids идентификаторы событий
+     * @return количество возвращенных событий
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE InboxEvent e SET e.status = org.example.internship.model.inbox.InboxStatus.NEW " +
+            "WHERE e.id IN :ids AND e.status = org.example.internship.model.inbox.InboxStatus.PROCESSING")
+    int release(Collection<Long> ids);
+
+    /**
+     * Возврат в очередь событий, захваченных в указанное время.
+     * События из того же списка, захваченные другим обработчиком, не затрагиваются.
+     *
+     * @param ids       идентификаторы событий
+     * @param claimedAt время захвата
+     * @return количество возвращенных событий
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE InboxEvent e SET e.status = org.example.internship.model.inbox.InboxStatus.NEW " +
+            "WHERE e.id IN :ids AND e.status = org.example.internship.model.inbox.InboxStatus.PROCESSING " +
+            "AND e.claimedAt = :claimedAt")
+    int release(Collection<Long> ids, LocalDateTime claimedAt);
+
+    /**
+     * Возврат в очередь событий, срок аренды которых истек: обработчик, захвативший их,
+     * остановился аварийно или не успел завершить обработку.
+     *
+     * @param claimedBefore время, раньше которого событие должно быть захвачено
+     * @return количество возвращенных событий
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE InboxEvent e SET e.status = org.example.internship.model.inbox.InboxStatus.NEW " +
+            "WHERE e.status = org.example.internship.model.inbox.InboxStatus.PROCESSING " +
+            "AND (e.claimedAt IS NULL OR e.claimedAt < :claimedBefore)")
+    int releaseExpired(LocalDateTime claimedBefore);
+}
@@ -0,0 +1,29 @@
+package org.example.internship.repository;
+
+import org.example.internship.model.internship.InternshipReportArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Репозиторий для работы с итоговыми ведомостями закрытых стажировок.
+ */
+@Repository
+public interface InternshipReportArchiveRepository extends JpaRepository<InternshipReportArchive, Long> {
+
+    /**
+     * Сохранение итоговой ведомости. В отличие от save, который для сущности с заданным идентификатором
+     * выполняет слияние, вставка не перезаписывает уже сохраненную ведомость, а завершается ошибкой.
+     *
+     * @param internshipId идентификатор стажировки
+     * @param report       ведомость в формате JSON
+     * @param archivedAt   время закрытия стажировки
+     */
+    @Modifying
+    @Query(value = "INSERT INTO internship_report_archives (internship_id, report, archived_at) " +
+            "VALUES (:internshipId, :report, :archivedAt)", nativeQuery = true)
+    void insert(Long internshipId, String report, LocalDateTime archivedAt);
+}
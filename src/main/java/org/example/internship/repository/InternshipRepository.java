@@ -2,10 +2,15 @@ package org.example.internship.repository;
 
 import org.example.internship.model.internship.Internship;
 import org.example.internship.model.internship.InternshipStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Репозиторий для работы со стажировками.
@@ -20,4 +25,35 @@ public interface InternshipRepository extends JpaRepository<Internship, Long> {
      * @return список стажировок с указанным статусом
      */
     List<Internship> findByStatus(InternshipStatus status);
+
+    /**
+     * Поиск стажировки с блокировкой ее строки до конца текущей транзакции.
+     *
+     * @param id идентификатор стажировки
+     * @return стажировка или пустое значение, если она не найдена
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Internship i WHERE i.id = :id")
+    Optional<Internship> findByIdForUpdate(Long id);
+
+    /**
+     * Получение страницы стажировок.
+     *
+     * @param cursor   идентификатор, после которого начинается страница
+     * @param pageable размер страницы
+     * @return список стажировок в порядке возрастания идентификатора
+     */
+    @Query("SELECT i FROM Internship i WHERE i.id > :cursor ORDER BY i.id")
+    List<Internship> findPage(long cursor, Pageable pageable);
+
+    /**
+     * Получение страницы стажировок с указанным статусом.
+     *
+     * @param status   статус стажировки
+     * @param cursor   идентификатор, после которого начинается страница
+     * @param pageable размер страницы
+     * @return список стажировок в порядке возрастания идентификатора
+     */
+    @Query("SELECT i FROM Internship i WHERE i.status = :status AND i.id > :cursor ORDER BY i.id")
+    List<Internship> findPageByStatus(InternshipStatus status, long cursor, Pageable pageable);
 }
@@ -1,7 +1,10 @@
 package org.example.internship.repository;
 
 import org.example.internship.model.Lesson;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,6 +15,17 @@ import java.util.List;
 @Repository
 public interface LessonRepository extends JpaRepository<Lesson, Long> {
 
+    /**
+     * Получение страницы занятий.
+     * Задания занятий страницы загружаются отдельным запросом при обращении к ним.
+     *
+     * @param cursor   идентификатор, после которого начинается страница
+     * @param pageable размер страницы
+     * @return список занятий в порядке возрастания идентификатора
+     */
+    @Query("SELECT l FROM Lesson l WHERE l.id > :cursor ORDER BY l.id")
+    List<Lesson> findPage(long cursor, Pageable pageable);
+
     /**
      * Поиск опубликованных занятий.
      *
@@ -25,5 +39,6 @@ public interface LessonRepository extends JpaRepository<Lesson, Long> {
      * @param internshipId идентификатор стажировки
      * @return список опубликованных занятий для указанной стажировки
      */
+    @EntityGraph(attributePaths = "tasks")
     List<Lesson> findByIsPublishedTrueAndInternshipId(Long internshipId);
 }
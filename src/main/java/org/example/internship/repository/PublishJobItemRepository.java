@@ -0,0 +1,132 @@
+package org.example.internship.repository;
+
+import org.example.internship.dto.projection.StatusCountView;
+import org.example.internship.model.publish.PublishItemStatus;
+import org.example.internship.model.publish.PublishJobItem;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Репозиторий для работы с элементами задач публикации заданий.
+ */
+@Repository
+public interface PublishJobItemRepository extends JpaRepository<PublishJobItem, Long> {
+
+    /**
+     * Поиск элементов, готовых к обработке.
+     *
+     * @param now      текущее время
+     * @param pageable ограничение количества элементов
+     * @return список элементов в порядке создания
+     */
+    @Query("SELECT i FROM PublishJobItem i " +
+            "WHERE i.status = org.example.internship.model.publish.PublishItemStatus.NEW AND i.nextAttemptAt <= :now " +
+            "ORDER BY i.id")
+    List<PublishJobItem> findReady(LocalDateTime now, Pageable pageable);
+
+    /**
+     * Поиск элементов задачи с указанным статусом.
+     *
+     * @param jobId  идентификатор задачи
+     * @param status статус элемента
+     * @return список элементов
+     */
+    List<PublishJobItem> findAllByJobIdAndStatusOrderById(Long jobId, PublishItemStatus status);
+
+    /**
+     * Подсчет элементов задачи по статусам.
+     *
+     * @param jobId идентификатор задачи
+     * @return количество элементов в каждом статусе
+     */
+    @Query("SELECT new org.example.internship.dto.projection.StatusCountView(i.status, COUNT(i)) " +
+            "FROM PublishJobItem i WHERE i.jobId = :jobId GROUP BY i.status")
+    List<StatusCountView> countByStatus(Long jobId);
+
+    /**
+     * Проверка наличия у задачи элементов с одним из статусов.
+     *
+     * @param jobId    идентификатор задачи
+     * @param statuses статусы элементов
+     * @return true, если такие элементы есть
+     */
+    boolean existsByJobIdAndStatusIn(Long jobId, Collection<PublishItemStatus> statuses);
+
+    /**
+     * Захват элементов для обработки.
+     *
+     * @param ids       идентификаторы элементов
+     * @param claimedAt время захвата, с которого отсчитывается срок аренды
+     * @return количество захваченных элементов
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE PublishJobItem i SET i.claimedAt = :claimedAt, " +
+            "i.status = org.example.internship.model.publish.PublishItemStatus.PROCESSING " +
+            "WHERE i.id IN :ids AND i.status = org.example.internship.model.publish.PublishItemStatus.NEW")
+    int claim(Collection<Long> ids, LocalDateTime claimedAt);
+
+    /**
+     * Возврат захваченных элементов в очередь без увеличения счетчика попыток.
+     *
+     * @param ids идентификаторы элементов
+     * @return количество возвращенных элементов
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE PublishJobItem i SET i.status = org.example.internship.model.publish.PublishItemStatus.NEW " +
+            "WHERE i.id IN :ids AND i.status = org.example.internship.model.publish.PublishItemStatus.PROCESSING")
+    int release(Collection<Long> ids);
+
+    /**
+     * Возврат в очередь элементов, захваченных в указанное время.
+     * Элементы из того же списка, захваченные другим обработчиком, не затрагиваются.
+     *
+     * @param ids       идентификаторы элементов
+     * @param claimedAt время захвата
+     * @return количество возвращенных элементов
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE PublishJobItem i SET i.status = org.example.internship.model.publish.PublishItemStatus.NEW " +
+            "WHERE i.id IN :ids AND i.status = org.example.internship.model.publish.PublishItemStatus.PROCESSING " +
+            "AND i.claimedAt = :claimedAt")
+    int release(Collection<Long> ids, LocalDateTime claimedAt);
+
+    /**
+     * Возврат в очередь элементов, срок аренды которых истек: обработчик, захвативший их,
+     * остановился аварийно или не успел завершить обработку.
+     *
+     * @param claimedBefore время, раньше которого элемент должен быть захвачен
+     * @return количество возвращенных элементов
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE PublishJobItem i SET i.status = org.example.internship.model.publish.PublishItemStatus.NEW " +
+            "WHERE i.status = org.example.internship.model.publish.PublishItemStatus.PROCESSING " +
+            "AND (i.claimedAt IS NULL OR i.claimedAt < :claimedBefore)")
+    int releaseExpired(LocalDateTime claimedBefore);
+
+    /**
+     * Возврат в очередь элементов задачи, для которых не удалось создать форк.
+     * Элементы с уже созданными форками не затрагиваются.
+     *
+     * @param jobId идентификатор задачи
+     * @param now   текущее время
+     * @return количество возвращенных элементов
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE PublishJobItem i SET i.status = org.example.internship.model.publish.PublishItemStatus.NEW, " +
+            "i.attempts = 0, i.nextAttemptAt = :now " +
+            "WHERE i.jobId = :jobId AND i.status = org.example.internship.model.publish.PublishItemStatus.FAILED")
+    int resume(Long jobId, LocalDateTime now);
+}
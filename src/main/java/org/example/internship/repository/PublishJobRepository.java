@@ -0,0 +1,12 @@
+package org.example.internship.repository;
+
+import org.example.internship.model.publish.PublishJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Репозиторий для работы с задачами публикации заданий.
+ */
+@Repository
+public interface PublishJobRepository extends JpaRepository<PublishJob, Long> {
+}
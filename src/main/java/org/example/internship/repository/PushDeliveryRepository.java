@@ -0,0 +1,42 @@
+package org.example.internship.repository;
+
+import org.example.internship.model.inbox.PushDelivery;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Репозиторий для работы с принятыми доставками событий пуша.
+ */
+@Repository
+public interface PushDeliveryRepository extends JpaRepository<PushDelivery, PushDelivery.Key> {
+
+    /**
+     * Сохранение доставки, если она еще не была принята.
+     *
+     * @param projectId  идентификатор проекта GitLab
+     * @param afterSha   SHA коммита после пуша
+     * @param receivedAt время получения доставки
+     * @return 1, если доставка сохранена, и 0, если она уже была принята ранее
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO push_deliveries (project_id, after_sha, received_at) " +
+            "VALUES (:projectId, :afterSha, :receivedAt) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(Long projectId, String afterSha, LocalDateTime receivedAt);
+
+    /**
+     * Удаление доставок, полученных раньше указанного времени.
+     *
+     * @param receivedBefore время, раньше которого доставки удаляются
+     * @return количество удаленных доставок
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM PushDelivery d WHERE d.receivedAt < :receivedBefore")
+    int deleteAllReceivedBefore(LocalDateTime receivedBefore);
+}
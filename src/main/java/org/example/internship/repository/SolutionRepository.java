@@ -1,19 +1,32 @@
 package org.example.internship.repository;
 
+import org.example.internship.dto.projection.SolutionStatusView;
+import org.example.internship.dto.response.solution.SolutionDto;
 import org.example.internship.model.task.Solution;
 import org.example.internship.model.task.SolutionStatus;
-import org.example.internship.model.task.Task;
-import org.example.internship.model.user.User;
+import org.example.internship.model.user.Role;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 /**
  * Репозиторий для работы с решениями задач.
  */
 @Repository
-public interface SolutionRepository extends JpaRepository<Solution, Long> {
+public interface SolutionRepository extends JpaRepository<Solution, Long>, SolutionRepositoryCustom {
+    String SELECT_DTO = "SELECT new org.example.internship.dto.response.solution.SolutionDto(" +
+            "s.id, s.repositoryUrl, s.lastCommitTime, s.lastCommitUrl, s.task.id, s.user.id, s.status) " +
+            "FROM Solution s ";
 
     /**
      * Поиск решения по URL репозитория.
@@ -24,35 +37,99 @@ public interface SolutionRepository extends JpaRepository<Solution, Long> {
     Solution findByRepositoryUrl(String url);
 
     /**
-     * Поиск не архивированных решений по статусу.
+     * Получение статусов всех решений по заданиям стажировки одним запросом.
      *
-     * @param status статус решения
-     * @return список решений с указанным статусом
+     * @param internshipId идентификатор стажировки
+     * @return список проекций (пользователь, задание, статус) для решений заданий стажировки
+     */
+    @Query("SELECT new org.example.internship.dto.projection.SolutionStatusView(s.user.id, s.task.id, s.status) " +
+            "FROM Solution s WHERE s.task.lesson.internship.id = :internshipId")
+    List<SolutionStatusView> findStatusesByInternshipId(Long internshipId);
+
+    /**
+     * Получение страницы DTO решений без загрузки сущностей.
+     *
+     * @param cursor   идентификатор, после которого начинается страница
+     * @param pageable размер страницы
+     * @return список DTO решений в порядке возрастания идентификатора
      */
-    List<Solution> findAllByStatusAndIsArchivedFalse(SolutionStatus status);
+    @Query(SELECT_DTO + "WHERE s.id > :cursor ORDER BY s.id")
+    List<SolutionDto> findPageAsDto(long cursor, Pageable pageable);
 
     /**
-     * Поиск решений для заданного пользователя и списка задач.
+     * Получение страницы DTO не архивированных решений с указанным статусом без загрузки сущностей.
      *
-     * @param user  пользователь
-     * @param tasks список задач
-     * @return список решений для указанного пользователя и задач
+     * @param status   статус решения
+     * @param cursor   идентификатор, после которого начинается страница
+     * @param pageable размер страницы
+     * @return список DTO решений в порядке возрастания идентификатора
      */
-    List<Solution> findAllByUserAndTaskIn(User user, List<Task> tasks);
+    @Query(SELECT_DTO + "WHERE s.status = :status AND s.isArchived = false AND s.id > :cursor ORDER BY s.id")
+    List<SolutionDto> findPageAsDtoByStatus(SolutionStatus status, long cursor, Pageable pageable);
 
     /**
-     * Поиск не архивированных решений для задачи по ее идентификатору.
+     * Получение страницы DTO не архивированных решений задания без загрузки сущностей.
      *
-     * @param taskId идентификатор задачи
-     * @return список решений для указанной задачи
+     * @param taskId   идентификатор задания
+     * @param cursor   идентификатор, после которого начинается страница
+     * @param pageable размер страницы
+     * @return список DTO решений в порядке возрастания идентификатора
      */
-    List<Solution> findAllByTaskIdAndIsArchivedFalse(Long taskId);
+    @Query(SELECT_DTO + "WHERE s.task.id = :taskId AND s.isArchived = false AND s.id > :cursor ORDER BY s.id")
+    List<SolutionDto> findPageAsDtoByTaskId(Long taskId, long cursor, Pageable pageable);
 
     /**
-     * Поиск решений по идентификатору пользователя.
+     * Архивирование всех решений пользователя одним запросом.
      *
      * @param userId идентификатор пользователя
-     * @return список решений для указанного пользователя
+     * @return количество архивированных решений
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Solution s SET s.isArchived = true WHERE s.user.id = :userId AND s.isArchived = false")
+    int archiveAllByUserId(Long userId);
+
+    /**
+     * Архивирование решений всех участников стажировки с указанной ролью одним запросом.
+     *
+     * @param internshipId идентификатор стажировки
+     * @param role         роль участников
+     * @return количество архивированных решений
+     */
+    @Modifying
+    @Query("UPDATE Solution s SET s.isArchived = true WHERE s.isArchived = false AND s.user.id IN " +
+            "(SELECT u.id FROM User u WHERE u.internship.id = :internshipId AND u.role = :role)")
+    int archiveAllByInternshipIdAndRole(Long internshipId, Role role);
+
+    /**
+     * Потоковое чтение всех решений в порядке возрастания идентификатора.
+     * Поток должен быть прочитан и закрыт внутри транзакции.
+     *
+     * @return поток DTO решений
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_DTO + "ORDER BY s.id")
+    Stream<SolutionDto> streamAll();
+
+    /**
+     * Потоковое чтение не архивированных решений с указанным статусом.
+     * Поток должен быть прочитан и закрыт внутри транзакции.
+     *
+     * @param status статус решения
+     * @return поток DTO решений
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_DTO + "WHERE s.status = :status AND s.isArchived = false ORDER BY s.id")
+    Stream<SolutionDto> streamAllByStatus(SolutionStatus status);
+
+    /**
+     * Потоковое чтение не архивированных решений задания.
+     * Поток должен быть прочитан и закрыт внутри транзакции.
+     *
+     * @param taskId идентификатор задания
+     * @return поток DTO решений
      */
-    List<Solution> findAllByUserId(Long userId);
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_DTO + "WHERE s.task.id = :taskId AND s.isArchived = false ORDER BY s.id")
+    Stream<SolutionDto> streamAllByTaskId(Long taskId);
 }
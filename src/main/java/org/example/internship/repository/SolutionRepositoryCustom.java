@@ -0,0 +1,23 @@
+package org.example.internship.repository;
+
+import org.example.internship.dto.projection.SolutionStatusView;
+import org.example.internship.dto.request.solution.SolutionPushDto;
+
+import java.util.List;
+
+/**
+ * Дополнительные операции репозитория решений, выполняемые нативными запросами.
+ */
+public interface SolutionRepositoryCustom {
+
+    /**
+     * Вставка или обновление решений по URL репозитория одним запросом.
+     * Существующее решение обновляется, только если пуш содержит более поздний коммит
+     * или другой коммит с тем же временем.
+     * URL репозиториев в списке должны быть уникальными.
+     *
+     * @param pushes данные пушей в репозитории решений
+     * @return статусы вставленных или обновленных решений
+     */
+    List<SolutionStatusView> upsertAll(List<SolutionPushDto> pushes);
+}
@@ -0,0 +1,85 @@
+package org.example.internship.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.internship.dto.projection.SolutionStatusView;
+import org.example.internship.dto.request.solution.SolutionPushDto;
+import org.example.internship.model.task.SolutionStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Реализация дополнительных операций репозитория решений.
+ * <br>
+ * Вставка выполняется через INSERT ... ON CONFLICT (repository_url) DO UPDATE, поэтому параллельные
+ * обработчики не конфликтуют на ограничении repository_url_uk, а каждая пачка пушей
+ * записывается за одно обращение к базе данных. Задание и пользователь берутся из пуша,
+ * если они известны по форку, иначе определяются по названию проекта и имени пользователя.
+ * Повторная запись того же коммита не меняет решение, поэтому проверенное решение не возвращается в статус SENT.
+ */
+@RequiredArgsConstructor
+public class SolutionRepositoryCustomImpl implements SolutionRepositoryCustom {
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+    private static final String UPSERT_PREFIX = "INSERT INTO task_solutions " +
+            "(repository_url, last_commit_time, last_commit_url, status, is_archived, task_id, user_id) VALUES ";
+    private static final String UPSERT_ROW = "(?, ?, ?, ?, false, " +
+            "COALESCE(CAST(? AS BIGINT), (SELECT t.id FROM tasks t WHERE t.name = ? ORDER BY t.id LIMIT 1)), " +
+            "COALESCE(CAST(? AS BIGINT), (SELECT u.id FROM users u WHERE u.username = ?)))";
+    private static final String UPSERT_SUFFIX = " ON CONFLICT (repository_url) DO UPDATE SET " +
+            "last_commit_time = EXCLUDED.last_commit_time, " +
+            "last_commit_url = EXCLUDED.last_commit_url, " +
+            "status = EXCLUDED.status " +
+            "WHERE task_solutions.last_commit_time < EXCLUDED.last_commit_time " +
+            "OR (task_solutions.last_commit_time = EXCLUDED.last_commit_time " +
+            "AND task_solutions.last_commit_url <> EXCLUDED.last_commit_url) " +
+            "RETURNING user_id, task_id, status";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param pushes данные пушей в репозитории решений
+     * @return статусы вставленных или обновленных решений
+     */
+    @Override
+    public List<SolutionStatusView> upsertAll(List<SolutionPushDto> pushes) {
+        if (pushes.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<SolutionStatusView> written = new ArrayList<>(pushes.size());
+        for (int from = 0; from < pushes.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<SolutionPushDto> chunk = pushes.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, pushes.size()));
+            written.addAll(upsertChunk(chunk));
+        }
+        return written;
+    }
+
+    private List<SolutionStatusView> upsertChunk(List<SolutionPushDto> pushes) {
+        StringBuilder sql = new StringBuilder(UPSERT_PREFIX);
+        List<Object> args = new ArrayList<>(pushes.size() * 8);
+        for (SolutionPushDto push : pushes) {
+            if (args.size() > 0) {
+                sql.append(", ");
+            }
+            sql.append(UPSERT_ROW);
+            args.add(push.getRepositoryUrl());
+            args.add(Timestamp.valueOf(push.getLastCommitTime()));
+            args.add(push.getLastCommitUrl());
+            args.add(SolutionStatus.SENT.name());
+            args.add(push.getTaskId());
+            args.add(push.getProjectName());
+            args.add(push.getUserId());
+            args.add(push.getUsername());
+        }
+        sql.append(UPSERT_SUFFIX);
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new SolutionStatusView(
+                rs.getObject("user_id", Long.class),
+                rs.getObject("task_id", Long.class),
+                SolutionStatus.valueOf(rs.getString("status"))
+        ), args.toArray());
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.internship.repository;
+
+import org.example.internship.model.task.SolutionSyncCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Репозиторий для работы с состоянием сверки решений.
+ */
+@Repository
+public interface SolutionSyncCursorRepository extends JpaRepository<SolutionSyncCursor, Long> {
+
+    /**
+     * Поиск состояния сверки всех форков задания.
+     *
+     * @param taskId идентификатор задания
+     * @return список состояний сверки форков задания
+     */
+    List<SolutionSyncCursor> findAllByTaskId(Long taskId);
+}
@@ -0,0 +1,12 @@
+package org.example.internship.repository;
+
+import org.example.internship.model.task.TaskFork;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Репозиторий для работы с форками репозиториев заданий.
+ */
+@Repository
+public interface TaskForkRepository extends JpaRepository<TaskFork, Long>, TaskForkRepositoryCustom {
+}
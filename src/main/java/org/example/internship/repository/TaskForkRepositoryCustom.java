@@ -0,0 +1,18 @@
+package org.example.internship.repository;
+
+import org.example.internship.model.task.TaskFork;
+
+import java.util.List;
+
+/**
+ * Дополнительные операции репозитория форков, выполняемые нативными запросами.
+ */
+public interface TaskForkRepositoryCustom {
+
+    /**
+     * Сохранение форков, которые еще не были сохранены. Уже сохраненные форки не изменяются.
+     *
+     * @param forks форки репозиториев заданий
+     */
+    void insertAllIfAbsent(List<TaskFork> forks);
+}
@@ -0,0 +1,39 @@
+package org.example.internship.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.internship.model.task.TaskFork;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * Реализация дополнительных операций репозитория форков.
+ * <br>
+ * Идентификатор форка задается GitLab, поэтому saveAll выполняет слияние с отдельным SELECT на каждый форк.
+ * Вместо этого форки вставляются одним пакетом через INSERT ... ON CONFLICT (project_id) DO NOTHING,
+ * и повторная регистрация того же форка ничего не меняет.
+ */
+@RequiredArgsConstructor
+public class TaskForkRepositoryCustomImpl implements TaskForkRepositoryCustom {
+    private static final String INSERT = "INSERT INTO task_forks (project_id, task_id, user_id) " +
+            "VALUES (?, ?, ?) ON CONFLICT (project_id) DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param forks форки репозиториев заданий
+     */
+    @Override
+    public void insertAllIfAbsent(List<TaskFork> forks) {
+        if (forks.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT, forks, forks.size(), (ps, fork) -> {
+            ps.setLong(1, fork.getProjectId());
+            ps.setLong(2, fork.getTaskId());
+            ps.setLong(3, fork.getUserId());
+        });
+    }
+}
@@ -1,17 +1,35 @@
 package org.example.internship.repository;
 
+import org.example.internship.dto.response.task.TaskDto;
 import org.example.internship.model.task.Task;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Репозиторий для работы с задачами.
  */
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
+    String SELECT_DTO = "SELECT new org.example.internship.dto.response.task.TaskDto(" +
+            "t.id, t.name, t.description, t.lesson.id) FROM Task t ";
+
+    /**
+     * Поиск задачи по идентификатору вместе с занятием, к которому она относится.
+     * Занятие нужно при публикации задачи и при сбросе ведомости после ее изменения.
+     *
+     * @param id идентификатор задачи
+     * @return задача с указанным идентификатором
+     */
+    @Override
+    @EntityGraph(attributePaths = "lesson")
+    Optional<Task> findById(Long id);
 
     /**
      * Поиск всех задач, опубликованных до указанной даты.
@@ -35,6 +53,7 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      * @param lessonId идентификатор урока
      * @return список неопубликованных задач для указанного урока
      */
+    @EntityGraph(attributePaths = "lesson")
     List<Task> findAllByLessonIdAndPublishDateIsNull(Long lessonId);
 
     /**
@@ -44,4 +63,14 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      * @return задача с указанным именем
      */
     Task findByName(String name);
+
+    /**
+     * Получение страницы DTO задач без загрузки сущностей.
+     *
+     * @param cursor   идентификатор, после которого начинается страница
+     * @param pageable размер страницы
+     * @return список DTO задач в порядке возрастания идентификатора
+     */
+    @Query(SELECT_DTO + "WHERE t.id > :cursor ORDER BY t.id")
+    List<TaskDto> findPageAsDto(long cursor, Pageable pageable);
 }
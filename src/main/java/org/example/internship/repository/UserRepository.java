@@ -1,11 +1,22 @@
 package org.example.internship.repository;
 
+import org.example.internship.dto.projection.ReportCellView;
+import org.example.internship.dto.response.UserDto;
 import org.example.internship.model.user.Role;
 import org.example.internship.model.user.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 /**
  * Репозиторий для работы с пользователями.
@@ -29,6 +40,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     User findByEmail(String email);
 
+    /**
+     * Поиск пользователей, у которых username или адрес электронной почты совпадает с одним из указанных.
+     *
+     * @param usernames имена пользователей
+     * @param emails    адреса электронной почты
+     * @return список найденных пользователей
+     */
+    List<User> findAllByUsernameInOrEmailIn(Collection<String> usernames, Collection<String> emails);
+
     /**
      * Поиск всех пользователей с указанной ролью для указанной стажировки.
      *
@@ -37,4 +57,53 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return список пользователей, участвующих в указанной стажировке
      */
     List<User> findAllByInternshipIdAndRole(Long internshipId, Role role);
+
+    /**
+     * Поиск имен всех пользователей с указанной ролью для указанной стажировки.
+     *
+     * @param internshipId идентификатор стажировки
+     * @param role         роль пользователя
+     * @return список имен пользователей
+     */
+    @Query("SELECT u.username FROM User u WHERE u.internship.id = :internshipId AND u.role = :role ORDER BY u.id")
+    List<String> findUsernamesByInternshipIdAndRole(Long internshipId, Role role);
+
+    /**
+     * Изменение роли всех пользователей стажировки с указанной ролью одним запросом.
+     *
+     * @param internshipId идентификатор стажировки
+     * @param role         текущая роль пользователей
+     * @param newRole      новая роль пользователей
+     * @return количество измененных пользователей
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.role = :newRole WHERE u.internship.id = :internshipId AND u.role = :role")
+    int updateRoleByInternshipId(Long internshipId, Role role, Role newRole);
+
+    /**
+     * Потоковое чтение ячеек ведомости стажировки: каждый участник с указанной ролью
+     * соединяется со всеми своими решениями. Строки упорядочены по участнику,
+     * поэтому ведомость можно собирать построчно, не загружая ее целиком.
+     * Поток должен быть прочитан и закрыт внутри транзакции.
+     *
+     * @param internshipId идентификатор стажировки
+     * @param role         роль участников
+     * @return поток ячеек ведомости
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new org.example.internship.dto.projection.ReportCellView(u.id, u.username, s.task.id, s.status) " +
+            "FROM User u LEFT JOIN Solution s ON s.user.id = u.id " +
+            "WHERE u.internship.id = :internshipId AND u.role = :role ORDER BY u.id")
+    Stream<ReportCellView> streamReportCells(Long internshipId, Role role);
+
+    /**
+     * Получение страницы DTO пользователей без загрузки сущностей.
+     *
+     * @param cursor   идентификатор, после которого начинается страница
+     * @param pageable размер страницы
+     * @return список DTO пользователей в порядке возрастания идентификатора
+     */
+    @Query("SELECT new org.example.internship.dto.response.UserDto(u.id, u.name, u.username, u.email, u.internship.id) " +
+            "FROM User u WHERE u.id > :cursor ORDER BY u.id")
+    List<UserDto> findPageAsDto(long cursor, Pageable pageable);
 }
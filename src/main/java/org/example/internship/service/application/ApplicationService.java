@@ -2,10 +2,9 @@ package org.example.internship.service.application;
 
 import org.example.internship.dto.request.application.ApplicationStatusDto;
 import org.example.internship.dto.request.application.NewApplicationDto;
+import org.example.internship.dto.response.CursorPage;
 import org.example.internship.dto.response.application.ApplicationDto;
 
-import java.util.List;
-
 /**
  * Сервис для работы с заявками.
  */
@@ -25,11 +24,13 @@ public interface ApplicationService {
     void changeStatus(ApplicationStatusDto statusDto);
 
     /**
-     * Получение всех заявок.
+     * Получение страницы всех заявок.
      *
-     * @return список всех заявок
+     * @param cursor идентификатор последнего элемента предыдущей страницы или null для первой страницы
+     * @param limit  размер страницы или null для размера по умолчанию
+     * @return страница заявок
      */
-    List<ApplicationDto> getAll();
+    CursorPage<ApplicationDto> getAll(Long cursor, Integer limit);
 
     /**
      * Получение заявки по её идентификатору.
@@ -40,28 +41,35 @@ public interface ApplicationService {
     ApplicationDto getById(Long id);
 
     /**
-     * Получение списка заявок по статусу.
+     * Получение страницы заявок по статусу.
      *
      * @param status статус заявки
-     * @return список заявок с указанным статусом
+     * @param cursor идентификатор последнего элемента предыдущей страницы или null для первой страницы
+     * @param limit  размер страницы или null для размера по умолчанию
+     * @return страница заявок с указанным статусом
      */
-    List<ApplicationDto> getByStatus(String status);
+    CursorPage<ApplicationDto> getByStatus(String status, Long cursor, Integer limit);
 
 
     /**
-     * Получение списка заявок по идентификатору стажировки.
+     * Получение страницы заявок по идентификатору стажировки.
      *
      * @param internshipId идентификатор стажировки
-     * @return список заявок, оставленных на указанную стажировку
+     * @param cursor       идентификатор последнего элемента предыдущей страницы или null для первой страницы
+     * @param limit        размер страницы или null для размера по умолчанию
+     * @return страница заявок, оставленных на указанную стажировку
      */
-    List<ApplicationDto> getAllByInternshipId(Long internshipId);
+    CursorPage<ApplicationDto> getAllByInternshipId(Long internshipId, Long cursor, Integer limit);
 
     /**
-     * Получение списка заявок по идентификатору стажировки и статусу.
+     * Получение страницы заявок по идентификатору стажировки и статусу.
      *
      * @param internshipId идентификатор стажировки
      * @param status       статус заявки
-     * @return список заявок, оставленных на указанную стажировку с указанным статусом
+     * @param cursor       идентификатор последнего элемента предыдущей страницы или null для первой страницы
+     * @param limit        размер страницы или null для размера по умолчанию
+     * @return страница заявок, оставленных на указанную стажировку с указанным статусом
      */
-    List<ApplicationDto> getAllByInternshipIdAndStatus(Long internshipId, String status);
+    CursorPage<ApplicationDto> getAllByInternshipIdAndStatus(Long internshipId, String status, Long cursor,
+                                                             Integer limit);
 }
@@ -3,19 +3,21 @@ package org.example.internship.service.application;
 import lombok.RequiredArgsConstructor;
 import org.example.internship.dto.request.application.ApplicationStatusDto;
 import org.example.internship.dto.request.application.NewApplicationDto;
+import org.example.internship.dto.response.CursorPage;
 import org.example.internship.dto.response.application.ApplicationDto;
 import org.example.internship.mapper.ApplicationMapper;
 import org.example.internship.model.application.Application;
 import org.example.internship.model.application.ApplicationStatus;
 import org.example.internship.model.internship.InternshipStatus;
 import org.example.internship.repository.ApplicationRepository;
+import org.example.internship.utils.CursorPages;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityExistsException;
 import javax.persistence.EntityNotFoundException;
 import java.time.LocalDate;
-import java.util.List;
-import java.util.stream.Collectors;
 
 
 /**
@@ -78,14 +80,16 @@ public class ApplicationServiceImpl implements ApplicationService {
     /**
      * {@inheritDoc}
      *
-     * @return список всех заявок
+     * @param cursor идентификатор последнего элемента предыдущей страницы или null для первой страницы
+     * @param limit  размер страницы или null для размера по умолчанию
+     * @return страница заявок
      */
     @Override
-    public List<ApplicationDto> getAll() {
-        List<Application> applications = applicationRepository.findAll();
-        return applications.stream()
-                .map(applicationMapper::toDto)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<ApplicationDto> getAll(Long cursor, Integer limit) {
+        Pageable request = CursorPages.request(limit);
+        return CursorPages.page(applicationRepository.findPageAsDto(CursorPages.after(cursor), request),
+                request, ApplicationDto::getId);
     }
 
     /**
@@ -106,29 +110,33 @@ public class ApplicationServiceImpl implements ApplicationService {
      * {@inheritDoc}
      *
      * @param status статус заявки
-     * @return список заявок с указанным статусом
+     * @param cursor идентификатор последнего элемента предыдущей страницы или null для первой страницы
+     * @param limit  размер страницы или null для размера по умолчанию
+     * @return страница заявок с указанным статусом
      */
     @Override
-    public List<ApplicationDto> getByStatus(String status) {
-        List<Application> applications = applicationRepository
-                .findAllByStatus(ApplicationStatus.valueOf(status.toUpperCase()));
-        return applications.stream()
-                .map(applicationMapper::toDto)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<ApplicationDto> getByStatus(String status, Long cursor, Integer limit) {
+        ApplicationStatus applicationStatus = ApplicationStatus.valueOf(status.toUpperCase());
+        Pageable request = CursorPages.request(limit);
+        return CursorPages.page(applicationRepository.findPageAsDtoByStatus(applicationStatus,
+                CursorPages.after(cursor), request), request, ApplicationDto::getId);
     }
 
     /**
      * {@inheritDoc}
      *
      * @param internshipId идентификатор стажировки
-     * @return список заявок, оставленных на указанную стажировку
+     * @param cursor       идентификатор последнего элемента предыдущей страницы или null для первой страницы
+     * @param limit        размер страницы или null для размера по умолчанию
+     * @return страница заявок, оставленных на указанную стажировку
      */
     @Override
-    public List<ApplicationDto> getAllByInternshipId(Long internshipId) {
-        List<Application> applications = applicationRepository.findAllByInternshipId(internshipId);
-        return applications.stream()
-                .map(applicationMapper::toDto)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<ApplicationDto> getAllByInternshipId(Long internshipId, Long cursor, Integer limit) {
+        Pageable request = CursorPages.request(limit);
+        return CursorPages.page(applicationRepository.findPageAsDtoByInternshipId(internshipId,
+                CursorPages.after(cursor), request), request, ApplicationDto::getId);
     }
 
     /**
@@ -136,14 +144,17 @@ public class ApplicationServiceImpl implements ApplicationService {
      *
      * @param internshipId идентификатор стажировки
      * @param status       статус заявки
-     * @return список заявок, оставленных на указанную стажировку с указанным статусом
+     * @param cursor       идентификатор последнего элемента предыдущей страницы или null для первой страницы
+     * @param limit        размер страницы или null для размера по умолчанию
+     * @return страница заявок, оставленных на указанную стажировку с указанным статусом
      */
     @Override
-    public List<ApplicationDto> getAllByInternshipIdAndStatus(Long internshipId, String status) {
-        List<Application> applications = applicationRepository
-                .findAllByInternshipIdAndStatus(internshipId, ApplicationStatus.valueOf(status.toUpperCase()));
-        return applications.stream()
-                .map(applicationMapper::toDto)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<ApplicationDto> getAllByInternshipIdAndStatus(Long internshipId, String status, Long cursor,
+                                                                    Integer limit) {
+        ApplicationStatus applicationStatus = ApplicationStatus.valueOf(status.toUpperCase());
+        Pageable request = CursorPages.request(limit);
+        return CursorPages.page(applicationRepository.findPageAsDtoByInternshipIdAndStatus(internshipId,
+                applicationStatus, CursorPages.after(cursor), request), request, ApplicationDto::getId);
     }
 }
@@ -0,0 +1,60 @@
+package org.example.internship.service.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Запись табличных данных в формате CSV (RFC 4180) в кодировке UTF-8.
+ */
+public class CsvTableWriter implements TableWriter {
+    private static final char SEPARATOR = ',';
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private final Writer writer;
+
+    /**
+     * Создание CSV-писателя. В начало потока записывается BOM, чтобы Excel корректно распознал кодировку.
+     *
+     * @param out выходной поток
+     * @throws IOException если произошла ошибка записи в поток
+     */
+    public CsvTableWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write('\uFEFF');
+    }
+
+    @Override
+    public void writeRow(List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(SEPARATOR);
+            }
+            writer.write(escape(values.get(i)));
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+
+    /**
+     * Дописывает буферизованные данные в поток. Сам поток не закрывается, им владеет вызывающая сторона.
+     */
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    private String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(SEPARATOR) < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
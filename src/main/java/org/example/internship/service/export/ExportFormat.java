@@ -0,0 +1,47 @@
+package org.example.internship.service.export;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+/**
+ * Перечисление форматов выгрузки табличных данных.
+ */
+public enum ExportFormat {
+    CSV("text/csv", "csv"),
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    /**
+     * Получение формата выгрузки по его названию без учета регистра.
+     *
+     * @param format название формата
+     * @return формат выгрузки
+     * @throws IllegalArgumentException если формат не поддерживается
+     */
+    public static ExportFormat fromString(String format) {
+        return ExportFormat.valueOf(format.toUpperCase());
+    }
+
+    /**
+     * Формирование заголовков ответа для скачивания файла выгрузки.
+     *
+     * @param fileName имя файла без расширения
+     * @return заголовки с типом содержимого и именем файла
+     */
+    public HttpHeaders attachmentHeaders(String fileName) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(contentType));
+        headers.setContentDisposition(ContentDisposition.attachment()
+                .filename(fileName + "." + extension)
+                .build());
+        return headers;
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.internship.service.export;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Сервис для потоковой выгрузки данных в файлы.
+ */
+public interface ExportService {
+
+    /**
+     * Выгрузка ведомости по стажировке.
+     *
+     * @param internshipId идентификатор стажировки
+     * @param format       формат выгрузки
+     * @return тело ответа, записывающее ведомость в выходной поток
+     */
+    StreamingResponseBody exportReport(Long internshipId, ExportFormat format);
+
+    /**
+     * Выгрузка заявок на стажировку.
+     *
+     * @param status       статус заявки (необязательный параметр)
+     * @param internshipId идентификатор стажировки (необязательный параметр)
+     * @param format       формат выгрузки
+     * @return тело ответа, записывающее заявки в выходной поток
+     */
+    StreamingResponseBody exportApplications(String status, Long internshipId, ExportFormat format);
+
+    /**
+     * Выгрузка решений заданий.
+     *
+     * @param status статус решения (необязательный параметр)
+     * @param taskId идентификатор задания (необязательный параметр)
+     * @param format формат выгрузки
+     * @return тело ответа, записывающее решения в выходной поток
+     */
+    StreamingResponseBody exportSolutions(String status, Long taskId, ExportFormat format);
+}
@@ -0,0 +1,324 @@
+package org.example.internship.service.export;
+
+import org.example.internship.dto.projection.ReportCellView;
+import org.example.internship.dto.response.ReportDto;
+import org.example.internship.dto.response.application.ApplicationDto;
+import org.example.internship.dto.response.solution.SolutionDto;
+import org.example.internship.model.application.ApplicationStatus;
+import org.example.internship.model.task.SolutionStatus;
+import org.example.internship.model.task.Task;
+import org.example.internship.model.user.Role;
+import org.example.internship.repository.ApplicationRepository;
+import org.example.internship.repository.InternshipRepository;
+import org.example.internship.repository.SolutionRepository;
+import org.example.internship.repository.TaskRepository;
+import org.example.internship.repository.UserRepository;
+import org.example.internship.service.internship.InternshipArchiveService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.persistence.EntityNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Реализация сервиса для потоковой выгрузки данных в файлы.
+ * <br>
+ * Данные читаются из базы однонаправленным курсором и сразу записываются в выходной поток,
+ * поэтому потребление памяти не зависит от количества выгружаемых строк.
+ * Ведомость закрытой стажировки выгружается из итоговой ведомости, зафиксированной при закрытии,
+ * так как участники закрытой стажировки уже архивированы.
+ */
+@Service
+public class ExportServiceImpl implements ExportService {
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final List<String> APPLICATION_HEADER = List.of("id", "full_name", "email", "phone_number",
+            "username", "telegram_id", "about", "birth_date", "creation_date", "city", "education_status",
+            "university", "faculty", "specialty", "course", "internship_id");
+    private static final List<String> SOLUTION_HEADER = List.of("id", "repository_url", "last_commit_time",
+            "last_commit_url", "task_id", "user_id", "status");
+
+    private final InternshipRepository internshipRepository;
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final SolutionRepository solutionRepository;
+    private final ApplicationRepository applicationRepository;
+    private final InternshipArchiveService internshipArchiveService;
+    private final TransactionTemplate transactionTemplate;
+
+    public ExportServiceImpl(InternshipRepository internshipRepository,
+                             TaskRepository taskRepository,
+                             UserRepository userRepository,
+                             SolutionRepository solutionRepository,
+                             ApplicationRepository applicationRepository,
+                             InternshipArchiveService internshipArchiveService,
+                             PlatformTransactionManager transactionManager) {
+        this.internshipRepository = internshipRepository;
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.solutionRepository = solutionRepository;
+        this.applicationRepository = applicationRepository;
+        this.internshipArchiveService = internshipArchiveService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param internshipId идентификатор стажировки
+     * @param format       формат выгрузки
+     * @return тело ответа, записывающее ведомость в выходной поток
+     * @throws EntityNotFoundException если стажировка или ее задания не найдены
+     */
+    @Override
+    public StreamingResponseBody exportReport(Long internshipId, ExportFormat format) {
+        internshipRepository.findById(internshipId)
+                .orElseThrow(() -> new EntityNotFoundException("Internship not found with ID: " + internshipId));
+        List<Task> tasks = taskRepository.findAllByLesson_InternshipId(internshipId);
+        if (tasks.isEmpty()) {
+            throw new EntityNotFoundException("No tasks found for internship with ID:" + internshipId);
+        }
+        List<Task> sortedTasks = tasks.stream()
+                .sorted(Comparator.comparing(Task::getId))
+                .collect(Collectors.toList());
+        List<Long> taskIds = sortedTasks.stream().map(Task::getId).collect(Collectors.toList());
+        List<String> taskNames = sortedTasks.stream().map(Task::getName).collect(Collectors.toList());
+
+        Optional<List<ReportDto>> archivedReport = internshipArchiveService.getArchivedReport(internshipId);
+        if (archivedReport.isPresent()) {
+            List<ReportDto> report = archivedReport.get();
+            return out -> writeArchivedReport(report, taskNames, format, out);
+        }
+        return out -> inReadOnlyTransaction(() -> writeReport(internshipId, taskIds, taskNames, format, out));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param status       статус заявки (необязательный параметр)
+     * @param internshipId идентификатор стажировки (необязательный параметр)
+     * @param format       формат выгрузки
+     * @return тело ответа, записывающее заявки в выходной поток
+     */
+    @Override
+    public StreamingResponseBody exportApplications(String status, Long internshipId, ExportFormat format) {
+        ApplicationStatus applicationStatus = status == null ? null : ApplicationStatus.valueOf(status.toUpperCase());
+        return out -> inReadOnlyTransaction(() -> {
+            try (TableWriter writer = openWriter(format, out, "applications");
+                 Stream<ApplicationDto> applications = streamApplications(applicationStatus, internshipId)) {
+                writer.writeRow(APPLICATION_HEADER);
+                Iterator<ApplicationDto> iterator = applications.iterator();
+                while (iterator.hasNext()) {
+                    writer.writeRow(toRow(iterator.next()));
+                }
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param status статус решения (необязательный параметр)
+     * @param taskId идентификатор задания (необязательный параметр)
+     * @param format формат выгрузки
+     * @return тело ответа, записывающее решения в выходной поток
+     */
+    @Override
+    public StreamingResponseBody exportSolutions(String status, Long taskId, ExportFormat format) {
+        SolutionStatus solutionStatus = status == null ? null : SolutionStatus.valueOf(status.toUpperCase());
+        return out -> inReadOnlyTransaction(() -> {
+            try (TableWriter writer = openWriter(format, out, "solutions");
+                 Stream<SolutionDto> solutions = streamSolutions(solutionStatus, taskId)) {
+                writer.writeRow(SOLUTION_HEADER);
+                Iterator<SolutionDto> iterator = solutions.iterator();
+                while (iterator.hasNext()) {
+                    writer.writeRow(toRow(iterator.next()));
+                }
+            }
+        });
+    }
+
+    /**
+     * Построчная запись ведомости. Ячейки приходят упорядоченными по участнику,
+     * поэтому в памяти хранится только текущая строка.
+     *
+     * @param internshipId идентификатор стажировки
+     * @param taskIds      идентификаторы заданий в порядке столбцов
+     * @param taskNames    названия заданий в порядке столбцов
+     * @param format       формат выгрузки
+     * @param out          выходной поток
+     * @throws IOException если произошла ошибка записи в поток
+     */
+    private void writeReport(Long internshipId, List<Long> taskIds, List<String> taskNames,
+                             ExportFormat format, OutputStream out) throws IOException {
+        Map<Long, Integer> columns = new HashMap<>();
+        for (int i = 0; i < taskIds.size(); i++) {
+            columns.put(taskIds.get(i), i + 1);
+        }
+        List<String> header = new ArrayList<>(taskNames.size() + 1);
+        header.add("username");
+        header.addAll(taskNames);
+
+        try (TableWriter writer = openWriter(format, out, "report");
+             Stream<ReportCellView> cells = userRepository.streamReportCells(internshipId, Role.USER)) {
+            writer.writeRow(header);
+            Long currentUserId = null;
+            String[] row = null;
+            Iterator<ReportCellView> iterator = cells.iterator();
+            while (iterator.hasNext()) {
+                ReportCellView cell = iterator.next();
+                if (!cell.getUserId().equals(currentUserId)) {
+                    if (row != null) {
+                        writer.writeRow(Arrays.asList(row));
+                    }
+                    currentUserId = cell.getUserId();
+                    row = new String[header.size()];
+                    Arrays.fill(row, SolutionStatus.NO_SOLUTION.name());
+                    row[0] = cell.getUsername();
+                }
+                Integer column = cell.getTaskId() == null ? null : columns.get(cell.getTaskId());
+                if (column != null && SolutionStatus.NO_SOLUTION.name().equals(row[column])) {
+                    row[column] = cell.getStatus().name();
+                }
+            }
+            if (row != null) {
+                writer.writeRow(Arrays.asList(row));
+            }
+        }
+    }
+
+    /**
+     * Запись итоговой ведомости закрытой стажировки.
+     *
+     * @param report    итоговая ведомость
+     * @param taskNames названия заданий в порядке столбцов
+     * @param format    формат выгрузки
+     * @param out       выходной поток
+     * @throws IOException если произошла ошибка записи в поток
+     */
+    private void writeArchivedReport(List<ReportDto> report, List<String> taskNames,
+                                     ExportFormat format, OutputStream out) throws IOException {
+        List<String> header = new ArrayList<>(taskNames.size() + 1);
+        header.add("username");
+        header.addAll(taskNames);
+
+        try (TableWriter writer = openWriter(format, out, "report")) {
+            writer.writeRow(header);
+            for (ReportDto user : report) {
+                List<String> row = new ArrayList<>(header.size());
+                row.add(user.getUsername());
+                for (String taskName : taskNames) {
+                    row.add(user.getTaskStatuses().getOrDefault(taskName, SolutionStatus.NO_SOLUTION.name()));
+                }
+                writer.writeRow(row);
+            }
+        }
+    }
+
+    private Stream<ApplicationDto> streamApplications(ApplicationStatus status, Long internshipId) {
+        if (status == null && internshipId == null) {
+            return applicationRepository.streamAll();
+        } else if (internshipId == null) {
+            return applicationRepository.streamAllByStatus(status);
+        } else if (status == null) {
+            return applicationRepository.streamAllByInternshipId(internshipId);
+        }
+        return applicationRepository.streamAllByInternshipIdAndStatus(internshipId, status);
+    }
+
+    private Stream<SolutionDto> streamSolutions(SolutionStatus status, Long taskId) {
+        if (status != null) {
+            return solutionRepository.streamAllByStatus(status);
+        } else if (taskId != null) {
+            return solutionRepository.streamAllByTaskId(taskId);
+        }
+        return solutionRepository.streamAll();
+    }
+
+    private List<String> toRow(ApplicationDto application) {
+        return Arrays.asList(
+                asString(application.getId()),
+                application.getFullName(),
+                application.getEmail(),
+                application.getPhoneNumber(),
+                application.getUsername(),
+                application.getTelegramId(),
+                application.getAbout(),
+                asString(application.getBirthDate()),
+                asString(application.getCreationDate()),
+                application.getCity(),
+                asString(application.getEducationStatus()),
+                application.getUniversity(),
+                application.getFaculty(),
+                application.getSpecialty(),
+                asString(application.getCourse()),
+                asString(application.getInternshipId())
+        );
+    }
+
+    private List<String> toRow(SolutionDto solution) {
+        LocalDateTime lastCommitTime = solution.getLastCommitTime();
+        return Arrays.asList(
+                asString(solution.getId()),
+                solution.getRepositoryUrl(),
+                lastCommitTime == null ? null : lastCommitTime.format(DATE_TIME_FORMAT),
+                solution.getLastCommitUrl(),
+                asString(solution.getTaskId()),
+                asString(solution.getUserId()),
+                asString(solution.getStatus())
+        );
+    }
+
+    private String asString(Object value) {
+        return Objects.toString(value, null);
+    }
+
+    private TableWriter openWriter(ExportFormat format, OutputStream out, String sheetName) throws IOException {
+        if (format == ExportFormat.XLSX) {
+            return new XlsxTableWriter(out, sheetName);
+        }
+        return new CsvTableWriter(out);
+    }
+
+    /**
+     * Выполнение записи внутри транзакции только для чтения.
+     * Потоковые запросы требуют открытой транзакции на все время чтения курсора,
+     * а тело ответа записывается уже после выхода из метода контроллера.
+     *
+     * @param action действие записи
+     */
+    private void inReadOnlyTransaction(ExportAction action) {
+        transactionTemplate.executeWithoutResult(status -> {
+            try {
+                action.run();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Действие записи в выходной поток.
+     */
+    @FunctionalInterface
+    private interface ExportAction {
+        void run() throws IOException;
+    }
+}
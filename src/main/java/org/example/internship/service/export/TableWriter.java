@@ -0,0 +1,20 @@
+package org.example.internship.service.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Построчная запись табличных данных в выходной поток.
+ * Реализации не накапливают строки в памяти, а передают их в поток по мере записи.
+ */
+public interface TableWriter extends Closeable {
+
+    /**
+     * Запись строки таблицы.
+     *
+     * @param values значения ячеек строки
+     * @throws IOException если произошла ошибка записи в поток
+     */
+    void writeRow(List<String> values) throws IOException;
+}
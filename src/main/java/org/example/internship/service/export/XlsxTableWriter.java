@@ -0,0 +1,58 @@
+package org.example.internship.service.export;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Запись табличных данных в формате XLSX.
+ * Используется потоковая книга Apache POI: в памяти держится только окно из последних строк,
+ * остальные сбрасываются во временный файл, поэтому потребление памяти не зависит от размера выгрузки.
+ */
+public class XlsxTableWriter implements TableWriter {
+    private static final int ROW_ACCESS_WINDOW = 100;
+
+    private final OutputStream out;
+    private final SXSSFWorkbook workbook;
+    private final Sheet sheet;
+    private int rowIndex;
+
+    /**
+     * Создание XLSX-писателя.
+     *
+     * @param out       выходной поток
+     * @param sheetName название листа
+     */
+    public XlsxTableWriter(OutputStream out, String sheetName) {
+        this.out = out;
+        this.workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+        this.workbook.setCompressTempFiles(true);
+        this.sheet = workbook.createSheet(sheetName);
+    }
+
+    @Override
+    public void writeRow(List<String> values) {
+        Row row = sheet.createRow(rowIndex++);
+        for (int i = 0; i < values.size(); i++) {
+            row.createCell(i).setCellValue(values.get(i));
+        }
+    }
+
+    /**
+     * Запись книги в поток и удаление временных файлов. Сам поток не закрывается.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            workbook.write(out);
+            out.flush();
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+}
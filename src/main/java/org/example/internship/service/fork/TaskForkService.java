@@ -0,0 +1,28 @@
+package org.example.internship.service.fork;
+
+import org.example.internship.model.task.TaskFork;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Сервис для работы с форками репозиториев заданий.
+ */
+public interface TaskForkService {
+
+    /**
+     * Сохранение связей форков с заданиями и пользователями. Уже сохраненные связи не изменяются.
+     *
+     * @param forks форки репозиториев заданий
+     */
+    void registerAll(List<TaskFork> forks);
+
+    /**
+     * Поиск форков по идентификаторам проектов GitLab.
+     *
+     * @param projectIds идентификаторы проектов GitLab
+     * @return найденные форки: идентификатор проекта -> форк
+     */
+    Map<Long, TaskFork> findByProjectIds(Collection<Long> projectIds);
+}
@@ -0,0 +1,83 @@
+package org.example.internship.service.fork;
+
+import org.example.internship.model.task.TaskFork;
+import org.example.internship.repository.TaskForkRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Реализация сервиса для работы с форками репозиториев заданий.
+ * <br>
+ * Недавно использованные форки хранятся в ограниченном LRU-кэше, поэтому при обработке пушей
+ * задание и пользователь определяются без обращения к базе данных.
+ */
+@Service
+public class TaskForkServiceImpl implements TaskForkService {
+    private final TaskForkRepository taskForkRepository;
+    private final Map<Long, TaskFork> cache;
+
+    public TaskForkServiceImpl(TaskForkRepository taskForkRepository,
+                               @Value("${task.fork.cache-size:10000}") int cacheSize) {
+        this.taskForkRepository = taskForkRepository;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, TaskFork> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param forks форки репозиториев заданий
+     */
+    @Override
+    public void registerAll(List<TaskFork> forks) {
+        taskForkRepository.insertAllIfAbsent(forks);
+        synchronized (cache) {
+            forks.forEach(fork -> cache.put(fork.getProjectId(), fork));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br>
+     * Отсутствующие в кэше форки загружаются одним запросом по первичному ключу.
+     *
+     * @param projectIds идентификаторы проектов GitLab
+     * @return найденные форки: идентификатор проекта -> форк
+     */
+    @Override
+    public Map<Long, TaskFork> findByProjectIds(Collection<Long> projectIds) {
+        Map<Long, TaskFork> forks = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        synchronized (cache) {
+            for (Long projectId : projectIds) {
+                TaskFork fork = cache.get(projectId);
+                if (fork != null) {
+                    forks.put(projectId, fork);
+                } else {
+                    missing.add(projectId);
+                }
+            }
+        }
+        if (missing.isEmpty()) {
+            return forks;
+        }
+
+        List<TaskFork> loaded = taskForkRepository.findAllById(missing);
+        synchronized (cache) {
+            loaded.forEach(fork -> cache.put(fork.getProjectId(), fork));
+        }
+        loaded.forEach(fork -> forks.put(fork.getProjectId(), fork));
+        return forks;
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.internship.service.gitlab;
+
+import org.gitlab4j.api.GitLabApi;
+import org.gitlab4j.api.GitLabApiException;
+
+/**
+ * Запрос к GitLab API, выполняемый через {@link GitlabClient}.
+ *
+ * @param <T> тип результата запроса
+ */
+@FunctionalInterface
+public interface GitlabCall<T> {
+
+    /**
+     * Выполнение запроса.
+     *
+     * @param gitlabApi клиент GitLab API
+     * @return результат запроса
+     * @throws GitLabApiException если GitLab вернул ошибку
+     */
+    T execute(GitLabApi gitlabApi) throws GitLabApiException;
+}
@@ -0,0 +1,106 @@
+package org.example.internship.service.gitlab;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Размыкатель цепи для запросов к GitLab.
+ * <br>
+ * После заданного числа ошибок подряд размыкатель размыкается и в течение заданного времени
+ * отклоняет все запросы без обращения к GitLab. Затем пропускается один пробный запрос:
+ * при успехе размыкатель замыкается, при ошибке снова размыкается.
+ * <br>
+ * Метрики: gitlab.circuit.state — состояние (0 — замкнут, 1 — разомкнут, 2 — пробный запрос),
+ * gitlab.circuit.rejected — число отклоненных запросов.
+ */
+@Component
+public class GitlabCircuitBreaker {
+
+    /**
+     * Состояние размыкателя.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final Counter rejected;
+
+    private State state = State.CLOSED;
+    private int failures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    public GitlabCircuitBreaker(MeterRegistry meterRegistry,
+                                @Value("${gitlab.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                                @Value("${gitlab.circuit-breaker.open-duration:30000}") long openDuration) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openDuration);
+        this.rejected = meterRegistry.counter("gitlab.circuit.rejected");
+        meterRegistry.gauge("gitlab.circuit.state", this, breaker -> breaker.getState().ordinal());
+    }
+
+    /**
+     * Получение текущего состояния размыкателя.
+     *
+     * @return состояние размыкателя
+     */
+    public synchronized State getState() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+            state = State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    /**
+     * Проверка, можно ли выполнить запрос к GitLab.
+     * Разрешенный запрос должен завершиться вызовом {@link #onSuccess}, {@link #onFailure} или {@link #release}.
+     *
+     * @return true, если запрос разрешен, false, если размыкатель разомкнут
+     */
+    public synchronized boolean tryAcquire() {
+        State current = getState();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.HALF_OPEN && !probeInFlight) {
+            probeInFlight = true;
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * Учет успешного запроса: GitLab ответил, размыкатель замыкается.
+     */
+    public synchronized void onSuccess() {
+        failures = 0;
+        probeInFlight = false;
+        state = State.CLOSED;
+    }
+
+    /**
+     * Учет неудачного запроса: GitLab не ответил или вернул ошибку сервера.
+     */
+    public synchronized void onFailure() {
+        probeInFlight = false;
+        if (state == State.HALF_OPEN || ++failures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+            failures = 0;
+        }
+    }
+
+    /**
+     * Освобождение разрешения без учета результата, например при прерывании ожидания.
+     */
+    public synchronized void release() {
+        probeInFlight = false;
+    }
+}
@@ -0,0 +1,306 @@
+package org.example.internship.service.gitlab;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.example.internship.exception.GitlabException;
+import org.example.internship.exception.GitlabUnavailableException;
+import org.gitlab4j.api.Constants.TokenType;
+import org.gitlab4j.api.GitLabApi;
+import org.gitlab4j.api.GitLabApi.ApiVersion;
+import org.gitlab4j.api.GitLabApiException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Клиент GitLab API с ограничением частоты запросов.
+ * <br>
+ * Запросы проходят через общий token bucket: корзина пополняется с заданной скоростью
+ * и вмещает ограниченный запас токенов. Запросы очереди BULK выполняются, только если
+ * в корзине остается резерв для интерактивных запросов и ни один интерактивный запрос не ждет токена.
+ * Ответ 429 Too Many Requests приостанавливает все запросы на заданное время, после чего запрос повторяется.
+ * <br>
+ * Запросы выполняются в отдельном ограниченном пуле потоков, вызывающий поток ждет результат не дольше таймаута.
+ * Если пул переполнен, запрос не уложился в таймаут или {@link GitlabCircuitBreaker} разомкнут,
+ * выбрасывается {@link GitlabUnavailableException}, поэтому недоступность GitLab не занимает потоки остального API.
+ * <br>
+ * Метрики: gitlab.client.queue — число запросов, ожидающих токена, gitlab.client.wait — время ожидания токена,
+ * gitlab.client.latency — время выполнения запроса, gitlab.client.throttled — число ответов 429,
+ * gitlab.bulkhead.rejected — число запросов, отклоненных из-за переполнения пула.
+ * Метрики очереди, ожидания и времени выполнения имеют тег lane.
+ */
+@Component
+public class GitlabClient {
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int SERVER_ERROR = 500;
+
+    private final GitLabApi gitlabApi;
+    private final GitlabCircuitBreaker circuitBreaker;
+    private final ExecutorService bulkhead;
+    private final long callTimeout;
+    private final double permitsPerNano;
+    private final double capacity;
+    private final double bulkReserve;
+    private final long throttlePauseNanos;
+    private final int maxThrottleRetries;
+
+    private final Map<GitlabLane, AtomicInteger> waiting = new EnumMap<>(GitlabLane.class);
+    private final Map<GitlabLane, Timer> waitTimers = new EnumMap<>(GitlabLane.class);
+    private final Map<GitlabLane, Timer> latencyTimers = new EnumMap<>(GitlabLane.class);
+    private final Counter throttled;
+    private final Counter bulkheadRejected;
+
+    private double tokens;
+    private long lastRefill;
+    private long pausedUntil;
+
+    /**
+     * Конструктор для инициализации GitLab API.
+     *
+     * @param gitlabUrl           URL-адрес GitLab
+     * @param personalAccessToken персональный токен доступа
+     * @param connectionPool      пул HTTP-соединений с GitLab
+     */
+    @Autowired
+    public GitlabClient(@Value("${gitlab.url}") String gitlabUrl,
+                        @Value("${gitlab.access.token}") String personalAccessToken,
+                        @Value("${gitlab.connect-timeout:5000}") int connectTimeout,
+                        @Value("${gitlab.read-timeout:10000}") int readTimeout,
+                        GitlabConnectionPool connectionPool,
+                        MeterRegistry meterRegistry,
+                        GitlabCircuitBreaker circuitBreaker,
+                        @Value("${gitlab.rate-limit.requests-per-second:10}") double requestsPerSecond,
+                        @Value("${gitlab.rate-limit.burst:20}") int burst,
+                        @Value("${gitlab.rate-limit.bulk-reserve:5}") int bulkReserve,
+                        @Value("${gitlab.rate-limit.throttle-pause:10000}") long throttlePause,
+                        @Value("${gitlab.rate-limit.max-throttle-retries:3}") int maxThrottleRetries,
+                        @Value("${gitlab.bulkhead.threads:16}") int bulkheadThreads,
+                        @Value("${gitlab.bulkhead.queue-capacity:32}") int bulkheadQueueCapacity,
+                        @Value("${gitlab.bulkhead.call-timeout:15000}") long callTimeout) {
+        this(createGitlabApi(gitlabUrl, personalAccessToken, connectTimeout, readTimeout, connectionPool),
+                meterRegistry, circuitBreaker, requestsPerSecond, burst, bulkReserve, throttlePause,
+                maxThrottleRetries, createBulkhead(bulkheadThreads, bulkheadQueueCapacity), callTimeout);
+    }
+
+    GitlabClient(GitLabApi gitlabApi, MeterRegistry meterRegistry, GitlabCircuitBreaker circuitBreaker,
+                 double requestsPerSecond, int burst, int bulkReserve, long throttlePause, int maxThrottleRetries,
+                 ExecutorService bulkhead, long callTimeout) {
+        if (requestsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("GitLab rate limit must be positive");
+        }
+        this.gitlabApi = gitlabApi;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.callTimeout = callTimeout;
+        this.permitsPerNano = requestsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = burst;
+        this.bulkReserve = Math.max(0, Math.min(bulkReserve, burst - 1));
+        this.throttlePauseNanos = TimeUnit.MILLISECONDS.toNanos(throttlePause);
+        this.maxThrottleRetries = maxThrottleRetries;
+        this.tokens = burst;
+        this.lastRefill = System.nanoTime();
+        this.pausedUntil = lastRefill;
+
+        for (GitlabLane lane : GitlabLane.values()) {
+            String tag = lane.name().toLowerCase();
+            AtomicInteger queue = new AtomicInteger();
+            waiting.put(lane, queue);
+            meterRegistry.gauge("gitlab.client.queue", Tags.of("lane", tag), queue);
+            waitTimers.put(lane, meterRegistry.timer("gitlab.client.wait", "lane", tag));
+            latencyTimers.put(lane, meterRegistry.timer("gitlab.client.latency", "lane", tag));
+        }
+        this.throttled = meterRegistry.counter("gitlab.client.throttled");
+        this.bulkheadRejected = meterRegistry.counter("gitlab.bulkhead.rejected");
+    }
+
+    private static GitLabApi createGitlabApi(String gitlabUrl, String personalAccessToken,
+                                             int connectTimeout, int readTimeout,
+                                             GitlabConnectionPool connectionPool) {
+        GitLabApi gitlabApi = new GitLabApi(ApiVersion.V4, gitlabUrl, TokenType.PRIVATE, personalAccessToken, null,
+                connectionPool.clientConfigProperties(connectTimeout, readTimeout));
+        gitlabApi.setRequestTimeout(connectTimeout, readTimeout);
+        return gitlabApi;
+    }
+
+    private static ExecutorService createBulkhead(int threads, int queueCapacity) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "gitlab-" + threadNumber.incrementAndGet()));
+    }
+
+    /**
+     * Выполнение запроса к GitLab API с учетом ограничения частоты запросов.
+     *
+     * @param lane очередь запроса
+     * @param call запрос
+     * @param <T>  тип результата запроса
+     * @return результат запроса
+     * @throws GitlabUnavailableException если GitLab недоступен или вернул ошибку сервера
+     * @throws GitlabException            если GitLab вернул ошибку или ожидание было прервано
+     */
+    public <T> T execute(GitlabLane lane, GitlabCall<T> call) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return executeOnce(lane, call);
+            } catch (GitLabApiException e) {
+                if (e.getHttpStatus() != TOO_MANY_REQUESTS || attempt >= maxThrottleRetries) {
+                    throw new GitlabException(e.getMessage());
+                }
+                throttled.increment();
+                pause();
+            }
+        }
+    }
+
+    /**
+     * Однократное выполнение запроса в пуле потоков GitLab с учетом состояния размыкателя.
+     * Ошибки сервера, таймауты и ошибки соединения считаются отказами GitLab,
+     * остальные ответы GitLab замыкают размыкатель.
+     *
+     * @throws GitLabApiException если GitLab вернул ошибку клиента
+     */
+    private <T> T executeOnce(GitlabLane lane, GitlabCall<T> call) throws GitLabApiException {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new GitlabUnavailableException("GitLab is unavailable, circuit breaker is open");
+        }
+        Future<T> future;
+        try {
+            acquire(lane);
+            future = bulkhead.submit(() -> timed(lane, call));
+        } catch (RejectedExecutionException e) {
+            circuitBreaker.release();
+            bulkheadRejected.increment();
+            throw new GitlabUnavailableException("GitLab is unavailable, too many concurrent requests");
+        } catch (RuntimeException e) {
+            circuitBreaker.release();
+            throw e;
+        }
+
+        try {
+            T result = future.get(callTimeout, TimeUnit.MILLISECONDS);
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            circuitBreaker.onFailure();
+            throw new GitlabUnavailableException("GitLab request timed out");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            circuitBreaker.release();
+            Thread.currentThread().interrupt();
+            throw new GitlabException("Interrupted while waiting for GitLab");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof GitLabApiException && !isServerError((GitLabApiException) cause)) {
+                circuitBreaker.onSuccess();
+                throw (GitLabApiException) cause;
+            }
+            circuitBreaker.onFailure();
+            throw new GitlabUnavailableException(cause.getMessage());
+        }
+    }
+
+    private <T> T timed(GitlabLane lane, GitlabCall<T> call) throws GitLabApiException {
+        long start = System.nanoTime();
+        try {
+            return call.execute(gitlabApi);
+        } finally {
+            latencyTimers.get(lane).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Ошибка сервера или ошибка соединения, для которой gitlab4j не заполняет HTTP-статус.
+     */
+    private boolean isServerError(GitLabApiException e) {
+        return e.getHttpStatus() == 0 || e.getHttpStatus() >= SERVER_ERROR;
+    }
+
+    /**
+     * Ожидание токена для запроса.
+     *
+     * @param lane очередь запроса
+     * @throws GitlabException если ожидание было прервано
+     */
+    private void acquire(GitlabLane lane) {
+        AtomicInteger queue = waiting.get(lane);
+        long start = System.nanoTime();
+        queue.incrementAndGet();
+        try {
+            long waitNanos;
+            while ((waitNanos = tryAcquire(lane)) > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GitlabException("Interrupted while waiting for GitLab rate limit");
+        } finally {
+            queue.decrementAndGet();
+            waitTimers.get(lane).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Попытка взять токен из корзины.
+     *
+     * @param lane очередь запроса
+     * @return 0, если токен получен, иначе время в наносекундах, через которое стоит повторить попытку
+     */
+    synchronized long tryAcquire(GitlabLane lane) {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * permitsPerNano);
+        lastRefill = now;
+        if (now < pausedUntil) {
+            return pausedUntil - now;
+        }
+
+        double required = 1;
+        if (lane == GitlabLane.BULK) {
+            if (waiting.get(GitlabLane.INTERACTIVE).get() > 0) {
+                return nanosFor(1);
+            }
+            required += bulkReserve;
+        }
+        if (tokens >= required) {
+            tokens -= 1;
+            return 0;
+        }
+        return nanosFor(required - tokens);
+    }
+
+    /**
+     * Приостановка всех запросов после ответа 429 и сброс накопленного запаса токенов.
+     */
+    private synchronized void pause() {
+        pausedUntil = Math.max(pausedUntil, System.nanoTime() + throttlePauseNanos);
+        tokens = 0;
+    }
+
+    private long nanosFor(double permits) {
+        return Math.max(1, (long) Math.ceil(permits / permitsPerNano));
+    }
+
+    /**
+     * Остановка пула запросов к GitLab при завершении приложения.
+     */
+    @PreDestroy
+    void stop() {
+        bulkhead.shutdownNow();
+    }
+}
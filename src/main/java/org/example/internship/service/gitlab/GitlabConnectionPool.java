@@ -0,0 +1,110 @@
+package org.example.internship.service.gitlab;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.HttpConnectionFactory;
+import org.apache.http.conn.ManagedHttpClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.conn.ManagedHttpClientConnectionFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.glassfish.jersey.apache.connector.ApacheClientProperties;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.RequestEntityProcessing;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Пул HTTP-соединений с GitLab.
+ * <br>
+ * По умолчанию GitLab API использует транспорт Jersey на HttpURLConnection, который плохо переиспользует
+ * соединения при параллельных запросах. Если пул включен, GitLab API работает через Apache HttpClient
+ * с общим пулом keep-alive соединений: число соединений ограничено как всего, так и для одного хоста,
+ * соединения живут не дольше заданного времени и проверяются перед повторным использованием после простоя.
+ * <br>
+ * GitLab API подключает Apache HttpClient, только если среди свойств клиента есть адрес прокси,
+ * поэтому свойство передается с пустым значением: коннектор выбирается, а запросы идут напрямую.
+ * <br>
+ * Метрики: gitlab.http.pool.leased — соединения, занятые запросами, gitlab.http.pool.pending — запросы,
+ * ожидающие свободного соединения, gitlab.http.pool.available — свободные соединения в пуле,
+ * gitlab.http.pool.created — число открытых соединений.
+ */
+@Component
+public class GitlabConnectionPool {
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final Counter created;
+
+    public GitlabConnectionPool(MeterRegistry meterRegistry,
+                                @Value("${gitlab.http.pool.enabled:true}") boolean enabled,
+                                @Value("${gitlab.http.pool.max-total:32}") int maxTotal,
+                                @Value("${gitlab.http.pool.max-per-route:16}") int maxPerRoute,
+                                @Value("${gitlab.http.pool.time-to-live:300000}") long timeToLive,
+                                @Value("${gitlab.http.pool.validate-after-inactivity:2000}") int validateAfterInactivity) {
+        this.created = meterRegistry.counter("gitlab.http.pool.created");
+        if (!enabled) {
+            this.connectionManager = null;
+            return;
+        }
+
+        Registry<ConnectionSocketFactory> socketFactories = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", SSLConnectionSocketFactory.getSocketFactory())
+                .build();
+        HttpConnectionFactory<HttpRoute, ManagedHttpClientConnection> connectionFactory = (route, config) -> {
+            created.increment();
+            return ManagedHttpClientConnectionFactory.INSTANCE.create(route, config);
+        };
+        this.connectionManager = new PoolingHttpClientConnectionManager(socketFactories, connectionFactory,
+                null, null, timeToLive, TimeUnit.MILLISECONDS);
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        connectionManager.setValidateAfterInactivity(validateAfterInactivity);
+
+        meterRegistry.gauge("gitlab.http.pool.leased", connectionManager,
+                manager -> manager.getTotalStats().getLeased());
+        meterRegistry.gauge("gitlab.http.pool.pending", connectionManager,
+                manager -> manager.getTotalStats().getPending());
+        meterRegistry.gauge("gitlab.http.pool.available", connectionManager,
+                manager -> manager.getTotalStats().getAvailable());
+    }
+
+    /**
+     * Получение свойств клиента GitLab API.
+     *
+     * @param connectTimeout таймаут установки соединения в миллисекундах
+     * @param readTimeout    таймаут чтения ответа в миллисекундах
+     * @return свойства клиента или null, если пул выключен и используется транспорт по умолчанию
+     */
+    public Map<String, Object> clientConfigProperties(int connectTimeout, int readTimeout) {
+        if (connectionManager == null) {
+            return null;
+        }
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(ClientProperties.PROXY_URI, null);
+        properties.put(ApacheClientProperties.CONNECTION_MANAGER, connectionManager);
+        properties.put(ApacheClientProperties.CONNECTION_MANAGER_SHARED, true);
+        properties.put(ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.BUFFERED);
+        properties.put(ClientProperties.CONNECT_TIMEOUT, connectTimeout);
+        properties.put(ClientProperties.READ_TIMEOUT, readTimeout);
+        return properties;
+    }
+
+    /**
+     * Закрытие всех соединений пула при завершении приложения.
+     */
+    @PreDestroy
+    void stop() {
+        if (connectionManager != null) {
+            connectionManager.shutdown();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package org.example.internship.service.gitlab;
+
+/**
+ * Перечисление очередей запросов к GitLab API.
+ * <br>
+ * INTERACTIVE — запросы, результат которых ждет пользователь или обработка пуша.
+ * BULK — массовые фоновые операции (публикация заданий, импорт пользователей), которые используют
+ * только оставшуюся от интерактивных запросов пропускную способность.
+ */
+public enum GitlabLane {
+    INTERACTIVE, BULK
+}
@@ -1,8 +1,12 @@
 package org.example.internship.service.gitlab;
 
 import org.example.internship.dto.request.NewUserDto;
+import org.gitlab4j.api.models.Commit;
 import org.gitlab4j.api.models.Project;
 
+import java.util.Date;
+import java.util.List;
+
 /**
  * Сервис для взаимодействия с GitLab.
  */
@@ -22,8 +26,18 @@ public interface GitlabService {
      *
      * @param repositoryId    идентификатор репозитория
      * @param targetNamespace пространство имен целевого пользователя
+     * @return объект Project, представляющий созданный форк
      */
-    void forkRepository(Long repositoryId, String targetNamespace);
+    Project forkRepository(Long repositoryId, String targetNamespace);
+
+    /**
+     * Поиск уже созданного форка репозитория в пространстве имен пользователя.
+     *
+     * @param repositoryId    идентификатор репозитория
+     * @param targetNamespace пространство имен пользователя
+     * @return форк или null, если в пространстве имен нет форка этого репозитория
+     */
+    Project findFork(Long repositoryId, String targetNamespace);
 
     /**
      * Создание нового пользователя в GitLab.
@@ -32,6 +46,23 @@ public interface GitlabService {
      */
     void createUser(NewUserDto newUserDto);
 
+    /**
+     * Создание нового пользователя в GitLab в указанной очереди запросов.
+     *
+     * @param newUserDto информация о новом пользователе
+     * @param lane       очередь запросов к GitLab
+     */
+    void createUser(NewUserDto newUserDto, GitlabLane lane);
+
+    /**
+     * Проверка существования пользователя в GitLab в указанной очереди запросов.
+     *
+     * @param username имя пользователя
+     * @param lane     очередь запросов к GitLab
+     * @return true, если пользователь с таким именем есть в GitLab, иначе false
+     */
+    boolean userExists(String username, GitlabLane lane);
+
     /**
      * Проверка, был ли репозиторий клонирован.
      *
@@ -47,4 +78,36 @@ public interface GitlabService {
      */
     void blockUser(String username);
 
+    /**
+     * Блокировка пользователя по username в указанной очереди запросов.
+     *
+     * @param username имя пользователя
+     * @param lane     очередь запросов к GitLab
+     */
+    void blockUser(String username, GitlabLane lane);
+
+    /**
+     * Получение всех форков репозитория.
+     *
+     * @param repositoryId идентификатор репозитория
+     * @return список форков репозитория
+     */
+    List<Project> getForks(Long repositoryId);
+
+    /**
+     * Получение последнего коммита в ветке по умолчанию, сделанного не ранее указанного времени.
+     *
+     * @param projectId идентификатор проекта
+     * @param since     время, начиная с которого ищутся коммиты
+     * @return последний коммит или null, если коммитов нет
+     */
+    Commit getLastCommit(Long projectId, Date since);
+
+    /**
+     * Добавление системного хука для обработки событий пуша, если такого хука еще нет.
+     *
+     * @return true, если хук был создан, false, если он уже существовал
+     */
+    boolean addSystemHook();
+
 }
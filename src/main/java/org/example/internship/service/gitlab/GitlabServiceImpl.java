@@ -1,22 +1,38 @@
 package org.example.internship.service.gitlab;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.example.internship.dto.request.NewUserDto;
 import org.example.internship.exception.GitlabException;
-import org.gitlab4j.api.*;
+import org.example.internship.utils.TtlCache;
+import org.gitlab4j.api.GitLabApiException;
 import org.gitlab4j.api.models.*;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Date;
 import java.util.List;
 
 /**
  * Реализация сервиса для взаимодействия с GitLab.
+ * <br>
+ * Все запросы выполняются через {@link GitlabClient}: форки при публикации заданий, запросы сверки решений,
+ * массовое создание и блокировка пользователей идут в очереди BULK, остальные запросы — в очереди INTERACTIVE.
+ * <br>
+ * Редко меняющиеся данные кэшируются: признак форка проекта, путь репозитория задания,
+ * ID пользователя GitLab по имени и список системных хуков. Собственные изменения сразу обновляют кэш, поэтому обработка пушей
+ * в установившемся режиме не обращается к GitLab.
  */
 @Service
 public class GitlabServiceImpl implements GitlabService {
-    private final GitLabApi gitlabApi;
+    private static final String HOOKS_KEY = "all";
+    private static final int NOT_FOUND = 404;
+
+    private final GitlabClient gitlabClient;
+    private final TtlCache<Long, Boolean> forkStatuses;
+    private final TtlCache<Long, String> repositoryPaths;
+    private final TtlCache<String, Long> userIds;
+    private final TtlCache<String, List<SystemHook>> hooks;
 
     @Value("${gitlab.system.hook.token}")
     private String hookToken;
@@ -26,16 +42,21 @@ public class GitlabServiceImpl implements GitlabService {
 
     private final String HOOK_URL = "http://backend:8080/api/solution/add";
 
-    /**
-     * Конструктор для инициализации GitLab API.
-     *
-     * @param gitlabUrl           URL-адрес GitLab
-     * @param personalAccessToken персональный токен доступа
-     */
-    @Autowired
-    public GitlabServiceImpl(@Value("${gitlab.url}") String gitlabUrl,
-                             @Value("${gitlab.access.token}") String personalAccessToken) {
-        this.gitlabApi = new GitLabApi(gitlabUrl, personalAccessToken);
+    private final int FORKS_PER_PAGE = 100;
+
+    public GitlabServiceImpl(GitlabClient gitlabClient,
+                             MeterRegistry meterRegistry,
+                             @Value("${gitlab.cache.max-size:10000}") int cacheSize,
+                             @Value("${gitlab.cache.fork-status-ttl:86400000}") long forkStatusTtl,
+                             @Value("${gitlab.cache.user-ttl:3600000}") long userTtl,
+                             @Value("${gitlab.cache.hooks-ttl:300000}") long hooksTtl) {
+        this.gitlabClient = gitlabClient;
+        this.forkStatuses = new TtlCache<>("gitlab.fork-status", cacheSize,
+                Duration.ofMillis(forkStatusTtl), meterRegistry);
+        this.repositoryPaths = new TtlCache<>("gitlab.repository-path", cacheSize,
+                Duration.ofMillis(forkStatusTtl), meterRegistry);
+        this.userIds = new TtlCache<>("gitlab.user-id", cacheSize, Duration.ofMillis(userTtl), meterRegistry);
+        this.hooks = new TtlCache<>("gitlab.hooks", 1, Duration.ofMillis(hooksTtl), meterRegistry);
     }
 
     /**
@@ -48,14 +69,8 @@ public class GitlabServiceImpl implements GitlabService {
      */
     @Override
     public Project createRepository(String repositoryName, String description) {
-        ProjectApi projectApi = gitlabApi.getProjectApi();
-        Project project;
-        try {
-            project = projectApi.createProject(repositoryName);
-        } catch (GitLabApiException e) {
-            throw new GitlabException(e.getMessage());
-        }
-        CommitsApi commitsApi = gitlabApi.getCommitsApi();
+        Project project = gitlabClient.execute(GitlabLane.INTERACTIVE,
+                gitlabApi -> gitlabApi.getProjectApi().createProject(repositoryName));
         CommitPayload commitPayload = new CommitPayload();
         CommitAction commitAction = new CommitAction();
 
@@ -67,12 +82,9 @@ public class GitlabServiceImpl implements GitlabService {
                 .withBranch("main")
                 .withCommitMessage("initial commit")
                 .withAuthorName("admin");
-        try {
-            commitsApi.createCommit(project.getId(), commitPayload);
-        } catch (GitLabApiException e) {
-            throw new GitlabException(e.getMessage());
-        }
-
+        gitlabClient.execute(GitlabLane.INTERACTIVE,
+                gitlabApi -> gitlabApi.getCommitsApi().createCommit(project.getId(), commitPayload));
+        forkStatuses.put(project.getId(), false);
 
         return project;
     }
@@ -82,16 +94,48 @@ public class GitlabServiceImpl implements GitlabService {
      *
      * @param repositoryId    идентификатор репозитория, который необходимо форкнуть
      * @param targetNamespace пространство имен, в котором создается форк
+     * @return объект Project, представляющий созданный форк
      * @throws GitlabException если произошла ошибка при взаимодействии с GitLab API
      */
     @Override
-    public void forkRepository(Long repositoryId, String targetNamespace) {
-        ProjectApi projectApi = gitlabApi.getProjectApi();
-        try {
-            projectApi.forkProject(repositoryId, targetNamespace);
-        } catch (GitLabApiException e) {
-            throw new GitlabException(e.getMessage());
+    public Project forkRepository(Long repositoryId, String targetNamespace) {
+        Project fork = gitlabClient.execute(GitlabLane.BULK,
+                gitlabApi -> gitlabApi.getProjectApi().forkProject(repositoryId, targetNamespace));
+        forkStatuses.put(fork.getId(), true);
+        return fork;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br>
+     * Форк создается с тем же путем, что и исходный репозиторий, поэтому он ищется по пути
+     * в пространстве имен пользователя и проверяется по исходному проекту.
+     *
+     * @param repositoryId    идентификатор репозитория
+     * @param targetNamespace пространство имен пользователя
+     * @return форк или null, если в пространстве имен нет форка этого репозитория
+     * @throws GitlabException если произошла ошибка при взаимодействии с GitLab API
+     */
+    @Override
+    public Project findFork(Long repositoryId, String targetNamespace) {
+        String path = repositoryPaths.get(repositoryId, id -> gitlabClient.execute(GitlabLane.BULK,
+                gitlabApi -> gitlabApi.getProjectApi().getProject(id)).getPath());
+        Project project = gitlabClient.execute(GitlabLane.BULK, gitlabApi -> {
+            try {
+                return gitlabApi.getProjectApi().getProject(targetNamespace, path);
+            } catch (GitLabApiException e) {
+                if (e.getHttpStatus() == NOT_FOUND) {
+                    return null;
+                }
+                throw e;
+            }
+        });
+        if (project == null || project.getForkedFromProject() == null
+                || !repositoryId.equals(project.getForkedFromProject().getId())) {
+            return null;
         }
+        forkStatuses.put(project.getId(), true);
+        return project;
     }
 
     /**
@@ -102,16 +146,38 @@ public class GitlabServiceImpl implements GitlabService {
      */
     @Override
     public void createUser(NewUserDto newUserDto) {
-        UserApi userApi = gitlabApi.getUserApi();
+        createUser(newUserDto, GitlabLane.INTERACTIVE);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param newUserDto информация о новом пользователе
+     * @param lane       очередь запросов к GitLab
+     * @throws GitlabException если произошла ошибка при взаимодействии с GitLab API
+     */
+    @Override
+    public void createUser(NewUserDto newUserDto, GitlabLane lane) {
         User user = new User();
         user.setUsername(newUserDto.getUsername());
         user.setEmail(newUserDto.getEmail());
         user.setName(newUserDto.getName());
-        try {
-            userApi.createUser(user, "SimplePass123#", false);
-        } catch (GitLabApiException e) {
-            throw new GitlabException(e.getMessage());
-        }
+        User created = gitlabClient.execute(lane,
+                gitlabApi -> gitlabApi.getUserApi().createUser(user, "SimplePass123#", false));
+        userIds.put(created.getUsername(), created.getId());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param username имя пользователя
+     * @param lane     очередь запросов к GitLab
+     * @return true, если пользователь с таким именем есть в GitLab, иначе false
+     * @throws GitlabException если произошла ошибка при взаимодействии с GitLab API
+     */
+    @Override
+    public boolean userExists(String username, GitlabLane lane) {
+        return findUserId(username, lane) != null;
     }
 
     /**
@@ -123,56 +189,106 @@ public class GitlabServiceImpl implements GitlabService {
      */
     @Override
     public boolean isForkedRepository(Long projectId) {
-        ProjectApi projectApi = gitlabApi.getProjectApi();
-        Project project;
-        try {
-            project = projectApi.getProject(projectId);
-        } catch (GitLabApiException e) {
-            throw new GitlabException(e.getMessage());
-        }
-        return project.getForkedFromProject() != null;
+        return forkStatuses.get(projectId, id -> gitlabClient.execute(GitlabLane.INTERACTIVE,
+                gitlabApi -> gitlabApi.getProjectApi().getProject(id)).getForkedFromProject() != null);
     }
 
     /**
      * {@inheritDoc}
      *
      * @param username имя пользователя
+     * @throws GitlabException если пользователь не найден или произошла ошибка при взаимодействии с GitLab API
      */
     @Override
     public void blockUser(String username) {
-        UserApi userApi = gitlabApi.getUserApi();
-        User user;
+        blockUser(username, GitlabLane.INTERACTIVE);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param username имя пользователя
+     * @param lane     очередь запросов к GitLab
+     * @throws GitlabException если пользователь не найден или произошла ошибка при взаимодействии с GitLab API
+     */
+    @Override
+    public void blockUser(String username, GitlabLane lane) {
+        Long userId = findUserId(username, lane);
+        if (userId == null) {
+            throw new GitlabException("GitLab user not found: " + username);
+        }
         try {
-            user = userApi.getUser(username);
             //блокировка тк при удалении пропадают все репо
-            userApi.blockUser(user.getId());
-        } catch (GitLabApiException e){
-            throw new GitlabException(e.getMessage());
+            gitlabClient.execute(lane, gitlabApi -> {
+                gitlabApi.getUserApi().blockUser(userId);
+                return null;
+            });
+        } catch (GitlabException e) {
+            //пользователь мог быть пересоздан в GitLab с другим ID
+            userIds.invalidate(username);
+            throw e;
         }
     }
 
+    private Long findUserId(String username, GitlabLane lane) {
+        return userIds.get(username, name -> {
+            User user = gitlabClient.execute(lane, gitlabApi -> gitlabApi.getUserApi().getUser(name));
+            return user != null ? user.getId() : null;
+        });
+    }
+
 
     /**
-     * Добавление системного хука для обработки событий GitLab.
+     * {@inheritDoc}
      *
+     * @param repositoryId идентификатор репозитория
+     * @return список форков репозитория
      * @throws GitlabException если произошла ошибка при взаимодействии с GitLab API
      */
-    @PostConstruct
-    private void addSystemHook() {
-        SystemHooksApi systemHooksApi = gitlabApi.getSystemHooksApi();
-        try {
-            //если хук с такими параметрами уже есть, то точно такой же не создастся
-            List<SystemHook> existingHooks = systemHooksApi.getSystemHooks();
-            boolean hookExists = existingHooks.stream()
-                    .anyMatch(hook -> hook.getUrl().equals(HOOK_URL) && hook.getPushEvents());
-            if (!hookExists) {
-                SystemHook systemHook = new SystemHook().withPushEvents(true)
-                        .withUrl(HOOK_URL)
-                        .withRepositoryUpdateEvents(false);
-                systemHooksApi.addSystemHook(HOOK_URL, hookToken, systemHook);
-            }
-        } catch (GitLabApiException e) {
-            throw new GitlabException(e.getMessage());
+    @Override
+    public List<Project> getForks(Long repositoryId) {
+        return gitlabClient.execute(GitlabLane.BULK,
+                gitlabApi -> gitlabApi.getProjectApi().getForks(repositoryId, FORKS_PER_PAGE).all());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br>
+     * GitLab возвращает коммиты от новых к старым, поэтому запрашивается только первая страница из одного коммита.
+     *
+     * @param projectId идентификатор проекта
+     * @param since     время, начиная с которого ищутся коммиты
+     * @return последний коммит или null, если коммитов нет
+     * @throws GitlabException если произошла ошибка при взаимодействии с GitLab API
+     */
+    @Override
+    public Commit getLastCommit(Long projectId, Date since) {
+        List<Commit> commits = gitlabClient.execute(GitlabLane.BULK,
+                gitlabApi -> gitlabApi.getCommitsApi().getCommits(projectId, null, since, null, 1).first());
+        return commits.isEmpty() ? null : commits.get(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return true, если хук был создан, false, если он уже существовал
+     * @throws GitlabException если произошла ошибка при взаимодействии с GitLab API
+     */
+    @Override
+    public boolean addSystemHook() {
+        //если хук с такими параметрами уже есть, то точно такой же не создастся
+        List<SystemHook> existingHooks = hooks.get(HOOKS_KEY, key -> gitlabClient.execute(GitlabLane.INTERACTIVE,
+                gitlabApi -> gitlabApi.getSystemHooksApi().getSystemHooks()));
+        boolean hookExists = existingHooks.stream()
+                .anyMatch(hook -> hook.getUrl().equals(HOOK_URL) && hook.getPushEvents());
+        if (!hookExists) {
+            SystemHook systemHook = new SystemHook().withPushEvents(true)
+                    .withUrl(HOOK_URL)
+                    .withRepositoryUpdateEvents(false);
+            gitlabClient.execute(GitlabLane.INTERACTIVE,
+                    gitlabApi -> gitlabApi.getSystemHooksApi().addSystemHook(HOOK_URL, hookToken, systemHook));
+            hooks.invalidate(HOOKS_KEY);
         }
+        return !hookExists;
     }
 }
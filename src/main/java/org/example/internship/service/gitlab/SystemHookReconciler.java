@@ -0,0 +1,128 @@
+package org.example.internship.service.gitlab;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Фоновая регистрация системного хука GitLab.
+ * <br>
+ * Регистрация начинается после готовности приложения и не блокирует запуск.
+ * При ошибке попытка повторяется с экспоненциально растущей задержкой,
+ * после успешной регистрации наличие хука периодически проверяется и при необходимости он создается заново.
+ * <br>
+ * Состояние регистрации доступно в проверке здоровья systemHook: UP, если хук зарегистрирован,
+ * UNKNOWN, если регистрация еще не удалась. UNKNOWN не переводит приложение в DOWN,
+ * поэтому недоступность GitLab не выводит экземпляр из балансировки.
+ */
+@Component("systemHook")
+@RequiredArgsConstructor
+public class SystemHookReconciler implements HealthIndicator {
+    private static final int MAX_ERROR_LENGTH = 1024;
+
+    private final GitlabService gitlabService;
+
+    @Value("${gitlab.hook.retry-delay:5000}")
+    private long retryDelay;
+
+    @Value("${gitlab.hook.max-retry-delay:300000}")
+    private long maxRetryDelay;
+
+    @Value("${gitlab.hook.verify-interval:600000}")
+    private long verifyInterval;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            runnable -> new Thread(runnable, "gitlab-hook-reconciler"));
+
+    private volatile boolean registered;
+    private volatile int failedAttempts;
+    private volatile String lastError;
+    private volatile LocalDateTime lastCheckedAt;
+    private volatile LocalDateTime nextCheckAt;
+
+    /**
+     * Запуск регистрации после готовности приложения.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        schedule(0);
+    }
+
+    /**
+     * Проверка наличия хука и его создание при отсутствии.
+     * Следующая проверка планируется через интервал проверки или, при ошибке, через задержку повтора.
+     */
+    private void reconcile() {
+        try {
+            gitlabService.addSystemHook();
+            registered = true;
+            failedAttempts = 0;
+            lastError = null;
+            schedule(verifyInterval);
+        } catch (RuntimeException e) {
+            registered = false;
+            failedAttempts++;
+            lastError = truncate(e.getMessage());
+            schedule(retryDelay(failedAttempts));
+        } finally {
+            lastCheckedAt = LocalDateTime.now();
+        }
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = registered ? Health.up() : Health.unknown();
+        builder.withDetail("registered", registered)
+                .withDetail("failedAttempts", failedAttempts);
+        if (lastError != null) {
+            builder.withDetail("lastError", lastError);
+        }
+        if (lastCheckedAt != null) {
+            builder.withDetail("lastCheckedAt", lastCheckedAt.toString());
+        }
+        if (nextCheckAt != null) {
+            builder.withDetail("nextCheckAt", nextCheckAt.toString());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Остановка регистрации при завершении приложения.
+     */
+    @PreDestroy
+    private void stop() {
+        scheduler.shutdownNow();
+    }
+
+    private void schedule(long delay) {
+        nextCheckAt = LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(delay));
+        try {
+            scheduler.schedule(this::reconcile, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            nextCheckAt = null;
+        }
+    }
+
+    private long retryDelay(int attempts) {
+        long delay = retryDelay << Math.min(attempts - 1, 20);
+        return Math.min(delay, maxRetryDelay);
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
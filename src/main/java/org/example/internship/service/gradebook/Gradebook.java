@@ -0,0 +1,200 @@
+package org.example.internship.service.gradebook;
+
+import org.example.internship.dto.response.ReportDto;
+import org.example.internship.dto.response.gradebook.GradebookMismatchDto;
+import org.example.internship.model.task.SolutionStatus;
+import org.example.internship.model.task.Task;
+import org.example.internship.model.user.User;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Ведомость стажировки в памяти.
+ * <br>
+ * Статусы решений хранятся в плотной матрице (участник x задание), где каждая ячейка занимает один байт
+ * с порядковым номером {@link SolutionStatus}. Участники и задания нумеруются в порядке возрастания идентификаторов.
+ */
+final class Gradebook {
+    private static final SolutionStatus[] STATUSES = SolutionStatus.values();
+    private static final byte NO_SOLUTION = (byte) SolutionStatus.NO_SOLUTION.ordinal();
+
+    private final Long[] userIds;
+    private final String[] usernames;
+    private final Long[] taskIds;
+    private final String[] taskNames;
+    private final Map<Long, Integer> userOrdinals;
+    private final Map<Long, Integer> taskOrdinals;
+    private final boolean[] removedUsers;
+    private final byte[] cells;
+
+    /**
+     * Создание пустой ведомости, в которой у всех участников нет решений.
+     *
+     * @param users участники стажировки, упорядоченные по идентификатору
+     * @param tasks задания стажировки, упорядоченные по идентификатору
+     */
+    Gradebook(List<User> users, List<Task> tasks) {
+        userIds = new Long[users.size()];
+        usernames = new String[users.size()];
+        userOrdinals = new HashMap<>(users.size() * 2);
+        for (int i = 0; i < users.size(); i++) {
+            userIds[i] = users.get(i).getId();
+            usernames[i] = users.get(i).getUsername();
+            userOrdinals.put(userIds[i], i);
+        }
+        taskIds = new Long[tasks.size()];
+        taskNames = new String[tasks.size()];
+        taskOrdinals = new HashMap<>(tasks.size() * 2);
+        for (int i = 0; i < tasks.size(); i++) {
+            taskIds[i] = tasks.get(i).getId();
+            taskNames[i] = tasks.get(i).getName();
+            taskOrdinals.put(taskIds[i], i);
+        }
+        removedUsers = new boolean[users.size()];
+        cells = new byte[users.size() * tasks.size()];
+        Arrays.fill(cells, NO_SOLUTION);
+    }
+
+    /**
+     * Заполнение ячейки при построении ведомости из базы данных.
+     * Если для ячейки уже найдено решение, оно не перезаписывается.
+     *
+     * @param userId идентификатор участника
+     * @param taskId идентификатор задания
+     * @param status статус решения
+     */
+    synchronized void fill(Long userId, Long taskId, SolutionStatus status) {
+        int index = indexOf(userId, taskId);
+        if (index >= 0 && cells[index] == NO_SOLUTION) {
+            cells[index] = (byte) status.ordinal();
+        }
+    }
+
+    /**
+     * Изменение статуса решения участника.
+     *
+     * @param userId идентификатор участника
+     * @param taskId идентификатор задания
+     * @param status новый статус решения
+     * @return true, если ячейка принадлежит этой ведомости
+     */
+    synchronized boolean set(Long userId, Long taskId, SolutionStatus status) {
+        int index = indexOf(userId, taskId);
+        if (index < 0) {
+            return false;
+        }
+        cells[index] = (byte) status.ordinal();
+        return true;
+    }
+
+    /**
+     * Исключение участника из ведомости.
+     *
+     * @param userId идентификатор участника
+     * @return true, если участник был в ведомости
+     */
+    synchronized boolean removeUser(Long userId) {
+        Integer ordinal = userOrdinals.get(userId);
+        if (ordinal == null || removedUsers[ordinal]) {
+            return false;
+        }
+        removedUsers[ordinal] = true;
+        return true;
+    }
+
+    /**
+     * Формирование ведомости без обращения к базе данных.
+     *
+     * @return строки ведомости по участникам
+     */
+    synchronized List<ReportDto> toReport() {
+        List<ReportDto> report = new ArrayList<>(userIds.length);
+        for (int user = 0; user < userIds.length; user++) {
+            if (removedUsers[user]) {
+                continue;
+            }
+            Map<String, String> taskStatuses = new LinkedHashMap<>(taskIds.length * 2);
+            int offset = user * taskIds.length;
+            for (int task = 0; task < taskIds.length; task++) {
+                taskStatuses.put(taskNames[task], STATUSES[cells[offset + task]].toString());
+            }
+            report.add(new ReportDto(usernames[user], taskStatuses));
+        }
+        return report;
+    }
+
+    /**
+     * Сравнение ведомости с эталонной, построенной по базе данных.
+     *
+     * @param expected эталонная ведомость
+     * @return список расхождений по ячейкам
+     */
+    List<GradebookMismatchDto> compareWith(Gradebook expected) {
+        Set<Long> users = new LinkedHashSet<>(expected.activeUserIds());
+        users.addAll(activeUserIds());
+        Set<Long> tasks = new LinkedHashSet<>(Arrays.asList(expected.taskIds));
+        tasks.addAll(Arrays.asList(taskIds));
+
+        List<GradebookMismatchDto> mismatches = new ArrayList<>();
+        for (Long userId : users) {
+            for (Long taskId : tasks) {
+                SolutionStatus expectedStatus = expected.get(userId, taskId);
+                SolutionStatus actualStatus = get(userId, taskId);
+                if (expectedStatus != actualStatus) {
+                    mismatches.add(new GradebookMismatchDto(userId, taskId,
+                            Objects.toString(expectedStatus, null), Objects.toString(actualStatus, null)));
+                }
+            }
+        }
+        return mismatches;
+    }
+
+    /**
+     * Получение количества ячеек ведомости с учетом исключенных участников.
+     *
+     * @return количество ячеек
+     */
+    synchronized int size() {
+        return activeUserIds().size() * taskIds.length;
+    }
+
+    boolean containsTask(Long taskId) {
+        return taskOrdinals.containsKey(taskId);
+    }
+
+    private synchronized SolutionStatus get(Long userId, Long taskId) {
+        Integer user = userOrdinals.get(userId);
+        if (user == null || removedUsers[user]) {
+            return null;
+        }
+        int index = indexOf(userId, taskId);
+        return index < 0 ? null : STATUSES[cells[index]];
+    }
+
+    private synchronized List<Long> activeUserIds() {
+        List<Long> ids = new ArrayList<>(userIds.length);
+        for (int user = 0; user < userIds.length; user++) {
+            if (!removedUsers[user]) {
+                ids.add(userIds[user]);
+            }
+        }
+        return ids;
+    }
+
+    private int indexOf(Long userId, Long taskId) {
+        Integer user = userOrdinals.get(userId);
+        Integer task = taskOrdinals.get(taskId);
+        if (user == null || task == null) {
+            return -1;
+        }
+        return user * taskIds.length + task;
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.internship.service.gradebook;
+
+import org.example.internship.dto.response.ReportDto;
+import org.example.internship.dto.response.gradebook.GradebookCheckDto;
+import org.example.internship.model.task.SolutionStatus;
+
+import java.util.List;
+
+/**
+ * Сервис для работы с ведомостями стажировок, хранящимися в памяти.
+ */
+public interface GradebookService {
+
+    /**
+     * Получение ведомости по стажировке.
+     * Если ведомость еще не загружена, она строится по базе данных.
+     *
+     * @param internshipId идентификатор стажировки
+     * @return ведомость по стажировке
+     */
+    List<ReportDto> getReport(Long internshipId);
+
+    /**
+     * Перестроение ведомости стажировки по базе данных.
+     *
+     * @param internshipId идентификатор стажировки
+     */
+    void rebuild(Long internshipId);
+
+    /**
+     * Построение снимка ведомости стажировки по базе данных без сохранения в памяти.
+     * Стажировка без участников или заданий не считается ошибкой: возвращается пустая ведомость.
+     *
+     * @param internshipId идентификатор стажировки
+     * @return ведомость по стажировке
+     */
+    List<ReportDto> buildSnapshot(Long internshipId);
+
+    /**
+     * Проверка ведомости в памяти на соответствие базе данных.
+     *
+     * @param internshipId идентификатор стажировки
+     * @return результат проверки с перечнем расхождений
+     */
+    GradebookCheckDto verify(Long internshipId);
+
+    /**
+     * Изменение статуса решения в загруженных ведомостях.
+     *
+     * @param userId идентификатор участника
+     * @param taskId идентификатор задания
+     * @param status новый статус решения
+     */
+    void updateStatus(Long userId, Long taskId, SolutionStatus status);
+
+    /**
+     * Исключение участника из загруженных ведомостей.
+     *
+     * @param userId идентификатор участника
+     */
+    void removeUser(Long userId);
+
+    /**
+     * Сброс ведомости стажировки после изменения состава участников или заданий.
+     * Ведомость будет построена заново при следующем обращении.
+     *
+     * @param internshipId идентификатор стажировки
+     */
+    void invalidate(Long internshipId);
+}
@@ -0,0 +1,220 @@
+package org.example.internship.service.gradebook;
+
+import lombok.RequiredArgsConstructor;
+import org.example.internship.dto.projection.SolutionStatusView;
+import org.example.internship.dto.response.ReportDto;
+import org.example.internship.dto.response.gradebook.GradebookCheckDto;
+import org.example.internship.dto.response.gradebook.GradebookMismatchDto;
+import org.example.internship.model.task.SolutionStatus;
+import org.example.internship.model.task.Task;
+import org.example.internship.model.user.Role;
+import org.example.internship.model.user.User;
+import org.example.internship.repository.InternshipRepository;
+import org.example.internship.repository.SolutionRepository;
+import org.example.internship.repository.TaskRepository;
+import org.example.internship.repository.UserRepository;
+import org.springframework.stereotype.Service;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Реализация сервиса для работы с ведомостями стажировок, хранящимися в памяти.
+ * <br>
+ * Ведомость строится по базе данных при первом обращении и далее поддерживается
+ * изменениями решений, поэтому чтение ведомости не выполняет запросов к базе.
+ * Изменения и публикация построенной ведомости выполняются под общей блокировкой:
+ * если во время построения пришло изменение, ведомость строится заново.
+ */
+@Service
+@RequiredArgsConstructor
+public class GradebookServiceImpl implements GradebookService {
+    private static final int MAX_BUILD_ATTEMPTS = 3;
+
+    private final InternshipRepository internshipRepository;
+    private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final SolutionRepository solutionRepository;
+
+    private final Map<Long, Gradebook> gradebooks = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+    private long modifications;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param internshipId идентификатор стажировки
+     * @return ведомость по стажировке
+     * @throws EntityNotFoundException если стажировка, ее участники или задания не найдены
+     */
+    @Override
+    public List<ReportDto> getReport(Long internshipId) {
+        Gradebook gradebook = gradebooks.get(internshipId);
+        if (gradebook == null) {
+            gradebook = loadAndCache(internshipId);
+        }
+        return gradebook.toReport();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param internshipId идентификатор стажировки
+     * @throws EntityNotFoundException если стажировка, ее участники или задания не найдены
+     */
+    @Override
+    public void rebuild(Long internshipId) {
+        gradebooks.remove(internshipId);
+        loadAndCache(internshipId);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br>
+     * Существование стажировки не проверяется: снимок строится вызывающей стороной
+     * для уже найденной стажировки.
+     *
+     * @param internshipId идентификатор стажировки
+     * @return ведомость по стажировке
+     */
+    @Override
+    public List<ReportDto> buildSnapshot(Long internshipId) {
+        List<User> users = userRepository.findAllByInternshipIdAndRole(internshipId, Role.USER);
+        List<Task> tasks = taskRepository.findAllByLesson_InternshipId(internshipId);
+        return build(internshipId, users, tasks).toReport();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br>
+     * Изменения, пришедшие во время проверки, могут отображаться как расхождения.
+     *
+     * @param internshipId идентификатор стажировки
+     * @return результат проверки с перечнем расхождений
+     * @throws EntityNotFoundException если стажировка, ее участники или задания не найдены
+     */
+    @Override
+    public GradebookCheckDto verify(Long internshipId) {
+        Gradebook expected = load(internshipId);
+        Gradebook actual = gradebooks.get(internshipId);
+        if (actual == null) {
+            return new GradebookCheckDto(internshipId, false, true, 0, List.of());
+        }
+        List<GradebookMismatchDto> mismatches = actual.compareWith(expected);
+        return new GradebookCheckDto(internshipId, true, mismatches.isEmpty(), expected.size(), mismatches);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param userId идентификатор участника
+     * @param taskId идентификатор задания
+     * @param status новый статус решения
+     */
+    @Override
+    public void updateStatus(Long userId, Long taskId, SolutionStatus status) {
+        synchronized (lock) {
+            modifications++;
+            for (Gradebook gradebook : gradebooks.values()) {
+                if (gradebook.containsTask(taskId)) {
+                    gradebook.set(userId, taskId, status);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param userId идентификатор участника
+     */
+    @Override
+    public void removeUser(Long userId) {
+        synchronized (lock) {
+            modifications++;
+            gradebooks.values().forEach(gradebook -> gradebook.removeUser(userId));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param internshipId идентификатор стажировки
+     */
+    @Override
+    public void invalidate(Long internshipId) {
+        synchronized (lock) {
+            modifications++;
+            gradebooks.remove(internshipId);
+        }
+    }
+
+    /**
+     * Построение ведомости и сохранение ее в памяти.
+     * Если ведомость не удалось построить без параллельных изменений, она возвращается без сохранения.
+     *
+     * @param internshipId идентификатор стажировки
+     * @return построенная ведомость
+     */
+    private Gradebook loadAndCache(Long internshipId) {
+        Gradebook gradebook = null;
+        for (int attempt = 0; attempt < MAX_BUILD_ATTEMPTS; attempt++) {
+            long version;
+            synchronized (lock) {
+                version = modifications;
+            }
+            gradebook = load(internshipId);
+            synchronized (lock) {
+                if (version == modifications) {
+                    gradebooks.put(internshipId, gradebook);
+                    return gradebook;
+                }
+            }
+        }
+        return gradebook;
+    }
+
+    /**
+     * Построение ведомости по базе данных.
+     *
+     * @param internshipId идентификатор стажировки
+     * @return ведомость стажировки
+     * @throws EntityNotFoundException если стажировка, ее участники или задания не найдены
+     */
+    private Gradebook load(Long internshipId) {
+        internshipRepository.findById(internshipId)
+                .orElseThrow(() -> new EntityNotFoundException("Internship not found with ID: " + internshipId));
+        List<User> users = userRepository.findAllByInternshipIdAndRole(internshipId, Role.USER);
+        List<Task> tasks = taskRepository.findAllByLesson_InternshipId(internshipId);
+        if (users.isEmpty()) {
+            throw new EntityNotFoundException("No users found for internship with ID: " + internshipId);
+        }
+        if (tasks.isEmpty()) {
+            throw new EntityNotFoundException("No tasks found for internship with ID:" + internshipId);
+        }
+        return build(internshipId, users, tasks);
+    }
+
+    /**
+     * Заполнение ведомости статусами решений участников.
+     *
+     * @param internshipId идентификатор стажировки
+     * @param users        участники стажировки
+     * @param tasks        задания стажировки
+     * @return ведомость стажировки
+     */
+    private Gradebook build(Long internshipId, List<User> users, List<Task> tasks) {
+        Gradebook gradebook = new Gradebook(
+                users.stream().sorted(Comparator.comparing(User::getId)).collect(Collectors.toList()),
+                tasks.stream().sorted(Comparator.comparing(Task::getId)).collect(Collectors.toList())
+        );
+        for (SolutionStatusView view : solutionRepository.findStatusesByInternshipId(internshipId)) {
+            gradebook.fill(view.getUserId(), view.getTaskId(), view.getStatus());
+        }
+        return gradebook;
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.internship.service.inbox;
+
+/**
+ * Сервис для отбрасывания повторных доставок событий пуша GitLab.
+ */
+public interface PushDedupService {
+
+    /**
+     * Регистрация доставки события пуша.
+     *
+     * @param projectId идентификатор проекта GitLab
+     * @param afterSha  SHA коммита, на который указывает ветка после пуша
+     * @return true, если пуш получен впервые, и false, если это повторная доставка
+     */
+    boolean register(Long projectId, String afterSha);
+
+    /**
+     * Удаление устаревших записей о доставках.
+     */
+    void cleanUp();
+}
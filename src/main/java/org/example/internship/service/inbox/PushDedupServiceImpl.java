@@ -0,0 +1,103 @@
+package org.example.internship.service.inbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.internship.repository.PushDeliveryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Реализация сервиса для отбрасывания повторных доставок событий пуша GitLab.
+ * <br>
+ * Доставка идентифицируется парой (проект, SHA коммита после пуша). Недавние доставки хранятся
+ * в ограниченном LRU-кэше, поэтому частые повторы отбрасываются без обращения к базе данных.
+ * Остальные проверяются вставкой в таблицу push_deliveries, которая защищает от повторов
+ * после вытеснения из кэша, перезапуска приложения и при нескольких экземплярах.
+ */
+@Service
+public class PushDedupServiceImpl implements PushDedupService {
+    private final PushDeliveryRepository pushDeliveryRepository;
+    private final Map<String, Boolean> cache;
+    private final Counter hits;
+    private final Counter dropped;
+
+    @Value("${solution.dedup.retention:7}")
+    private long retentionDays;
+
+    public PushDedupServiceImpl(PushDeliveryRepository pushDeliveryRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${solution.dedup.cache-size:10000}") int cacheSize) {
+        this.pushDeliveryRepository = pushDeliveryRepository;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        this.hits = meterRegistry.counter("solution.dedup.hits");
+        this.dropped = meterRegistry.counter("solution.dedup.dropped");
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br>
+     * Если вызов выполняется в транзакции, доставка попадает в кэш только после ее фиксации,
+     * чтобы откат сохранения события не привел к потере повторной доставки.
+     *
+     * @param projectId идентификатор проекта GitLab
+     * @param afterSha  SHA коммита, на который указывает ветка после пуша
+     * @return true, если пуш получен впервые, и false, если это повторная доставка
+     */
+    @Override
+    public boolean register(Long projectId, String afterSha) {
+        String key = projectId + ":" + afterSha;
+        synchronized (cache) {
+            if (cache.get(key) != null) {
+                hits.increment();
+                dropped.increment();
+                return false;
+            }
+        }
+
+        boolean inserted = pushDeliveryRepository.insertIfAbsent(projectId, afterSha, LocalDateTime.now()) > 0;
+        if (!inserted) {
+            dropped.increment();
+            remember(key);
+        } else if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remember(key);
+                }
+            });
+        } else {
+            remember(key);
+        }
+        return inserted;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br>
+     * GitLab повторяет доставку в течение минут, поэтому записи старше срока хранения не нужны.
+     */
+    @Override
+    @Scheduled(cron = "${solution.dedup.clean-up-cron:0 0 3 * * *}")
+    public void cleanUp() {
+        pushDeliveryRepository.deleteAllReceivedBefore(LocalDateTime.now().minus(retentionDays, ChronoUnit.DAYS));
+    }
+
+    private void remember(String key) {
+        synchronized (cache) {
+            cache.put(key, Boolean.TRUE);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.internship.service.inbox;
+
+/**
+ * Сервис для работы с входящей очередью событий пуша GitLab.
+ */
+public interface SolutionInboxService {
+
+    /**
+     * Сохранение события пуша во входящую очередь для последующей обработки.
+     *
+     * @param payload тело запроса системного хука GitLab
+     */
+    void enqueue(byte[] payload);
+
+    /**
+     * Передача готовых к обработке событий из очереди в пул обработчиков.
+     */
+    void processReady();
+
+    /**
+     * Возврат в очередь событий, захват которых истек, не дождавшись завершения обработки.
+     */
+    void releaseExpired();
+}
@@ -0,0 +1,354 @@
+package org.example.internship.service.inbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.example.internship.dto.request.solution.SolutionPushDto;
+import org.example.internship.model.inbox.InboxEvent;
+import org.example.internship.model.inbox.InboxStatus;
+import org.example.internship.model.task.TaskFork;
+import org.example.internship.repository.InboxEventRepository;
+import org.example.internship.service.fork.TaskForkService;
+import org.example.internship.service.gitlab.GitlabService;
+import org.example.internship.service.solution.SolutionService;
+import org.example.internship.utils.PushEventParser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Реализация сервиса для работы с входящей очередью событий пуша GitLab.
+ * <br>
+ * События сохраняются в таблицу solution_inbox в потоке запроса, а обрабатываются
+ * ограниченным пулом потоков. События одного проекта обрабатываются вместе и по порядку поступления,
+ * а частые пуши в течение окна объединения сводятся к одной записи с последним коммитом.
+ * Неудачные попытки повторяются с экспоненциально растущей задержкой.
+ * <br>
+ * Захват событий действует в течение срока аренды. События, захваченные остановившимся аварийно экземпляром
+ * приложения, возвращаются в очередь после истечения аренды, а события, которые обрабатывают другие
+ * работающие экземпляры, не затрагиваются.
+ */
+@Service
+@RequiredArgsConstructor
+public class SolutionInboxServiceImpl implements SolutionInboxService {
+    private static final int MAX_ERROR_LENGTH = 1024;
+    private static final int MAX_BACKOFF_SHIFT = 20;
+
+    private final InboxEventRepository inboxEventRepository;
+    private final SolutionService solutionService;
+    private final GitlabService gitlabService;
+    private final PushEventParser pushEventParser;
+    private final PushDedupService pushDedupService;
+    private final TaskForkService taskForkService;
+    private final MeterRegistry meterRegistry;
+
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private ThreadPoolExecutor executor;
+    private Counter receivedEvents;
+    private Counter collapsedEvents;
+    private Counter failedEvents;
+    private Counter writes;
+    private volatile boolean stopped;
+
+    @Value("${solution.inbox.workers:4}")
+    private int workers;
+    @Value("${solution.inbox.queue-capacity:64}")
+    private int queueCapacity;
+    @Value("${solution.inbox.batch-size:50}")
+    private int batchSize;
+    @Value("${solution.inbox.coalesce-window:5000}")
+    private long coalesceWindow;
+    @Value("${solution.inbox.max-attempts:10}")
+    private int maxAttempts;
+    @Value("${solution.inbox.retry-delay:2000}")
+    private long retryDelay;
+    @Value("${solution.inbox.max-retry-delay:300000}")
+    private long maxRetryDelay;
+    @Value("${solution.inbox.shutdown-timeout:30000}")
+    private long shutdownTimeout;
+    @Value("${solution.inbox.lease:600000}")
+    private long lease;
+
+    /**
+     * {@inheritDoc}
+     * <br>
+     * Событие разбирается потоково, и в очередь сохраняется только последний коммит пуша.
+     * События без коммитов и повторные доставки уже принятого пуша в очередь не попадают.
+     *
+     * @param payload тело запроса системного хука GitLab
+     * @throws IllegalArgumentException если событие не является корректным JSON или не содержит идентификатора проекта
+     */
+    @Override
+    @Transactional
+    public void enqueue(byte[] payload) {
+        SolutionPushDto push = pushEventParser.parse(payload);
+        if (push == null) {
+            return;
+        }
+        if (push.getAfterSha() != null && !pushDedupService.register(push.getProjectId(), push.getAfterSha())) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        inboxEventRepository.save(InboxEvent.builder()
+                .projectId(push.getProjectId())
+                .payload(pushEventParser.write(push))
+                .status(InboxStatus.NEW)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build());
+        receivedEvents.increment();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br>
+     * Событие проекта берется в обработку, только если оно пролежало в очереди не меньше окна объединения.
+     * Вместе с ним захватываются все более поздние события того же проекта, и вся пачка
+     * передается в пул обработчиков одной задачей.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${solution.inbox.poll-interval:1000}")
+    public void processReady() {
+        if (stopped || executor.getQueue().remainingCapacity() == 0) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime readyBefore = now.minusNanos(TimeUnit.MILLISECONDS.toNanos(coalesceWindow));
+        List<InboxEvent> heads = inboxEventRepository.findReady(now, readyBefore, PageRequest.of(0, batchSize));
+        if (heads.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> headIds = heads.stream()
+                .collect(Collectors.toMap(InboxEvent::getProjectId, InboxEvent::getId));
+        List<InboxEvent> batch = inboxEventRepository.findAllByProjectIdInAndStatusOrderById(headIds.keySet(),
+                        InboxStatus.NEW).stream()
+                .filter(event -> event.getId() >= headIds.get(event.getProjectId()))
+                .collect(Collectors.toList());
+        List<Long> ids = batch.stream().map(InboxEvent::getId).collect(Collectors.toList());
+        if (ids.isEmpty()) {
+            return;
+        }
+        LocalDateTime claimedAt = now.truncatedTo(ChronoUnit.MICROS);
+        if (inboxEventRepository.claim(ids, claimedAt) != ids.size()) {
+            inboxEventRepository.release(ids, claimedAt);
+            return;
+        }
+
+        inFlight.addAll(ids);
+        try {
+            executor.execute(() -> {
+                try {
+                    processBatch(batch);
+                } finally {
+                    inFlight.removeAll(ids);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.removeAll(ids);
+            inboxEventRepository.release(ids);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br>
+     * Срок аренды должен превышать время обработки пачки событий, иначе событие, которое еще обрабатывается,
+     * может быть захвачено повторно.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${solution.inbox.lease-check-interval:60000}")
+    public void releaseExpired() {
+        inboxEventRepository.releaseExpired(LocalDateTime.now().minusNanos(TimeUnit.MILLISECONDS.toNanos(lease)));
+    }
+
+    /**
+     * Обработка пачки событий. События каждого проекта объединяются в один пуш с самым поздним коммитом,
+     * после чего решения всех проектов сохраняются одной пачкой. Для форков, созданных при публикации заданий,
+     * задание и пользователь известны заранее, остальные проекты проверяются через GitLab.
+     * Если пакетная запись не удалась, проекты сохраняются по отдельности, чтобы ошибка в одном из них не задерживала остальные.
+     *
+     * @param events захваченные события, упорядоченные по поступлению
+     */
+    private void processBatch(List<InboxEvent> events) {
+        Map<Long, List<InboxEvent>> groups = events.stream()
+                .collect(Collectors.groupingBy(InboxEvent::getProjectId, LinkedHashMap::new, Collectors.toList()));
+        Map<Long, TaskFork> forks;
+        try {
+            forks = taskForkService.findByProjectIds(groups.keySet());
+        } catch (RuntimeException e) {
+            markFailed(events, e, false);
+            return;
+        }
+        Map<Long, SolutionPushDto> latestPushes = new LinkedHashMap<>();
+        List<InboxEvent> skipped = new ArrayList<>();
+        for (Map.Entry<Long, List<InboxEvent>> group : groups.entrySet()) {
+            try {
+                SolutionPushDto latestPush = coalesce(group.getValue());
+                TaskFork fork = forks.get(group.getKey());
+                if (latestPush != null && fork != null) {
+                    latestPush.setTaskId(fork.getTaskId());
+                    latestPush.setUserId(fork.getUserId());
+                    latestPushes.put(group.getKey(), latestPush);
+                } else if (latestPush != null && gitlabService.isForkedRepository(group.getKey())) {
+                    latestPushes.put(group.getKey(), latestPush);
+                } else {
+                    skipped.addAll(group.getValue());
+                }
+            } catch (RuntimeException e) {
+                markFailed(group.getValue(), e, false);
+            }
+        }
+        complete(skipped);
+        if (latestPushes.isEmpty()) {
+            return;
+        }
+
+        try {
+            solutionService.addAll(new ArrayList<>(latestPushes.values()));
+            latestPushes.keySet().forEach(projectId -> completeWritten(groups.get(projectId)));
+        } catch (RuntimeException batchError) {
+            for (Map.Entry<Long, SolutionPushDto> push : latestPushes.entrySet()) {
+                try {
+                    solutionService.addAll(List.of(push.getValue()));
+                    completeWritten(groups.get(push.getKey()));
+                } catch (RuntimeException e) {
+                    markFailed(groups.get(push.getKey()), e, false);
+                }
+            }
+        }
+    }
+
+    /**
+     * Объединение событий одного проекта: из всех пушей остается пуш с самым поздним коммитом.
+     * События, которые не удалось разобрать, помечаются как FAILED и исключаются из группы.
+     *
+     * @param group события одного проекта
+     * @return пуш с самым поздним коммитом или null, если в событиях нет коммитов
+     */
+    private SolutionPushDto coalesce(List<InboxEvent> group) {
+        SolutionPushDto latestPush = null;
+        for (Iterator<InboxEvent> iterator = group.iterator(); iterator.hasNext(); ) {
+            InboxEvent event = iterator.next();
+            SolutionPushDto push;
+            try {
+                push = pushEventParser.parse(event.getPayload());
+            } catch (IllegalArgumentException e) {
+                iterator.remove();
+                markFailed(List.of(event), e, true);
+                continue;
+            }
+            if (push != null && (latestPush == null || !push.getLastCommitTime().isBefore(latestPush.getLastCommitTime()))) {
+                latestPush = push;
+            }
+        }
+        return latestPush;
+    }
+
+    /**
+     * Удаление обработанных событий из очереди и учет объединенных записей.
+     *
+     * @param group события одного проекта, сохраненные одной записью
+     */
+    private void completeWritten(List<InboxEvent> group) {
+        complete(group);
+        writes.increment();
+        collapsedEvents.increment(group.size() - 1);
+    }
+
+    private void complete(List<InboxEvent> events) {
+        if (!events.isEmpty()) {
+            inboxEventRepository.deleteAllByIdInBatch(events.stream().map(InboxEvent::getId).collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * Обработка неудачной попытки: события откладываются на время, растущее с каждой попыткой,
+     * а после исчерпания попыток помечаются как FAILED и остаются в таблице для разбора.
+     *
+     * @param events    события из очереди
+     * @param e         исключение, возникшее при обработке
+     * @param permanent true, если повторная обработка не имеет смысла
+     */
+    private void markFailed(List<InboxEvent> events, Exception e, boolean permanent) {
+        LocalDateTime now = LocalDateTime.now();
+        for (InboxEvent event : events) {
+            int attempts = event.getAttempts() + 1;
+            event.setAttempts(attempts);
+            event.setLastError(truncate(String.valueOf(e.getMessage())));
+            if (permanent || attempts >= maxAttempts) {
+                event.setStatus(InboxStatus.FAILED);
+            } else {
+                long delay = Math.min(retryDelay << Math.min(attempts - 1, MAX_BACKOFF_SHIFT), maxRetryDelay);
+                event.setStatus(InboxStatus.NEW);
+                event.setNextAttemptAt(now.plusNanos(TimeUnit.MILLISECONDS.toNanos(delay)));
+            }
+        }
+        inboxEventRepository.saveAll(events);
+        failedEvents.increment(events.size());
+    }
+
+    private String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    /**
+     * Создание пула обработчиков. События, обработка которых была прервана аварийной остановкой приложения,
+     * возвращаются в очередь по истечении аренды при первой проверке в {@link #releaseExpired()}.
+     */
+    @PostConstruct
+    private void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "solution-inbox-" + threadNumber.incrementAndGet()));
+        receivedEvents = meterRegistry.counter("solution.inbox.events.received");
+        collapsedEvents = meterRegistry.counter("solution.inbox.events.collapsed");
+        failedEvents = meterRegistry.counter("solution.inbox.events.failed");
+        writes = meterRegistry.counter("solution.inbox.writes");
+    }
+
+    /**
+     * Остановка обработки при завершении приложения.
+     * Новые события не принимаются в обработку, уже переданные в пул дорабатываются в пределах таймаута.
+     * Не успевшие обработаться события возвращаются в очередь и будут обработаны после перезапуска.
+     */
+    @PreDestroy
+    private void stop() {
+        stopped = true;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(shutdownTimeout, TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+                executor.awaitTermination(shutdownTimeout, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        if (!inFlight.isEmpty()) {
+            inboxEventRepository.release(new ArrayList<>(inFlight));
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.internship.service.internship;
+
+import org.example.internship.dto.response.ReportDto;
+import org.example.internship.dto.response.internship.ArchiveReportDto;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Сервис для закрытия стажировок и хранения их итоговых ведомостей.
+ */
+public interface InternshipArchiveService {
+
+    /**
+     * Закрытие стажировки: архивирование участников и их решений, блокировка аккаунтов в GitLab
+     * и сохранение итоговой ведомости.
+     *
+     * @param internshipId идентификатор стажировки
+     * @return отчет о закрытии стажировки
+     */
+    ArchiveReportDto archive(Long internshipId);
+
+    /**
+     * Получение итоговой ведомости закрытой стажировки.
+     *
+     * @param internshipId идентификатор стажировки
+     * @return итоговая ведомость или пустое значение, если стажировка не закрыта
+     */
+    Optional<List<ReportDto>> getArchivedReport(Long internshipId);
+}
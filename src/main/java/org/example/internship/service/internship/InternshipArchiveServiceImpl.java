@@ -0,0 +1,204 @@
+package org.example.internship.service.internship;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.internship.dto.response.ReportDto;
+import org.example.internship.dto.response.internship.ArchiveReportDto;
+import org.example.internship.dto.response.user.BlockFailureDto;
+import org.example.internship.model.internship.Internship;
+import org.example.internship.model.internship.InternshipStatus;
+import org.example.internship.model.user.Role;
+import org.example.internship.repository.InternshipReportArchiveRepository;
+import org.example.internship.repository.InternshipRepository;
+import org.example.internship.repository.SolutionRepository;
+import org.example.internship.repository.UserRepository;
+import org.example.internship.service.gitlab.GitlabLane;
+import org.example.internship.service.gitlab.GitlabService;
+import org.example.internship.service.gradebook.GradebookService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityNotFoundException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Реализация сервиса для закрытия стажировок и хранения их итоговых ведомостей.
+ * <br>
+ * Итоговая ведомость фиксируется до архивирования участников и сохраняется в таблицу
+ * internship_report_archives, поэтому ведомость закрытой стажировки больше не пересчитывается.
+ * Участники и их решения архивируются двумя UPDATE-запросами в одной транзакции вместе со сменой
+ * статуса стажировки. Строка стажировки блокируется в начале транзакции, поэтому одновременные закрытия
+ * выполняются по очереди, и второе завершается ошибкой, не перезаписывая ведомость. Стажировка без
+ * участников или заданий закрывается с пустой ведомостью. Аккаунты в GitLab блокируются после фиксации
+ * транзакции пулом потоков ограниченного размера в очереди BULK; неудачные блокировки попадают в отчет
+ * и могут быть повторены отчислением отдельного пользователя.
+ */
+@Service
+public class InternshipArchiveServiceImpl implements InternshipArchiveService {
+    private static final int MAX_ERROR_LENGTH = 1024;
+    private static final TypeReference<List<ReportDto>> REPORT_TYPE = new TypeReference<>() {
+    };
+
+    private final InternshipRepository internshipRepository;
+    private final InternshipReportArchiveRepository reportArchiveRepository;
+    private final UserRepository userRepository;
+    private final SolutionRepository solutionRepository;
+    private final GradebookService gradebookService;
+    private final GitlabService gitlabService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ThreadPoolExecutor executor;
+
+    @Value("${internship.archive.parallelism:8}")
+    private int parallelism;
+
+    public InternshipArchiveServiceImpl(InternshipRepository internshipRepository,
+                                        InternshipReportArchiveRepository reportArchiveRepository,
+                                        UserRepository userRepository,
+                                        SolutionRepository solutionRepository,
+                                        GradebookService gradebookService,
+                                        GitlabService gitlabService,
+                                        PlatformTransactionManager transactionManager) {
+        this.internshipRepository = internshipRepository;
+        this.reportArchiveRepository = reportArchiveRepository;
+        this.userRepository = userRepository;
+        this.solutionRepository = solutionRepository;
+        this.gradebookService = gradebookService;
+        this.gitlabService = gitlabService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param internshipId идентификатор стажировки
+     * @return отчет о закрытии стажировки
+     * @throws EntityNotFoundException  если стажировка не найдена
+     * @throws IllegalArgumentException если стажировка уже закрыта
+     */
+    @Override
+    public ArchiveReportDto archive(Long internshipId) {
+        long startedAt = System.nanoTime();
+        List<String> usernames = new ArrayList<>();
+        ArchiveReportDto.ArchiveReportDtoBuilder result = transactionTemplate.execute(status -> {
+            Internship internship = internshipRepository.findByIdForUpdate(internshipId)
+                    .orElseThrow(() -> new EntityNotFoundException("Internship not found with ID: " + internshipId));
+            if (internship.getStatus() == InternshipStatus.ARCHIVED) {
+                throw new IllegalArgumentException("Internship already archived with ID: " + internshipId);
+            }
+            String report = write(gradebookService.buildSnapshot(internshipId));
+            usernames.addAll(userRepository.findUsernamesByInternshipIdAndRole(internshipId, Role.USER));
+            int archivedSolutions = solutionRepository.archiveAllByInternshipIdAndRole(internshipId, Role.USER);
+            int archivedUsers = userRepository.updateRoleByInternshipId(internshipId, Role.USER, Role.ARCHIVED);
+            internship.setStatus(InternshipStatus.ARCHIVED);
+            internshipRepository.save(internship);
+            reportArchiveRepository.insert(internshipId, report, LocalDateTime.now());
+            return ArchiveReportDto.builder()
+                    .internshipId(internshipId)
+                    .archivedUsers(archivedUsers)
+                    .archivedSolutions(archivedSolutions);
+        });
+        gradebookService.invalidate(internshipId);
+
+        List<BlockFailureDto> failures = blockUsers(usernames);
+        return Objects.requireNonNull(result)
+                .blocked(usernames.size() - failures.size())
+                .blockFailures(failures)
+                .wallTimeMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt))
+                .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param internshipId идентификатор стажировки
+     * @return итоговая ведомость или пустое значение, если стажировка не закрыта
+     */
+    @Override
+    public Optional<List<ReportDto>> getArchivedReport(Long internshipId) {
+        return reportArchiveRepository.findById(internshipId)
+                .map(archive -> read(archive.getReport()));
+    }
+
+    /**
+     * Параллельная блокировка аккаунтов пользователей в GitLab.
+     *
+     * @param usernames имена пользователей
+     * @return пользователи, которых не удалось заблокировать
+     */
+    private List<BlockFailureDto> blockUsers(List<String> usernames) {
+        List<CompletableFuture<BlockFailureDto>> futures = usernames.stream()
+                .map(username -> CompletableFuture.supplyAsync(() -> {
+                    try {
+                        gitlabService.blockUser(username, GitlabLane.BULK);
+                        return null;
+                    } catch (RuntimeException e) {
+                        return new BlockFailureDto(username, truncate(e.getMessage()));
+                    }
+                }, executor))
+                .collect(Collectors.toList());
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private String write(List<ReportDto> report) {
+        try {
+            return objectMapper.writeValueAsString(report);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<ReportDto> read(String report) {
+        try {
+            return objectMapper.readValue(report, REPORT_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    /**
+     * Создание пула потоков для запросов к GitLab.
+     */
+    @PostConstruct
+    private void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> new Thread(runnable, "internship-archive-" + threadNumber.incrementAndGet()));
+    }
+
+    /**
+     * Остановка пула потоков при завершении приложения.
+     */
+    @PreDestroy
+    private void stop() {
+        executor.shutdownNow();
+    }
+}
@@ -3,6 +3,7 @@ package org.example.internship.service.internship;
 import org.example.internship.dto.request.internship.InternshipStatusDto;
 import org.example.internship.dto.request.internship.NewInternshipDto;
 import org.example.internship.dto.request.internship.UpdateInternshipDto;
+import org.example.internship.dto.response.CursorPage;
 import org.example.internship.dto.response.ReportDto;
 import org.example.internship.dto.response.internship.AdminInternshipDto;
 import org.example.internship.dto.response.internship.PublicInternshipDto;
@@ -51,22 +52,27 @@ public interface InternshipService {
     List<PublicInternshipDto> getOpened();
 
     /**
-     * Получение списка стажировок по заданному статусу.
+     * Получение страницы стажировок по заданному статусу.
      *
      * @param status статус стажировки
-     * @return список стажировок с заданным статусом
+     * @param cursor идентификатор последнего элемента предыдущей страницы или null для первой страницы
+     * @param limit  размер страницы или null для размера по умолчанию
+     * @return страница стажировок с заданным статусом
      */
-    List<AdminInternshipDto> getByStatus(String status);
+    CursorPage<AdminInternshipDto> getByStatus(String status, Long cursor, Integer limit);
 
     /**
-     * Получение списка всех стажировок.
+     * Получение страницы всех стажировок.
      *
-     * @return список всех стажировок
+     * @param cursor идентификатор последнего элемента предыдущей страницы или null для первой страницы
+     * @param limit  размер страницы или null для размера по умолчанию
+     * @return страница стажировок
      */
-    List<AdminInternshipDto> getAll();
+    CursorPage<AdminInternshipDto> getAll(Long cursor, Integer limit);
 
     /**
      * Создание ведомости по стажировке.
+     * Для закрытой стажировки возвращается итоговая ведомость, сохраненная при закрытии.
      *
      * @param internshipId идентификатор стажировки
      * @return ведомость по стажировке
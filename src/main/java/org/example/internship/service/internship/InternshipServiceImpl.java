@@ -4,27 +4,22 @@ import lombok.RequiredArgsConstructor;
 import org.example.internship.dto.request.internship.InternshipStatusDto;
 import org.example.internship.dto.request.internship.NewInternshipDto;
 import org.example.internship.dto.request.internship.UpdateInternshipDto;
+import org.example.internship.dto.response.CursorPage;
 import org.example.internship.dto.response.ReportDto;
 import org.example.internship.dto.response.internship.AdminInternshipDto;
 import org.example.internship.dto.response.internship.PublicInternshipDto;
 import org.example.internship.mapper.InternshipMapper;
-import org.example.internship.model.task.Task;
 import org.example.internship.model.internship.Internship;
 import org.example.internship.model.internship.InternshipStatus;
-import org.example.internship.model.task.Solution;
-import org.example.internship.model.task.SolutionStatus;
-import org.example.internship.model.user.Role;
-import org.example.internship.model.user.User;
 import org.example.internship.repository.InternshipRepository;
-import org.example.internship.repository.SolutionRepository;
-import org.example.internship.repository.TaskRepository;
-import org.example.internship.repository.UserRepository;
+import org.example.internship.service.gradebook.GradebookService;
+import org.example.internship.utils.CursorPages;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -34,10 +29,9 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class InternshipServiceImpl implements InternshipService {
     private final InternshipRepository internshipRepository;
-    private final UserRepository userRepository;
-    private final TaskRepository taskRepository;
-    private final SolutionRepository solutionRepository;
     private final InternshipMapper internshipMapper;
+    private final GradebookService gradebookService;
+    private final InternshipArchiveService internshipArchiveService;
 
     /**
      * {@inheritDoc}
@@ -97,14 +91,19 @@ public class InternshipServiceImpl implements InternshipService {
     /**
      * {@inheritDoc}
      *
-     * @return список всех стажировок
+     * @param cursor идентификатор последнего элемента предыдущей страницы или null для первой страницы
+     * @param limit  размер страницы или null для размера по умолчанию
+     * @return страница стажировок
      */
     @Override
-    public List<AdminInternshipDto> getAll() {
-        List<Internship> internships = internshipRepository.findAll();
-        return internships.stream()
+    @Transactional(readOnly = true)
+    public CursorPage<AdminInternshipDto> getAll(Long cursor, Integer limit) {
+        Pageable request = CursorPages.request(limit);
+        List<AdminInternshipDto> internships = internshipRepository.findPage(CursorPages.after(cursor), request)
+                .stream()
                 .map(internshipMapper::modelToAdminDto)
                 .collect(Collectors.toList());
+        return CursorPages.page(internships, request, AdminInternshipDto::getId);
     }
 
     /**
@@ -124,15 +123,20 @@ public class InternshipServiceImpl implements InternshipService {
      * {@inheritDoc}
      *
      * @param status статус стажировки
-     * @return список стажировок с указанным статусом
+     * @param cursor идентификатор последнего элемента предыдущей страницы или null для первой страницы
+     * @param limit  размер страницы или null для размера по умолчанию
+     * @return страница стажировок с указанным статусом
      */
     @Override
-    public List<AdminInternshipDto> getByStatus(String status) {
+    @Transactional(readOnly = true)
+    public CursorPage<AdminInternshipDto> getByStatus(String status, Long cursor, Integer limit) {
         InternshipStatus internshipStatus = InternshipStatus.valueOf(status.toUpperCase());
-        List<Internship> internships = internshipRepository.findByStatus(internshipStatus);
-        return internships.stream()
+        Pageable request = CursorPages.request(limit);
+        List<AdminInternshipDto> internships = internshipRepository
+                .findPageByStatus(internshipStatus, CursorPages.after(cursor), request).stream()
                 .map(internshipMapper::modelToAdminDto)
                 .collect(Collectors.toList());
+        return CursorPages.page(internships, request, AdminInternshipDto::getId);
     }
 
     /**
@@ -144,53 +148,7 @@ public class InternshipServiceImpl implements InternshipService {
      */
     @Override
     public List<ReportDto> createReport(Long internshipId) {
-        internshipRepository.findById(internshipId)
-                .orElseThrow(() -> new EntityNotFoundException("Internship not found with ID: " + internshipId));
-        List<User> users = userRepository.findAllByInternshipIdAndRole(internshipId, Role.USER);
-        List<Task> tasks = taskRepository.findAllByLesson_InternshipId(internshipId);
-        if (users.isEmpty()) {
-            throw new EntityNotFoundException("No users found for internship with ID: " + internshipId);
-        }
-        if (tasks.isEmpty()) {
-            throw new EntityNotFoundException("No tasks found for internship with ID:" + internshipId);
-        }
-
-        List<ReportDto> reportDtos = new ArrayList<>();
-        for (User user : users) {
-            Map<String, String> taskStatuses = getSolutionByUserAndTasks(user, tasks);
-            reportDtos.add(new ReportDto(user.getUsername(), taskStatuses));
-        }
-        return reportDtos;
-    }
-
-    /**
-     * Получение статусов задач для пользователя.
-     *
-     * @param user  пользователь
-     * @param tasks задачи
-     * @return статус задачи
-     */
-    private Map<String, String> getSolutionByUserAndTasks(User user, List<Task> tasks) {
-        List<Solution> solutions = solutionRepository.findAllByUserAndTaskIn(user, tasks);
-        return tasks.stream()
-                .collect(Collectors.toMap(
-                        Task::getName,
-                        task -> getTaskStatus(solutions, task).toString()
-                ));
-    }
-
-    /**
-     * Получение статуса задачи для пользователя.
-     *
-     * @param solutions решения
-     * @param task      задача
-     * @return статус задачи
-     */
-    private SolutionStatus getTaskStatus(List<Solution> solutions, Task task) {
-        return solutions.stream()
-                .filter(solution -> solution.getTask().equals(task))
-                .findFirst()
-                .map(Solution::getStatus)
-                .orElse(SolutionStatus.NO_SOLUTION);
+        return internshipArchiveService.getArchivedReport(internshipId)
+                .orElseGet(() -> gradebookService.getReport(internshipId));
     }
 }
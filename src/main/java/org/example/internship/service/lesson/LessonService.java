@@ -1,6 +1,7 @@
 package org.example.internship.service.lesson;
 
 import org.example.internship.dto.request.lesson.NewLessonDto;
+import org.example.internship.dto.response.CursorPage;
 import org.example.internship.dto.response.lesson.AdminLessonDto;
 import org.example.internship.dto.response.lesson.UserLessonDto;
 
@@ -42,9 +43,11 @@ public interface LessonService {
     List<UserLessonDto> getAllPublishedByInternshipId(Long id);
 
     /**
-     * Получение списка всех занятий.
+     * Получение страницы всех занятий.
      *
-     * @return список всех занятий
+     * @param cursor идентификатор последнего элемента предыдущей страницы или null для первой страницы
+     * @param limit  размер страницы или null для размера по умолчанию
+     * @return страница занятий
      */
-    List<AdminLessonDto> getAll();
+    CursorPage<AdminLessonDto> getAll(Long cursor, Integer limit);
 }
@@ -2,13 +2,17 @@ package org.example.internship.service.lesson;
 
 import lombok.RequiredArgsConstructor;
 import org.example.internship.dto.request.lesson.NewLessonDto;
+import org.example.internship.dto.response.CursorPage;
 import org.example.internship.dto.response.lesson.AdminLessonDto;
 import org.example.internship.dto.response.lesson.UserLessonDto;
 import org.example.internship.exception.AlreadyPublishedException;
 import org.example.internship.mapper.LessonMapper;
 import org.example.internship.model.Lesson;
 import org.example.internship.repository.LessonRepository;
+import org.example.internship.utils.CursorPages;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
 import java.util.List;
@@ -51,14 +55,18 @@ public class LessonServiceImpl implements LessonService {
     /**
      * {@inheritDoc}
      *
-     * @return список всех занятий
+     * @param cursor идентификатор последнего элемента предыдущей страницы или null для первой страницы
+     * @param limit  размер страницы или null для размера по умолчанию
+     * @return страница занятий
      */
     @Override
-    public List<AdminLessonDto> getAll() {
-        List<Lesson> lessons = lessonRepository.findAll();
-        return lessons.stream()
+    @Transactional(readOnly = true)
+    public CursorPage<AdminLessonDto> getAll(Long cursor, Integer limit) {
+        Pageable request = CursorPages.request(limit);
+        List<AdminLessonDto> lessons = lessonRepository.findPage(CursorPages.after(cursor), request).stream()
                 .map(lessonMapper::modelToAdminDto)
                 .collect(Collectors.toList());
+        return CursorPages.page(lessons, request, AdminLessonDto::getId);
     }
 
     /**
@@ -68,6 +76,7 @@ public class LessonServiceImpl implements LessonService {
      * @return список опубликованных занятий
      */
     @Override
+    @Transactional(readOnly = true)
     public List<UserLessonDto> getAllPublishedByInternshipId(Long internshipId) {
         List<Lesson> publishedLessons = lessonRepository.findByIsPublishedTrueAndInternshipId(internshipId);
         return publishedLessons.stream()
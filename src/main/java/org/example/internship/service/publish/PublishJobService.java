@@ -0,0 +1,50 @@
+package org.example.internship.service.publish;
+
+import org.example.internship.dto.response.task.PublishJobDto;
+import org.example.internship.model.task.Task;
+import org.example.internship.model.user.User;
+
+import java.util.List;
+
+/**
+ * Сервис для работы с задачами публикации заданий.
+ */
+public interface PublishJobService {
+
+    /**
+     * Создание задачи публикации: форк репозитория каждого задания каждому пользователю.
+     * Форки создаются асинхронно.
+     *
+     * @param tasks публикуемые задания
+     * @param users пользователи, которым создаются форки
+     * @return состояние созданной задачи
+     */
+    PublishJobDto create(List<Task> tasks, List<User> users);
+
+    /**
+     * Получение состояния задачи публикации.
+     *
+     * @param id идентификатор задачи
+     * @return состояние задачи
+     */
+    PublishJobDto getById(Long id);
+
+    /**
+     * Возобновление задачи публикации: повторное создание форков, которые не удалось создать.
+     * Уже созданные форки повторно не создаются.
+     *
+     * @param id идентификатор задачи
+     * @return состояние задачи
+     */
+    PublishJobDto resume(Long id);
+
+    /**
+     * Передача готовых к обработке форков в пул обработчиков.
+     */
+    void processReady();
+
+    /**
+     * Возврат в очередь форков, захват которых истек, не дождавшись завершения обработки.
+     */
+    void releaseExpired();
+}
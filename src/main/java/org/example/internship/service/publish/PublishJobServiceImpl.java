@@ -0,0 +1,390 @@
+package org.example.internship.service.publish;
+
+import lombok.RequiredArgsConstructor;
+import org.example.internship.dto.projection.StatusCountView;
+import org.example.internship.dto.response.task.ForkFailureDto;
+import org.example.internship.dto.response.task.PublishJobDto;
+import org.example.internship.model.publish.PublishItemStatus;
+import org.example.internship.model.publish.PublishJob;
+import org.example.internship.model.publish.PublishJobItem;
+import org.example.internship.model.publish.PublishJobStatus;
+import org.example.internship.model.task.Task;
+import org.example.internship.model.task.TaskFork;
+import org.example.internship.model.user.User;
+import org.example.internship.repository.PublishJobItemRepository;
+import org.example.internship.repository.PublishJobRepository;
+import org.example.internship.service.fork.TaskForkService;
+import org.example.internship.service.gitlab.GitlabService;
+import org.gitlab4j.api.models.Project;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Реализация сервиса для работы с задачами публикации заданий.
+ * <br>
+ * Задача публикации хранится в таблице publish_jobs, а каждый форк задания пользователю — отдельным
+ * элементом в таблице publish_job_items. Элементы обрабатываются пулом потоков ограниченного размера,
+ * общим для всех задач, поэтому число одновременных запросов к GitLab не превышает заданного.
+ * Неудачные попытки повторяются с экспоненциально растущей задержкой, а после исчерпания попыток
+ * элемент помечается как FAILED и может быть повторен возобновлением задачи.
+ * <br>
+ * Захват элементов действует в течение срока аренды. Элементы, захваченные остановившимся аварийно экземпляром
+ * приложения, возвращаются в очередь после истечения аренды, а элементы, которые обрабатывают другие
+ * работающие экземпляры, не затрагиваются.
+ */
+@Service
+@RequiredArgsConstructor
+public class PublishJobServiceImpl implements PublishJobService {
+    private static final int MAX_ERROR_LENGTH = 1024;
+    private static final int MAX_BACKOFF_SHIFT = 20;
+    private static final List<PublishItemStatus> PENDING_STATUSES =
+            List.of(PublishItemStatus.NEW, PublishItemStatus.PROCESSING);
+
+    private final PublishJobRepository publishJobRepository;
+    private final PublishJobItemRepository publishJobItemRepository;
+    private final GitlabService gitlabService;
+    private final TaskForkService taskForkService;
+
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private ThreadPoolExecutor executor;
+    private volatile boolean stopped;
+
+    @Value("${task.publish.parallelism:8}")
+    private int parallelism;
+    @Value("${task.publish.queue-capacity:64}")
+    private int queueCapacity;
+    @Value("${task.publish.batch-size:50}")
+    private int batchSize;
+    @Value("${task.publish.max-attempts:5}")
+    private int maxAttempts;
+    @Value("${task.publish.retry-delay:5000}")
+    private long retryDelay;
+    @Value("${task.publish.max-retry-delay:300000}")
+    private long maxRetryDelay;
+    @Value("${task.publish.shutdown-timeout:30000}")
+    private long shutdownTimeout;
+    @Value("${task.publish.lease:600000}")
+    private long lease;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param tasks публикуемые задания
+     * @param users пользователи, которым создаются форки
+     * @return состояние созданной задачи
+     */
+    @Override
+    @Transactional
+    public PublishJobDto create(List<Task> tasks, List<User> users) {
+        LocalDateTime now = LocalDateTime.now();
+        PublishJob job = publishJobRepository.save(PublishJob.builder()
+                .status(PublishJobStatus.RUNNING)
+                .createdAt(now)
+                .build());
+
+        List<PublishJobItem> items = new ArrayList<>(tasks.size() * users.size());
+        for (Task task : tasks) {
+            for (User user : users) {
+                items.add(PublishJobItem.builder()
+                        .jobId(job.getId())
+                        .taskId(task.getId())
+                        .userId(user.getId())
+                        .repositoryId(task.getRepositoryId())
+                        .username(user.getUsername())
+                        .status(PublishItemStatus.NEW)
+                        .attempts(0)
+                        .nextAttemptAt(now)
+                        .build());
+            }
+        }
+        publishJobItemRepository.saveAll(items);
+
+        return PublishJobDto.builder()
+                .id(job.getId())
+                .status(job.getStatus())
+                .total(items.size())
+                .pending(items.size())
+                .failures(List.of())
+                .createdAt(job.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param id идентификатор задачи
+     * @return состояние задачи
+     * @throws EntityNotFoundException если задача не найдена
+     */
+    @Override
+    public PublishJobDto getById(Long id) {
+        PublishJob job = publishJobRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Publish job not found with ID: " + id));
+        return toDto(job);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param id идентификатор задачи
+     * @return состояние задачи
+     * @throws EntityNotFoundException если задача не найдена
+     */
+    @Override
+    @Transactional
+    public PublishJobDto resume(Long id) {
+        PublishJob job = publishJobRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Publish job not found with ID: " + id));
+        if (publishJobItemRepository.resume(id, LocalDateTime.now()) > 0) {
+            job.setStatus(PublishJobStatus.RUNNING);
+            job.setFinishedAt(null);
+            publishJobRepository.save(job);
+        }
+        return toDto(job);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br>
+     * В обработку берется не больше элементов, чем помещается в очередь пула.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${task.publish.poll-interval:1000}")
+    public void processReady() {
+        int capacity = Math.min(batchSize, executor.getQueue().remainingCapacity());
+        if (stopped || capacity == 0) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<PublishJobItem> items = publishJobItemRepository.findReady(now, PageRequest.of(0, capacity));
+        if (items.isEmpty()) {
+            return;
+        }
+        List<Long> ids = items.stream().map(PublishJobItem::getId).collect(Collectors.toList());
+        LocalDateTime claimedAt = now.truncatedTo(ChronoUnit.MICROS);
+        if (publishJobItemRepository.claim(ids, claimedAt) != ids.size()) {
+            publishJobItemRepository.release(ids, claimedAt);
+            return;
+        }
+
+        for (PublishJobItem item : items) {
+            inFlight.add(item.getId());
+            try {
+                executor.execute(() -> {
+                    try {
+                        processItem(item);
+                    } finally {
+                        inFlight.remove(item.getId());
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                inFlight.remove(item.getId());
+                publishJobItemRepository.release(List.of(item.getId()));
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br>
+     * Срок аренды должен превышать время обработки элемента, иначе элемент, который еще обрабатывается,
+     * может быть захвачен повторно.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${task.publish.lease-check-interval:60000}")
+    public void releaseExpired() {
+        publishJobItemRepository.releaseExpired(LocalDateTime.now().minusNanos(TimeUnit.MILLISECONDS.toNanos(lease)));
+    }
+
+    /**
+     * Создание форка для одного элемента задачи и сохранение связи форка с заданием и пользователем.
+     * <br>
+     * Связь регистрируется до пометки элемента как DONE: если сохранение не удалось, элемент остается
+     * в обработке и после истечения аренды будет обработан повторно, а повторная регистрация ничего не меняет.
+     *
+     * @param item элемент задачи
+     */
+    private void processItem(PublishJobItem item) {
+        Project fork;
+        try {
+            fork = forkIfAbsent(item);
+        } catch (RuntimeException e) {
+            markFailed(item, e);
+            finishIfDone(item.getJobId());
+            return;
+        }
+        taskForkService.registerAll(List.of(new TaskFork(fork.getId(), item.getTaskId(), item.getUserId())));
+        item.setStatus(PublishItemStatus.DONE);
+        item.setForkProjectId(fork.getId());
+        item.setLastError(null);
+        publishJobItemRepository.save(item);
+        finishIfDone(item.getJobId());
+    }
+
+    /**
+     * Получение форка для элемента задачи с созданием, если его еще нет.
+     * <br>
+     * Форк мог быть создан предыдущей попыткой, результат которой не был сохранен: запрос к GitLab
+     * завершился по таймауту, сохранение результата не удалось или приложение было остановлено.
+     * Повторный форк GitLab отклоняет, поэтому существующий форк ищется до создания и после ошибки создания,
+     * и повторные попытки приходят к одному и тому же форку.
+     *
+     * @param item элемент задачи
+     * @return существующий или созданный форк
+     */
+    private Project forkIfAbsent(PublishJobItem item) {
+        Project existing = gitlabService.findFork(item.getRepositoryId(), item.getUsername());
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            return gitlabService.forkRepository(item.getRepositoryId(), item.getUsername());
+        } catch (RuntimeException e) {
+            Project created;
+            try {
+                created = gitlabService.findFork(item.getRepositoryId(), item.getUsername());
+            } catch (RuntimeException lookupError) {
+                e.addSuppressed(lookupError);
+                throw e;
+            }
+            if (created == null) {
+                throw e;
+            }
+            return created;
+        }
+    }
+
+    /**
+     * Обработка неудачной попытки: элемент откладывается на время, растущее с каждой попыткой,
+     * а после исчерпания попыток помечается как FAILED.
+     *
+     * @param item элемент задачи
+     * @param e    исключение, возникшее при создании форка
+     */
+    private void markFailed(PublishJobItem item, Exception e) {
+        int attempts = item.getAttempts() + 1;
+        item.setAttempts(attempts);
+        item.setLastError(truncate(String.valueOf(e.getMessage())));
+        if (attempts >= maxAttempts) {
+            item.setStatus(PublishItemStatus.FAILED);
+        } else {
+            long delay = Math.min(retryDelay << Math.min(attempts - 1, MAX_BACKOFF_SHIFT), maxRetryDelay);
+            item.setStatus(PublishItemStatus.NEW);
+            item.setNextAttemptAt(LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(delay)));
+        }
+        publishJobItemRepository.save(item);
+    }
+
+    /**
+     * Завершение задачи, если все ее элементы обработаны.
+     *
+     * @param jobId идентификатор задачи
+     */
+    private void finishIfDone(Long jobId) {
+        if (publishJobItemRepository.existsByJobIdAndStatusIn(jobId, PENDING_STATUSES)) {
+            return;
+        }
+        publishJobRepository.findById(jobId)
+                .filter(job -> job.getStatus() == PublishJobStatus.RUNNING)
+                .ifPresent(job -> {
+                    boolean failed = publishJobItemRepository.existsByJobIdAndStatusIn(jobId,
+                            List.of(PublishItemStatus.FAILED));
+                    job.setStatus(failed ? PublishJobStatus.COMPLETED_WITH_FAILURES : PublishJobStatus.COMPLETED);
+                    job.setFinishedAt(LocalDateTime.now());
+                    publishJobRepository.save(job);
+                });
+    }
+
+    private PublishJobDto toDto(PublishJob job) {
+        Map<PublishItemStatus, Long> counts = new EnumMap<>(PublishItemStatus.class);
+        for (StatusCountView view : publishJobItemRepository.countByStatus(job.getId())) {
+            counts.put(view.getStatus(), view.getCount());
+        }
+        long succeeded = counts.getOrDefault(PublishItemStatus.DONE, 0L);
+        long failed = counts.getOrDefault(PublishItemStatus.FAILED, 0L);
+        long pending = counts.getOrDefault(PublishItemStatus.NEW, 0L)
+                + counts.getOrDefault(PublishItemStatus.PROCESSING, 0L);
+        List<ForkFailureDto> failures = failed == 0 ? List.of() : publishJobItemRepository
+                .findAllByJobIdAndStatusOrderById(job.getId(), PublishItemStatus.FAILED).stream()
+                .map(item -> new ForkFailureDto(item.getTaskId(), item.getUserId(), item.getUsername(),
+                        item.getAttempts(), item.getLastError()))
+                .collect(Collectors.toList());
+
+        LocalDateTime end = job.getFinishedAt() != null ? job.getFinishedAt() : LocalDateTime.now();
+        long wallTimeMillis = Duration.between(job.getCreatedAt(), end).toMillis();
+        return PublishJobDto.builder()
+                .id(job.getId())
+                .status(job.getStatus())
+                .total(succeeded + failed + pending)
+                .succeeded(succeeded)
+                .pending(pending)
+                .failed(failed)
+                .failures(failures)
+                .createdAt(job.getCreatedAt())
+                .finishedAt(job.getFinishedAt())
+                .wallTimeMillis(wallTimeMillis)
+                .forksPerSecond(wallTimeMillis > 0 ? succeeded * 1000.0 / wallTimeMillis : 0)
+                .build();
+    }
+
+    private String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    /**
+     * Создание пула обработчиков. Элементы, обработка которых была прервана аварийной остановкой приложения,
+     * возвращаются в очередь по истечении аренды при первой проверке в {@link #releaseExpired()}.
+     */
+    @PostConstruct
+    private void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "task-publish-" + threadNumber.incrementAndGet()));
+    }
+
+    /**
+     * Остановка обработки при завершении приложения.
+     * Уже переданные в пул форки дорабатываются в пределах таймаута,
+     * не успевшие обработаться элементы возвращаются в очередь.
+     */
+    @PreDestroy
+    private void stop() {
+        stopped = true;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(shutdownTimeout, TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+                executor.awaitTermination(shutdownTimeout, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        if (!inFlight.isEmpty()) {
+            publishJobItemRepository.release(new ArrayList<>(inFlight));
+        }
+    }
+}
@@ -1,8 +1,9 @@
 package org.example.internship.service.solution;
 
+import org.example.internship.dto.request.solution.SolutionPushDto;
 import org.example.internship.dto.request.solution.SolutionStatusDto;
+import org.example.internship.dto.response.CursorPage;
 import org.example.internship.dto.response.solution.SolutionDto;
-import org.gitlab4j.api.systemhooks.PushSystemHookEvent;
 
 import java.util.List;
 
@@ -12,11 +13,12 @@ import java.util.List;
 public interface SolutionService {
 
     /**
-     * Добавление решения задания на основе события системного хука GitLab.
+     * Пакетное добавление решений по данным пушей.
+     * Для каждого репозитория сохраняется только пуш с самым поздним коммитом.
      *
-     * @param pushEvent событие системного хука GitLab
+     * @param pushes данные пушей в репозитории решений
      */
-    void add(PushSystemHookEvent pushEvent);
+    void addAll(List<SolutionPushDto> pushes);
 
     /**
      * Обновление статуса решения задания.
@@ -34,28 +36,34 @@ public interface SolutionService {
     SolutionDto getById(Long id);
 
     /**
-     * Получение списка всех решений.
+     * Получение страницы всех решений.
      *
-     * @return список всех решений
+     * @param cursor идентификатор последнего элемента предыдущей страницы или null для первой страницы
+     * @param limit  размер страницы или null для размера по умолчанию
+     * @return страница решений
      */
-    List<SolutionDto> getAll();
+    CursorPage<SolutionDto> getAll(Long cursor, Integer limit);
 
     /**
-     * Получение списка решений по указанному статусу.
+     * Получение страницы решений по указанному статусу.
      *
      * @param status статус решений
-     * @return список решений с указанным статусом
+     * @param cursor идентификатор последнего элемента предыдущей страницы или null для первой страницы
+     * @param limit  размер страницы или null для размера по умолчанию
+     * @return страница решений с указанным статусом
      */
-    List<SolutionDto> getAllByStatus(String status);
+    CursorPage<SolutionDto> getAllByStatus(String status, Long cursor, Integer limit);
 
 
     /**
-     * Получение списка всех решений задания по его идентификатору.
+     * Получение страницы решений задания по его идентификатору.
      *
      * @param taskId идентификатор задания
-     * @return список объектов SolutionDto, представляющих решения задания
+     * @param cursor идентификатор последнего элемента предыдущей страницы или null для первой страницы
+     * @param limit  размер страницы или null для размера по умолчанию
+     * @return страница объектов SolutionDto, представляющих решения задания
      */
-    List<SolutionDto> getAllByTaskId(Long taskId);
+    CursorPage<SolutionDto> getAllByTaskId(Long taskId, Long cursor, Integer limit);
 
     /**
      * Архивирование решений задач по идентификатору пользователя.
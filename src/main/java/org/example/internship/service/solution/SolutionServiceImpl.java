@@ -1,23 +1,27 @@
 package org.example.internship.service.solution;
 
 import lombok.RequiredArgsConstructor;
+import org.example.internship.dto.projection.SolutionStatusView;
+import org.example.internship.dto.request.solution.SolutionPushDto;
 import org.example.internship.dto.request.solution.SolutionStatusDto;
+import org.example.internship.dto.response.CursorPage;
 import org.example.internship.dto.response.solution.SolutionDto;
 import org.example.internship.mapper.SolutionMapper;
 import org.example.internship.model.task.Solution;
 import org.example.internship.model.task.SolutionStatus;
-import org.example.internship.model.task.Task;
-import org.example.internship.model.user.User;
 import org.example.internship.repository.SolutionRepository;
-import org.example.internship.repository.TaskRepository;
-import org.example.internship.repository.UserRepository;
-import org.gitlab4j.api.systemhooks.PushSystemHookEvent;
+import org.example.internship.service.gradebook.GradebookService;
+import org.example.internship.utils.CursorPages;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 /**
  * Реализация сервиса для работы с решениями заданий.
@@ -26,31 +30,34 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class SolutionServiceImpl implements SolutionService {
     private final SolutionRepository solutionRepository;
-    private final UserRepository userRepository;
-    private final TaskRepository taskRepository;
     private final SolutionMapper solutionMapper;
+    private final GradebookService gradebookService;
 
     /**
      * {@inheritDoc}
+     * <br>
+     * Все решения записываются одним запросом INSERT ... ON CONFLICT, который заодно возвращает
+     * пользователя и задание каждой записанной строки для обновления ведомости.
+     * Решение не перезаписывается пушем с более ранним коммитом.
      *
-     * @param pushEvent событие системного хука GitLab
+     * @param pushes данные пушей в репозитории решений
      */
     @Override
-    public void add(PushSystemHookEvent pushEvent) {
-        Solution solution = solutionMapper.pushEventToModel(pushEvent);
+    public void addAll(List<SolutionPushDto> pushes) {
+        Map<String, SolutionPushDto> latestPushes = new LinkedHashMap<>();
+        for (SolutionPushDto push : pushes) {
+            latestPushes.merge(push.getRepositoryUrl(), push, (current, candidate) ->
+                    candidate.getLastCommitTime().isBefore(current.getLastCommitTime()) ? current : candidate);
+        }
+        if (latestPushes.isEmpty()) {
+            return;
+        }
 
-        Solution existingSolution = solutionRepository.findByRepositoryUrl(solution.getRepositoryUrl());
-        if (existingSolution != null) {
-            existingSolution.setLastCommitTime(solution.getLastCommitTime());
-            existingSolution.setLastCommitUrl(solution.getLastCommitUrl());
-            existingSolution.setStatus(SolutionStatus.SENT);
-            solutionRepository.saveAndFlush(existingSolution);
-        } else {
-            User user = userRepository.findByUsername(pushEvent.getUserUsername());
-            Task task = taskRepository.findByName(pushEvent.getProject().getName());
-            solution.setUser(user);
-            solution.setTask(task);
-            solutionRepository.saveAndFlush(solution);
+        List<SolutionStatusView> written = solutionRepository.upsertAll(new ArrayList<>(latestPushes.values()));
+        for (SolutionStatusView view : written) {
+            if (view.getUserId() != null && view.getTaskId() != null) {
+                gradebookService.updateStatus(view.getUserId(), view.getTaskId(), view.getStatus());
+            }
         }
     }
 
@@ -68,6 +75,7 @@ public class SolutionServiceImpl implements SolutionService {
         solution.setStatus(SolutionStatus.valueOf(status));
         solution.setCheckedTime(LocalDateTime.now());
         solutionRepository.save(solution);
+        updateGradebook(solution);
     }
 
     /**
@@ -87,43 +95,49 @@ public class SolutionServiceImpl implements SolutionService {
     /**
      * {@inheritDoc}
      *
-     * @return список всех решений
+     * @param cursor идентификатор последнего элемента предыдущей страницы или null для первой страницы
+     * @param limit  размер страницы или null для размера по умолчанию
+     * @return страница решений
      */
     @Override
-    public List<SolutionDto> getAll() {
-        List<Solution> solutions = solutionRepository.findAll();
-        return solutions.stream()
-                .map(solutionMapper::modelToDto)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<SolutionDto> getAll(Long cursor, Integer limit) {
+        Pageable request = CursorPages.request(limit);
+        return CursorPages.page(solutionRepository.findPageAsDto(CursorPages.after(cursor), request),
+                request, SolutionDto::getId);
     }
 
     /**
      * {@inheritDoc}
      *
      * @param status статус решений
-     * @return список решений с указанным статусом
+     * @param cursor идентификатор последнего элемента предыдущей страницы или null для первой страницы
+     * @param limit  размер страницы или null для размера по умолчанию
+     * @return страница решений с указанным статусом
      */
     @Override
-    public List<SolutionDto> getAllByStatus(String status) {
+    @Transactional(readOnly = true)
+    public CursorPage<SolutionDto> getAllByStatus(String status, Long cursor, Integer limit) {
         SolutionStatus solutionStatus = SolutionStatus.valueOf(status.toUpperCase());
-        List<Solution> solutions = solutionRepository.findAllByStatusAndIsArchivedFalse(solutionStatus);
-        return solutions.stream()
-                .map(solutionMapper::modelToDto)
-                .collect(Collectors.toList());
+        Pageable request = CursorPages.request(limit);
+        return CursorPages.page(solutionRepository.findPageAsDtoByStatus(solutionStatus,
+                CursorPages.after(cursor), request), request, SolutionDto::getId);
     }
 
     /**
      * {@inheritDoc}
      *
      * @param taskId идентификатор задания
-     * @return список объектов SolutionDto, представляющих решения задания
+     * @param cursor идентификатор последнего элемента предыдущей страницы или null для первой страницы
+     * @param limit  размер страницы или null для размера по умолчанию
+     * @return страница объектов SolutionDto, представляющих решения задания
      */
     @Override
-    public List<SolutionDto> getAllByTaskId(Long taskId) {
-        List<Solution> solutions = solutionRepository.findAllByTaskIdAndIsArchivedFalse(taskId);
-        return solutions.stream()
-                .map(solutionMapper::modelToDto)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<SolutionDto> getAllByTaskId(Long taskId, Long cursor, Integer limit) {
+        Pageable request = CursorPages.request(limit);
+        return CursorPages.page(solutionRepository.findPageAsDtoByTaskId(taskId, CursorPages.after(cursor), request),
+                request, SolutionDto::getId);
     }
 
     /**
@@ -133,8 +147,18 @@ public class SolutionServiceImpl implements SolutionService {
      */
     @Override
     public void archiveSolutions(Long userId) {
-        List<Solution> solutions = solutionRepository.findAllByUserId(userId);
-        solutions.forEach(solution -> solution.setIsArchived(true));
-        solutionRepository.saveAllAndFlush(solutions);
+        solutionRepository.archiveAllByUserId(userId);
+        gradebookService.removeUser(userId);
+    }
+
+    /**
+     * Обновление ячейки ведомости в памяти после сохранения решения.
+     *
+     * @param solution сохраненное решение
+     */
+    private void updateGradebook(Solution solution) {
+        if (solution.getUser() != null && solution.getTask() != null) {
+            gradebookService.updateStatus(solution.getUser().getId(), solution.getTask().getId(), solution.getStatus());
+        }
     }
 }
@@ -0,0 +1,18 @@
+package org.example.internship.service.solution;
+
+/**
+ * Сервис сверки решений с репозиториями GitLab.
+ * Восстанавливает решения, события пуша которых не были получены через системный хук.
+ */
+public interface SolutionSyncService {
+
+    /**
+     * Запуск сверки решений в фоновом потоке.
+     */
+    void startSynchronization();
+
+    /**
+     * Сверка решений по форкам всех опубликованных заданий в текущем потоке.
+     */
+    void synchronize();
+}
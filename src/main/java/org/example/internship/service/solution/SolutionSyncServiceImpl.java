@@ -0,0 +1,242 @@
+package org.example.internship.service.solution;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.internship.dto.request.solution.SolutionPushDto;
+import org.example.internship.exception.GitlabException;
+import org.example.internship.exception.GitlabUnavailableException;
+import org.example.internship.model.task.SolutionSyncCursor;
+import org.example.internship.model.task.Task;
+import org.example.internship.model.task.TaskFork;
+import org.example.internship.repository.SolutionSyncCursorRepository;
+import org.example.internship.repository.TaskRepository;
+import org.example.internship.service.fork.TaskForkService;
+import org.example.internship.service.gitlab.GitlabService;
+import org.gitlab4j.api.models.Commit;
+import org.gitlab4j.api.models.Project;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Реализация сервиса сверки решений с репозиториями GitLab.
+ * <br>
+ * Для каждого опубликованного задания запрашивается список форков его репозитория.
+ * Форк проверяется, только если в нем была активность после предыдущей сверки, и для него
+ * запрашивается лишь последний коммит после уже учтенного, поэтому число запросов к GitLab
+ * пропорционально числу изменившихся форков, а не общему числу репозиториев.
+ * <br>
+ * Найденные коммиты записываются пачками через {@link SolutionService#addAll}, после чего сохраняется
+ * состояние сверки. Если сохранение состояния не произошло, пачка повторяется при следующей сверке,
+ * а повторная запись того же коммита решение не меняет.
+ * <br>
+ * Сверка по расписанию выполняется в отдельном потоке, а не в потоке планировщика: иначе на время сверки
+ * останавливались бы остальные задачи по расписанию, в том числе разбор входящей очереди и публикация заданий.
+ * <br>
+ * Метрика solution.sync.recovered — число найденных при сверке коммитов.
+ */
+@Service
+public class SolutionSyncServiceImpl implements SolutionSyncService {
+    private static final ZoneId ZONE = ZoneId.of("Europe/Moscow");
+
+    private final TaskRepository taskRepository;
+    private final SolutionSyncCursorRepository solutionSyncCursorRepository;
+    private final SolutionService solutionService;
+    private final TaskForkService taskForkService;
+    private final GitlabService gitlabService;
+    private final Counter recovered;
+
+    private ThreadPoolExecutor executor;
+    private volatile boolean stopped;
+
+    @Value("${solution.sync.batch-size:100}")
+    private int batchSize;
+    @Value("${solution.sync.shutdown-timeout:30000}")
+    private long shutdownTimeout;
+
+    public SolutionSyncServiceImpl(TaskRepository taskRepository,
+                                   SolutionSyncCursorRepository solutionSyncCursorRepository,
+                                   SolutionService solutionService,
+                                   TaskForkService taskForkService,
+                                   GitlabService gitlabService,
+                                   MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.solutionSyncCursorRepository = solutionSyncCursorRepository;
+        this.solutionService = solutionService;
+        this.taskForkService = taskForkService;
+        this.gitlabService = gitlabService;
+        this.recovered = meterRegistry.counter("solution.sync.recovered");
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br>
+     * Одновременно выполняется только одна сверка: если предыдущая еще не завершилась, запуск пропускается.
+     */
+    @Override
+    @Scheduled(cron = "${solution.sync.cron:0 */15 * * * *}")
+    public void startSynchronization() {
+        if (stopped) {
+            return;
+        }
+        try {
+            executor.execute(this::synchronize);
+        } catch (RejectedExecutionException e) {
+            // предыдущая сверка еще выполняется
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br>
+     * Ошибка GitLab для одного задания не прерывает сверку остальных. Если GitLab недоступен
+     * или приложение останавливается, сверка прекращается до следующего запуска.
+     */
+    @Override
+    public void synchronize() {
+        Batch batch = new Batch();
+        for (Task task : taskRepository.findAllByPublishDateLessThanEqual(LocalDate.now())) {
+            if (stopped) {
+                break;
+            }
+            try {
+                synchronize(task, batch);
+            } catch (GitlabUnavailableException e) {
+                break;
+            } catch (GitlabException e) {
+                // задание будет сверено при следующем запуске
+            }
+        }
+        flush(batch);
+    }
+
+    private void synchronize(Task task, Batch batch) {
+        List<Project> forks = gitlabService.getForks(task.getRepositoryId());
+        if (forks.isEmpty()) {
+            return;
+        }
+        Map<Long, SolutionSyncCursor> cursors = solutionSyncCursorRepository.findAllByTaskId(task.getId()).stream()
+                .collect(Collectors.toMap(SolutionSyncCursor::getProjectId, Function.identity()));
+
+        for (Project fork : forks) {
+            SolutionSyncCursor cursor = cursors.get(fork.getId());
+            LocalDateTime lastActivityAt = toLocalDateTime(fork.getLastActivityAt());
+            if (cursor != null && lastActivityAt != null && !lastActivityAt.isAfter(cursor.getLastActivityAt())) {
+                continue;
+            }
+
+            LocalDateTime since = cursor != null ? cursor.getLastCommitTime() : toLocalDateTime(fork.getCreatedAt());
+            Commit commit = gitlabService.getLastCommit(fork.getId(), toDate(since));
+            LocalDateTime commitTime = commit != null ? toLocalDateTime(commit.getCommittedDate()) : null;
+            if (commitTime != null && (since == null || commitTime.isAfter(since))) {
+                batch.pushes.add(SolutionPushDto.builder()
+                        .projectId(fork.getId())
+                        .repositoryUrl(fork.getWebUrl())
+                        .projectName(fork.getName())
+                        .username(fork.getNamespace() != null ? fork.getNamespace().getPath() : null)
+                        .lastCommitTime(commitTime)
+                        .lastCommitUrl(commit.getWebUrl())
+                        .afterSha(commit.getId())
+                        .taskId(task.getId())
+                        .build());
+                since = commitTime;
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            batch.cursors.add(SolutionSyncCursor.builder()
+                    .projectId(fork.getId())
+                    .taskId(task.getId())
+                    .lastActivityAt(lastActivityAt != null ? lastActivityAt : now)
+                    .lastCommitTime(since != null ? since : now)
+                    .syncedAt(now)
+                    .build());
+            if (batch.cursors.size() >= batchSize) {
+                flush(batch);
+            }
+        }
+    }
+
+    /**
+     * Запись найденных решений и состояния сверки.
+     * Пользователь решения определяется по зарегистрированному форку, а при его отсутствии — по имени пользователя.
+     */
+    private void flush(Batch batch) {
+        if (!batch.pushes.isEmpty()) {
+            Map<Long, TaskFork> forks = taskForkService.findByProjectIds(batch.pushes.stream()
+                    .map(SolutionPushDto::getProjectId)
+                    .collect(Collectors.toList()));
+            for (SolutionPushDto push : batch.pushes) {
+                TaskFork fork = forks.get(push.getProjectId());
+                if (fork != null) {
+                    push.setUserId(fork.getUserId());
+                }
+            }
+            solutionService.addAll(batch.pushes);
+            recovered.increment(batch.pushes.size());
+        }
+        if (!batch.cursors.isEmpty()) {
+            solutionSyncCursorRepository.saveAll(batch.cursors);
+        }
+        batch.pushes = new ArrayList<>();
+        batch.cursors = new ArrayList<>();
+    }
+
+    /**
+     * Создание потока сверки. Очередь у пула отсутствует, поэтому запуск во время выполняющейся сверки отклоняется.
+     */
+    @PostConstruct
+    private void start() {
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>(),
+                runnable -> new Thread(runnable, "solution-sync"));
+    }
+
+    /**
+     * Остановка сверки при завершении приложения. Текущая сверка прекращается после обработки задания,
+     * сверенные форки сохраняются, остальные будут сверены после перезапуска.
+     */
+    @PreDestroy
+    private void stop() {
+        stopped = true;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(shutdownTimeout, TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(Date date) {
+        return date != null ? LocalDateTime.ofInstant(date.toInstant(), ZONE) : null;
+    }
+
+    private static Date toDate(LocalDateTime time) {
+        return time != null ? Date.from(time.atZone(ZONE).toInstant()) : null;
+    }
+
+    /**
+     * Накопленные для записи решения и состояния сверки.
+     */
+    private static class Batch {
+        private List<SolutionPushDto> pushes = new ArrayList<>();
+        private List<SolutionSyncCursor> cursors = new ArrayList<>();
+    }
+}
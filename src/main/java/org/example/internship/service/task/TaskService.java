@@ -2,6 +2,8 @@ package org.example.internship.service.task;
 
 import org.example.internship.dto.request.task.NewTaskDto;
 import org.example.internship.dto.request.task.UpdateTaskDto;
+import org.example.internship.dto.response.CursorPage;
+import org.example.internship.dto.response.task.PublishJobDto;
 import org.example.internship.dto.response.task.TaskDto;
 
 import java.util.List;
@@ -41,24 +43,28 @@ public interface TaskService {
     void update(UpdateTaskDto taskDto);
 
     /**
-     * Получение списка всех заданий.
+     * Получение страницы всех заданий.
      *
-     * @return список всех заданий
+     * @param cursor идентификатор последнего элемента предыдущей страницы или null для первой страницы
+     * @param limit  размер страницы или null для размера по умолчанию
+     * @return страница заданий
      */
-    List<TaskDto> getAll();
+    CursorPage<TaskDto> getAll(Long cursor, Integer limit);
 
     /**
      * Публикация задания по его идентификатору.
      *
      * @param id идентификатор задания
+     * @return состояние созданной задачи публикации; форки создаются асинхронно
      */
-    void publishById(Long id);
+    PublishJobDto publishById(Long id);
 
     /**
      * Публикация заданий по идентификатору занятия, к которому они принадлежат.
      *
      * @param lessonId идентификатор занятия
+     * @return состояние созданной задачи публикации; форки создаются асинхронно
      */
-    void publishByLessonId(Long lessonId);
+    PublishJobDto publishByLessonId(Long lessonId);
 
 }
@@ -3,6 +3,8 @@ package org.example.internship.service.task;
 import lombok.RequiredArgsConstructor;
 import org.example.internship.dto.request.task.NewTaskDto;
 import org.example.internship.dto.request.task.UpdateTaskDto;
+import org.example.internship.dto.response.CursorPage;
+import org.example.internship.dto.response.task.PublishJobDto;
 import org.example.internship.dto.response.task.TaskDto;
 import org.example.internship.exception.AlreadyPublishedException;
 import org.example.internship.exception.NotPublishedException;
@@ -14,8 +16,13 @@ import org.example.internship.model.user.User;
 import org.example.internship.repository.TaskRepository;
 import org.example.internship.repository.UserRepository;
 import org.example.internship.service.gitlab.GitlabService;
+import org.example.internship.service.gradebook.GradebookService;
+import org.example.internship.service.publish.PublishJobService;
+import org.example.internship.utils.CursorPages;
 import org.gitlab4j.api.models.Project;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
 import java.time.LocalDate;
@@ -32,6 +39,8 @@ public class TaskServiceImpl implements TaskService {
     private final GitlabService gitlabService;
     private final UserRepository userRepository;
     private final TaskMapper taskMapper;
+    private final GradebookService gradebookService;
+    private final PublishJobService publishJobService;
 
     /**
      * {@inheritDoc}
@@ -49,6 +58,7 @@ public class TaskServiceImpl implements TaskService {
         task.setRepository(url);
         task.setRepositoryId(projectId);
         taskRepository.saveAndFlush(task);
+        invalidateGradebook(task);
     }
 
     /**
@@ -91,32 +101,40 @@ public class TaskServiceImpl implements TaskService {
 
         taskMapper.updateDtoToModel(existingTask, taskDto);
         taskRepository.saveAndFlush(existingTask);
+        invalidateGradebook(existingTask);
     }
 
     /**
      * {@inheritDoc}
      *
-     * @return список всех заданий
+     * @param cursor идентификатор последнего элемента предыдущей страницы или null для первой страницы
+     * @param limit  размер страницы или null для размера по умолчанию
+     * @return страница заданий
      */
     @Override
-    public List<TaskDto> getAll() {
-        List<Task> tasks = taskRepository.findAll();
-        return tasks.stream()
-                .map(taskMapper::modelToDto)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<TaskDto> getAll(Long cursor, Integer limit) {
+        Pageable request = CursorPages.request(limit);
+        return CursorPages.page(taskRepository.findPageAsDto(CursorPages.after(cursor), request),
+                request, TaskDto::getId);
     }
 
     /**
      * {@inheritDoc}
+     * <br>
+     * Дата публикации и задача публикации сохраняются в одной транзакции: если задачу создать не удалось,
+     * задание остается неопубликованным и его можно опубликовать повторно.
      *
      * @param id идентификатор задания
+     * @return состояние созданной задачи публикации
      * @throws EntityNotFoundException   если задание не найдено
      * @throws NotPublishedException     если занятие, к которому относится
      *                                   это задание еще не опубликовано
      * @throws AlreadyPublishedException если задание уже было ранее опубликовано
      */
     @Override
-    public void publishById(Long id) {
+    @Transactional
+    public PublishJobDto publishById(Long id) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + id));
 
@@ -133,14 +151,23 @@ public class TaskServiceImpl implements TaskService {
         if (users.isEmpty()) {
             throw new EntityNotFoundException("Users not found");
         }
-        for (User user : users) {
-            gitlabService.forkRepository(task.getRepositoryId(), user.getUsername());
-        }
         taskRepository.saveAndFlush(task);
+        return publishJobService.create(List.of(task), users);
     }
 
+    /**
+     * {@inheritDoc}
+     * <br>
+     * Даты публикации заданий и задача публикации сохраняются в одной транзакции.
+     *
+     * @param lessonId идентификатор занятия
+     * @return состояние созданной задачи публикации
+     * @throws EntityNotFoundException если неопубликованные задания занятия или пользователи не найдены
+     * @throws NotPublishedException   если занятие еще не опубликовано
+     */
     @Override
-    public void publishByLessonId(Long lessonId) {
+    @Transactional
+    public PublishJobDto publishByLessonId(Long lessonId) {
         List<Task> tasks = taskRepository.findAllByLessonIdAndPublishDateIsNull(lessonId);
 
         if (tasks.isEmpty()) {
@@ -158,10 +185,18 @@ public class TaskServiceImpl implements TaskService {
         for (Task task : tasks) {
             task.setPublishDate(LocalDate.now());
             taskRepository.saveAndFlush(task);
-            for (User user : users) {
-                gitlabService.forkRepository(task.getRepositoryId(), user.getUsername());
-            }
         }
+        return publishJobService.create(tasks, users);
+    }
 
+    /**
+     * Сброс ведомости стажировки, к которой относится задание.
+     *
+     * @param task измененное задание
+     */
+    private void invalidateGradebook(Task task) {
+        if (task.getLesson() != null && task.getLesson().getInternship() != null) {
+            gradebookService.invalidate(task.getLesson().getInternship().getId());
+        }
     }
 }
@@ -0,0 +1,17 @@
+package org.example.internship.service.user;
+
+import org.example.internship.dto.response.user.ProvisionReportDto;
+
+/**
+ * Сервис для массового создания пользователей по одобренным заявкам на стажировку.
+ */
+public interface UserProvisionService {
+
+    /**
+     * Создание пользователей и аккаунтов в GitLab для всех одобренных заявок на стажировку.
+     *
+     * @param internshipId идентификатор стажировки
+     * @return отчет о результате создания каждого пользователя
+     */
+    ProvisionReportDto provision(Long internshipId);
+}
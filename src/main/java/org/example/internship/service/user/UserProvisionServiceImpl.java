@@ -0,0 +1,242 @@
+package org.example.internship.service.user;
+
+import lombok.RequiredArgsConstructor;
+import org.example.internship.dto.request.NewUserDto;
+import org.example.internship.dto.response.user.ProvisionReportDto;
+import org.example.internship.dto.response.user.ProvisionResultDto;
+import org.example.internship.dto.response.user.ProvisionStatus;
+import org.example.internship.model.application.Application;
+import org.example.internship.model.application.ApplicationStatus;
+import org.example.internship.model.internship.Internship;
+import org.example.internship.model.user.Role;
+import org.example.internship.model.user.User;
+import org.example.internship.repository.ApplicationRepository;
+import org.example.internship.repository.InternshipRepository;
+import org.example.internship.repository.UserRepository;
+import org.example.internship.service.gitlab.GitlabLane;
+import org.example.internship.service.gitlab.GitlabService;
+import org.example.internship.service.gradebook.GradebookService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityNotFoundException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Реализация сервиса для массового создания пользователей по одобренным заявкам на стажировку.
+ * <br>
+ * Пароль хешируется один раз для всей группы, пользователи сохраняются одним вызовом saveAll,
+ * а аккаунты в GitLab создаются пулом потоков ограниченного размера в очереди BULK,
+ * поэтому массовое создание не вытесняет интерактивные запросы к GitLab.
+ * Если аккаунт в GitLab создать не удалось, пользователь удаляется из базы данных,
+ * чтобы повторный вызов создал его заново. Ошибка запроса не всегда означает, что аккаунта нет:
+ * GitLab мог создать его до таймаута или ошибки сервера, поэтому после ошибки аккаунт ищется по имени,
+ * и найденный аккаунт считается созданным.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserProvisionServiceImpl implements UserProvisionService {
+    private static final int MAX_ERROR_LENGTH = 1024;
+
+    private final InternshipRepository internshipRepository;
+    private final ApplicationRepository applicationRepository;
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final GitlabService gitlabService;
+    private final GradebookService gradebookService;
+
+    private ThreadPoolExecutor executor;
+
+    @Value("${user.password}")
+    private String password;
+    @Value("${user.provision.parallelism:8}")
+    private int parallelism;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param internshipId идентификатор стажировки
+     * @return отчет о результате создания каждого пользователя
+     * @throws EntityNotFoundException если стажировка не найдена
+     */
+    @Override
+    public ProvisionReportDto provision(Long internshipId) {
+        long startedAt = System.nanoTime();
+        Internship internship = internshipRepository.findById(internshipId)
+                .orElseThrow(() -> new EntityNotFoundException("Internship not found with ID: " + internshipId));
+        List<Application> applications =
+                applicationRepository.findAllByInternshipIdAndStatus(internshipId, ApplicationStatus.APPROVED);
+
+        List<ProvisionResultDto> results = new ArrayList<>(applications.size());
+        if (applications.isEmpty()) {
+            return report(internshipId, 0, results, startedAt);
+        }
+
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (User user : userRepository.findAllByUsernameInOrEmailIn(
+                applications.stream().map(Application::getUsername).collect(Collectors.toSet()),
+                applications.stream().map(Application::getEmail).collect(Collectors.toSet()))) {
+            usernames.add(user.getUsername());
+            emails.add(user.getEmail());
+        }
+
+        Map<Long, User> created = new LinkedHashMap<>();
+        String encodedPassword = passwordEncoder.encode(password);
+        for (Application application : applications) {
+            if (usernames.contains(application.getUsername()) || emails.contains(application.getEmail())) {
+                results.add(new ProvisionResultDto(application.getId(), null, application.getUsername(),
+                        ProvisionStatus.ALREADY_EXISTS, null));
+                continue;
+            }
+            usernames.add(application.getUsername());
+            emails.add(application.getEmail());
+            created.put(application.getId(), User.builder()
+                    .username(application.getUsername())
+                    .name(application.getFullName())
+                    .email(application.getEmail())
+                    .password(encodedPassword)
+                    .internship(internship)
+                    .role(Role.USER)
+                    .build());
+        }
+
+        if (!created.isEmpty()) {
+            userRepository.saveAll(created.values());
+            gradebookService.invalidate(internshipId);
+            results.addAll(createGitlabUsers(created, internshipId));
+        }
+
+        return report(internshipId, applications.size(), results, startedAt);
+    }
+
+    private ProvisionReportDto report(Long internshipId, int total, List<ProvisionResultDto> results,
+                                      long startedAt) {
+        return ProvisionReportDto.builder()
+                .internshipId(internshipId)
+                .total(total)
+                .created(count(results, ProvisionStatus.CREATED))
+                .alreadyExisted(count(results, ProvisionStatus.ALREADY_EXISTS))
+                .gitlabFailed(count(results, ProvisionStatus.GITLAB_FAILED))
+                .results(results)
+                .wallTimeMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt))
+                .build();
+    }
+
+    /**
+     * Параллельное создание аккаунтов в GitLab для сохраненных пользователей.
+     * Пользователи, для которых аккаунт создать не удалось, удаляются из базы данных.
+     *
+     * @param users        пользователи, созданные по одобренным заявкам, по идентификаторам заявок
+     * @param internshipId идентификатор стажировки
+     * @return результаты создания пользователей
+     */
+    private List<ProvisionResultDto> createGitlabUsers(Map<Long, User> users, Long internshipId) {
+        List<CompletableFuture<ProvisionResultDto>> futures = new ArrayList<>(users.size());
+        for (Map.Entry<Long, User> entry : users.entrySet()) {
+            Long applicationId = entry.getKey();
+            User user = entry.getValue();
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    gitlabService.createUser(toNewUserDto(user, internshipId), GitlabLane.BULK);
+                    return new ProvisionResultDto(applicationId, user.getId(), user.getUsername(),
+                            ProvisionStatus.CREATED, null);
+                } catch (RuntimeException e) {
+                    if (existsInGitlab(user.getUsername())) {
+                        return new ProvisionResultDto(applicationId, user.getId(), user.getUsername(),
+                                ProvisionStatus.CREATED, null);
+                    }
+                    return new ProvisionResultDto(applicationId, user.getId(), user.getUsername(),
+                            ProvisionStatus.GITLAB_FAILED, truncate(e.getMessage()));
+                }
+            }, executor));
+        }
+
+        List<ProvisionResultDto> results = futures.stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+        Set<Long> failedIds = results.stream()
+                .filter(result -> result.getStatus() == ProvisionStatus.GITLAB_FAILED)
+                .map(ProvisionResultDto::getUserId)
+                .collect(Collectors.toSet());
+        if (!failedIds.isEmpty()) {
+            userRepository.deleteAllByIdInBatch(failedIds);
+            gradebookService.invalidate(internshipId);
+            results.forEach(result -> {
+                if (result.getStatus() == ProvisionStatus.GITLAB_FAILED) {
+                    result.setUserId(null);
+                }
+            });
+        }
+        return results;
+    }
+
+    /**
+     * Проверка, есть ли аккаунт в GitLab после неудачного запроса на его создание.
+     * Если GitLab недоступен и для проверки, аккаунт считается несозданным: пользователь удаляется из базы данных,
+     * а повторный вызов найдет аккаунт по ошибке создания и восстановит пользователя.
+     *
+     * @param username имя пользователя
+     * @return true, если аккаунт с таким именем есть в GitLab
+     */
+    private boolean existsInGitlab(String username) {
+        try {
+            return gitlabService.userExists(username, GitlabLane.BULK);
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private NewUserDto toNewUserDto(User user, Long internshipId) {
+        NewUserDto newUserDto = new NewUserDto();
+        newUserDto.setUsername(user.getUsername());
+        newUserDto.setName(user.getName());
+        newUserDto.setEmail(user.getEmail());
+        newUserDto.setInternshipId(internshipId);
+        return newUserDto;
+    }
+
+    private long count(List<ProvisionResultDto> results, ProvisionStatus status) {
+        return results.stream().filter(result -> result.getStatus() == status).count();
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    /**
+     * Создание пула потоков для запросов к GitLab.
+     */
+    @PostConstruct
+    private void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> new Thread(runnable, "user-provision-" + threadNumber.incrementAndGet()));
+    }
+
+    /**
+     * Остановка пула потоков при завершении приложения.
+     */
+    @PreDestroy
+    private void stop() {
+        executor.shutdownNow();
+    }
+}
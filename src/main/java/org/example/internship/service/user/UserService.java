@@ -1,9 +1,9 @@
 package org.example.internship.service.user;
 
 import org.example.internship.dto.request.NewUserDto;
+import org.example.internship.dto.response.CursorPage;
 import org.example.internship.dto.response.UserDto;
 
-import java.util.List;
 /**
  * Сервис для работы с пользователями.
  */
@@ -34,11 +34,13 @@ public interface UserService {
     UserDto getByUsername(String username);
 
     /**
-     * Получение списка всех пользователей.
+     * Получение страницы всех пользователей.
      *
-     * @return список пользователей
+     * @param cursor идентификатор последнего элемента предыдущей страницы или null для первой страницы
+     * @param limit  размер страницы или null для размера по умолчанию
+     * @return страница пользователей
      */
-    List<UserDto> getAllUsers();
+    CursorPage<UserDto> getAllUsers(Long cursor, Integer limit);
 
     /**
      * Создание нового пользователя.
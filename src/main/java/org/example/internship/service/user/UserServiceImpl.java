@@ -2,21 +2,24 @@ package org.example.internship.service.user;
 
 import lombok.RequiredArgsConstructor;
 import org.example.internship.dto.request.NewUserDto;
+import org.example.internship.dto.response.CursorPage;
 import org.example.internship.dto.response.UserDto;
 import org.example.internship.mapper.UserMapper;
 import org.example.internship.model.user.Role;
 import org.example.internship.model.user.User;
 import org.example.internship.repository.UserRepository;
 import org.example.internship.service.gitlab.GitlabService;
+import org.example.internship.service.gradebook.GradebookService;
 import org.example.internship.service.solution.SolutionService;
+import org.example.internship.utils.CursorPages;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.annotation.PostConstruct;
 import javax.persistence.EntityNotFoundException;
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Реализация сервиса для работы с пользователями.
@@ -29,6 +32,7 @@ public class UserServiceImpl implements UserService {
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
     private final GitlabService gitlabService;
+    private final GradebookService gradebookService;
 
     @Value("${admin.username}")
     private String adminUsername;
@@ -80,6 +84,9 @@ public class UserServiceImpl implements UserService {
     public void create(NewUserDto newUserDto) {
         User user = userMapper.newDtoToModel(newUserDto);
         userRepository.saveAndFlush(user);
+        if (newUserDto.getInternshipId() != null) {
+            gradebookService.invalidate(newUserDto.getInternshipId());
+        }
         gitlabService.createUser(newUserDto);
     }
 
@@ -100,14 +107,16 @@ public class UserServiceImpl implements UserService {
     /**
      * {@inheritDoc}
      *
-     * @return список пользователей
+     * @param cursor идентификатор последнего элемента предыдущей страницы или null для первой страницы
+     * @param limit  размер страницы или null для размера по умолчанию
+     * @return страница пользователей
      */
     @Override
-    public List<UserDto> getAllUsers() {
-        List<User> users = userRepository.findAll();
-        return users.stream()
-                .map(userMapper::modelToDto)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<UserDto> getAllUsers(Long cursor, Integer limit) {
+        Pageable request = CursorPages.request(limit);
+        return CursorPages.page(userRepository.findPageAsDto(CursorPages.after(cursor), request),
+                request, UserDto::getId);
     }
 
     /**
@@ -0,0 +1,83 @@
+package org.example.internship.utils;
+
+import org.example.internship.dto.response.CursorPage;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Постраничная выборка по курсору (keyset pagination).
+ * <br>
+ * Страница выбирается условием {@code id > cursor ORDER BY id}, поэтому база читает только строки
+ * страницы по индексу первичного ключа, и время ответа не зависит от номера страницы и размера таблицы.
+ * Запрашивается на одну строку больше размера страницы: ее наличие означает, что следующая страница есть.
+ */
+public final class CursorPages {
+    /**
+     * Размер страницы, если он не указан в запросе.
+     */
+    public static final int DEFAULT_LIMIT = 50;
+
+    /**
+     * Наибольший размер страницы; запрошенный размер больше этого значения уменьшается до него.
+     */
+    public static final int MAX_LIMIT = 500;
+
+    private CursorPages() {
+    }
+
+    /**
+     * Получение нижней границы идентификаторов страницы.
+     *
+     * @param cursor курсор из предыдущей страницы или null для первой страницы
+     * @return идентификатор, после которого начинается страница
+     * @throws IllegalArgumentException если курсор отрицательный
+     */
+    public static long after(Long cursor) {
+        if (cursor == null) {
+            return 0L;
+        }
+        if (cursor < 0) {
+            throw new IllegalArgumentException("Cursor must not be negative: " + cursor);
+        }
+        return cursor;
+    }
+
+    /**
+     * Получение запроса на выборку страницы с одной дополнительной строкой.
+     *
+     * @param limit запрошенный размер страницы или null для размера по умолчанию
+     * @return запрос на первые limit + 1 строк после курсора
+     * @throws IllegalArgumentException если размер страницы меньше единицы
+     */
+    public static Pageable request(Integer limit) {
+        if (limit == null) {
+            return PageRequest.of(0, DEFAULT_LIMIT + 1);
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page limit must be positive: " + limit);
+        }
+        return PageRequest.of(0, Math.min(limit, MAX_LIMIT) + 1);
+    }
+
+    /**
+     * Формирование страницы из строк, выбранных по запросу {@link #request(Integer)}.
+     *
+     * @param rows    выбранные строки в порядке возрастания идентификатора
+     * @param request запрос, по которому выбраны строки
+     * @param id      функция получения идентификатора строки
+     * @param <T>     тип элементов страницы
+     * @return страница с курсором следующей страницы, если она есть
+     */
+    public static <T> CursorPage<T> page(List<T> rows, Pageable request, Function<T, Long> id) {
+        int limit = request.getPageSize() - 1;
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = new ArrayList<>(rows.subList(0, limit));
+        return new CursorPage<>(items, id.apply(items.get(limit - 1)));
+    }
+}
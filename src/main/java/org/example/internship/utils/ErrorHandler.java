@@ -4,6 +4,7 @@ package org.example.internship.utils;
 import org.example.internship.exception.AlreadyPublishedException;
 import org.example.internship.exception.ExceptionResponse;
 import org.example.internship.exception.GitlabException;
+import org.example.internship.exception.GitlabUnavailableException;
 import org.example.internship.exception.NotPublishedException;
 import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -76,6 +77,19 @@ public class ErrorHandler {
         return new ResponseEntity<>(new ExceptionResponse(e.getMessage()), HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Обработка исключения, возникающего при недоступности GitLab.
+     *
+     * @param e Исключение типа GitlabUnavailableException.
+     * @return Ответ с кодом состояния 503 SERVICE_UNAVAILABLE и сообщением об ошибке.
+     */
+    @ExceptionHandler({
+            GitlabUnavailableException.class,
+    })
+    public ResponseEntity<ExceptionResponse> handleGitlabUnavailableException(GitlabUnavailableException e) {
+        return new ResponseEntity<>(new ExceptionResponse(e.getMessage()), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     /**
      * Обработка исключений, возникающих при попытке повторной публикации уже опубликованных данных.
      *
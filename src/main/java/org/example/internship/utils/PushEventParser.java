@@ -0,0 +1,198 @@
+package org.example.internship.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.example.internship.dto.request.solution.SolutionPushDto;
+import org.gitlab4j.api.utils.ISO8601;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Потоковый разбор событий пуша системного хука GitLab.
+ * <br>
+ * Из события извлекаются только поля, необходимые для сохранения решения: идентификатор проекта,
+ * имя пользователя, название и URL проекта, SHA коммита после пуша, время и URL последнего коммита.
+ * Остальные поля (сообщения коммитов, списки файлов, авторы, репозиторий) пропускаются без создания объектов.
+ * Время коммита разбирается так же, как при привязке к {@link org.gitlab4j.api.systemhooks.PushSystemHookEvent}.
+ */
+@Component
+public class PushEventParser {
+    private static final ZoneId ZONE = ZoneId.of("Europe/Moscow");
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    /**
+     * Разбор события пуша.
+     *
+     * @param payload тело запроса системного хука в кодировке UTF-8
+     * @return DTO с данными пуша или null, если событие не содержит коммитов
+     * @throws IllegalArgumentException если событие не является корректным JSON или не содержит идентификатора проекта
+     */
+    public SolutionPushDto parse(byte[] payload) {
+        try (JsonParser parser = jsonFactory.createParser(payload)) {
+            return parse(parser);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Push event can not be parsed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Разбор события пуша.
+     *
+     * @param payload тело запроса системного хука
+     * @return DTO с данными пуша или null, если событие не содержит коммитов
+     * @throws IllegalArgumentException если событие не является корректным JSON или не содержит идентификатора проекта
+     */
+    public SolutionPushDto parse(String payload) {
+        return parse(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Запись данных пуша в виде сокращенного события системного хука, которое разбирается методом {@link #parse}.
+     *
+     * @param push данные пуша
+     * @return событие в формате JSON, содержащее только последний коммит
+     */
+    public String write(SolutionPushDto push) {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = jsonFactory.createGenerator(writer)) {
+            generator.writeStartObject();
+            generator.writeNumberField("project_id", push.getProjectId());
+            generator.writeStringField("user_username", push.getUsername());
+            generator.writeStringField("after", push.getAfterSha());
+            generator.writeObjectFieldStart("project");
+            generator.writeStringField("name", push.getProjectName());
+            generator.writeStringField("web_url", push.getRepositoryUrl());
+            generator.writeEndObject();
+            generator.writeArrayFieldStart("commits");
+            generator.writeStartObject();
+            generator.writeStringField("timestamp",
+                    push.getLastCommitTime().atZone(ZONE).format(DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+            generator.writeStringField("url", push.getLastCommitUrl());
+            generator.writeEndObject();
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Push event can not be written: " + e.getMessage());
+        }
+        return writer.toString();
+    }
+
+    private SolutionPushDto parse(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException("Push event must be a JSON object");
+        }
+        SolutionPushDto push = new SolutionPushDto();
+        Instant lastCommitTime = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "project_id":
+                    push.setProjectId(parser.getValueAsLong());
+                    break;
+                case "user_username":
+                    push.setUsername(parser.getValueAsString());
+                    break;
+                case "after":
+                    push.setAfterSha(parser.getValueAsString());
+                    break;
+                case "project":
+                    parseProject(parser, push);
+                    break;
+                case "commits":
+                    lastCommitTime = parseCommits(parser, push);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        if (push.getProjectId() == null) {
+            throw new IllegalArgumentException("Push event has no project ID");
+        }
+        if (lastCommitTime == null) {
+            return null;
+        }
+        push.setLastCommitTime(LocalDateTime.ofInstant(lastCommitTime, ZONE));
+        return push;
+    }
+
+    private void parseProject(JsonParser parser, SolutionPushDto push) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if ("name".equals(field)) {
+                push.setProjectName(parser.getValueAsString());
+            } else if ("web_url".equals(field)) {
+                push.setRepositoryUrl(parser.getValueAsString());
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Поиск коммита с наибольшим временем. При равном времени остается первый из коммитов.
+     *
+     * @param parser парсер, установленный на начало массива коммитов
+     * @param push   DTO, в который записывается URL последнего коммита
+     * @return время последнего коммита или null, если коммитов нет
+     */
+    private Instant parseCommits(JsonParser parser, SolutionPushDto push) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        Instant lastCommitTime = null;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            String timestamp = null;
+            String url = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                if ("timestamp".equals(field)) {
+                    timestamp = parser.getValueAsString();
+                } else if ("url".equals(field)) {
+                    url = parser.getValueAsString();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (timestamp == null) {
+                continue;
+            }
+            Instant commitTime = toInstant(timestamp);
+            if (lastCommitTime == null || commitTime.isAfter(lastCommitTime)) {
+                lastCommitTime = commitTime;
+                push.setLastCommitUrl(url);
+            }
+        }
+        return lastCommitTime;
+    }
+
+    private Instant toInstant(String timestamp) {
+        try {
+            return ISO8601.toDate(timestamp).toInstant();
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("Invalid commit timestamp: " + timestamp);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.internship.utils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Ограниченный кэш со временем жизни записей.
+ * <br>
+ * Записи вытесняются по принципу LRU при превышении размера и считаются отсутствующими после истечения
+ * времени жизни. Значение загружается вне блокировки, поэтому медленная загрузка не задерживает
+ * чтение других ключей; параллельные промахи по одному ключу могут загрузить значение несколько раз.
+ * Значения null не кэшируются.
+ * <br>
+ * Метрики: cache.gets с тегами cache и result (hit или miss), cache.size с тегом cache.
+ *
+ * @param <K> тип ключа
+ * @param <V> тип значения
+ */
+public class TtlCache<K, V> {
+    private final Map<K, CachedValue<V>> entries;
+    private final long ttlNanos;
+    private final LongSupplier nanoTime;
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * Создание кэша.
+     *
+     * @param name          название кэша в метриках
+     * @param maxSize       максимальное число записей
+     * @param ttl           время жизни записи
+     * @param meterRegistry реестр метрик
+     */
+    public TtlCache(String name, int maxSize, Duration ttl, MeterRegistry meterRegistry) {
+        this(name, maxSize, ttl, meterRegistry, System::nanoTime);
+    }
+
+    TtlCache(String name, int maxSize, Duration ttl, MeterRegistry meterRegistry, LongSupplier nanoTime) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CachedValue<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.ttlNanos = ttl.toNanos();
+        this.nanoTime = nanoTime;
+        this.hits = meterRegistry.counter("cache.gets", Tags.of("cache", name, "result", "hit"));
+        this.misses = meterRegistry.counter("cache.gets", Tags.of("cache", name, "result", "miss"));
+        meterRegistry.gauge("cache.size", Tags.of("cache", name), entries, map -> {
+            synchronized (map) {
+                return map.size();
+            }
+        });
+    }
+
+    /**
+     * Получение значения из кэша или его загрузка при отсутствии.
+     *
+     * @param key    ключ
+     * @param loader функция загрузки значения
+     * @return значение
+     */
+    public V get(K key, Function<K, V> loader) {
+        synchronized (entries) {
+            CachedValue<V> entry = entries.get(key);
+            if (entry != null && entry.expiresAt - nanoTime.getAsLong() > 0) {
+                hits.increment();
+                return entry.value;
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+        }
+        misses.increment();
+        V value = loader.apply(key);
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * Запись значения в кэш, например после собственного изменения данных.
+     *
+     * @param key   ключ
+     * @param value значение, null удаляет запись
+     */
+    public void put(K key, V value) {
+        synchronized (entries) {
+            if (value == null) {
+                entries.remove(key);
+            } else {
+                entries.put(key, new CachedValue<>(value, nanoTime.getAsLong() + ttlNanos));
+            }
+        }
+    }
+
+    /**
+     * Удаление записи из кэша.
+     *
+     * @param key ключ
+     */
+    public void invalidate(K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    private static class CachedValue<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private CachedValue(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS solution_sync_cursors
+(
+    project_id       INT8      NOT NULL,
+    task_id          INT8      NOT NULL,
+    last_activity_at TIMESTAMP NOT NULL,
+    last_commit_time TIMESTAMP NOT NULL,
+    synced_at        TIMESTAMP NOT NULL,
+    PRIMARY KEY (project_id)
+);
+
+ALTER TABLE IF EXISTS solution_sync_cursors
+    ADD CONSTRAINT solution_sync_cursors_tasks_fk FOREIGN KEY (task_id) REFERENCES tasks;
+
+CREATE INDEX IF NOT EXISTS solution_sync_cursors_task_id_idx ON solution_sync_cursors (task_id);
@@ -0,0 +1,10 @@
+CREATE TABLE IF NOT EXISTS internship_report_archives
+(
+    internship_id INT8      NOT NULL,
+    report        TEXT      NOT NULL,
+    archived_at   TIMESTAMP NOT NULL,
+    PRIMARY KEY (internship_id)
+);
+
+ALTER TABLE IF EXISTS internship_report_archives
+    ADD CONSTRAINT internship_report_archives_internships_fk FOREIGN KEY (internship_id) REFERENCES internships;
@@ -0,0 +1,34 @@
+-- an interrupted CREATE INDEX CONCURRENTLY leaves an INVALID index behind, so a rerun drops and rebuilds each index
+
+DROP INDEX CONCURRENTLY IF EXISTS task_solutions_user_id_idx;
+CREATE INDEX CONCURRENTLY task_solutions_user_id_idx ON task_solutions (user_id);
+DROP INDEX CONCURRENTLY IF EXISTS task_solutions_task_id_idx;
+CREATE INDEX CONCURRENTLY task_solutions_task_id_idx ON task_solutions (task_id);
+DROP INDEX CONCURRENTLY IF EXISTS task_solutions_task_id_active_idx;
+CREATE INDEX CONCURRENTLY task_solutions_task_id_active_idx ON task_solutions (task_id, id)
+    WHERE is_archived = false;
+DROP INDEX CONCURRENTLY IF EXISTS task_solutions_status_active_idx;
+CREATE INDEX CONCURRENTLY task_solutions_status_active_idx ON task_solutions (status, id)
+    WHERE is_archived = false;
+
+DROP INDEX CONCURRENTLY IF EXISTS users_internship_id_role_idx;
+CREATE INDEX CONCURRENTLY users_internship_id_role_idx ON users (internship_id, role);
+
+DROP INDEX CONCURRENTLY IF EXISTS lessons_internship_id_idx;
+CREATE INDEX CONCURRENTLY lessons_internship_id_idx ON lessons (internship_id);
+
+DROP INDEX CONCURRENTLY IF EXISTS tasks_lesson_id_publish_date_idx;
+CREATE INDEX CONCURRENTLY tasks_lesson_id_publish_date_idx ON tasks (lesson_id, publish_date);
+DROP INDEX CONCURRENTLY IF EXISTS tasks_name_idx;
+CREATE INDEX CONCURRENTLY tasks_name_idx ON tasks (name);
+
+DROP INDEX CONCURRENTLY IF EXISTS messages_sender_id_idx;
+CREATE INDEX CONCURRENTLY messages_sender_id_idx ON messages (sender_id);
+DROP INDEX CONCURRENTLY IF EXISTS messages_receiver_id_idx;
+CREATE INDEX CONCURRENTLY messages_receiver_id_idx ON messages (receiver_id);
+
+DROP INDEX CONCURRENTLY IF EXISTS applications_phone_number_internship_id_idx;
+CREATE INDEX CONCURRENTLY applications_phone_number_internship_id_idx
+    ON applications (phone_number, internship_id);
+DROP INDEX CONCURRENTLY IF EXISTS applications_internship_id_status_idx;
+CREATE INDEX CONCURRENTLY applications_internship_id_status_idx ON applications (internship_id, status);
@@ -0,0 +1,49 @@
+ALTER TABLE applications ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS applications_seq INCREMENT BY 50 OWNED BY applications.id;
+SELECT setval('applications_seq', COALESCE(MAX(id), 0) + 50, false) FROM applications;
+ALTER TABLE applications ALTER COLUMN id SET DEFAULT nextval('applications_seq');
+
+ALTER TABLE internships ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS internships_seq INCREMENT BY 50 OWNED BY internships.id;
+SELECT setval('internships_seq', COALESCE(MAX(id), 0) + 50, false) FROM internships;
+ALTER TABLE internships ALTER COLUMN id SET DEFAULT nextval('internships_seq');
+
+ALTER TABLE lessons ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS lessons_seq INCREMENT BY 50 OWNED BY lessons.id;
+SELECT setval('lessons_seq', COALESCE(MAX(id), 0) + 50, false) FROM lessons;
+ALTER TABLE lessons ALTER COLUMN id SET DEFAULT nextval('lessons_seq');
+
+ALTER TABLE tasks ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS tasks_seq INCREMENT BY 50 OWNED BY tasks.id;
+SELECT setval('tasks_seq', COALESCE(MAX(id), 0) + 50, false) FROM tasks;
+ALTER TABLE tasks ALTER COLUMN id SET DEFAULT nextval('tasks_seq');
+
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 50 OWNED BY users.id;
+SELECT setval('users_seq', COALESCE(MAX(id), 0) + 50, false) FROM users;
+ALTER TABLE users ALTER COLUMN id SET DEFAULT nextval('users_seq');
+
+ALTER TABLE task_solutions ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS task_solutions_seq INCREMENT BY 50 OWNED BY task_solutions.id;
+SELECT setval('task_solutions_seq', COALESCE(MAX(id), 0) + 50, false) FROM task_solutions;
+ALTER TABLE task_solutions ALTER COLUMN id SET DEFAULT nextval('task_solutions_seq');
+
+ALTER TABLE messages ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS messages_seq INCREMENT BY 50 OWNED BY messages.id;
+SELECT setval('messages_seq', COALESCE(MAX(id), 0) + 50, false) FROM messages;
+ALTER TABLE messages ALTER COLUMN id SET DEFAULT nextval('messages_seq');
+
+ALTER TABLE solution_inbox ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS solution_inbox_seq INCREMENT BY 50 OWNED BY solution_inbox.id;
+SELECT setval('solution_inbox_seq', COALESCE(MAX(id), 0) + 50, false) FROM solution_inbox;
+ALTER TABLE solution_inbox ALTER COLUMN id SET DEFAULT nextval('solution_inbox_seq');
+
+ALTER TABLE publish_jobs ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS publish_jobs_seq INCREMENT BY 50 OWNED BY publish_jobs.id;
+SELECT setval('publish_jobs_seq', COALESCE(MAX(id), 0) + 50, false) FROM publish_jobs;
+ALTER TABLE publish_jobs ALTER COLUMN id SET DEFAULT nextval('publish_jobs_seq');
+
+ALTER TABLE publish_job_items ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS publish_job_items_seq INCREMENT BY 50 OWNED BY publish_job_items.id;
+SELECT setval('publish_job_items_seq', COALESCE(MAX(id), 0) + 50, false) FROM publish_job_items;
+ALTER TABLE publish_job_items ALTER COLUMN id SET DEFAULT nextval('publish_job_items_seq');
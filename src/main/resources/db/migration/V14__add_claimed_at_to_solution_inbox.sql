@@ -0,0 +1,3 @@
+ALTER TABLE solution_inbox ADD COLUMN IF NOT EXISTS claimed_at TIMESTAMP;
+
+UPDATE solution_inbox SET claimed_at = now() WHERE status = 'PROCESSING';
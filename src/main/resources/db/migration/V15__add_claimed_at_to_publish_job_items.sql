@@ -0,0 +1,3 @@
+ALTER TABLE publish_job_items ADD COLUMN IF NOT EXISTS claimed_at TIMESTAMP;
+
+UPDATE publish_job_items SET claimed_at = now() WHERE status = 'PROCESSING';
@@ -0,0 +1,15 @@
+CREATE TABLE IF NOT EXISTS solution_inbox
+(
+    id              INT8 GENERATED BY DEFAULT AS IDENTITY,
+    project_id      INT8          NOT NULL,
+    payload         TEXT          NOT NULL,
+    status          VARCHAR(255)  NOT NULL,
+    attempts        INT4          NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP     NOT NULL,
+    created_at      TIMESTAMP     NOT NULL,
+    last_error      VARCHAR(1024),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS solution_inbox_project_idx ON solution_inbox (project_id, id);
+CREATE INDEX IF NOT EXISTS solution_inbox_status_idx ON solution_inbox (status, next_attempt_at);
@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS task_forks
+(
+    project_id INT8 NOT NULL,
+    task_id    INT8 NOT NULL,
+    user_id    INT8 NOT NULL,
+    PRIMARY KEY (project_id)
+);
+
+ALTER TABLE IF EXISTS task_forks
+    ADD CONSTRAINT task_forks_tasks_fk FOREIGN KEY (task_id) REFERENCES tasks,
+    ADD CONSTRAINT task_forks_users_fk FOREIGN KEY (user_id) REFERENCES users;
@@ -0,0 +1,9 @@
+CREATE TABLE IF NOT EXISTS push_deliveries
+(
+    project_id  INT8        NOT NULL,
+    after_sha   VARCHAR(64) NOT NULL,
+    received_at TIMESTAMP   NOT NULL,
+    PRIMARY KEY (project_id, after_sha)
+);
+
+CREATE INDEX IF NOT EXISTS push_deliveries_received_at_idx ON push_deliveries (received_at);
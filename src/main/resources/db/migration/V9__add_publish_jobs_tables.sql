@@ -0,0 +1,32 @@
+CREATE TABLE IF NOT EXISTS publish_jobs
+(
+    id          INT8 GENERATED BY DEFAULT AS IDENTITY,
+    status      VARCHAR(255) NOT NULL,
+    created_at  TIMESTAMP    NOT NULL,
+    finished_at TIMESTAMP,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS publish_job_items
+(
+    id              INT8 GENERATED BY DEFAULT AS IDENTITY,
+    job_id          INT8          NOT NULL,
+    task_id         INT8          NOT NULL,
+    user_id         INT8          NOT NULL,
+    repository_id   INT8          NOT NULL,
+    username        VARCHAR(255)  NOT NULL,
+    status          VARCHAR(255)  NOT NULL,
+    attempts        INT4          NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP     NOT NULL,
+    fork_project_id INT8,
+    last_error      VARCHAR(1024),
+    PRIMARY KEY (id)
+);
+
+ALTER TABLE IF EXISTS publish_job_items
+    ADD CONSTRAINT publish_job_items_uk UNIQUE (job_id, task_id, user_id),
+    ADD CONSTRAINT publish_job_items_jobs_fk FOREIGN KEY (job_id) REFERENCES publish_jobs ON DELETE CASCADE,
+    ADD CONSTRAINT publish_job_items_tasks_fk FOREIGN KEY (task_id) REFERENCES tasks,
+    ADD CONSTRAINT publish_job_items_users_fk FOREIGN KEY (user_id) REFERENCES users;
+
+CREATE INDEX IF NOT EXISTS publish_job_items_status_idx ON publish_job_items (status, next_attempt_at);
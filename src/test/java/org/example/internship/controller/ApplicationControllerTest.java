@@ -2,10 +2,12 @@ package org.example.internship.controller;
 
 import org.example.internship.dto.request.application.ApplicationStatusDto;
 import org.example.internship.dto.request.application.NewApplicationDto;
+import org.example.internship.dto.response.CursorPage;
 import org.example.internship.dto.response.application.ApplicationDto;
 import org.example.internship.dto.response.internship.PublicInternshipDto;
 import org.example.internship.exception.ExceptionResponse;
 import org.example.internship.service.application.ApplicationService;
+import org.example.internship.service.export.ExportService;
 import org.example.internship.service.internship.InternshipService;
 import org.example.internship.utils.Validator;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,6 +37,9 @@ class ApplicationControllerTest {
     @Mock
     private Validator validator;
 
+    @Mock
+    private ExportService exportService;
+
     @InjectMocks
     private ApplicationController applicationController;
 
@@ -114,68 +119,70 @@ class ApplicationControllerTest {
     }
 
     @Test
-    void getAllApplications_returnListOfApplications() {
-        List<ApplicationDto> applications = List.of(new ApplicationDto());
-        when(applicationService.getAll()).thenReturn(applications);
+    void getAllApplications_returnPageOfApplications() {
+        CursorPage<ApplicationDto> applications = new CursorPage<>(List.of(new ApplicationDto()), 7L);
+        when(applicationService.getAll(null, null)).thenReturn(applications);
 
-        ResponseEntity<List<ApplicationDto>> response = applicationController.getAllApplications(null, null);
+        ResponseEntity<CursorPage<ApplicationDto>> response =
+                applicationController.getAllApplications(null, null, null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(applications.size(), response.getBody().size());
-        assertEquals(applications.get(0), response.getBody().get(0));
+        assertEquals(applications, response.getBody());
+        assertEquals(7L, response.getBody().getNextCursor());
     }
 
     @Test
-    void getAllApplications_emptyList_returnNoContent() {
-        when(applicationService.getAll()).thenReturn(List.of());
+    void getAllApplications_emptyPage_returnNoContent() {
+        when(applicationService.getAll(5L, 10)).thenReturn(new CursorPage<>(List.of(), null));
 
-        ResponseEntity<List<ApplicationDto>> response = applicationController.getAllApplications(null, null);
+        ResponseEntity<CursorPage<ApplicationDto>> response =
+                applicationController.getAllApplications(null, null, 5L, 10);
 
-        verify(applicationService, times(1)).getAll();
-        verify(applicationService, never()).getByStatus(any());
+        verify(applicationService, times(1)).getAll(5L, 10);
+        verify(applicationService, never()).getByStatus(any(), any(), any());
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
     }
 
     @Test
-    void getAllApplications_withStatus_returnListOfApplications() {
-        List<ApplicationDto> applications = List.of(new ApplicationDto());
-        when(applicationService.getByStatus("approved")).thenReturn(applications);
+    void getAllApplications_withStatus_returnPageOfApplications() {
+        CursorPage<ApplicationDto> applications = new CursorPage<>(List.of(new ApplicationDto()), null);
+        when(applicationService.getByStatus("approved", 5L, 10)).thenReturn(applications);
 
-        ResponseEntity<List<ApplicationDto>> response = applicationController.getAllApplications("approved", null);
+        ResponseEntity<CursorPage<ApplicationDto>> response =
+                applicationController.getAllApplications("approved", null, 5L, 10);
 
-        verify(applicationService, never()).getAll();
-        verify(applicationService, times(1)).getByStatus("approved");
+        verify(applicationService, never()).getAll(any(), any());
+        verify(applicationService, times(1)).getByStatus("approved", 5L, 10);
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(applications.size(), response.getBody().size());
-        assertEquals(applications.get(0), response.getBody().get(0));
+        assertEquals(applications, response.getBody());
     }
 
     @Test
-    void getAllApplications_withInternshipId_returnListOfApplications() {
-        List<ApplicationDto> applications = List.of(new ApplicationDto());
-        when(applicationService.getAllByInternshipId(1L)).thenReturn(applications);
+    void getAllApplications_withInternshipId_returnPageOfApplications() {
+        CursorPage<ApplicationDto> applications = new CursorPage<>(List.of(new ApplicationDto()), null);
+        when(applicationService.getAllByInternshipId(1L, null, null)).thenReturn(applications);
 
-        ResponseEntity<List<ApplicationDto>> response = applicationController.getAllApplications(null,1L);
+        ResponseEntity<CursorPage<ApplicationDto>> response =
+                applicationController.getAllApplications(null, 1L, null, null);
 
-        verify(applicationService, never()).getAll();
-        verify(applicationService, times(1)).getAllByInternshipId(1L);
+        verify(applicationService, never()).getAll(any(), any());
+        verify(applicationService, times(1)).getAllByInternshipId(1L, null, null);
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(applications.size(), response.getBody().size());
-        assertEquals(applications.get(0), response.getBody().get(0));
+        assertEquals(applications, response.getBody());
     }
 
     @Test
-    void getAllApplications_withBothParams_returnListOfApplications() {
-        List<ApplicationDto> applications = List.of(new ApplicationDto());
-        when(applicationService.getAllByInternshipIdAndStatus(1L, "APPROVED")).thenReturn(applications);
+    void getAllApplications_withBothParams_returnPageOfApplications() {
+        CursorPage<ApplicationDto> applications = new CursorPage<>(List.of(new ApplicationDto()), null);
+        when(applicationService.getAllByInternshipIdAndStatus(1L, "APPROVED", null, null)).thenReturn(applications);
 
-        ResponseEntity<List<ApplicationDto>> response = applicationController.getAllApplications("APPROVED",1L);
+        ResponseEntity<CursorPage<ApplicationDto>> response =
+                applicationController.getAllApplications("APPROVED", 1L, null, null);
 
-        verify(applicationService, never()).getAll();
-        verify(applicationService, times(1)).getAllByInternshipIdAndStatus(1L, "APPROVED");
+        verify(applicationService, never()).getAll(any(), any());
+        verify(applicationService, times(1)).getAllByInternshipIdAndStatus(1L, "APPROVED", null, null);
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(applications.size(), response.getBody().size());
-        assertEquals(applications.get(0), response.getBody().get(0));
+        assertEquals(applications, response.getBody());
     }
 
     @Test
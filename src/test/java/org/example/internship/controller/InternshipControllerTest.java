@@ -3,10 +3,16 @@ package org.example.internship.controller;
 import org.example.internship.dto.request.internship.InternshipStatusDto;
 import org.example.internship.dto.request.internship.NewInternshipDto;
 import org.example.internship.dto.request.internship.UpdateInternshipDto;
+import org.example.internship.dto.response.CursorPage;
 import org.example.internship.dto.response.ReportDto;
 import org.example.internship.dto.response.internship.AdminInternshipDto;
+import org.example.internship.dto.response.internship.ArchiveReportDto;
 import org.example.internship.dto.response.internship.PublicInternshipDto;
 import org.example.internship.exception.ExceptionResponse;
+import org.example.internship.service.export.ExportFormat;
+import org.example.internship.service.export.ExportService;
+import org.example.internship.service.gradebook.GradebookService;
+import org.example.internship.service.internship.InternshipArchiveService;
 import org.example.internship.service.internship.InternshipService;
 import org.example.internship.utils.Validator;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +23,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -34,6 +41,15 @@ class InternshipControllerTest {
     @Mock
     private Validator validator;
 
+    @Mock
+    private ExportService exportService;
+
+    @Mock
+    private GradebookService gradebookService;
+
+    @Mock
+    private InternshipArchiveService internshipArchiveService;
+
     @InjectMocks
     private InternshipController internshipController;
 
@@ -98,11 +114,11 @@ class InternshipControllerTest {
 
     @Test
     void getAllInternships_returnListOfInternships() {
-        List<AdminInternshipDto> internships = List.of(new AdminInternshipDto());
+        CursorPage<AdminInternshipDto> internships = new CursorPage<>(List.of(new AdminInternshipDto()), null);
 
-        when(internshipService.getAll()).thenReturn(internships);
+        when(internshipService.getAll(null, null)).thenReturn(internships);
 
-        ResponseEntity<List<AdminInternshipDto>> response = internshipController.getAllInternships(null);
+        ResponseEntity<CursorPage<AdminInternshipDto>> response = internshipController.getAllInternships(null, null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(internships, response.getBody());
@@ -110,19 +126,19 @@ class InternshipControllerTest {
 
     @Test
     void getAllInternships_emptyList_returnNoContent() {
-        when(internshipService.getAll()).thenReturn(List.of());
+        when(internshipService.getAll(null, null)).thenReturn(new CursorPage<>(List.of(), null));
 
-        ResponseEntity<List<AdminInternshipDto>> response = internshipController.getAllInternships(null);
+        ResponseEntity<CursorPage<AdminInternshipDto>> response = internshipController.getAllInternships(null, null, null);
 
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
     }
 
     @Test
     void getAllInternships_withStatus_returnListOfInternshipsWithStatus() {
-        List<AdminInternshipDto> internshipDtos = List.of(new AdminInternshipDto());
-        when(internshipService.getByStatus("CLOSED")).thenReturn(internshipDtos);
+        CursorPage<AdminInternshipDto> internshipDtos = new CursorPage<>(List.of(new AdminInternshipDto()), null);
+        when(internshipService.getByStatus("CLOSED", 2L, 5)).thenReturn(internshipDtos);
 
-        ResponseEntity<List<AdminInternshipDto>> response = internshipController.getAllInternships("CLOSED");
+        ResponseEntity<CursorPage<AdminInternshipDto>> response = internshipController.getAllInternships("CLOSED", 2L, 5);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(internshipDtos, response.getBody());
@@ -186,6 +202,17 @@ class InternshipControllerTest {
         assertEquals("Wrong date input", response.getBody().getMessage());
     }
 
+    @Test
+    void archive_returnArchiveReport() {
+        ArchiveReportDto report = ArchiveReportDto.builder().internshipId(1L).archivedUsers(2).blocked(2).build();
+        when(internshipArchiveService.archive(1L)).thenReturn(report);
+
+        ResponseEntity<ArchiveReportDto> response = internshipController.archive(1L);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(report, response.getBody());
+    }
+
     @Test
     void getReport_returnReport() {
         List<ReportDto> reportDtos = List.of(new ReportDto("user1", Map.of()));
@@ -196,4 +223,17 @@ class InternshipControllerTest {
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(reportDtos, response.getBody());
     }
-}
\ No newline at end of file
+
+    @Test
+    void exportReport_returnOk() {
+        StreamingResponseBody body = out -> {};
+        when(exportService.exportReport(1L, ExportFormat.CSV)).thenReturn(body);
+
+        ResponseEntity<StreamingResponseBody> response = internshipController.exportReport(1L, "csv");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(body, response.getBody());
+        assertEquals("attachment; filename=\"report-1.csv\"",
+                response.getHeaders().getFirst("Content-Disposition"));
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.internship.controller;
 
 import org.example.internship.dto.request.lesson.NewLessonDto;
+import org.example.internship.dto.response.CursorPage;
 import org.example.internship.dto.response.lesson.AdminLessonDto;
 import org.example.internship.dto.response.lesson.UserLessonDto;
 import org.example.internship.service.lesson.LessonService;
@@ -64,11 +65,11 @@ class LessonControllerTest {
 
     @Test
     void getAllLessons_returnListOfLessons() {
-        List<AdminLessonDto> lessons = List.of(new AdminLessonDto());
+        CursorPage<AdminLessonDto> lessons = new CursorPage<>(List.of(new AdminLessonDto()), null);
 
-        when(lessonService.getAll()).thenReturn(lessons);
+        when(lessonService.getAll(null, null)).thenReturn(lessons);
 
-        ResponseEntity<List<AdminLessonDto>> response = lessonController.getAllLessons();
+        ResponseEntity<CursorPage<AdminLessonDto>> response = lessonController.getAllLessons(null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(lessons, response.getBody());
@@ -76,9 +77,9 @@ class LessonControllerTest {
 
     @Test
     void getAllLessons_emptyList_returnNoContent() {
-        when(lessonService.getAll()).thenReturn(List.of());
+        when(lessonService.getAll(null, null)).thenReturn(new CursorPage<>(List.of(), null));
 
-        ResponseEntity<List<AdminLessonDto>> response = lessonController.getAllLessons();
+        ResponseEntity<CursorPage<AdminLessonDto>> response = lessonController.getAllLessons(null, null);
 
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
     }
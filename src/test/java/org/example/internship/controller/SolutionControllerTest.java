@@ -1,10 +1,12 @@
 package org.example.internship.controller;
 
 import org.example.internship.dto.request.solution.SolutionStatusDto;
+import org.example.internship.dto.response.CursorPage;
 import org.example.internship.dto.response.solution.SolutionDto;
-import org.example.internship.service.gitlab.GitlabService;
+import org.example.internship.service.export.ExportFormat;
+import org.example.internship.service.export.ExportService;
+import org.example.internship.service.inbox.SolutionInboxService;
 import org.example.internship.service.solution.SolutionService;
-import org.gitlab4j.api.systemhooks.PushSystemHookEvent;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -12,7 +14,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -25,20 +29,23 @@ class SolutionControllerTest {
     private SolutionService solutionService;
 
     @Mock
-    private GitlabService gitlabService;
+    private SolutionInboxService solutionInboxService;
+
+    @Mock
+    private ExportService exportService;
 
     @InjectMocks
     private SolutionController solutionController;
 
     @Test
-    void addSolution_returnCreated() {
-        PushSystemHookEvent request = mock(PushSystemHookEvent.class);
-        when(gitlabService.isForkedRepository(anyLong())).thenReturn(true);
+    void addSolution_returnAccepted() {
+        byte[] request = "{\"project_id\": 1}".getBytes(StandardCharsets.UTF_8);
 
         ResponseEntity<Void> response = solutionController.addSolution(request);
 
-        verify(solutionService, times(1)).add(request);
-        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        verify(solutionInboxService, times(1)).enqueue(request);
+        verifyNoInteractions(solutionService);
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
     }
 
     @Test
@@ -69,56 +76,77 @@ class SolutionControllerTest {
 
     @Test
     void getAllSolutions_withStatus_returnListOfSolutions() {
-        List<SolutionDto> solutionList = List.of(new SolutionDto());
-        when(solutionService.getAllByStatus("approved")).thenReturn(solutionList);
+        CursorPage<SolutionDto> solutionList = new CursorPage<>(List.of(new SolutionDto()), null);
+        when(solutionService.getAllByStatus("approved", null, null)).thenReturn(solutionList);
 
-        ResponseEntity<List<SolutionDto>> response = solutionController.getAllSolutions("approved", null);
+        ResponseEntity<CursorPage<SolutionDto>> response =
+                solutionController.getAllSolutions("approved", null, null, null);
 
-        verify(solutionService, times(1)).getAllByStatus("approved");
+        verify(solutionService, times(1)).getAllByStatus("approved", null, null);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(solutionList, response.getBody());
     }
 
     @Test
     void getAllSolutions_withTaskId_returnListOfSolutions() {
-        List<SolutionDto> solutions = List.of(new SolutionDto());
+        CursorPage<SolutionDto> solutions = new CursorPage<>(List.of(new SolutionDto()), null);
 
-        when(solutionService.getAllByTaskId(1L)).thenReturn(solutions);
+        when(solutionService.getAllByTaskId(1L, 3L, 20)).thenReturn(solutions);
 
-        ResponseEntity<List<SolutionDto>> response = solutionController.getAllSolutions(null, 1L);
+        ResponseEntity<CursorPage<SolutionDto>> response = solutionController.getAllSolutions(null, 1L, 3L, 20);
 
-        verify(solutionService, times(1)).getAllByTaskId(1L);
+        verify(solutionService, times(1)).getAllByTaskId(1L, 3L, 20);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(solutions, response.getBody());
     }
 
     @Test
     void getAllSolutions_returnListOfSolutions() {
-        List<SolutionDto> solutions = List.of(new SolutionDto());
+        CursorPage<SolutionDto> solutions = new CursorPage<>(List.of(new SolutionDto()), 1L);
 
-        when(solutionService.getAll()).thenReturn(solutions);
+        when(solutionService.getAll(null, null)).thenReturn(solutions);
 
-        ResponseEntity<List<SolutionDto>> response = solutionController.getAllSolutions(null, null);
+        ResponseEntity<CursorPage<SolutionDto>> response = solutionController.getAllSolutions(null, null, null, null);
 
-        verify(solutionService, times(1)).getAll();
+        verify(solutionService, times(1)).getAll(null, null);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(solutions, response.getBody());
     }
 
     @Test
     void getAllSolutions_withBothParams_returnBadRequest() {
-        ResponseEntity<List<SolutionDto>> response = solutionController.getAllSolutions("approved", 1L);
+        ResponseEntity<CursorPage<SolutionDto>> response =
+                solutionController.getAllSolutions("approved", 1L, null, null);
 
-        verify(solutionService, never()).getAllByStatus("approved");
-        verify(solutionService, never()).getAllByTaskId(1L);
+        verify(solutionService, never()).getAllByStatus(any(), any(), any());
+        verify(solutionService, never()).getAllByTaskId(any(), any(), any());
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
     @Test
     void getAllSolutions_emptyList_returnNoContent() {
-        when(solutionService.getAll()).thenReturn(List.of());
+        when(solutionService.getAll(null, null)).thenReturn(new CursorPage<>(List.of(), null));
 
-        ResponseEntity<List<SolutionDto>> response = solutionController.getAllSolutions(null, null);
+        ResponseEntity<CursorPage<SolutionDto>> response = solutionController.getAllSolutions(null, null, null, null);
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    void exportSolutions_returnOk() {
+        StreamingResponseBody body = out -> {};
+        when(exportService.exportSolutions("approved", null, ExportFormat.XLSX)).thenReturn(body);
+
+        ResponseEntity<StreamingResponseBody> response = solutionController.exportSolutions("approved", null, "xlsx");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(body, response.getBody());
+    }
+
+    @Test
+    void exportSolutions_withBothParams_returnBadRequest() {
+        ResponseEntity<StreamingResponseBody> response = solutionController.exportSolutions("approved", 1L, "csv");
+
+        verifyNoInteractions(exportService);
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+}
@@ -2,7 +2,10 @@ package org.example.internship.controller;
 
 import org.example.internship.dto.request.task.NewTaskDto;
 import org.example.internship.dto.request.task.UpdateTaskDto;
+import org.example.internship.dto.response.CursorPage;
+import org.example.internship.dto.response.task.PublishJobDto;
 import org.example.internship.dto.response.task.TaskDto;
+import org.example.internship.service.publish.PublishJobService;
 import org.example.internship.service.task.TaskService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +26,9 @@ class TaskControllerTest {
     @Mock
     private TaskService taskService;
 
+    @Mock
+    private PublishJobService publishJobService;
+
     @InjectMocks
     private TaskController taskController;
 
@@ -61,38 +67,69 @@ class TaskControllerTest {
 
     @Test
     void publishTaskById_returnOk() {
-        ResponseEntity<Void> response = taskController.publishTaskById(1L);
+        PublishJobDto job = PublishJobDto.builder().id(1L).total(1).pending(1).build();
+        when(taskService.publishById(1L)).thenReturn(job);
+
+        ResponseEntity<PublishJobDto> response = taskController.publishTaskById(1L);
 
         verify(taskService, times(1)).publishById(1L);
-        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals(job, response.getBody());
     }
 
     @Test
     void publishTasksByLessonId_returnOk() {
-        ResponseEntity<Void> response = taskController.publishTasksByLessonId(1L);
+        PublishJobDto job = PublishJobDto.builder().id(1L).total(2).pending(2).build();
+        when(taskService.publishByLessonId(1L)).thenReturn(job);
+
+        ResponseEntity<PublishJobDto> response = taskController.publishTasksByLessonId(1L);
 
         verify(taskService, times(1)).publishByLessonId(1L);
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals(job, response.getBody());
+    }
+
+    @Test
+    void getPublishJob_returnJob() {
+        PublishJobDto job = PublishJobDto.builder().id(1L).total(2).succeeded(1).pending(1).build();
+        when(publishJobService.getById(1L)).thenReturn(job);
+
+        ResponseEntity<PublishJobDto> response = taskController.getPublishJob(1L);
+
         assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(job, response.getBody());
+    }
+
+    @Test
+    void resumePublishJob_returnAccepted() {
+        PublishJobDto job = PublishJobDto.builder().id(1L).total(2).succeeded(1).pending(1).build();
+        when(publishJobService.resume(1L)).thenReturn(job);
+
+        ResponseEntity<PublishJobDto> response = taskController.resumePublishJob(1L);
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals(job, response.getBody());
     }
 
     @Test
     void getAllTasks_returnListOfTasks() {
         TaskDto taskDto = new TaskDto();
         taskDto.setId(1L);
-        when(taskService.getAll()).thenReturn(List.of(taskDto));
+        when(taskService.getAll(null, 10)).thenReturn(new CursorPage<>(List.of(taskDto), 1L));
 
-        ResponseEntity<List<TaskDto>> response = taskController.getAllTasks();
+        ResponseEntity<CursorPage<TaskDto>> response = taskController.getAllTasks(null, 10);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(1, response.getBody().size());
-        assertEquals(taskDto, response.getBody().get(0));
+        assertEquals(1, response.getBody().getItems().size());
+        assertEquals(taskDto, response.getBody().getItems().get(0));
+        assertEquals(1L, response.getBody().getNextCursor());
     }
 
     @Test
     void getAllTasks_emptyList_returnNoContent() {
-        when(taskService.getAll()).thenReturn(List.of());
+        when(taskService.getAll(null, null)).thenReturn(new CursorPage<>(List.of(), null));
 
-        ResponseEntity<List<TaskDto>> response = taskController.getAllTasks();
+        ResponseEntity<CursorPage<TaskDto>> response = taskController.getAllTasks(null, null);
 
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
     }
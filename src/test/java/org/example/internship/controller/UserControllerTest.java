@@ -1,7 +1,10 @@
 package org.example.internship.controller;
 
 import org.example.internship.dto.request.NewUserDto;
+import org.example.internship.dto.response.CursorPage;
 import org.example.internship.dto.response.UserDto;
+import org.example.internship.dto.response.user.ProvisionReportDto;
+import org.example.internship.service.user.UserProvisionService;
 import org.example.internship.service.user.UserService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,6 +25,9 @@ class UserControllerTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private UserProvisionService userProvisionService;
+
     @InjectMocks
     private UserController userController;
 
@@ -36,6 +42,17 @@ class UserControllerTest {
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
     }
 
+    @Test
+    void provision_returnReport() {
+        ProvisionReportDto report = ProvisionReportDto.builder().internshipId(1L).total(2).created(2).build();
+        when(userProvisionService.provision(1L)).thenReturn(report);
+
+        ResponseEntity<ProvisionReportDto> response = userController.provision(1L);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(report, response.getBody());
+    }
+
     @Test
     void getByParam_withUsername_returnUser() {
         String username = "test_user";
@@ -87,23 +104,23 @@ class UserControllerTest {
 
     @Test
     void getAll_returnListOfUsers() {
-        List<UserDto> users = List.of(new UserDto());
-        when(userService.getAllUsers()).thenReturn(users);
+        CursorPage<UserDto> users = new CursorPage<>(List.of(new UserDto()), null);
+        when(userService.getAllUsers(null, null)).thenReturn(users);
 
-        ResponseEntity<List<UserDto>> response = userController.getAll();
+        ResponseEntity<CursorPage<UserDto>> response = userController.getAll(null, null);
 
-        verify(userService, times(1)).getAllUsers();
+        verify(userService, times(1)).getAllUsers(null, null);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(users, response.getBody());
     }
 
     @Test
     void getAll_emptyList_returnNoContent() {
-        when(userService.getAllUsers()).thenReturn(List.of());
+        when(userService.getAllUsers(100L, null)).thenReturn(new CursorPage<>(List.of(), null));
 
-        ResponseEntity<List<UserDto>> response = userController.getAll();
+        ResponseEntity<CursorPage<UserDto>> response = userController.getAll(100L, null);
 
-        verify(userService, times(1)).getAllUsers();
+        verify(userService, times(1)).getAllUsers(100L, null);
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
     }
 
@@ -0,0 +1,351 @@
+package org.example.internship.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.example.internship.dto.request.solution.SolutionPushDto;
+import org.example.internship.model.application.ApplicationStatus;
+import org.example.internship.model.task.SolutionStatus;
+import org.example.internship.model.user.Role;
+import org.flywaydb.core.Flyway;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Проверка планов запросов репозиториев на заполненной базе PostgreSQL.
+ * <br>
+ * Методы репозиториев вызываются через Spring Data JPA в транзакции, которая затем откатывается.
+ * Дополнительные операции на JdbcTemplate получают соединения из того же источника, что и Hibernate,
+ * поэтому их запросы также проверяются и выполняются в той же транзакции.
+ * Перед выполнением каждого SQL-запроса, сформированного Hibernate, его план получается командой EXPLAIN
+ * с теми же параметрами, и тест падает, если основная таблица запроса читается последовательным сканированием.
+ * Неселективные запросы, которым последовательное сканирование подходит лучше индекса
+ * (например, все заявки с одним статусом), не проверяются.
+ * <br>
+ * Тест запускается, только если задана переменная окружения QUERY_PLAN_DB_URL с адресом отдельной базы,
+ * например {@code jdbc:postgresql://localhost:5432/query_plan}; пользователь и пароль задаются переменными
+ * QUERY_PLAN_DB_USER и QUERY_PLAN_DB_PASSWORD. Перед запуском база полностью очищается.
+ */
+@EnabledIfEnvironmentVariable(named = "QUERY_PLAN_DB_URL", matches = ".+")
+class QueryPlanTest {
+    private static final List<String> SEED = List.of(
+            "INSERT INTO internships (id, name, description, start_date, end_date, registration_end_date, " +
+                    "status) SELECT i, 'internship ' || i, 'description', current_date, current_date + 90, " +
+                    "current_date, CASE WHEN i <= 45 THEN 'ARCHIVED' ELSE 'OPEN' END FROM generate_series(1, 50) i",
+            "INSERT INTO lessons (id, name, description, is_published, internship_id) " +
+                    "SELECT i, 'lesson ' || i, repeat('x', 500), i % 10 <> 0, (i - 1) / 10 + 1 " +
+                    "FROM generate_series(1, 500) i",
+            "INSERT INTO tasks (id, name, description, publish_date, repository, repository_id, lesson_id) " +
+                    "SELECT i, 'task ' || i, repeat('x', 500), " +
+                    "CASE WHEN i % 3 = 0 THEN NULL ELSE current_date - 1 END, 'repository-' || i, i, " +
+                    "(i - 1) / 3 + 1 FROM generate_series(1, 1500) i",
+            "INSERT INTO users (id, username, name, email, password, role, internship_id) " +
+                    "SELECT i, 'user' || i, 'User ' || i, 'user' || i || '@example.com', 'password', " +
+                    "CASE WHEN i <= 2700 THEN 'ARCHIVED' ELSE 'USER' END, (i - 1) / 60 + 1 " +
+                    "FROM generate_series(1, 3000) i",
+            "INSERT INTO task_solutions (last_commit_time, last_commit_url, repository_url, status, task_id, " +
+                    "user_id, is_archived) " +
+                    "SELECT now(), 'commit-' || u.id || '-' || t.id, 'repository-' || u.id || '-' || t.id, " +
+                    "CASE WHEN (u.id + t.id) % 20 = 0 THEN 'SENT' ELSE 'APPROVED' END, t.id, u.id, " +
+                    "u.role = 'ARCHIVED' " +
+                    "FROM users u JOIN lessons l ON l.internship_id = u.internship_id " +
+                    "JOIN tasks t ON t.lesson_id = l.id",
+            "INSERT INTO messages (text, sent_at, sender_id, receiver_id) " +
+                    "SELECT 'message ' || i, now(), i % 3000 + 1, (i * 7) % 3000 + 1 FROM generate_series(1, 20000) i",
+            "INSERT INTO applications (full_name, email, phone_number, username, telegram_id, birth_date, city, " +
+                    "education_status, status, internship_id) " +
+                    "SELECT 'Applicant ' || i, 'applicant' || i || '@example.com', '+7900' || i, 'applicant' || i, " +
+                    "'@applicant' || i, date '2000-01-01', 'city', 'STUDENT', " +
+                    "CASE i % 3 WHEN 0 THEN 'SENT' WHEN 1 THEN 'APPROVED' ELSE 'DECLINED' END, (i - 1) / 200 + 1 " +
+                    "FROM generate_series(1, 10000) i",
+            "ANALYZE");
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate");
+    private static final Pageable PAGE = PageRequest.of(0, 20);
+
+    private static final Map<String, List<String>> plans = new LinkedHashMap<>();
+
+    private static HikariDataSource dataSource;
+    private static EntityManagerFactory entityManagerFactory;
+    private static TransactionTemplate transactionTemplate;
+
+    private static SolutionRepository solutionRepository;
+    private static UserRepository userRepository;
+    private static TaskRepository taskRepository;
+    private static LessonRepository lessonRepository;
+    private static MessageRepository messageRepository;
+    private static ApplicationRepository applicationRepository;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(System.getenv("QUERY_PLAN_DB_URL"));
+        dataSource.setUsername(System.getenv("QUERY_PLAN_DB_USER"));
+        dataSource.setPassword(System.getenv("QUERY_PLAN_DB_PASSWORD"));
+        Flyway flyway = Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .cleanDisabled(false)
+                .load();
+        flyway.clean();
+        flyway.migrate();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String sql : SEED) {
+                statement.execute(sql);
+            }
+        }
+
+        DataSource explainingDataSource = explaining(dataSource);
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(explainingDataSource);
+        factoryBean.setPackagesToScan("org.example.internship.model");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName()));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+        transactionTemplate = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+
+        JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(
+                SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory));
+        solutionRepository = repositoryFactory.getRepository(SolutionRepository.class,
+                RepositoryFragments.just(new SolutionRepositoryCustomImpl(new JdbcTemplate(explainingDataSource))));
+        userRepository = repositoryFactory.getRepository(UserRepository.class);
+        taskRepository = repositoryFactory.getRepository(TaskRepository.class);
+        lessonRepository = repositoryFactory.getRepository(LessonRepository.class);
+        messageRepository = repositoryFactory.getRepository(MessageRepository.class);
+        applicationRepository = repositoryFactory.getRepository(ApplicationRepository.class);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (entityManagerFactory != null) {
+            entityManagerFactory.close();
+        }
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    static Stream<Arguments> queries() {
+        return Stream.of(
+                query("SolutionRepository.findPageAsDto", "task_solutions",
+                        () -> solutionRepository.findPageAsDto(45000, PAGE)),
+                query("SolutionRepository.findPageAsDtoByStatus", "task_solutions",
+                        () -> solutionRepository.findPageAsDtoByStatus(SolutionStatus.SENT, 45000, PAGE)),
+                query("SolutionRepository.findPageAsDtoByTaskId", "task_solutions",
+                        () -> solutionRepository.findPageAsDtoByTaskId(1480L, 0, PAGE)),
+                query("SolutionRepository.streamAllByStatus", "task_solutions",
+                        () -> solutionRepository.streamAllByStatus(SolutionStatus.SENT)),
+                query("SolutionRepository.streamAllByTaskId", "task_solutions",
+                        () -> solutionRepository.streamAllByTaskId(1480L)),
+                query("SolutionRepository.findStatusesByInternshipId", "task_solutions",
+                        () -> solutionRepository.findStatusesByInternshipId(50L)),
+                query("SolutionRepository.archiveAllByUserId", "task_solutions",
+                        () -> solutionRepository.archiveAllByUserId(2950L)),
+                query("SolutionRepository.archiveAllByInternshipIdAndRole", "task_solutions",
+                        () -> solutionRepository.archiveAllByInternshipIdAndRole(50L, Role.USER)),
+                query("SolutionRepository.upsertAll", "task_solutions",
+                        () -> solutionRepository.upsertAll(List.of(
+                                push("repository-2950-1480", 1480L, 2950L, null, null),
+                                push("repository-2950-new", null, null, "task 1480", "user2950")))),
+                query("UserRepository.findPageAsDto", "users",
+                        () -> userRepository.findPageAsDto(1500, PAGE)),
+                query("UserRepository.findAllByInternshipIdAndRole", "users",
+                        () -> userRepository.findAllByInternshipIdAndRole(50L, Role.USER)),
+                query("UserRepository.findByUsername", "users",
+                        () -> userRepository.findByUsername("user2950")),
+                query("UserRepository.findByEmail", "users",
+                        () -> userRepository.findByEmail("user2950@example.com")),
+                query("UserRepository.streamReportCells", "task_solutions",
+                        () -> userRepository.streamReportCells(50L, Role.USER)),
+                query("TaskRepository.findPageAsDto", "tasks",
+                        () -> taskRepository.findPageAsDto(750, PAGE)),
+                query("TaskRepository.findAllByLessonIdAndPublishDateIsNull", "tasks",
+                        () -> taskRepository.findAllByLessonIdAndPublishDateIsNull(490L)),
+                query("TaskRepository.findByName", "tasks",
+                        () -> taskRepository.findByName("task 1480")),
+                query("LessonRepository.findPage", "lessons",
+                        () -> lessonRepository.findPage(250, PAGE)),
+                query("LessonRepository.findByIsPublishedTrueAndInternshipId", "lessons",
+                        () -> lessonRepository.findByIsPublishedTrueAndInternshipId(50L)),
+                query("MessageRepository.findBySenderIdOrReceiverId", "messages",
+                        () -> messageRepository.findBySenderIdOrReceiverId(2950L)),
+                query("ApplicationRepository.findPageAsDto", "applications",
+                        () -> applicationRepository.findPageAsDto(5000, PAGE)),
+                query("ApplicationRepository.findPageAsDtoByStatus", "applications",
+                        () -> applicationRepository.findPageAsDtoByStatus(ApplicationStatus.APPROVED, 5000, PAGE)),
+                query("ApplicationRepository.findPageAsDtoByInternshipId", "applications",
+                        () -> applicationRepository.findPageAsDtoByInternshipId(50L, 0, PAGE)),
+                query("ApplicationRepository.findByPhoneNumberAndInternshipId", "applications",
+                        () -> applicationRepository.findByPhoneNumberAndInternshipId("+79009950", 50L)),
+                query("ApplicationRepository.findAllByInternshipId", "applications",
+                        () -> applicationRepository.findAllByInternshipId(50L)),
+                query("ApplicationRepository.findAllByInternshipIdAndStatus", "applications",
+                        () -> applicationRepository.findAllByInternshipIdAndStatus(50L, ApplicationStatus.APPROVED)),
+                query("ApplicationRepository.streamAllByInternshipIdAndStatus", "applications",
+                        () -> applicationRepository.streamAllByInternshipIdAndStatus(50L, ApplicationStatus.APPROVED)));
+    }
+
+    private static Arguments query(String name, String table, Supplier<Object> call) {
+        return Arguments.of(name, table, call);
+    }
+
+    private static SolutionPushDto push(String repositoryUrl, Long taskId, Long userId, String projectName,
+                                        String username) {
+        return SolutionPushDto.builder()
+                .repositoryUrl(repositoryUrl)
+                .lastCommitTime(LocalDateTime.now())
+                .lastCommitUrl("commit-" + repositoryUrl)
+                .taskId(taskId)
+                .userId(userId)
+                .projectName(projectName)
+                .username(username)
+                .build();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    void explain_noSequentialScan(String query, String table, Supplier<Object> call) {
+        Map<String, List<String>> queryPlans = explain(call);
+
+        assertFalse(queryPlans.isEmpty(), () -> query + " did not run any statement");
+        queryPlans.forEach((sql, plan) ->
+                assertFalse(plan.stream().anyMatch(line -> line.contains("Seq Scan on " + table + " ")),
+                        () -> query + " reads " + table + " with a sequential scan:\n" + sql + "\n" +
+                                String.join("\n", plan)));
+    }
+
+    /**
+     * Вызов метода репозитория в откатываемой транзакции. Запрос потокового метода выполняется
+     * при открытии потока, поэтому поток закрывается без чтения.
+     *
+     * @param call вызов метода репозитория
+     * @return планы выполненных запросов по тексту запроса
+     */
+    private Map<String, List<String>> explain(Supplier<Object> call) {
+        plans.clear();
+        transactionTemplate.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            Object result = call.get();
+            if (result instanceof Stream) {
+                ((Stream<?>) result).close();
+            }
+        });
+        return new LinkedHashMap<>(plans);
+    }
+
+    /**
+     * Источник соединений, подготовленные запросы которого перед выполнением сохраняют свой план в plans.
+     */
+    private static DataSource explaining(DataSource target) {
+        return proxy(DataSource.class, (method, args) -> {
+            Object result = invoke(target, method, args);
+            return "getConnection".equals(method.getName()) ? explaining((Connection) result) : result;
+        });
+    }
+
+    private static Connection explaining(Connection connection) {
+        return proxy(Connection.class, (method, args) -> {
+            Object result = invoke(connection, method, args);
+            return "prepareStatement".equals(method.getName())
+                    ? explaining(connection, (String) args[0], (PreparedStatement) result)
+                    : result;
+        });
+    }
+
+    /**
+     * Подготовленный запрос, который запоминает установленные параметры и перед выполнением
+     * получает план того же запроса с теми же параметрами.
+     */
+    private static PreparedStatement explaining(Connection connection, String sql, PreparedStatement statement) {
+        Map<Integer, Parameter> parameters = new LinkedHashMap<>();
+        return proxy(PreparedStatement.class, (method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length > 1 && args[0] instanceof Integer) {
+                parameters.put((Integer) args[0], target -> invoke(target, method, args));
+            } else if ("clearParameters".equals(name)) {
+                parameters.clear();
+            } else if (EXECUTE_METHODS.contains(name) && (args == null || args.length == 0)) {
+                plans.put(sql, plan(connection, sql, parameters.values()));
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    private static List<String> plan(Connection connection, String sql, Iterable<Parameter> parameters)
+            throws Throwable {
+        List<String> plan = new ArrayList<>();
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (Parameter parameter : parameters) {
+                parameter.set(explain);
+            }
+            try (ResultSet resultSet = explain.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.add(resultSet.getString(1));
+                }
+            }
+        }
+        return plan;
+    }
+
+    @FunctionalInterface
+    private interface Parameter {
+        void set(PreparedStatement statement) throws Throwable;
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(Method method, Object[] args) throws Throwable;
+    }
+
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(QueryPlanTest.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> handler.handle(method, args)));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
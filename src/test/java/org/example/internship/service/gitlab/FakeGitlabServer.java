@@ -0,0 +1,521 @@
+package org.example.internship.service.gitlab;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Встроенная заглушка GitLab REST API v4 для тестов без контейнера GitLab.
+ * <br>
+ * Поддерживает запросы, которые выполняет {@link GitlabServiceImpl}: создание и получение проекта,
+ * создание и получение коммитов, форк и получение форков, создание, получение и блокировку пользователя,
+ * получение и добавление системных хуков.
+ * Данные хранятся в памяти и доступны тестам для проверок.
+ * <br>
+ * Поведение настраивается во время работы: задержка ответа, ошибки для следующих запросов
+ * и ограничение числа запросов в секунду, при превышении которого возвращается 429 с заголовком Retry-After.
+ */
+public class FakeGitlabServer implements AutoCloseable {
+    private static final String API_PREFIX = "/api/v4";
+    private static final Pattern PROJECT = Pattern.compile("/projects/(\\d+)");
+    private static final Pattern PROJECT_COMMITS = Pattern.compile("/projects/(\\d+)/repository/commits");
+    private static final Pattern PROJECT_FORK = Pattern.compile("/projects/(\\d+)/fork");
+    private static final Pattern PROJECT_FORKS = Pattern.compile("/projects/(\\d+)/forks");
+    private static final Pattern PROJECT_PATH = Pattern.compile("/projects/([^/]+)/([^/]+)");
+    private static final DateTimeFormatter DATE_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").withZone(ZoneOffset.UTC);
+    private static final Pattern USER_BLOCK = Pattern.compile("/users/(\\d+)/block");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private final Map<Long, Project> projects = new ConcurrentHashMap<>();
+    private final Map<Long, User> users = new ConcurrentHashMap<>();
+    private final Map<Long, Hook> hooks = new ConcurrentHashMap<>();
+    private final AtomicLong projectIds = new AtomicLong();
+    private final AtomicLong userIds = new AtomicLong();
+    private final AtomicLong hookIds = new AtomicLong();
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger throttled = new AtomicInteger();
+    private final Queue<Integer> failures = new ConcurrentLinkedQueue<>();
+    private volatile long latencyMillis;
+    private volatile int requestsPerSecond;
+    private long windowStart;
+    private int windowRequests;
+
+    /**
+     * Запуск заглушки на свободном порту локального адреса.
+     */
+    public FakeGitlabServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext(API_PREFIX, this::handle);
+        server.start();
+    }
+
+    /**
+     * Получение URL-адреса заглушки для {@link org.gitlab4j.api.GitLabApi}.
+     *
+     * @return URL-адрес вида http://127.0.0.1:port
+     */
+    public String getUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    /**
+     * Задержка перед каждым ответом.
+     *
+     * @param latencyMillis задержка в миллисекундах
+     */
+    public void setLatency(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    /**
+     * Ограничение числа запросов в секунду. Запросы сверх ограничения получают ответ 429.
+     *
+     * @param requestsPerSecond число запросов в секунду, 0 — без ограничения
+     */
+    public synchronized void setRateLimit(int requestsPerSecond) {
+        this.requestsPerSecond = requestsPerSecond;
+        this.windowRequests = 0;
+    }
+
+    /**
+     * Ответ ошибкой на следующие запросы.
+     *
+     * @param count  число запросов
+     * @param status HTTP-статус ответа
+     */
+    public void failNext(int count, int status) {
+        for (int i = 0; i < count; i++) {
+            failures.add(status);
+        }
+    }
+
+    /**
+     * Сброс данных, счетчиков и настроек поведения.
+     */
+    public synchronized void reset() {
+        projects.clear();
+        users.clear();
+        hooks.clear();
+        failures.clear();
+        requests.set(0);
+        throttled.set(0);
+        latencyMillis = 0;
+        requestsPerSecond = 0;
+        windowRequests = 0;
+    }
+
+    public int getRequestCount() {
+        return requests.get();
+    }
+
+    public int getThrottledCount() {
+        return throttled.get();
+    }
+
+    public Project getProject(long id) {
+        return projects.get(id);
+    }
+
+    public List<Project> getForks(long projectId) {
+        return projects.values().stream()
+                .filter(project -> project.forkedFromId != null && project.forkedFromId == projectId)
+                .collect(Collectors.toList());
+    }
+
+    public User getUser(String username) {
+        return users.values().stream()
+                .filter(user -> user.username.equals(username))
+                .findFirst()
+                .orElse(null);
+    }
+
+    public Collection<Hook> getHooks() {
+        return hooks.values();
+    }
+
+    /**
+     * Добавление проекта, например исходного репозитория задания, без запроса к API.
+     *
+     * @param name название проекта
+     * @return созданный проект
+     */
+    public Project addProject(String name) {
+        Project project = new Project(projectIds.incrementAndGet(), name, "root", null);
+        projects.put(project.id, project);
+        return project;
+    }
+
+    /**
+     * Добавление коммита в проект без запроса к API. Время последней активности проекта сдвигается на время коммита.
+     *
+     * @param projectId   идентификатор проекта
+     * @param committedAt время коммита
+     * @return созданный коммит
+     */
+    public Commit addCommit(long projectId, Instant committedAt) {
+        Project project = projects.get(projectId);
+        Commit commit = new Commit(UUID.randomUUID().toString().replace("-", ""), committedAt);
+        project.commits.add(commit);
+        if (committedAt.isAfter(project.lastActivityAt)) {
+            project.lastActivityAt = committedAt;
+        }
+        return commit;
+    }
+
+    /**
+     * Добавление пользователя без запроса к API.
+     *
+     * @param username имя пользователя
+     * @return созданный пользователь
+     */
+    public User addUser(String username) {
+        User user = new User(userIds.incrementAndGet(), username, username + "@example.com", username);
+        users.put(user.id, user);
+        return user;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            requests.incrementAndGet();
+            if (latencyMillis > 0) {
+                TimeUnit.MILLISECONDS.sleep(latencyMillis);
+            }
+            if (!acquire()) {
+                throttled.incrementAndGet();
+                exchange.getResponseHeaders().add("Retry-After", "1");
+                send(exchange, 429, Map.of("message", "429 Too Many Requests"));
+                return;
+            }
+            Integer failure = failures.poll();
+            if (failure != null) {
+                send(exchange, failure, Map.of("message", failure + " Injected failure"));
+                return;
+            }
+            route(exchange);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private synchronized boolean acquire() {
+        if (requestsPerSecond <= 0) {
+            return true;
+        }
+        long now = System.nanoTime();
+        if (now - windowStart >= TimeUnit.SECONDS.toNanos(1)) {
+            windowStart = now;
+            windowRequests = 0;
+        }
+        return ++windowRequests <= requestsPerSecond;
+    }
+
+    private void route(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath().substring(API_PREFIX.length());
+        Map<String, String> query = parseForm(exchange.getRequestURI().getRawQuery());
+        Matcher matcher;
+
+        if ("POST".equals(method) && "/projects".equals(path)) {
+            Map<String, String> form = parseForm(readBody(exchange));
+            Project project = addProject(form.get("name"));
+            send(exchange, 201, project.toJson(this));
+        } else if ("GET".equals(method) && (matcher = PROJECT.matcher(path)).matches()) {
+            Project project = projects.get(Long.parseLong(matcher.group(1)));
+            sendProject(exchange, 200, project);
+        } else if ("POST".equals(method) && (matcher = PROJECT_COMMITS.matcher(path)).matches()) {
+            Project project = projects.get(Long.parseLong(matcher.group(1)));
+            if (project == null) {
+                sendProject(exchange, 201, null);
+                return;
+            }
+            send(exchange, 201, addCommit(project.id, Instant.now()).toJson(project, this));
+        } else if ("GET".equals(method) && (matcher = PROJECT_COMMITS.matcher(path)).matches()) {
+            Project project = projects.get(Long.parseLong(matcher.group(1)));
+            if (project == null) {
+                sendProject(exchange, 200, null);
+                return;
+            }
+            Instant since = query.containsKey("since") ? Instant.parse(query.get("since")) : Instant.EPOCH;
+            sendPage(exchange, query, project.commits.stream()
+                    .filter(commit -> !commit.committedAt.isBefore(since))
+                    .sorted(Comparator.comparing((Commit commit) -> commit.committedAt).reversed())
+                    .map(commit -> commit.toJson(project, this))
+                    .collect(Collectors.toList()));
+        } else if ("GET".equals(method) && (matcher = PROJECT_FORKS.matcher(path)).matches()) {
+            sendPage(exchange, query, getForks(Long.parseLong(matcher.group(1))).stream()
+                    .sorted(Comparator.comparingLong(project -> project.id))
+                    .map(project -> project.toJson(this))
+                    .collect(Collectors.toList()));
+        } else if ("GET".equals(method) && (matcher = PROJECT_PATH.matcher(path)).matches()) {
+            String namespace = matcher.group(1);
+            String name = matcher.group(2);
+            sendProject(exchange, 200, projects.values().stream()
+                    .filter(project -> project.namespace.equals(namespace) && project.name.equals(name))
+                    .findFirst()
+                    .orElse(null));
+        } else if ("POST".equals(method) && (matcher = PROJECT_FORK.matcher(path)).matches()) {
+            fork(exchange, Long.parseLong(matcher.group(1)), parseForm(readBody(exchange)).get("namespace"));
+        } else if ("POST".equals(method) && "/users".equals(path)) {
+            Map<String, String> form = parseForm(readBody(exchange));
+            if (getUser(form.get("username")) != null) {
+                send(exchange, 409, Map.of("message", "Username has already been taken"));
+                return;
+            }
+            User user = new User(userIds.incrementAndGet(), form.get("username"), form.get("email"), form.get("name"));
+            users.put(user.id, user);
+            send(exchange, 201, user.toJson());
+        } else if ("GET".equals(method) && "/users".equals(path)) {
+            User user = getUser(query.getOrDefault("username", ""));
+            sendPage(exchange, query, user == null ? List.of() : List.of(user.toJson()));
+        } else if ("POST".equals(method) && (matcher = USER_BLOCK.matcher(path)).matches()) {
+            User user = users.get(Long.parseLong(matcher.group(1)));
+            if (user == null) {
+                send(exchange, 404, Map.of("message", "404 User Not Found"));
+                return;
+            }
+            user.state = "blocked";
+            send(exchange, 201, true);
+        } else if ("GET".equals(method) && "/hooks".equals(path)) {
+            sendPage(exchange, query, hooks.values().stream().map(Hook::toJson).collect(Collectors.toList()));
+        } else if ("POST".equals(method) && "/hooks".equals(path)) {
+            Map<String, String> form = parseForm(readBody(exchange));
+            Hook hook = new Hook(hookIds.incrementAndGet(), form.get("url"), form.get("token"),
+                    Boolean.parseBoolean(form.get("push_events")));
+            hooks.put(hook.id, hook);
+            send(exchange, 201, hook.toJson());
+        } else {
+            send(exchange, 404, Map.of("message", "404 Not Found"));
+        }
+    }
+
+    private void fork(HttpExchange exchange, long projectId, String namespace) throws IOException {
+        Project source = projects.get(projectId);
+        if (source == null) {
+            sendProject(exchange, 201, null);
+            return;
+        }
+        boolean exists = getForks(projectId).stream().anyMatch(fork -> fork.namespace.equals(namespace));
+        if (exists) {
+            send(exchange, 409, Map.of("message", "Project namespace name has already been taken"));
+            return;
+        }
+        Project fork = new Project(projectIds.incrementAndGet(), source.name, namespace, projectId);
+        projects.put(fork.id, fork);
+        send(exchange, 201, fork.toJson(this));
+    }
+
+    private void sendProject(HttpExchange exchange, int status, Project project) throws IOException {
+        if (project == null) {
+            send(exchange, 404, Map.of("message", "404 Project Not Found"));
+        } else {
+            send(exchange, status, project.toJson(this));
+        }
+    }
+
+    private void sendPage(HttpExchange exchange, Map<String, String> query, List<?> items) throws IOException {
+        int perPage = Integer.parseInt(query.getOrDefault("per_page", "20"));
+        int page = Integer.parseInt(query.getOrDefault("page", "1"));
+        int totalPages = Math.max(1, (items.size() + perPage - 1) / perPage);
+        int from = Math.min((page - 1) * perPage, items.size());
+        exchange.getResponseHeaders().add("X-Page", String.valueOf(page));
+        exchange.getResponseHeaders().add("X-Per-Page", String.valueOf(perPage));
+        exchange.getResponseHeaders().add("X-Total", String.valueOf(items.size()));
+        exchange.getResponseHeaders().add("X-Total-Pages", String.valueOf(totalPages));
+        send(exchange, 200, new ArrayList<>(items.subList(from, Math.min(from + perPage, items.size()))));
+    }
+
+    private void send(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        return new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, String> parseForm(String form) {
+        Map<String, String> params = new HashMap<>();
+        if (form == null || form.isEmpty()) {
+            return params;
+        }
+        for (String pair : form.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            params.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    /**
+     * Проект в заглушке.
+     */
+    public static class Project {
+        public final long id;
+        public final String name;
+        public final String namespace;
+        public final Long forkedFromId;
+        public final Instant createdAt = Instant.now();
+        public final List<Commit> commits = new CopyOnWriteArrayList<>();
+        public volatile Instant lastActivityAt = createdAt;
+
+        Project(long id, String name, String namespace, Long forkedFromId) {
+            this.id = id;
+            this.name = name;
+            this.namespace = namespace;
+            this.forkedFromId = forkedFromId;
+        }
+
+        String webUrl(FakeGitlabServer server) {
+            return server.getUrl() + "/" + namespace + "/" + name;
+        }
+
+        Map<String, Object> toJson(FakeGitlabServer server) {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("id", id);
+            json.put("name", name);
+            json.put("path", name);
+            json.put("path_with_namespace", namespace + "/" + name);
+            json.put("web_url", webUrl(server));
+            json.put("namespace", Map.of("path", namespace, "name", namespace));
+            json.put("created_at", DATE_FORMAT.format(createdAt));
+            json.put("last_activity_at", DATE_FORMAT.format(lastActivityAt));
+            if (forkedFromId != null) {
+                Project source = server.projects.get(forkedFromId);
+                json.put("forked_from_project", Map.of("id", forkedFromId, "name", source.name));
+            }
+            return json;
+        }
+    }
+
+    /**
+     * Коммит в заглушке.
+     */
+    public static class Commit {
+        public final String id;
+        public final Instant committedAt;
+
+        Commit(String id, Instant committedAt) {
+            this.id = id;
+            this.committedAt = committedAt;
+        }
+
+        public String webUrl(Project project, FakeGitlabServer server) {
+            return project.webUrl(server) + "/-/commit/" + id;
+        }
+
+        Map<String, Object> toJson(Project project, FakeGitlabServer server) {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("id", id);
+            json.put("short_id", id.substring(0, 8));
+            json.put("message", "commit");
+            json.put("committed_date", DATE_FORMAT.format(committedAt));
+            json.put("created_at", DATE_FORMAT.format(committedAt));
+            json.put("web_url", webUrl(project, server));
+            return json;
+        }
+    }
+
+    /**
+     * Пользователь в заглушке.
+     */
+    public static class User {
+        public final long id;
+        public final String username;
+        public final String email;
+        public final String name;
+        public volatile String state = "active";
+
+        User(long id, String username, String email, String name) {
+            this.id = id;
+            this.username = username;
+            this.email = email;
+            this.name = name;
+        }
+
+        Map<String, Object> toJson() {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("id", id);
+            json.put("username", username);
+            json.put("email", email);
+            json.put("name", name);
+            json.put("state", state);
+            return json;
+        }
+    }
+
+    /**
+     * Системный хук в заглушке.
+     */
+    public static class Hook {
+        public final long id;
+        public final String url;
+        public final String token;
+        public final boolean pushEvents;
+
+        Hook(long id, String url, String token, boolean pushEvents) {
+            this.id = id;
+            this.url = url;
+            this.token = token;
+            this.pushEvents = pushEvents;
+        }
+
+        Map<String, Object> toJson() {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("id", id);
+            json.put("url", url);
+            json.put("push_events", pushEvents);
+            json.put("repository_update_events", false);
+            return json;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.internship.service.gitlab;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GitlabCircuitBreakerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void onFailure_thresholdReached_openAndReject() {
+        GitlabCircuitBreaker circuitBreaker = new GitlabCircuitBreaker(meterRegistry, 2, 60000);
+
+        circuitBreaker.onFailure();
+        assertTrue(circuitBreaker.tryAcquire());
+        circuitBreaker.onFailure();
+
+        assertFalse(circuitBreaker.tryAcquire());
+        assertEquals(GitlabCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals(1, meterRegistry.get("gitlab.circuit.state").gauge().value());
+        assertEquals(1, meterRegistry.get("gitlab.circuit.rejected").counter().count());
+    }
+
+    @Test
+    void onSuccess_resetFailures() {
+        GitlabCircuitBreaker circuitBreaker = new GitlabCircuitBreaker(meterRegistry, 2, 60000);
+
+        circuitBreaker.onFailure();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onFailure();
+
+        assertEquals(GitlabCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void tryAcquire_openDurationPassed_allowSingleProbe() {
+        GitlabCircuitBreaker circuitBreaker = new GitlabCircuitBreaker(meterRegistry, 1, 0);
+        circuitBreaker.onFailure();
+
+        assertEquals(GitlabCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquire());
+        assertFalse(circuitBreaker.tryAcquire());
+
+        circuitBreaker.onSuccess();
+        assertEquals(GitlabCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    void onFailure_probeFailed_openAgain() {
+        GitlabCircuitBreaker circuitBreaker = new GitlabCircuitBreaker(meterRegistry, 3, 0);
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        circuitBreaker.onFailure();
+        assertTrue(circuitBreaker.tryAcquire());
+
+        circuitBreaker.onFailure();
+
+        assertEquals(GitlabCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+}
@@ -0,0 +1,191 @@
+package org.example.internship.service.gitlab;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.internship.exception.GitlabException;
+import org.example.internship.exception.GitlabUnavailableException;
+import org.gitlab4j.api.GitLabApi;
+import org.gitlab4j.api.GitLabApiException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class GitlabClientTest {
+
+    @Mock
+    private GitLabApi gitlabApi;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private GitlabCircuitBreaker circuitBreaker;
+
+    private ExecutorService bulkhead;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = new GitlabCircuitBreaker(meterRegistry, 2, 60000);
+        bulkhead = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bulkhead.shutdownNow();
+    }
+
+    private GitlabClient client(int burst, int bulkReserve) {
+        return new GitlabClient(gitlabApi, meterRegistry, circuitBreaker, 1000, burst, bulkReserve, 10, 2,
+                bulkhead, 1000);
+    }
+
+    @Test
+    void execute_returnResultAndRecordLatency() {
+        GitlabClient client = client(2, 0);
+
+        String result = client.execute(GitlabLane.INTERACTIVE, api -> {
+            assertSame(gitlabApi, api);
+            return "project";
+        });
+
+        assertEquals("project", result);
+        assertEquals(1, meterRegistry.get("gitlab.client.latency").tag("lane", "interactive").timer().count());
+        assertEquals(0, meterRegistry.get("gitlab.client.queue").tag("lane", "interactive").gauge().value());
+    }
+
+    @Test
+    void execute_tooManyRequests_retryAfterPause() {
+        GitlabClient client = client(2, 0);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = client.execute(GitlabLane.BULK, api -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new GitLabApiException("Too Many Requests", 429);
+            }
+            return "fork";
+        });
+
+        assertEquals("fork", result);
+        assertEquals(2, calls.get());
+        assertEquals(1, meterRegistry.get("gitlab.client.throttled").counter().count());
+    }
+
+    @Test
+    void execute_tooManyRequestsRetriesExhausted_throwException() {
+        GitlabClient client = client(2, 0);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(GitlabException.class, () -> client.execute(GitlabLane.INTERACTIVE, api -> {
+            calls.incrementAndGet();
+            throw new GitLabApiException("Too Many Requests", 429);
+        }));
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void execute_otherError_throwExceptionWithoutRetry() {
+        GitlabClient client = client(2, 0);
+        AtomicInteger calls = new AtomicInteger();
+
+        GitlabException exception = assertThrows(GitlabException.class,
+                () -> client.execute(GitlabLane.INTERACTIVE, api -> {
+                    calls.incrementAndGet();
+                    throw new GitLabApiException("Not Found", 404);
+                }));
+        assertEquals("Not Found", exception.getMessage());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void tryAcquire_bulkLane_leaveReserveForInteractive() {
+        GitlabClient client = new GitlabClient(gitlabApi, meterRegistry, circuitBreaker, 0.001, 3, 1, 10, 2,
+                bulkhead, 1000);
+
+        assertEquals(0, client.tryAcquire(GitlabLane.BULK));
+        assertEquals(0, client.tryAcquire(GitlabLane.BULK));
+        assertTrue(client.tryAcquire(GitlabLane.BULK) > 0);
+        assertEquals(0, client.tryAcquire(GitlabLane.INTERACTIVE));
+        assertTrue(client.tryAcquire(GitlabLane.INTERACTIVE) > 0);
+    }
+
+    @Test
+    void execute_serverErrors_openCircuitAndFailFast() {
+        GitlabClient client = client(10, 0);
+        AtomicInteger calls = new AtomicInteger();
+        GitlabCall<String> failing = api -> {
+            calls.incrementAndGet();
+            throw new GitLabApiException("Bad Gateway", 502);
+        };
+
+        assertThrows(GitlabUnavailableException.class, () -> client.execute(GitlabLane.INTERACTIVE, failing));
+        assertThrows(GitlabUnavailableException.class, () -> client.execute(GitlabLane.INTERACTIVE, failing));
+        assertThrows(GitlabUnavailableException.class, () -> client.execute(GitlabLane.INTERACTIVE, failing));
+
+        assertEquals(2, calls.get());
+        assertEquals(GitlabCircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals(1, meterRegistry.get("gitlab.circuit.rejected").counter().count());
+    }
+
+    @Test
+    void execute_clientError_keepCircuitClosed() {
+        GitlabClient client = client(10, 0);
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(GitlabException.class, () -> client.execute(GitlabLane.INTERACTIVE, api -> {
+                throw new GitLabApiException("Not Found", 404);
+            }));
+        }
+
+        assertEquals(GitlabCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void execute_slowRequest_throwUnavailableAfterTimeout() {
+        GitlabClient client = new GitlabClient(gitlabApi, meterRegistry, circuitBreaker, 1000, 2, 0, 10, 2,
+                bulkhead, 50);
+        CountDownLatch released = new CountDownLatch(1);
+
+        assertThrows(GitlabUnavailableException.class, () -> client.execute(GitlabLane.INTERACTIVE, api -> {
+            while (released.getCount() > 0) {
+                LockSupport.parkNanos(1_000_000);
+            }
+            return "project";
+        }));
+        released.countDown();
+    }
+
+    @Test
+    void execute_bulkheadFull_rejectWithoutWaiting() throws Exception {
+        ExecutorService saturated = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>());
+        GitlabClient client = new GitlabClient(gitlabApi, meterRegistry, circuitBreaker, 1000, 2, 0, 10, 2,
+                saturated, 1000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        saturated.submit(() -> {
+            started.countDown();
+            released.await();
+            return null;
+        });
+        started.await();
+
+        assertThrows(GitlabUnavailableException.class,
+                () -> client.execute(GitlabLane.INTERACTIVE, api -> "project"));
+        assertEquals(1, meterRegistry.get("gitlab.bulkhead.rejected").counter().count());
+        assertEquals(GitlabCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        released.countDown();
+        saturated.shutdownNow();
+    }
+}
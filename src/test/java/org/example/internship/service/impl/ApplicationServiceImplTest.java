@@ -2,6 +2,7 @@ package org.example.internship.service.impl;
 
 import org.example.internship.dto.request.application.ApplicationStatusDto;
 import org.example.internship.dto.request.application.NewApplicationDto;
+import org.example.internship.dto.response.CursorPage;
 import org.example.internship.dto.response.application.ApplicationDto;
 import org.example.internship.mapper.ApplicationMapper;
 import org.example.internship.model.application.Application;
@@ -17,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 import javax.persistence.EntityExistsException;
 import javax.persistence.EntityNotFoundException;
@@ -167,13 +169,15 @@ class ApplicationServiceImplTest {
 
     @Test
     void getAll_returnListOfApplications() {
-        when(applicationRepository.findAll()).thenReturn(List.of(application));
-        when(applicationMapper.toDto(application)).thenReturn(applicationDto);
+        when(applicationRepository.findPageAsDto(eq(0L), any(Pageable.class))).thenReturn(List.of(applicationDto));
 
-        List<ApplicationDto> result = applicationService.getAll();
+        CursorPage<ApplicationDto> result = applicationService.getAll(null, null);
 
-        assertEquals(1, result.size());
-        assertEquals(applicationDto, result.get(0));
+        assertEquals(1, result.getItems().size());
+        assertEquals(applicationDto, result.getItems().get(0));
+        assertNull(result.getNextCursor());
+        verify(applicationRepository, never()).findAll();
+        verify(applicationMapper, never()).toDto(any());
     }
 
     @Test
@@ -195,23 +199,23 @@ class ApplicationServiceImplTest {
 
     @Test
     void getByStatus_returnListOfApplicationsWithStatus() {
-        when(applicationRepository.findAllByStatus(ApplicationStatus.SENT)).thenReturn(List.of(application));
-        when(applicationMapper.toDto(application)).thenReturn(applicationDto);
+        when(applicationRepository.findPageAsDtoByStatus(eq(ApplicationStatus.SENT), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(applicationDto));
 
-        List<ApplicationDto> result = applicationService.getByStatus("SENT");
+        CursorPage<ApplicationDto> result = applicationService.getByStatus("SENT", null, null);
 
-        assertEquals(1, result.size());
-        assertEquals(applicationDto, result.get(0));
+        assertEquals(1, result.getItems().size());
+        assertEquals(applicationDto, result.getItems().get(0));
     }
 
     @Test
     void getAllByInternshipId_returnListOfApplications() {
-        when(applicationRepository.findAllByInternshipId(internship.getId())).thenReturn(List.of(application));
-        when(applicationMapper.toDto(application)).thenReturn(applicationDto);
+        when(applicationRepository.findPageAsDtoByInternshipId(eq(internship.getId()), eq(10L), any(Pageable.class)))
+                .thenReturn(List.of(applicationDto));
 
-        List<ApplicationDto> result = applicationService.getAllByInternshipId(1L);
+        CursorPage<ApplicationDto> result = applicationService.getAllByInternshipId(1L, 10L, null);
 
-        assertEquals(1, result.size());
-        assertEquals(applicationDto, result.get(0));
+        assertEquals(1, result.getItems().size());
+        assertEquals(applicationDto, result.getItems().get(0));
     }
 }
\ No newline at end of file
@@ -0,0 +1,155 @@
+package org.example.internship.service.impl;
+
+import org.example.internship.dto.projection.ReportCellView;
+import org.example.internship.dto.response.ReportDto;
+import org.example.internship.dto.response.solution.SolutionDto;
+import org.example.internship.model.internship.Internship;
+import org.example.internship.model.task.SolutionStatus;
+import org.example.internship.model.task.Task;
+import org.example.internship.model.user.Role;
+import org.example.internship.repository.ApplicationRepository;
+import org.example.internship.repository.InternshipRepository;
+import org.example.internship.repository.SolutionRepository;
+import org.example.internship.repository.TaskRepository;
+import org.example.internship.repository.UserRepository;
+import org.example.internship.service.export.ExportFormat;
+import org.example.internship.service.export.ExportServiceImpl;
+import org.example.internship.service.internship.InternshipArchiveService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.persistence.EntityNotFoundException;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportServiceImplTest {
+
+    @Mock
+    private InternshipRepository internshipRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SolutionRepository solutionRepository;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private InternshipArchiveService internshipArchiveService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ExportServiceImpl exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ExportServiceImpl(internshipRepository, taskRepository, userRepository,
+                solutionRepository, applicationRepository, internshipArchiveService, transactionManager);
+    }
+
+    @Test
+    void exportReport_writeOneRowPerUser() throws Exception {
+        Task first = Task.builder().id(1L).name("first").build();
+        Task second = Task.builder().id(2L).name("second").build();
+
+        when(internshipRepository.findById(1L)).thenReturn(Optional.of(Internship.builder().id(1L).build()));
+        when(taskRepository.findAllByLesson_InternshipId(1L)).thenReturn(List.of(second, first));
+        when(userRepository.streamReportCells(1L, Role.USER)).thenReturn(Stream.of(
+                new ReportCellView(1L, "user1", 1L, SolutionStatus.APPROVED),
+                new ReportCellView(1L, "user1", 2L, SolutionStatus.SENT),
+                new ReportCellView(2L, "user2", null, null)
+        ));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportReport(1L, ExportFormat.CSV).writeTo(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).replace("\uFEFF", "").split("\r\n");
+        assertEquals(3, lines.length);
+        assertEquals("username,first,second", lines[0]);
+        assertEquals("user1,APPROVED,SENT", lines[1]);
+        assertEquals("user2,NO_SOLUTION,NO_SOLUTION", lines[2]);
+    }
+
+    @Test
+    void exportReport_archivedInternship_writeArchivedReport() throws Exception {
+        Task first = Task.builder().id(1L).name("first").build();
+        Task second = Task.builder().id(2L).name("second").build();
+
+        when(internshipRepository.findById(1L)).thenReturn(Optional.of(Internship.builder().id(1L).build()));
+        when(taskRepository.findAllByLesson_InternshipId(1L)).thenReturn(List.of(second, first));
+        when(internshipArchiveService.getArchivedReport(1L)).thenReturn(Optional.of(List.of(
+                new ReportDto("user1", Map.of("first", "APPROVED", "second", "SENT")),
+                new ReportDto("user2", Map.of()))));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportReport(1L, ExportFormat.CSV).writeTo(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).replace("\uFEFF", "").split("\r\n");
+        assertEquals(3, lines.length);
+        assertEquals("username,first,second", lines[0]);
+        assertEquals("user1,APPROVED,SENT", lines[1]);
+        assertEquals("user2,NO_SOLUTION,NO_SOLUTION", lines[2]);
+        verify(userRepository, never()).streamReportCells(any(), any());
+    }
+
+    @Test
+    void exportReport_internshipNotFound_throwException() {
+        when(internshipRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> exportService.exportReport(1L, ExportFormat.CSV));
+    }
+
+    @Test
+    void exportSolutions_escapeCsvValues() throws Exception {
+        SolutionDto solution = new SolutionDto(1L, "https://gitlab.localhost.com/a,b",
+                LocalDateTime.of(2024, 1, 2, 3, 4, 5), "https://gitlab.localhost.com/\"commit\"",
+                2L, 3L, SolutionStatus.SENT);
+        when(solutionRepository.streamAllByStatus(SolutionStatus.SENT)).thenReturn(Stream.of(solution));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportSolutions("sent", null, ExportFormat.CSV).writeTo(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).replace("\uFEFF", "").split("\r\n");
+        assertEquals(2, lines.length);
+        assertEquals("1,\"https://gitlab.localhost.com/a,b\",2024-01-02 03:04:05," +
+                "\"https://gitlab.localhost.com/\"\"commit\"\"\",2,3,SENT", lines[1]);
+    }
+
+    @Test
+    void exportSolutions_xlsx_writeWorkbook() throws Exception {
+        when(solutionRepository.streamAll()).thenReturn(Stream.empty());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportSolutions(null, null, ExportFormat.XLSX).writeTo(out);
+
+        byte[] bytes = out.toByteArray();
+        assertTrue(bytes.length > 0);
+        assertEquals('P', bytes[0]);
+        assertEquals('K', bytes[1]);
+    }
+
+    @Test
+    void exportApplications_wrongStatus_throwException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> exportService.exportApplications("unknown", null, ExportFormat.CSV));
+    }
+}
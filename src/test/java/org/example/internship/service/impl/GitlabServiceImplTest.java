@@ -0,0 +1,215 @@
+package org.example.internship.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.internship.dto.request.NewUserDto;
+import org.example.internship.exception.GitlabException;
+import org.example.internship.exception.GitlabUnavailableException;
+import org.example.internship.service.gitlab.FakeGitlabServer;
+import org.example.internship.service.gitlab.GitlabCircuitBreaker;
+import org.example.internship.service.gitlab.GitlabClient;
+import org.example.internship.service.gitlab.GitlabConnectionPool;
+import org.example.internship.service.gitlab.GitlabLane;
+import org.example.internship.service.gitlab.GitlabServiceImpl;
+import org.gitlab4j.api.models.Commit;
+import org.gitlab4j.api.models.Project;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GitlabServiceImplTest {
+
+    private FakeGitlabServer gitlab;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private GitlabConnectionPool connectionPool;
+
+    private GitlabClient gitlabClient;
+
+    private GitlabServiceImpl gitlabService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        gitlab = new FakeGitlabServer();
+        meterRegistry = new SimpleMeterRegistry();
+        connectionPool = new GitlabConnectionPool(meterRegistry, true, 8, 4, 60000, 2000);
+        gitlabClient = new GitlabClient(gitlab.getUrl(), "token", 1000, 2000, connectionPool, meterRegistry,
+                new GitlabCircuitBreaker(meterRegistry, 3, 60000),
+                1000, 100, 0, 10, 2, 4, 16, 5000);
+        gitlabService = new GitlabServiceImpl(gitlabClient, meterRegistry, 100, 60000, 60000, 60000);
+        ReflectionTestUtils.setField(gitlabService, "hookToken", "secret");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(gitlabClient, "stop");
+        ReflectionTestUtils.invokeMethod(connectionPool, "stop");
+        gitlab.close();
+    }
+
+    @Test
+    void createRepository_createProjectWithReadme() {
+        Project project = gitlabService.createRepository("task-1", "description");
+
+        FakeGitlabServer.Project created = gitlab.getProject(project.getId());
+        assertEquals("task-1", created.name);
+        assertEquals(1, created.commits.size());
+    }
+
+    @Test
+    void forkRepository_createForkInUserNamespace() {
+        FakeGitlabServer.Project source = gitlab.addProject("task-1");
+
+        Project fork = gitlabService.forkRepository(source.id, "jsmith");
+
+        assertEquals(1, gitlab.getForks(source.id).size());
+        assertEquals("jsmith", gitlab.getProject(fork.getId()).namespace);
+        assertTrue(gitlabService.isForkedRepository(fork.getId()));
+        assertFalse(gitlabService.isForkedRepository(source.id));
+    }
+
+    @Test
+    void isForkedRepository_cachedStatus_noRequestToGitlab() {
+        FakeGitlabServer.Project source = gitlab.addProject("task-1");
+        FakeGitlabServer.Project fork = gitlab.addProject("task-1-copy");
+
+        assertFalse(gitlabService.isForkedRepository(fork.id));
+        Project created = gitlabService.forkRepository(source.id, "jsmith");
+        int requests = gitlab.getRequestCount();
+
+        assertFalse(gitlabService.isForkedRepository(fork.id));
+        assertTrue(gitlabService.isForkedRepository(created.getId()));
+        assertEquals(requests, gitlab.getRequestCount());
+    }
+
+    @Test
+    void forkRepository_sequentialRequests_reuseConnection() {
+        FakeGitlabServer.Project source = gitlab.addProject("task-1");
+
+        for (int i = 0; i < 10; i++) {
+            gitlabService.forkRepository(source.id, "user" + i);
+        }
+
+        assertEquals(10, gitlab.getForks(source.id).size());
+        assertEquals(1, meterRegistry.get("gitlab.http.pool.created").counter().count());
+        assertEquals(0, meterRegistry.get("gitlab.http.pool.leased").gauge().value());
+    }
+
+    @Test
+    void forkRepository_tooManyRequests_retryAndFork() {
+        FakeGitlabServer.Project source = gitlab.addProject("task-1");
+        gitlab.failNext(1, 429);
+
+        gitlabService.forkRepository(source.id, "jsmith");
+
+        assertEquals(1, gitlab.getForks(source.id).size());
+        assertEquals(2, gitlab.getRequestCount());
+    }
+
+    @Test
+    void findFork_forkInNamespace_returnFork() {
+        FakeGitlabServer.Project source = gitlab.addProject("task-1");
+        Project created = gitlabService.forkRepository(source.id, "jsmith");
+
+        Project fork = gitlabService.findFork(source.id, "jsmith");
+
+        assertEquals(created.getId(), fork.getId());
+        assertTrue(gitlabService.isForkedRepository(fork.getId()));
+    }
+
+    @Test
+    void findFork_noForkInNamespace_returnNull() {
+        FakeGitlabServer.Project source = gitlab.addProject("task-1");
+        gitlabService.forkRepository(source.id, "jsmith");
+
+        assertNull(gitlabService.findFork(source.id, "other"));
+    }
+
+    @Test
+    void forkRepository_projectNotFound_throwException() {
+        GitlabException exception = assertThrows(GitlabException.class,
+                () -> gitlabService.forkRepository(100L, "jsmith"));
+
+        assertFalse(exception instanceof GitlabUnavailableException);
+    }
+
+    @Test
+    void forkRepository_serverErrors_openCircuit() {
+        FakeGitlabServer.Project source = gitlab.addProject("task-1");
+        gitlab.failNext(3, 503);
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(GitlabUnavailableException.class, () -> gitlabService.forkRepository(source.id, "jsmith"));
+        }
+
+        assertEquals(3, gitlab.getRequestCount());
+    }
+
+    @Test
+    void getForksAndGetLastCommit_returnNewestCommitSinceTime() {
+        FakeGitlabServer.Project source = gitlab.addProject("task-1");
+        Project fork = gitlabService.forkRepository(source.id, "jsmith");
+        Instant forkedAt = Instant.now();
+        gitlab.addCommit(fork.getId(), forkedAt.plusSeconds(60));
+        FakeGitlabServer.Commit last = gitlab.addCommit(fork.getId(), forkedAt.plusSeconds(120));
+
+        List<Project> forks = gitlabService.getForks(source.id);
+        Commit commit = gitlabService.getLastCommit(fork.getId(), Date.from(forkedAt));
+
+        assertEquals(List.of(fork.getId()), forks.stream().map(Project::getId).collect(Collectors.toList()));
+        assertEquals("jsmith", forks.get(0).getNamespace().getPath());
+        assertEquals(last.id, commit.getId());
+        assertEquals(Date.from(last.committedAt), commit.getCommittedDate());
+        assertNull(gitlabService.getLastCommit(fork.getId(), Date.from(forkedAt.plusSeconds(180))));
+    }
+
+    @Test
+    void createUserAndBlockUser_blockCreatedUser() {
+        NewUserDto newUserDto = new NewUserDto();
+        newUserDto.setUsername("jsmith");
+        newUserDto.setEmail("jsmith@example.com");
+        newUserDto.setName("John Smith");
+
+        gitlabService.createUser(newUserDto);
+        int requests = gitlab.getRequestCount();
+        gitlabService.blockUser("jsmith");
+
+        assertEquals("blocked", gitlab.getUser("jsmith").state);
+        assertEquals(requests + 1, gitlab.getRequestCount());
+    }
+
+    @Test
+    void userExists_returnWhetherUserExists() {
+        gitlab.addUser("jsmith");
+
+        assertTrue(gitlabService.userExists("jsmith", GitlabLane.BULK));
+        assertFalse(gitlabService.userExists("unknown", GitlabLane.BULK));
+    }
+
+    @Test
+    void blockUser_unknownUser_throwException() {
+        assertThrows(GitlabException.class, () -> gitlabService.blockUser("unknown"));
+    }
+
+    @Test
+    void addSystemHook_addHookOnce() {
+        assertTrue(gitlabService.addSystemHook());
+        assertFalse(gitlabService.addSystemHook());
+        int requests = gitlab.getRequestCount();
+        assertFalse(gitlabService.addSystemHook());
+        assertEquals(requests, gitlab.getRequestCount());
+
+        assertEquals(1, gitlab.getHooks().size());
+        FakeGitlabServer.Hook hook = gitlab.getHooks().iterator().next();
+        assertEquals("secret", hook.token);
+        assertTrue(hook.pushEvents);
+    }
+}
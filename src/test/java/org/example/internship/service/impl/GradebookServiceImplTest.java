@@ -0,0 +1,178 @@
+package org.example.internship.service.impl;
+
+import org.example.internship.dto.projection.SolutionStatusView;
+import org.example.internship.dto.response.ReportDto;
+import org.example.internship.dto.response.gradebook.GradebookCheckDto;
+import org.example.internship.model.internship.Internship;
+import org.example.internship.model.task.SolutionStatus;
+import org.example.internship.model.task.Task;
+import org.example.internship.model.user.Role;
+import org.example.internship.model.user.User;
+import org.example.internship.repository.InternshipRepository;
+import org.example.internship.repository.SolutionRepository;
+import org.example.internship.repository.TaskRepository;
+import org.example.internship.repository.UserRepository;
+import org.example.internship.service.gradebook.GradebookServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GradebookServiceImplTest {
+
+    @Mock
+    private InternshipRepository internshipRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private SolutionRepository solutionRepository;
+
+    @InjectMocks
+    private GradebookServiceImpl gradebookService;
+
+    private void mockInternship(List<SolutionStatusView> statuses) {
+        User first = User.builder().id(1L).username("first-user").role(Role.USER).build();
+        User second = User.builder().id(2L).username("second-user").role(Role.USER).build();
+        Task task = Task.builder().id(1L).name("Test Task").build();
+
+        when(internshipRepository.findById(1L)).thenReturn(Optional.of(Internship.builder().id(1L).build()));
+        when(userRepository.findAllByInternshipIdAndRole(1L, Role.USER)).thenReturn(List.of(second, first));
+        when(taskRepository.findAllByLesson_InternshipId(1L)).thenReturn(List.of(task));
+        when(solutionRepository.findStatusesByInternshipId(1L)).thenReturn(statuses);
+    }
+
+    @Test
+    void getReport_buildOnceAndReadFromMemory() {
+        mockInternship(List.of(new SolutionStatusView(1L, 1L, SolutionStatus.SENT)));
+
+        gradebookService.getReport(1L);
+        List<ReportDto> report = gradebookService.getReport(1L);
+
+        assertEquals(2, report.size());
+        assertEquals("first-user", report.get(0).getUsername());
+        assertEquals("SENT", report.get(0).getTaskStatuses().get("Test Task"));
+        assertEquals("NO_SOLUTION", report.get(1).getTaskStatuses().get("Test Task"));
+        verify(solutionRepository, times(1)).findStatusesByInternshipId(1L);
+    }
+
+    @Test
+    void updateStatus_changeLoadedCell() {
+        mockInternship(List.of());
+        gradebookService.getReport(1L);
+
+        gradebookService.updateStatus(2L, 1L, SolutionStatus.APPROVED);
+
+        List<ReportDto> report = gradebookService.getReport(1L);
+        assertEquals("APPROVED", report.get(1).getTaskStatuses().get("Test Task"));
+    }
+
+    @Test
+    void removeUser_excludeUserFromReport() {
+        mockInternship(List.of());
+        gradebookService.getReport(1L);
+
+        gradebookService.removeUser(1L);
+
+        List<ReportDto> report = gradebookService.getReport(1L);
+        assertEquals(1, report.size());
+        assertEquals("second-user", report.get(0).getUsername());
+    }
+
+    @Test
+    void invalidate_rebuildOnNextRead() {
+        mockInternship(List.of());
+        gradebookService.getReport(1L);
+
+        gradebookService.invalidate(1L);
+        gradebookService.getReport(1L);
+
+        verify(solutionRepository, times(2)).findStatusesByInternshipId(1L);
+    }
+
+    @Test
+    void verify_reportMismatchWithDatabase() {
+        mockInternship(List.of());
+        gradebookService.getReport(1L);
+        when(solutionRepository.findStatusesByInternshipId(1L))
+                .thenReturn(List.of(new SolutionStatusView(1L, 1L, SolutionStatus.REJECTED)));
+
+        GradebookCheckDto check = gradebookService.verify(1L);
+
+        assertTrue(check.isLoaded());
+        assertFalse(check.isConsistent());
+        assertEquals(2, check.getCheckedCells());
+        assertEquals(1, check.getMismatches().size());
+        assertEquals("REJECTED", check.getMismatches().get(0).getExpectedStatus());
+        assertEquals("NO_SOLUTION", check.getMismatches().get(0).getActualStatus());
+    }
+
+    @Test
+    void verify_consistentAfterRebuild() {
+        mockInternship(List.of(new SolutionStatusView(2L, 1L, SolutionStatus.APPROVED)));
+
+        gradebookService.rebuild(1L);
+        GradebookCheckDto check = gradebookService.verify(1L);
+
+        assertTrue(check.isConsistent());
+        assertTrue(check.getMismatches().isEmpty());
+    }
+
+    @Test
+    void getReport_internshipNotFound_throwException() {
+        when(internshipRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> gradebookService.getReport(1L));
+    }
+
+    @Test
+    void getReport_usersNotFound_throwException() {
+        when(internshipRepository.findById(1L)).thenReturn(Optional.of(Internship.builder().id(1L).build()));
+        when(userRepository.findAllByInternshipIdAndRole(1L, Role.USER)).thenReturn(List.of());
+        when(taskRepository.findAllByLesson_InternshipId(1L)).thenReturn(List.of(Task.builder().build()));
+
+        assertThrows(EntityNotFoundException.class, () -> gradebookService.getReport(1L));
+    }
+
+    @Test
+    void getReport_tasksNotFound_throwException() {
+        when(internshipRepository.findById(1L)).thenReturn(Optional.of(Internship.builder().id(1L).build()));
+        when(userRepository.findAllByInternshipIdAndRole(1L, Role.USER)).thenReturn(List.of(User.builder().build()));
+        when(taskRepository.findAllByLesson_InternshipId(1L)).thenReturn(List.of());
+
+        assertThrows(EntityNotFoundException.class, () -> gradebookService.getReport(1L));
+    }
+
+    @Test
+    void buildSnapshot_noUsersOrTasks_returnEmptyReport() {
+        when(userRepository.findAllByInternshipIdAndRole(1L, Role.USER)).thenReturn(List.of());
+        when(taskRepository.findAllByLesson_InternshipId(1L)).thenReturn(List.of());
+
+        assertTrue(gradebookService.buildSnapshot(1L).isEmpty());
+    }
+
+    @Test
+    void buildSnapshot_noTasks_returnUsersWithoutStatuses() {
+        when(userRepository.findAllByInternshipIdAndRole(1L, Role.USER))
+                .thenReturn(List.of(User.builder().id(1L).username("first-user").role(Role.USER).build()));
+        when(taskRepository.findAllByLesson_InternshipId(1L)).thenReturn(List.of());
+
+        List<ReportDto> report = gradebookService.buildSnapshot(1L);
+
+        assertEquals(1, report.size());
+        assertTrue(report.get(0).getTaskStatuses().isEmpty());
+    }
+}
@@ -0,0 +1,183 @@
+package org.example.internship.service.impl;
+
+import org.example.internship.dto.response.ReportDto;
+import org.example.internship.dto.response.internship.ArchiveReportDto;
+import org.example.internship.exception.GitlabException;
+import org.example.internship.model.internship.Internship;
+import org.example.internship.model.internship.InternshipReportArchive;
+import org.example.internship.model.internship.InternshipStatus;
+import org.example.internship.model.user.Role;
+import org.example.internship.repository.InternshipReportArchiveRepository;
+import org.example.internship.repository.InternshipRepository;
+import org.example.internship.repository.SolutionRepository;
+import org.example.internship.repository.UserRepository;
+import org.example.internship.service.gitlab.GitlabLane;
+import org.example.internship.service.gitlab.GitlabService;
+import org.example.internship.service.gradebook.GradebookService;
+import org.example.internship.service.internship.InternshipArchiveServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import javax.persistence.EntityNotFoundException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InternshipArchiveServiceImplTest {
+
+    @Mock
+    private InternshipRepository internshipRepository;
+
+    @Mock
+    private InternshipReportArchiveRepository reportArchiveRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SolutionRepository solutionRepository;
+
+    @Mock
+    private GradebookService gradebookService;
+
+    @Mock
+    private GitlabService gitlabService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InternshipArchiveServiceImpl archiveService;
+
+    private Internship internship;
+
+    @BeforeEach
+    void setUp() {
+        archiveService = new InternshipArchiveServiceImpl(internshipRepository, reportArchiveRepository,
+                userRepository, solutionRepository, gradebookService, gitlabService, transactionManager);
+        ReflectionTestUtils.setField(archiveService, "parallelism", 2);
+        ReflectionTestUtils.invokeMethod(archiveService, "start");
+        internship = Internship.builder().id(1L).status(InternshipStatus.CLOSED).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(archiveService, "stop");
+    }
+
+    private List<ReportDto> report() {
+        Map<String, String> statuses = new LinkedHashMap<>();
+        statuses.put("Task 1", "APPROVED");
+        statuses.put("Task 2", "NO_SOLUTION");
+        return List.of(new ReportDto("alice", statuses), new ReportDto("bob", Map.of()));
+    }
+
+    @Test
+    void archive_updateInOneTransactionBlockUsersAndSaveReport() {
+        TransactionStatus transaction = new SimpleTransactionStatus();
+        when(transactionManager.getTransaction(any())).thenReturn(transaction);
+        when(internshipRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(internship));
+        when(gradebookService.buildSnapshot(1L)).thenReturn(report());
+        when(userRepository.findUsernamesByInternshipIdAndRole(1L, Role.USER)).thenReturn(List.of("alice", "bob"));
+        when(solutionRepository.archiveAllByInternshipIdAndRole(1L, Role.USER)).thenReturn(3);
+        when(userRepository.updateRoleByInternshipId(1L, Role.USER, Role.ARCHIVED)).thenReturn(2);
+
+        ArchiveReportDto result = archiveService.archive(1L);
+
+        assertEquals(2, result.getArchivedUsers());
+        assertEquals(3, result.getArchivedSolutions());
+        assertEquals(2, result.getBlocked());
+        assertTrue(result.getBlockFailures().isEmpty());
+        assertEquals(InternshipStatus.ARCHIVED, internship.getStatus());
+        verify(transactionManager, times(1)).commit(transaction);
+        verify(gitlabService).blockUser("alice", GitlabLane.BULK);
+        verify(gitlabService).blockUser("bob", GitlabLane.BULK);
+        verify(gradebookService).invalidate(1L);
+
+        ArgumentCaptor<String> archive = ArgumentCaptor.forClass(String.class);
+        verify(reportArchiveRepository).insert(eq(1L), archive.capture(), any(LocalDateTime.class));
+        verify(reportArchiveRepository, never()).save(any());
+        when(reportArchiveRepository.findById(1L)).thenReturn(Optional.of(InternshipReportArchive.builder()
+                .internshipId(1L)
+                .report(archive.getValue())
+                .build()));
+        assertEquals(report(), archiveService.getArchivedReport(1L).orElseThrow());
+    }
+
+    @Test
+    void archive_blockFailure_reportFailedUser() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(internshipRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(internship));
+        when(gradebookService.buildSnapshot(1L)).thenReturn(report());
+        when(userRepository.findUsernamesByInternshipIdAndRole(1L, Role.USER)).thenReturn(List.of("alice", "bob"));
+        doThrow(new GitlabException("GitLab user not found: bob")).when(gitlabService).blockUser("bob", GitlabLane.BULK);
+
+        ArchiveReportDto result = archiveService.archive(1L);
+
+        assertEquals(1, result.getBlocked());
+        assertEquals(1, result.getBlockFailures().size());
+        assertEquals("bob", result.getBlockFailures().get(0).getUsername());
+        assertEquals("GitLab user not found: bob", result.getBlockFailures().get(0).getError());
+    }
+
+    @Test
+    void archive_noActiveUsersOrTasks_archiveWithEmptyReport() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(internshipRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(internship));
+        when(gradebookService.buildSnapshot(1L)).thenReturn(List.of());
+        when(userRepository.findUsernamesByInternshipIdAndRole(1L, Role.USER)).thenReturn(List.of());
+
+        ArchiveReportDto result = archiveService.archive(1L);
+
+        assertEquals(0, result.getArchivedUsers());
+        assertEquals(0, result.getBlocked());
+        assertEquals(InternshipStatus.ARCHIVED, internship.getStatus());
+        verify(reportArchiveRepository).insert(eq(1L), eq("[]"), any(LocalDateTime.class));
+        verify(gradebookService, never()).getReport(any());
+        verifyNoInteractions(gitlabService);
+    }
+
+    @Test
+    void archive_alreadyArchived_throwException() {
+        TransactionStatus transaction = new SimpleTransactionStatus();
+        internship.setStatus(InternshipStatus.ARCHIVED);
+        when(transactionManager.getTransaction(any())).thenReturn(transaction);
+        when(internshipRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(internship));
+
+        assertThrows(IllegalArgumentException.class, () -> archiveService.archive(1L));
+        verify(transactionManager, times(1)).rollback(transaction);
+        verifyNoInteractions(userRepository, solutionRepository, reportArchiveRepository, gitlabService,
+                gradebookService);
+    }
+
+    @Test
+    void archive_internshipNotFound_throwException() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(internshipRepository.findByIdForUpdate(1L)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> archiveService.archive(1L));
+    }
+
+    @Test
+    void getArchivedReport_notArchived_returnEmpty() {
+        when(reportArchiveRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertTrue(archiveService.getArchivedReport(1L).isEmpty());
+    }
+}
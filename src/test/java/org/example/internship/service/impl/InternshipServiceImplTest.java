@@ -3,21 +3,16 @@ package org.example.internship.service.impl;
 import org.example.internship.dto.request.internship.InternshipStatusDto;
 import org.example.internship.dto.request.internship.NewInternshipDto;
 import org.example.internship.dto.request.internship.UpdateInternshipDto;
+import org.example.internship.dto.response.CursorPage;
 import org.example.internship.dto.response.ReportDto;
 import org.example.internship.dto.response.internship.AdminInternshipDto;
 import org.example.internship.dto.response.internship.PublicInternshipDto;
 import org.example.internship.mapper.InternshipMapper;
 import org.example.internship.model.internship.Internship;
 import org.example.internship.model.internship.InternshipStatus;
-import org.example.internship.model.task.Solution;
-import org.example.internship.model.task.SolutionStatus;
-import org.example.internship.model.task.Task;
-import org.example.internship.model.user.Role;
-import org.example.internship.model.user.User;
 import org.example.internship.repository.InternshipRepository;
-import org.example.internship.repository.SolutionRepository;
-import org.example.internship.repository.TaskRepository;
-import org.example.internship.repository.UserRepository;
+import org.example.internship.service.gradebook.GradebookService;
+import org.example.internship.service.internship.InternshipArchiveService;
 import org.example.internship.service.internship.InternshipServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,10 +20,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 import javax.persistence.EntityNotFoundException;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -41,16 +38,13 @@ class InternshipServiceImplTest {
     private InternshipRepository internshipRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private InternshipMapper internshipMapper;
 
     @Mock
-    private TaskRepository taskRepository;
+    private GradebookService gradebookService;
 
     @Mock
-    private SolutionRepository solutionRepository;
-
-    @Mock
-    private InternshipMapper internshipMapper;
+    private InternshipArchiveService internshipArchiveService;
 
     @InjectMocks
     private InternshipServiceImpl internshipService;
@@ -184,13 +178,13 @@ class InternshipServiceImplTest {
 
     @Test
     void getAll_returnListOfInternships() {
-        when(internshipRepository.findAll()).thenReturn(List.of(internship));
+        when(internshipRepository.findPage(eq(0L), any(Pageable.class))).thenReturn(List.of(internship));
         when(internshipMapper.modelToAdminDto(internship)).thenReturn(adminInternshipDto);
 
-        List<AdminInternshipDto> result = internshipService.getAll();
+        CursorPage<AdminInternshipDto> result = internshipService.getAll(null, null);
 
-        assertEquals(1, result.size());
-        assertEquals(adminInternshipDto, result.get(0));
+        assertEquals(1, result.getItems().size());
+        assertEquals(adminInternshipDto, result.getItems().get(0));
     }
 
     @Test
@@ -207,55 +201,37 @@ class InternshipServiceImplTest {
     @Test
     void getByStatus_returnListOfInternshipsWithStatus() {
         internship.setStatus(InternshipStatus.CLOSED);
-        when(internshipRepository.findByStatus(InternshipStatus.CLOSED)).thenReturn(List.of(internship));
+        when(internshipRepository.findPageByStatus(eq(InternshipStatus.CLOSED), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(internship));
         when(internshipMapper.modelToAdminDto(internship)).thenReturn(adminInternshipDto);
 
-        List<AdminInternshipDto> result = internshipService.getByStatus("CLOSED");
-
-        assertEquals(1, result.size());
-        assertEquals(adminInternshipDto, result.get(0));
-    }
-
-    @Test
-    void createReport_returnReportForInternship() {
-        User user = User.builder().id(1L).username("test-user").role(Role.USER).build();
-        Task task = Task.builder().id(1L).name("Test Task").build();
-        Solution solution = Solution.builder().id(1L).task(task).user(user).status(SolutionStatus.SENT).build();
-
-        when(internshipRepository.findById(1L)).thenReturn(Optional.of(internship));
-        when(userRepository.findAllByInternshipIdAndRole(1L, Role.USER)).thenReturn(List.of(user));
-        when(taskRepository.findAllByLesson_InternshipId(1L)).thenReturn(List.of(task));
-        when(solutionRepository.findAllByUserAndTaskIn(user, List.of(task))).thenReturn(List.of(solution));
-
-        List<ReportDto> report = internshipService.createReport(1L);
+        CursorPage<AdminInternshipDto> result = internshipService.getByStatus("CLOSED", null, null);
 
-        assertEquals(1, report.size());
-        assertEquals("test-user", report.get(0).getUsername());
-        assertEquals("SENT", report.get(0).getTaskStatuses().get("Test Task"));
+        assertEquals(1, result.getItems().size());
+        assertEquals(adminInternshipDto, result.getItems().get(0));
     }
 
     @Test
-    void createReport_internshipNotFound_throwException() {
-        when(internshipRepository.findById(1L)).thenReturn(Optional.empty());
+    void createReport_returnReportFromGradebook() {
+        List<ReportDto> report = List.of(new ReportDto("test-user", Map.of("Test Task", "SENT")));
+        when(gradebookService.getReport(1L)).thenReturn(report);
 
-        assertThrows(EntityNotFoundException.class, () -> internshipService.createReport(1L));
+        assertEquals(report, internshipService.createReport(1L));
     }
 
     @Test
-    void createReport_usersNotFound_throwException() {
-        when(internshipRepository.findById(1L)).thenReturn(Optional.of(internship));
-        when(userRepository.findAllByInternshipIdAndRole(1L, Role.USER)).thenReturn(List.of());
-        when(taskRepository.findAllByLesson_InternshipId(1L)).thenReturn(List.of(Task.builder().build()));
+    void createReport_archivedInternship_returnArchivedReport() {
+        List<ReportDto> report = List.of(new ReportDto("test-user", Map.of("Test Task", "APPROVED")));
+        when(internshipArchiveService.getArchivedReport(1L)).thenReturn(Optional.of(report));
 
-        assertThrows(EntityNotFoundException.class, () -> internshipService.createReport(1L));
+        assertEquals(report, internshipService.createReport(1L));
+        verifyNoInteractions(gradebookService);
     }
 
     @Test
-    void createReport_tasksNotFound_throwException() {
-        when(internshipRepository.findById(1L)).thenReturn(Optional.of(internship));
-        when(userRepository.findAllByInternshipIdAndRole(1L, Role.USER)).thenReturn(List.of(User.builder().build()));
-        when(taskRepository.findAllByLesson_InternshipId(1L)).thenReturn(List.of());
+    void createReport_internshipNotFound_throwException() {
+        when(gradebookService.getReport(1L)).thenThrow(new EntityNotFoundException("Internship not found with ID: 1"));
 
         assertThrows(EntityNotFoundException.class, () -> internshipService.createReport(1L));
     }
-}
\ No newline at end of file
+}
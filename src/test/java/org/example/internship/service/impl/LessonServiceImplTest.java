@@ -1,6 +1,7 @@
 package org.example.internship.service.impl;
 
 import org.example.internship.dto.request.lesson.NewLessonDto;
+import org.example.internship.dto.response.CursorPage;
 import org.example.internship.dto.response.lesson.AdminLessonDto;
 import org.example.internship.dto.response.lesson.UserLessonDto;
 import org.example.internship.exception.AlreadyPublishedException;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 import javax.persistence.EntityNotFoundException;
 import java.util.List;
@@ -99,13 +101,13 @@ class LessonServiceImplTest {
 
     @Test
     void getAll_returnListOfLessons() {
-        when(lessonRepository.findAll()).thenReturn(List.of(lesson));
+        when(lessonRepository.findPage(eq(0L), any(Pageable.class))).thenReturn(List.of(lesson));
         when(lessonMapper.modelToAdminDto(lesson)).thenReturn(adminLessonDto);
 
-        List<AdminLessonDto> result = lessonService.getAll();
+        CursorPage<AdminLessonDto> result = lessonService.getAll(null, null);
 
-        assertEquals(1, result.size());
-        assertEquals(adminLessonDto, result.get(0));
+        assertEquals(1, result.getItems().size());
+        assertEquals(adminLessonDto, result.getItems().get(0));
     }
 
     @Test
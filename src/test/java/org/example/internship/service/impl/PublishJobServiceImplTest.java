@@ -0,0 +1,285 @@
+package org.example.internship.service.impl;
+
+import org.example.internship.dto.projection.StatusCountView;
+import org.example.internship.dto.response.task.ForkFailureDto;
+import org.example.internship.dto.response.task.PublishJobDto;
+import org.example.internship.exception.GitlabException;
+import org.example.internship.model.publish.PublishItemStatus;
+import org.example.internship.model.publish.PublishJob;
+import org.example.internship.model.publish.PublishJobItem;
+import org.example.internship.model.publish.PublishJobStatus;
+import org.example.internship.model.task.Task;
+import org.example.internship.model.task.TaskFork;
+import org.example.internship.model.user.User;
+import org.example.internship.repository.PublishJobItemRepository;
+import org.example.internship.repository.PublishJobRepository;
+import org.example.internship.service.fork.TaskForkService;
+import org.example.internship.service.gitlab.GitlabService;
+import org.example.internship.service.publish.PublishJobServiceImpl;
+import org.gitlab4j.api.models.Project;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.persistence.EntityNotFoundException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PublishJobServiceImplTest {
+
+    @Mock
+    private PublishJobRepository publishJobRepository;
+
+    @Mock
+    private PublishJobItemRepository publishJobItemRepository;
+
+    @Mock
+    private GitlabService gitlabService;
+
+    @Mock
+    private TaskForkService taskForkService;
+
+    @InjectMocks
+    private PublishJobServiceImpl publishJobService;
+
+    private final LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(publishJobService, "parallelism", 2);
+        ReflectionTestUtils.setField(publishJobService, "queueCapacity", 4);
+        ReflectionTestUtils.setField(publishJobService, "batchSize", 10);
+        ReflectionTestUtils.setField(publishJobService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(publishJobService, "retryDelay", 1000L);
+        ReflectionTestUtils.setField(publishJobService, "maxRetryDelay", 60000L);
+        ReflectionTestUtils.setField(publishJobService, "shutdownTimeout", 5000L);
+        ReflectionTestUtils.setField(publishJobService, "lease", 60000L);
+        ReflectionTestUtils.invokeMethod(publishJobService, "start");
+    }
+
+    private PublishJob job(PublishJobStatus status) {
+        return PublishJob.builder().id(1L).status(status).createdAt(createdAt).build();
+    }
+
+    private PublishJobItem item(Long id, int attempts) {
+        return PublishJobItem.builder()
+                .id(id)
+                .jobId(1L)
+                .taskId(2L)
+                .userId(3L)
+                .repositoryId(20L)
+                .username("user" + id)
+                .status(PublishItemStatus.NEW)
+                .attempts(attempts)
+                .nextAttemptAt(createdAt)
+                .build();
+    }
+
+    private void processAndStop(List<PublishJobItem> items) {
+        when(publishJobItemRepository.findReady(any(LocalDateTime.class), any(Pageable.class))).thenReturn(items);
+        when(publishJobItemRepository.claim(anyCollection(), any(LocalDateTime.class))).thenReturn(items.size());
+
+        publishJobService.processReady();
+        ReflectionTestUtils.invokeMethod(publishJobService, "stop");
+    }
+
+    @Test
+    void create_saveItemForEveryTaskAndUser() {
+        List<Task> tasks = List.of(Task.builder().id(1L).repositoryId(11L).build(),
+                Task.builder().id(2L).repositoryId(12L).build());
+        List<User> users = List.of(User.builder().id(5L).username("first").build(),
+                User.builder().id(6L).username("second").build());
+        when(publishJobRepository.save(any(PublishJob.class))).thenAnswer(invocation -> {
+            PublishJob job = invocation.getArgument(0);
+            job.setId(1L);
+            return job;
+        });
+
+        PublishJobDto result = publishJobService.create(tasks, users);
+
+        ArgumentCaptor<List> items = ArgumentCaptor.forClass(List.class);
+        verify(publishJobItemRepository, times(1)).saveAll(items.capture());
+        assertEquals(4, items.getValue().size());
+        PublishJobItem last = (PublishJobItem) items.getValue().get(3);
+        assertEquals(2L, last.getTaskId());
+        assertEquals(12L, last.getRepositoryId());
+        assertEquals("second", last.getUsername());
+        assertEquals(PublishItemStatus.NEW, last.getStatus());
+        assertEquals(1L, result.getId());
+        assertEquals(PublishJobStatus.RUNNING, result.getStatus());
+        assertEquals(4, result.getTotal());
+        assertEquals(4, result.getPending());
+    }
+
+    @Test
+    void getById_returnProgressAndFailures() {
+        PublishJob job = job(PublishJobStatus.COMPLETED_WITH_FAILURES);
+        job.setFinishedAt(createdAt.plusSeconds(2));
+        PublishJobItem failed = item(4L, 3);
+        failed.setStatus(PublishItemStatus.FAILED);
+        failed.setLastError("namespace is full");
+        when(publishJobRepository.findById(1L)).thenReturn(Optional.of(job));
+        when(publishJobItemRepository.countByStatus(1L)).thenReturn(List.of(
+                new StatusCountView(PublishItemStatus.DONE, 3), new StatusCountView(PublishItemStatus.FAILED, 1)));
+        when(publishJobItemRepository.findAllByJobIdAndStatusOrderById(1L, PublishItemStatus.FAILED))
+                .thenReturn(List.of(failed));
+
+        PublishJobDto result = publishJobService.getById(1L);
+
+        assertEquals(4, result.getTotal());
+        assertEquals(3, result.getSucceeded());
+        assertEquals(0, result.getPending());
+        assertEquals(1, result.getFailed());
+        assertEquals(List.of(new ForkFailureDto(2L, 3L, "user4", 3, "namespace is full")), result.getFailures());
+        assertEquals(2000, result.getWallTimeMillis());
+        assertEquals(1.5, result.getForksPerSecond());
+    }
+
+    @Test
+    void getById_jobNotFound_throwException() {
+        when(publishJobRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> publishJobService.getById(1L));
+    }
+
+    @Test
+    void resume_failedItems_restartJob() {
+        PublishJob job = job(PublishJobStatus.COMPLETED_WITH_FAILURES);
+        job.setFinishedAt(createdAt.plusSeconds(2));
+        when(publishJobRepository.findById(1L)).thenReturn(Optional.of(job));
+        when(publishJobItemRepository.resume(eq(1L), any(LocalDateTime.class))).thenReturn(1);
+        when(publishJobItemRepository.countByStatus(1L)).thenReturn(List.of(
+                new StatusCountView(PublishItemStatus.DONE, 3), new StatusCountView(PublishItemStatus.NEW, 1)));
+
+        PublishJobDto result = publishJobService.resume(1L);
+
+        verify(publishJobRepository, times(1)).save(job);
+        assertEquals(PublishJobStatus.RUNNING, result.getStatus());
+        assertNull(result.getFinishedAt());
+        assertEquals(1, result.getPending());
+    }
+
+    @Test
+    void processReady_forkAndRegister_completeJob() {
+        PublishJobItem item = item(4L, 0);
+        PublishJob job = job(PublishJobStatus.RUNNING);
+        Project fork = new Project();
+        fork.setId(100L);
+        when(gitlabService.forkRepository(20L, "user4")).thenReturn(fork);
+        when(publishJobItemRepository.existsByJobIdAndStatusIn(eq(1L), anyCollection())).thenReturn(false);
+        when(publishJobRepository.findById(1L)).thenReturn(Optional.of(job));
+
+        processAndStop(List.of(item));
+
+        assertEquals(PublishItemStatus.DONE, item.getStatus());
+        assertEquals(100L, item.getForkProjectId());
+        verify(taskForkService, times(1)).registerAll(List.of(new TaskFork(100L, 2L, 3L)));
+        assertEquals(PublishJobStatus.COMPLETED, job.getStatus());
+        assertNotNull(job.getFinishedAt());
+    }
+
+    @Test
+    void processReady_gitlabError_retryLater() {
+        PublishJobItem item = item(4L, 0);
+        when(gitlabService.forkRepository(20L, "user4")).thenThrow(new GitlabException("GitLab is unavailable"));
+        when(publishJobItemRepository.existsByJobIdAndStatusIn(eq(1L), anyCollection())).thenReturn(true);
+
+        processAndStop(List.of(item));
+
+        assertEquals(PublishItemStatus.NEW, item.getStatus());
+        assertEquals(1, item.getAttempts());
+        assertEquals("GitLab is unavailable", item.getLastError());
+        assertTrue(item.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        verifyNoInteractions(taskForkService);
+        verify(publishJobRepository, never()).save(any());
+    }
+
+    @Test
+    void processReady_forkAlreadyExists_markDoneWithoutFork() {
+        PublishJobItem item = item(4L, 1);
+        Project fork = new Project();
+        fork.setId(100L);
+        when(gitlabService.findFork(20L, "user4")).thenReturn(fork);
+        when(publishJobItemRepository.existsByJobIdAndStatusIn(eq(1L), anyCollection())).thenReturn(true);
+
+        processAndStop(List.of(item));
+
+        verify(gitlabService, never()).forkRepository(any(), any());
+        assertEquals(PublishItemStatus.DONE, item.getStatus());
+        assertEquals(100L, item.getForkProjectId());
+        verify(taskForkService, times(1)).registerAll(List.of(new TaskFork(100L, 2L, 3L)));
+    }
+
+    @Test
+    void processReady_forkCreatedDespiteError_markDone() {
+        PublishJobItem item = item(4L, 0);
+        Project fork = new Project();
+        fork.setId(100L);
+        when(gitlabService.findFork(20L, "user4")).thenReturn(null, fork);
+        when(gitlabService.forkRepository(20L, "user4")).thenThrow(new GitlabException("GitLab request timed out"));
+        when(publishJobItemRepository.existsByJobIdAndStatusIn(eq(1L), anyCollection())).thenReturn(true);
+
+        processAndStop(List.of(item));
+
+        assertEquals(PublishItemStatus.DONE, item.getStatus());
+        assertEquals(0, item.getAttempts());
+        assertEquals(100L, item.getForkProjectId());
+    }
+
+    @Test
+    void processReady_attemptsExhausted_completeJobWithFailures() {
+        PublishJobItem item = item(4L, 2);
+        PublishJob job = job(PublishJobStatus.RUNNING);
+        when(gitlabService.forkRepository(20L, "user4")).thenThrow(new GitlabException("GitLab is unavailable"));
+        when(publishJobItemRepository.existsByJobIdAndStatusIn(eq(1L), anyCollection()))
+                .thenAnswer(invocation -> invocation.<Collection<PublishItemStatus>>getArgument(1)
+                        .contains(PublishItemStatus.FAILED));
+        when(publishJobRepository.findById(1L)).thenReturn(Optional.of(job));
+
+        processAndStop(List.of(item));
+
+        assertEquals(PublishItemStatus.FAILED, item.getStatus());
+        assertEquals(3, item.getAttempts());
+        assertEquals(PublishJobStatus.COMPLETED_WITH_FAILURES, job.getStatus());
+    }
+
+    @Test
+    void processReady_itemsClaimedByAnotherWorker_releaseAndSkip() {
+        PublishJobItem item = item(4L, 0);
+        when(publishJobItemRepository.findReady(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(item));
+        when(publishJobItemRepository.claim(anyCollection(), any(LocalDateTime.class))).thenReturn(0);
+
+        publishJobService.processReady();
+        ReflectionTestUtils.invokeMethod(publishJobService, "stop");
+
+        verify(publishJobItemRepository, times(1)).release(eq(List.of(4L)), any(LocalDateTime.class));
+        verifyNoInteractions(gitlabService, taskForkService);
+    }
+
+    @Test
+    void releaseExpired_releaseItemsClaimedBeforeLease() {
+        LocalDateTime before = LocalDateTime.now();
+
+        publishJobService.releaseExpired();
+
+        ArgumentCaptor<LocalDateTime> captor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(publishJobItemRepository).releaseExpired(captor.capture());
+        assertFalse(captor.getValue().isBefore(before.minusSeconds(60)));
+        assertTrue(captor.getValue().isBefore(LocalDateTime.now().minusSeconds(59)));
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.internship.service.impl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.internship.repository.PushDeliveryRepository;
+import org.example.internship.service.inbox.PushDedupServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PushDedupServiceImplTest {
+
+    @Mock
+    private PushDeliveryRepository pushDeliveryRepository;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PushDedupServiceImpl pushDedupService;
+
+    @BeforeEach
+    void setUp() {
+        pushDedupService = new PushDedupServiceImpl(pushDeliveryRepository, meterRegistry, 2);
+    }
+
+    private double counter(String name) {
+        return meterRegistry.counter(name).count();
+    }
+
+    @Test
+    void register_firstDelivery_returnTrue() {
+        when(pushDeliveryRepository.insertIfAbsent(eq(10L), eq("sha"), any(LocalDateTime.class))).thenReturn(1);
+
+        assertTrue(pushDedupService.register(10L, "sha"));
+        assertEquals(0.0, counter("solution.dedup.dropped"));
+    }
+
+    @Test
+    void register_repeatedDelivery_dropWithoutRepository() {
+        when(pushDeliveryRepository.insertIfAbsent(eq(10L), eq("sha"), any(LocalDateTime.class))).thenReturn(1);
+        pushDedupService.register(10L, "sha");
+
+        assertFalse(pushDedupService.register(10L, "sha"));
+        verify(pushDeliveryRepository, times(1)).insertIfAbsent(eq(10L), eq("sha"), any(LocalDateTime.class));
+        assertEquals(1.0, counter("solution.dedup.hits"));
+        assertEquals(1.0, counter("solution.dedup.dropped"));
+    }
+
+    @Test
+    void register_deliveryEvictedFromCache_dropByTable() {
+        when(pushDeliveryRepository.insertIfAbsent(anyLong(), anyString(), any(LocalDateTime.class))).thenReturn(1);
+        pushDedupService.register(10L, "first");
+        pushDedupService.register(10L, "second");
+        pushDedupService.register(10L, "third");
+        when(pushDeliveryRepository.insertIfAbsent(eq(10L), eq("first"), any(LocalDateTime.class))).thenReturn(0);
+
+        assertFalse(pushDedupService.register(10L, "first"));
+        assertEquals(0.0, counter("solution.dedup.hits"));
+        assertEquals(1.0, counter("solution.dedup.dropped"));
+    }
+
+    @Test
+    void cleanUp_deleteDeliveriesOlderThanRetention() {
+        ReflectionTestUtils.setField(pushDedupService, "retentionDays", 7L);
+
+        pushDedupService.cleanUp();
+
+        verify(pushDeliveryRepository, times(1))
+                .deleteAllReceivedBefore(argThat(time -> time.isBefore(LocalDateTime.now().minusDays(6))));
+    }
+}
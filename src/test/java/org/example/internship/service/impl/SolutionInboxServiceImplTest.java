@@ -0,0 +1,308 @@
+package org.example.internship.service.impl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.internship.dto.request.solution.SolutionPushDto;
+import org.example.internship.model.inbox.InboxEvent;
+import org.example.internship.model.inbox.InboxStatus;
+import org.example.internship.model.task.TaskFork;
+import org.example.internship.repository.InboxEventRepository;
+import org.example.internship.service.fork.TaskForkService;
+import org.example.internship.service.gitlab.GitlabService;
+import org.example.internship.service.inbox.PushDedupService;
+import org.example.internship.service.inbox.SolutionInboxServiceImpl;
+import org.example.internship.service.solution.SolutionService;
+import org.example.internship.utils.PushEventParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SolutionInboxServiceImplTest {
+
+    @Mock
+    private InboxEventRepository inboxEventRepository;
+
+    @Mock
+    private SolutionService solutionService;
+
+    @Mock
+    private GitlabService gitlabService;
+
+    @Spy
+    private PushEventParser pushEventParser = new PushEventParser();
+
+    @Mock
+    private TaskForkService taskForkService;
+
+    @Mock
+    private PushDedupService pushDedupService;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private SolutionInboxServiceImpl inboxService;
+
+    private final LocalDateTime commitTime = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(inboxService, "workers", 2);
+        ReflectionTestUtils.setField(inboxService, "queueCapacity", 4);
+        ReflectionTestUtils.setField(inboxService, "batchSize", 10);
+        ReflectionTestUtils.setField(inboxService, "coalesceWindow", 5000L);
+        ReflectionTestUtils.setField(inboxService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(inboxService, "retryDelay", 1000L);
+        ReflectionTestUtils.setField(inboxService, "maxRetryDelay", 60000L);
+        ReflectionTestUtils.setField(inboxService, "shutdownTimeout", 5000L);
+        ReflectionTestUtils.setField(inboxService, "lease", 60000L);
+        ReflectionTestUtils.invokeMethod(inboxService, "start");
+    }
+
+    private InboxEvent event(Long id, SolutionPushDto push) {
+        inboxService.enqueue(pushEventParser.write(push).getBytes(StandardCharsets.UTF_8));
+
+        ArgumentCaptor<InboxEvent> captor = ArgumentCaptor.forClass(InboxEvent.class);
+        verify(inboxEventRepository).save(captor.capture());
+        clearInvocations(inboxEventRepository);
+        InboxEvent event = captor.getValue();
+        event.setId(id);
+        return event;
+    }
+
+    private SolutionPushDto push(Long projectId, int minutes) {
+        return SolutionPushDto.builder()
+                .projectId(projectId)
+                .repositoryUrl("https://gitlab.localhost.com/project-" + projectId)
+                .projectName("project-" + projectId)
+                .username("user-" + projectId)
+                .lastCommitTime(commitTime.plusMinutes(minutes))
+                .lastCommitUrl("https://gitlab.localhost.com/commit-" + minutes)
+                .build();
+    }
+
+    private void processAndStop(List<InboxEvent> heads, List<InboxEvent> events) {
+        when(inboxEventRepository.findReady(any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(heads);
+        when(inboxEventRepository.findAllByProjectIdInAndStatusOrderById(anyCollection(), eq(InboxStatus.NEW)))
+                .thenReturn(new ArrayList<>(events));
+        when(inboxEventRepository.claim(anyCollection(), any(LocalDateTime.class))).thenReturn(events.size());
+
+        inboxService.processReady();
+        ReflectionTestUtils.invokeMethod(inboxService, "stop");
+    }
+
+    private double counter(String name) {
+        return meterRegistry.counter(name).count();
+    }
+
+    @Test
+    void enqueue_saveNewEvent() {
+        InboxEvent event = event(1L, push(10L, 1));
+
+        assertEquals(10L, event.getProjectId());
+        assertEquals(InboxStatus.NEW, event.getStatus());
+        assertEquals(0, event.getAttempts());
+        assertEquals(push(10L, 1), pushEventParser.parse(event.getPayload()));
+        assertEquals(1.0, counter("solution.inbox.events.received"));
+    }
+
+    @Test
+    void enqueue_withoutProjectId_throwException() {
+        byte[] payload = "{\"user_username\": \"test-user\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(IllegalArgumentException.class, () -> inboxService.enqueue(payload));
+        verify(inboxEventRepository, never()).save(any());
+    }
+
+    @Test
+    void enqueue_withoutCommits_skipEvent() {
+        byte[] payload = "{\"project_id\": 10, \"commits\": []}".getBytes(StandardCharsets.UTF_8);
+
+        inboxService.enqueue(payload);
+
+        verify(inboxEventRepository, never()).save(any());
+    }
+
+    @Test
+    void enqueue_firstDelivery_saveEvent() {
+        SolutionPushDto push = push(10L, 1);
+        push.setAfterSha("da1560886d4f094c3e6c9ef40349f7d38b5d27d7");
+        when(pushDedupService.register(10L, push.getAfterSha())).thenReturn(true);
+
+        InboxEvent event = event(1L, push);
+
+        assertEquals(push, pushEventParser.parse(event.getPayload()));
+    }
+
+    @Test
+    void enqueue_repeatedDelivery_dropEvent() {
+        SolutionPushDto push = push(10L, 1);
+        push.setAfterSha("da1560886d4f094c3e6c9ef40349f7d38b5d27d7");
+        when(pushDedupService.register(10L, push.getAfterSha())).thenReturn(false);
+
+        inboxService.enqueue(pushEventParser.write(push).getBytes(StandardCharsets.UTF_8));
+
+        verify(inboxEventRepository, never()).save(any());
+        assertEquals(0.0, counter("solution.inbox.events.received"));
+    }
+
+    @Test
+    void processReady_coalescePushesOfOneRepository() {
+        InboxEvent first = event(1L, push(10L, 1));
+        InboxEvent second = event(2L, push(10L, 3));
+        InboxEvent third = event(3L, push(10L, 2));
+        when(gitlabService.isForkedRepository(10L)).thenReturn(true);
+
+        processAndStop(List.of(first), List.of(first, second, third));
+
+        verify(solutionService, times(1)).addAll(List.of(push(10L, 3)));
+        verify(inboxEventRepository, times(1)).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+        assertEquals(1.0, counter("solution.inbox.writes"));
+        assertEquals(2.0, counter("solution.inbox.events.collapsed"));
+    }
+
+    @Test
+    void processReady_writeAllRepositoriesInOneBatch() {
+        InboxEvent first = event(1L, push(10L, 1));
+        InboxEvent second = event(2L, push(20L, 1));
+        when(gitlabService.isForkedRepository(anyLong())).thenReturn(true);
+
+        processAndStop(List.of(first, second), List.of(first, second));
+
+        verify(solutionService, times(1)).addAll(List.of(push(10L, 1), push(20L, 1)));
+        assertEquals(2.0, counter("solution.inbox.writes"));
+        assertEquals(0.0, counter("solution.inbox.events.collapsed"));
+    }
+
+    @Test
+    void processReady_knownFork_resolveTaskAndUserWithoutGitlab() {
+        InboxEvent event = event(1L, push(10L, 1));
+        when(taskForkService.findByProjectIds(Set.of(10L))).thenReturn(Map.of(10L, new TaskFork(10L, 5L, 7L)));
+
+        processAndStop(List.of(event), List.of(event));
+
+        SolutionPushDto expected = push(10L, 1);
+        expected.setTaskId(5L);
+        expected.setUserId(7L);
+        verify(solutionService, times(1)).addAll(List.of(expected));
+        verify(gitlabService, never()).isForkedRepository(anyLong());
+        verify(inboxEventRepository, times(1)).deleteAllByIdInBatch(List.of(1L));
+    }
+
+    @Test
+    void processReady_notForkedRepository_deleteEventsWithoutSolution() {
+        InboxEvent event = event(1L, push(10L, 1));
+        when(gitlabService.isForkedRepository(10L)).thenReturn(false);
+
+        processAndStop(List.of(event), List.of(event));
+
+        verifyNoInteractions(solutionService);
+        verify(inboxEventRepository, times(1)).deleteAllByIdInBatch(List.of(1L));
+    }
+
+    @Test
+    void processReady_batchFailure_retryRepositoriesSeparately() {
+        InboxEvent first = event(1L, push(10L, 1));
+        InboxEvent second = event(2L, push(20L, 1));
+        when(gitlabService.isForkedRepository(anyLong())).thenReturn(true);
+        lenient().doThrow(new RuntimeException("batch failed")).when(solutionService).addAll(List.of(push(10L, 1), push(20L, 1)));
+        lenient().doThrow(new RuntimeException("broken solution")).when(solutionService).addAll(List.of(push(20L, 1)));
+
+        processAndStop(List.of(first, second), List.of(first, second));
+
+        verify(solutionService, times(1)).addAll(List.of(push(10L, 1)));
+        verify(inboxEventRepository, times(1)).deleteAllByIdInBatch(List.of(1L));
+        assertEquals(InboxStatus.NEW, second.getStatus());
+        assertEquals(1, second.getAttempts());
+        assertEquals("broken solution", second.getLastError());
+        assertTrue(second.getNextAttemptAt().isAfter(LocalDateTime.now()));
+    }
+
+    @Test
+    void processReady_attemptsExhausted_markFailed() {
+        InboxEvent event = event(1L, push(10L, 1));
+        event.setAttempts(2);
+        when(gitlabService.isForkedRepository(10L)).thenThrow(new RuntimeException("GitLab is unavailable"));
+
+        processAndStop(List.of(event), List.of(event));
+
+        verify(inboxEventRepository, never()).deleteAllByIdInBatch(any());
+        assertEquals(InboxStatus.FAILED, event.getStatus());
+        assertEquals(3, event.getAttempts());
+        assertEquals(1.0, counter("solution.inbox.events.failed"));
+    }
+
+    @Test
+    void processReady_corruptedPayload_markFailedWithoutRetry() {
+        InboxEvent event = event(1L, push(10L, 1));
+        event.setPayload("{\"project_id\": 10, \"commits\": [");
+
+        processAndStop(List.of(event), List.of(event));
+
+        verifyNoInteractions(gitlabService, solutionService);
+        assertEquals(InboxStatus.FAILED, event.getStatus());
+        assertEquals(1, event.getAttempts());
+    }
+
+    @Test
+    void processReady_eventsClaimedByAnotherWorker_releaseAndSkip() {
+        InboxEvent event = event(1L, push(10L, 1));
+        when(inboxEventRepository.findReady(any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(event));
+        when(inboxEventRepository.findAllByProjectIdInAndStatusOrderById(anyCollection(), eq(InboxStatus.NEW)))
+                .thenReturn(List.of(event));
+        when(inboxEventRepository.claim(anyCollection(), any(LocalDateTime.class))).thenReturn(0);
+
+        inboxService.processReady();
+        ReflectionTestUtils.invokeMethod(inboxService, "stop");
+
+        verify(inboxEventRepository, times(1)).release(eq(List.of(1L)), any(LocalDateTime.class));
+        verifyNoInteractions(gitlabService, solutionService);
+    }
+
+    @Test
+    void processReady_claimEventsWithClaimTime() {
+        InboxEvent event = event(1L, push(10L, 1));
+        when(gitlabService.isForkedRepository(10L)).thenReturn(true);
+
+        processAndStop(List.of(event), List.of(event));
+
+        ArgumentCaptor<LocalDateTime> captor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(inboxEventRepository).claim(eq(List.of(1L)), captor.capture());
+        assertFalse(captor.getValue().isAfter(LocalDateTime.now()));
+    }
+
+    @Test
+    void releaseExpired_releaseEventsClaimedBeforeLease() {
+        LocalDateTime before = LocalDateTime.now();
+
+        inboxService.releaseExpired();
+
+        ArgumentCaptor<LocalDateTime> captor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(inboxEventRepository).releaseExpired(captor.capture());
+        assertFalse(captor.getValue().isBefore(before.minusSeconds(60)));
+        assertTrue(captor.getValue().isBefore(LocalDateTime.now().minusSeconds(59)));
+        verify(inboxEventRepository, never()).release(anyCollection());
+    }
+}
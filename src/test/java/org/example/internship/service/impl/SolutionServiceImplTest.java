@@ -1,6 +1,9 @@
 package org.example.internship.service.impl;
 
+import org.example.internship.dto.projection.SolutionStatusView;
+import org.example.internship.dto.request.solution.SolutionPushDto;
 import org.example.internship.dto.request.solution.SolutionStatusDto;
+import org.example.internship.dto.response.CursorPage;
 import org.example.internship.dto.response.solution.SolutionDto;
 import org.example.internship.mapper.SolutionMapper;
 import org.example.internship.model.task.Solution;
@@ -8,16 +11,15 @@ import org.example.internship.model.task.SolutionStatus;
 import org.example.internship.model.task.Task;
 import org.example.internship.model.user.User;
 import org.example.internship.repository.SolutionRepository;
+import org.example.internship.service.gradebook.GradebookService;
 import org.example.internship.service.solution.SolutionServiceImpl;
-import org.gitlab4j.api.systemhooks.PushSystemHookEvent;
-import org.gitlab4j.api.webhook.EventCommit;
-import org.gitlab4j.api.webhook.EventProject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 import javax.persistence.EntityNotFoundException;
 
@@ -39,10 +41,12 @@ class SolutionServiceImplTest {
     @Mock
     private SolutionMapper solutionMapper;
 
+    @Mock
+    private GradebookService gradebookService;
+
     @InjectMocks
     private SolutionServiceImpl solutionService;
 
-    private PushSystemHookEvent pushEvent;
     private Solution solution;
     private SolutionDto solutionDto;
 
@@ -56,19 +60,6 @@ class SolutionServiceImplTest {
                 .atZone(ZoneId.of("Europe/Moscow"))
                 .toLocalDateTime();
 
-        EventCommit eventCommit = new EventCommit();
-        eventCommit.setTimestamp(commitTime);
-        eventCommit.setUrl("https://test.com/commit");
-
-        EventProject project = new EventProject();
-        project.setWebUrl("https://test.com/project");
-        project.setName("test-task");
-
-        pushEvent = new PushSystemHookEvent();
-        pushEvent.setProject(project);
-        pushEvent.setUserUsername("test-user");
-        pushEvent.setCommits(List.of(eventCommit));
-
         solution = Solution.builder()
                 .id(1L)
                 .repositoryUrl("https://giltab.localhost.com/project")
@@ -88,14 +79,31 @@ class SolutionServiceImplTest {
         solutionDto.setTaskId(1L);
     }
 
-//    @Test
-//    void add_addNewSolution() {
-//        when(solutionMapper.pushEventToModel(pushEvent)).thenReturn(solution);
-//
-//        solutionService.add(pushEvent);
-//
-//        verify(solutionRepository, times(1)).saveAndFlush(solution);
-//    }
+    @Test
+    void addAll_upsertLatestPushForEachRepository() {
+        SolutionPushDto older = SolutionPushDto.builder()
+                .repositoryUrl("https://giltab.localhost.com/project")
+                .lastCommitTime(solution.getLastCommitTime().plusMinutes(1))
+                .build();
+        SolutionPushDto newer = SolutionPushDto.builder()
+                .repositoryUrl("https://giltab.localhost.com/project")
+                .lastCommitTime(solution.getLastCommitTime().plusMinutes(2))
+                .build();
+        SolutionPushDto other = SolutionPushDto.builder()
+                .repositoryUrl("https://giltab.localhost.com/other-project")
+                .lastCommitTime(solution.getLastCommitTime())
+                .build();
+        when(solutionRepository.upsertAll(List.of(newer, other))).thenReturn(List.of(
+                new SolutionStatusView(1L, 1L, SolutionStatus.SENT),
+                new SolutionStatusView(null, 2L, SolutionStatus.SENT)
+        ));
+
+        solutionService.addAll(List.of(newer, other, older));
+
+        verify(solutionRepository, times(1)).upsertAll(List.of(newer, other));
+        verify(gradebookService, times(1)).updateStatus(1L, 1L, SolutionStatus.SENT);
+        verifyNoMoreInteractions(gradebookService);
+    }
 
     @Test
     void updateStatus_updateSolutionStatus() {
@@ -110,6 +118,7 @@ class SolutionServiceImplTest {
         assertEquals(SolutionStatus.APPROVED, solution.getStatus());
         assertNotNull(solution.getCheckedTime());
         verify(solutionRepository, times(1)).save(solution);
+        verify(gradebookService, times(1)).updateStatus(1L, 1L, SolutionStatus.APPROVED);
     }
 
     @Test
@@ -142,49 +151,44 @@ class SolutionServiceImplTest {
 
     @Test
     void getAll_returnListOfSolutions() {
-        when(solutionRepository.findAll()).thenReturn(List.of(solution));
-        when(solutionMapper.modelToDto(solution)).thenReturn(solutionDto);
-
-        List<SolutionDto> result = solutionService.getAll();
-        assertEquals(1, result.size());
-        assertEquals(solutionDto, result.get(0));
+        when(solutionRepository.findPageAsDto(eq(0L), any(Pageable.class))).thenReturn(List.of(solutionDto));
+
+        CursorPage<SolutionDto> result = solutionService.getAll(null, null);
+        assertEquals(1, result.getItems().size());
+        assertEquals(solutionDto, result.getItems().get(0));
+        assertNull(result.getNextCursor());
+        verify(solutionRepository, never()).findAll();
+        verify(solutionMapper, never()).modelToDto(any());
     }
 
     @Test
     void getAllByStatus_returnSolutionsWithStatus() {
-        when(solutionRepository.findAllByStatusAndIsArchivedFalse(SolutionStatus.SENT)).thenReturn(List.of(solution));
-        when(solutionMapper.modelToDto(solution)).thenReturn(solutionDto);
+        when(solutionRepository.findPageAsDtoByStatus(eq(SolutionStatus.SENT), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(solutionDto));
 
-        List<SolutionDto> result = solutionService.getAllByStatus("SENT");
+        CursorPage<SolutionDto> result = solutionService.getAllByStatus("SENT", null, null);
 
-        assertEquals(1, result.size());
-        assertEquals(solutionDto, result.get(0));
+        assertEquals(1, result.getItems().size());
+        assertEquals(solutionDto, result.getItems().get(0));
     }
 
     @Test
     void getAllByTaskId_returnSolutionsWithTaskId() {
-        when(solutionRepository.findAllByTaskIdAndIsArchivedFalse(1L)).thenReturn(List.of(solution));
-        when(solutionMapper.modelToDto(solution)).thenReturn(solutionDto);
+        when(solutionRepository.findPageAsDtoByTaskId(eq(1L), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(solutionDto));
 
-        List<SolutionDto> result = solutionService.getAllByTaskId(1L);
+        CursorPage<SolutionDto> result = solutionService.getAllByTaskId(1L, null, null);
 
-        assertEquals(1, result.size());
-        assertEquals(solutionDto, result.get(0));
+        assertEquals(1, result.getItems().size());
+        assertEquals(solutionDto, result.getItems().get(0));
     }
 
     @Test
     void archiveSolutions_archiveSolutionsOfUserWithId() {
-        User user = User.builder().id(1L).build();
-        List<Solution> solutions = List.of(
-                Solution.builder().id(1L).user(user).isArchived(false).build(),
-                Solution.builder().id(2L).user(user).isArchived(false).build()
-        );
-
-        when(solutionRepository.findAllByUserId(1L)).thenReturn(solutions);
-
         solutionService.archiveSolutions(1L);
 
-        verify(solutionRepository, times(1)).saveAllAndFlush(solutions);
-        solutions.forEach(solution -> assertTrue(solution.getIsArchived()));
+        verify(solutionRepository, times(1)).archiveAllByUserId(1L);
+        verify(gradebookService, times(1)).removeUser(1L);
+        verifyNoMoreInteractions(solutionRepository);
     }
 }
\ No newline at end of file
@@ -0,0 +1,207 @@
+package org.example.internship.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.internship.dto.request.solution.SolutionPushDto;
+import org.example.internship.exception.GitlabUnavailableException;
+import org.example.internship.model.task.SolutionSyncCursor;
+import org.example.internship.model.task.Task;
+import org.example.internship.model.task.TaskFork;
+import org.example.internship.repository.SolutionSyncCursorRepository;
+import org.example.internship.repository.TaskRepository;
+import org.example.internship.service.fork.TaskForkService;
+import org.example.internship.service.gitlab.GitlabService;
+import org.example.internship.service.inbox.SolutionInboxService;
+import org.example.internship.service.solution.SolutionService;
+import org.example.internship.service.solution.SolutionSyncServiceImpl;
+import org.gitlab4j.api.models.Commit;
+import org.gitlab4j.api.models.Namespace;
+import org.gitlab4j.api.models.Project;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SolutionSyncServiceImplTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private SolutionSyncCursorRepository solutionSyncCursorRepository;
+
+    @Mock
+    private SolutionService solutionService;
+
+    @Mock
+    private TaskForkService taskForkService;
+
+    @Mock
+    private GitlabService gitlabService;
+
+    @Mock
+    private SolutionInboxService inboxService;
+
+    private SolutionSyncServiceImpl solutionSyncService;
+
+    private final LocalDateTime forkedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+    private final Task task = Task.builder().id(1L).repositoryId(10L).build();
+
+    @BeforeEach
+    void setUp() {
+        solutionSyncService = new SolutionSyncServiceImpl(taskRepository, solutionSyncCursorRepository,
+                solutionService, taskForkService, gitlabService, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(solutionSyncService, "batchSize", 100);
+    }
+
+    private static Date date(LocalDateTime time) {
+        return Date.from(time.atZone(ZoneId.of("Europe/Moscow")).toInstant());
+    }
+
+    private Project fork(LocalDateTime lastActivityAt) {
+        Namespace namespace = new Namespace();
+        namespace.setPath("jsmith");
+        Project fork = new Project();
+        fork.setId(100L);
+        fork.setName("task-1");
+        fork.setWebUrl("http://gitlab/jsmith/task-1");
+        fork.setNamespace(namespace);
+        fork.setCreatedAt(date(forkedAt));
+        fork.setLastActivityAt(date(lastActivityAt));
+        return fork;
+    }
+
+    private Commit commit(LocalDateTime committedAt) {
+        Commit commit = new Commit();
+        commit.setId("abc");
+        commit.setWebUrl("http://gitlab/jsmith/task-1/-/commit/abc");
+        commit.setCommittedDate(date(committedAt));
+        return commit;
+    }
+
+    @Test
+    void synchronize_newCommitInFork_addSolutionAndSaveCursor() {
+        LocalDateTime committedAt = forkedAt.plusHours(1);
+        when(taskRepository.findAllByPublishDateLessThanEqual(any(LocalDate.class))).thenReturn(List.of(task));
+        when(gitlabService.getForks(10L)).thenReturn(List.of(fork(committedAt)));
+        when(solutionSyncCursorRepository.findAllByTaskId(1L)).thenReturn(List.of());
+        when(gitlabService.getLastCommit(100L, date(forkedAt))).thenReturn(commit(committedAt));
+        when(taskForkService.findByProjectIds(anyCollection())).thenReturn(Map.of(100L, new TaskFork(100L, 1L, 5L)));
+
+        solutionSyncService.synchronize();
+
+        ArgumentCaptor<List> pushes = ArgumentCaptor.forClass(List.class);
+        verify(solutionService, times(1)).addAll(pushes.capture());
+        SolutionPushDto push = (SolutionPushDto) pushes.getValue().get(0);
+        assertEquals("http://gitlab/jsmith/task-1", push.getRepositoryUrl());
+        assertEquals("jsmith", push.getUsername());
+        assertEquals(committedAt, push.getLastCommitTime());
+        assertEquals("http://gitlab/jsmith/task-1/-/commit/abc", push.getLastCommitUrl());
+        assertEquals(1L, push.getTaskId());
+        assertEquals(5L, push.getUserId());
+
+        ArgumentCaptor<List> cursors = ArgumentCaptor.forClass(List.class);
+        verify(solutionSyncCursorRepository, times(1)).saveAll(cursors.capture());
+        SolutionSyncCursor cursor = (SolutionSyncCursor) cursors.getValue().get(0);
+        assertEquals(100L, cursor.getProjectId());
+        assertEquals(committedAt, cursor.getLastCommitTime());
+        assertEquals(committedAt, cursor.getLastActivityAt());
+    }
+
+    @Test
+    void synchronize_forkWithoutActivitySinceLastSync_skipWithoutCommitRequest() {
+        LocalDateTime lastActivityAt = forkedAt.plusHours(1);
+        when(taskRepository.findAllByPublishDateLessThanEqual(any(LocalDate.class))).thenReturn(List.of(task));
+        when(gitlabService.getForks(10L)).thenReturn(List.of(fork(lastActivityAt)));
+        when(solutionSyncCursorRepository.findAllByTaskId(1L)).thenReturn(List.of(
+                new SolutionSyncCursor(100L, 1L, lastActivityAt, lastActivityAt, lastActivityAt)));
+
+        solutionSyncService.synchronize();
+
+        verify(gitlabService, never()).getLastCommit(any(), any());
+        verifyNoInteractions(solutionService, taskForkService);
+        verify(solutionSyncCursorRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void synchronize_activityWithoutNewCommit_onlyMoveCursor() {
+        LocalDateTime lastCommitTime = forkedAt.plusHours(1);
+        LocalDateTime lastActivityAt = forkedAt.plusHours(2);
+        when(taskRepository.findAllByPublishDateLessThanEqual(any(LocalDate.class))).thenReturn(List.of(task));
+        when(gitlabService.getForks(10L)).thenReturn(List.of(fork(lastActivityAt)));
+        when(solutionSyncCursorRepository.findAllByTaskId(1L)).thenReturn(List.of(
+                new SolutionSyncCursor(100L, 1L, lastCommitTime, lastCommitTime, lastCommitTime)));
+        when(gitlabService.getLastCommit(100L, date(lastCommitTime))).thenReturn(commit(lastCommitTime));
+
+        solutionSyncService.synchronize();
+
+        verifyNoInteractions(solutionService);
+        ArgumentCaptor<List> cursors = ArgumentCaptor.forClass(List.class);
+        verify(solutionSyncCursorRepository, times(1)).saveAll(cursors.capture());
+        SolutionSyncCursor cursor = (SolutionSyncCursor) cursors.getValue().get(0);
+        assertEquals(lastActivityAt, cursor.getLastActivityAt());
+        assertEquals(lastCommitTime, cursor.getLastCommitTime());
+    }
+
+    @Test
+    void synchronize_gitlabUnavailable_stopUntilNextRun() {
+        Task other = Task.builder().id(2L).repositoryId(20L).build();
+        when(taskRepository.findAllByPublishDateLessThanEqual(any(LocalDate.class))).thenReturn(List.of(task, other));
+        when(gitlabService.getForks(10L)).thenThrow(new GitlabUnavailableException("GitLab is unavailable"));
+
+        solutionSyncService.synchronize();
+
+        verify(gitlabService, never()).getForks(20L);
+        verifyNoInteractions(solutionService, solutionSyncCursorRepository);
+    }
+
+    @Test
+    void startSynchronization_syncInProgress_schedulerKeepsPollingInbox() throws InterruptedException {
+        CountDownLatch syncStarted = new CountDownLatch(1);
+        CountDownLatch gitlabResponded = new CountDownLatch(1);
+        when(taskRepository.findAllByPublishDateLessThanEqual(any(LocalDate.class))).thenReturn(List.of(task));
+        when(gitlabService.getForks(10L)).thenAnswer(invocation -> {
+            syncStarted.countDown();
+            gitlabResponded.await();
+            return List.of();
+        });
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.initialize();
+        ReflectionTestUtils.invokeMethod(solutionSyncService, "start");
+        try {
+            scheduler.schedule(solutionSyncService::startSynchronization, Instant.now());
+            assertTrue(syncStarted.await(5, TimeUnit.SECONDS));
+
+            scheduler.scheduleWithFixedDelay(inboxService::processReady, Duration.ofMillis(10));
+            verify(inboxService, timeout(5000).atLeast(2)).processReady();
+
+            solutionSyncService.startSynchronization();
+            verify(taskRepository, times(1)).findAllByPublishDateLessThanEqual(any(LocalDate.class));
+        } finally {
+            gitlabResponded.countDown();
+            scheduler.shutdown();
+            ReflectionTestUtils.invokeMethod(solutionSyncService, "stop");
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.internship.service.impl;
+
+import org.example.internship.exception.GitlabUnavailableException;
+import org.example.internship.service.gitlab.GitlabService;
+import org.example.internship.service.gitlab.SystemHookReconciler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SystemHookReconcilerTest {
+
+    @Mock
+    private GitlabService gitlabService;
+
+    @InjectMocks
+    private SystemHookReconciler systemHookReconciler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(systemHookReconciler, "retryDelay", 60000L);
+        ReflectionTestUtils.setField(systemHookReconciler, "maxRetryDelay", 600000L);
+        ReflectionTestUtils.setField(systemHookReconciler, "verifyInterval", 600000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(systemHookReconciler, "stop");
+    }
+
+    @Test
+    void health_beforeRegistration_unknown() {
+        Health health = systemHookReconciler.health();
+
+        assertEquals(Status.UNKNOWN, health.getStatus());
+        assertEquals(false, health.getDetails().get("registered"));
+        verifyNoInteractions(gitlabService);
+    }
+
+    @Test
+    void reconcile_hookAdded_up() {
+        when(gitlabService.addSystemHook()).thenReturn(true);
+
+        ReflectionTestUtils.invokeMethod(systemHookReconciler, "reconcile");
+
+        Health health = systemHookReconciler.health();
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals(0, health.getDetails().get("failedAttempts"));
+        assertNotNull(health.getDetails().get("nextCheckAt"));
+    }
+
+    @Test
+    void reconcile_gitlabUnavailable_retryWithBackOff() {
+        when(gitlabService.addSystemHook()).thenThrow(new GitlabUnavailableException("GitLab request timed out"));
+
+        ReflectionTestUtils.invokeMethod(systemHookReconciler, "reconcile");
+        ReflectionTestUtils.invokeMethod(systemHookReconciler, "reconcile");
+
+        Health health = systemHookReconciler.health();
+        assertEquals(Status.UNKNOWN, health.getStatus());
+        assertEquals(2, health.getDetails().get("failedAttempts"));
+        assertEquals("GitLab request timed out", health.getDetails().get("lastError"));
+        assertEquals(120000L, (long) ReflectionTestUtils.invokeMethod(systemHookReconciler, "retryDelay", 2));
+        assertEquals(600000L, (long) ReflectionTestUtils.invokeMethod(systemHookReconciler, "retryDelay", 10));
+    }
+
+    @Test
+    void reconcile_hookLostAfterRegistration_reportUnknownUntilRestored() {
+        when(gitlabService.addSystemHook())
+                .thenReturn(true)
+                .thenThrow(new GitlabUnavailableException("GitLab is unavailable"))
+                .thenReturn(true);
+
+        ReflectionTestUtils.invokeMethod(systemHookReconciler, "reconcile");
+        ReflectionTestUtils.invokeMethod(systemHookReconciler, "reconcile");
+        assertEquals(Status.UNKNOWN, systemHookReconciler.health().getStatus());
+
+        ReflectionTestUtils.invokeMethod(systemHookReconciler, "reconcile");
+        assertEquals(Status.UP, systemHookReconciler.health().getStatus());
+        verify(gitlabService, times(3)).addSystemHook();
+    }
+}
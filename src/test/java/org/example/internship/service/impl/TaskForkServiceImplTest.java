@@ -0,0 +1,69 @@
+package org.example.internship.service.impl;
+
+import org.example.internship.model.task.TaskFork;
+import org.example.internship.repository.TaskForkRepository;
+import org.example.internship.service.fork.TaskForkServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskForkServiceImplTest {
+
+    @Mock
+    private TaskForkRepository taskForkRepository;
+
+    private TaskForkServiceImpl taskForkService;
+
+    private final TaskFork fork = new TaskFork(10L, 1L, 2L);
+
+    @BeforeEach
+    void setUp() {
+        taskForkService = new TaskForkServiceImpl(taskForkRepository, 2);
+    }
+
+    @Test
+    void registerAll_saveForksAndResolveWithoutRepository() {
+        taskForkService.registerAll(List.of(fork));
+
+        Map<Long, TaskFork> result = taskForkService.findByProjectIds(List.of(10L));
+
+        verify(taskForkRepository, times(1)).insertAllIfAbsent(List.of(fork));
+        verify(taskForkRepository, never()).saveAll(any());
+        verify(taskForkRepository, never()).findAllById(any());
+        assertEquals(Map.of(10L, fork), result);
+    }
+
+    @Test
+    void findByProjectIds_loadMissingForksOnce() {
+        when(taskForkRepository.findAllById(List.of(10L, 20L))).thenReturn(List.of(fork));
+
+        Map<Long, TaskFork> first = taskForkService.findByProjectIds(List.of(10L, 20L));
+        Map<Long, TaskFork> second = taskForkService.findByProjectIds(List.of(10L));
+
+        verify(taskForkRepository, times(1)).findAllById(anyList());
+        assertEquals(Map.of(10L, fork), first);
+        assertEquals(Map.of(10L, fork), second);
+    }
+
+    @Test
+    void findByProjectIds_evictLeastRecentlyUsedFork() {
+        TaskFork second = new TaskFork(20L, 1L, 3L);
+        TaskFork third = new TaskFork(30L, 1L, 4L);
+        taskForkService.registerAll(List.of(fork, second, third));
+        when(taskForkRepository.findAllById(List.of(10L))).thenReturn(List.of(fork));
+
+        Map<Long, TaskFork> result = taskForkService.findByProjectIds(List.of(10L));
+
+        verify(taskForkRepository, times(1)).findAllById(List.of(10L));
+        assertEquals(Map.of(10L, fork), result);
+    }
+}
@@ -2,6 +2,8 @@ package org.example.internship.service.impl;
 
 import org.example.internship.dto.request.task.NewTaskDto;
 import org.example.internship.dto.request.task.UpdateTaskDto;
+import org.example.internship.dto.response.CursorPage;
+import org.example.internship.dto.response.task.PublishJobDto;
 import org.example.internship.dto.response.task.TaskDto;
 import org.example.internship.exception.AlreadyPublishedException;
 import org.example.internship.exception.NotPublishedException;
@@ -14,6 +16,8 @@ import org.example.internship.model.user.User;
 import org.example.internship.repository.TaskRepository;
 import org.example.internship.repository.UserRepository;
 import org.example.internship.service.gitlab.GitlabService;
+import org.example.internship.service.gradebook.GradebookService;
+import org.example.internship.service.publish.PublishJobService;
 import org.example.internship.service.task.TaskServiceImpl;
 import org.gitlab4j.api.models.Project;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +26,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 import javax.persistence.EntityNotFoundException;
 import java.time.LocalDate;
@@ -46,6 +51,12 @@ class TaskServiceImplTest {
     @Mock
     private TaskMapper taskMapper;
 
+    @Mock
+    private GradebookService gradebookService;
+
+    @Mock
+    private PublishJobService publishJobService;
+
     @InjectMocks
     private TaskServiceImpl taskService;
 
@@ -158,13 +169,44 @@ class TaskServiceImplTest {
 
     @Test
     void getAll_returnListOfTasks() {
-        when(taskRepository.findAll()).thenReturn(List.of(task));
-        when(taskMapper.modelToDto(any(Task.class))).thenReturn(taskDto);
+        when(taskRepository.findPageAsDto(eq(0L), any(Pageable.class))).thenReturn(List.of(taskDto));
 
-        List<TaskDto> result = taskService.getAll();
+        CursorPage<TaskDto> result = taskService.getAll(null, null);
 
-        verify(taskMapper, times(1)).modelToDto(task);
-        assertEquals(1, result.size());
+        verify(taskRepository, never()).findAll();
+        verify(taskMapper, never()).modelToDto(any());
+        assertEquals(1, result.getItems().size());
+        assertEquals(taskDto, result.getItems().get(0));
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void getAll_moreRowsThanLimit_returnPageWithNextCursor() {
+        List<TaskDto> rows = List.of(new TaskDto(4L, "a", "a", 1L), new TaskDto(7L, "b", "b", 1L),
+                new TaskDto(9L, "c", "c", 1L));
+        when(taskRepository.findPageAsDto(eq(3L), argThat(pageable -> pageable.getPageSize() == 3)))
+                .thenReturn(rows);
+
+        CursorPage<TaskDto> result = taskService.getAll(3L, 2);
+
+        assertEquals(rows.subList(0, 2), result.getItems());
+        assertEquals(7L, result.getNextCursor());
+    }
+
+    @Test
+    void getAll_limitAboveMaximum_requestMaximumPageSize() {
+        when(taskRepository.findPageAsDto(eq(0L), any(Pageable.class))).thenReturn(List.of());
+
+        taskService.getAll(null, 100_000);
+
+        verify(taskRepository).findPageAsDto(eq(0L), argThat(pageable -> pageable.getPageSize() == 501));
+    }
+
+    @Test
+    void getAll_invalidCursorOrLimit_throwException() {
+        assertThrows(IllegalArgumentException.class, () -> taskService.getAll(-1L, null));
+        assertThrows(IllegalArgumentException.class, () -> taskService.getAll(null, 0));
+        verify(taskRepository, never()).findPageAsDto(anyLong(), any());
     }
 
     @Test
@@ -175,11 +217,13 @@ class TaskServiceImplTest {
 
         when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
         when(userRepository.findAllByInternshipIdAndRole(task.getLesson().getInternship().getId(),  Role.USER)).thenReturn(users);
+        PublishJobDto job = PublishJobDto.builder().id(1L).total(1).pending(1).build();
+        when(publishJobService.create(List.of(task), users)).thenReturn(job);
 
-        taskService.publishById(1L);
+        PublishJobDto result = taskService.publishById(1L);
 
-        verify(gitlabService, times(1)).forkRepository(task.getRepositoryId(), "user1");
         verify(taskRepository, times(1)).saveAndFlush(task);
+        assertEquals(job, result);
         assertEquals(LocalDate.now(), task.getPublishDate());
     }
 
@@ -215,15 +259,17 @@ class TaskServiceImplTest {
 
         when(taskRepository.findAllByLessonIdAndPublishDateIsNull(1L)).thenReturn(tasks);
         when(userRepository.findAllByInternshipIdAndRole(lesson.getInternship().getId(), Role.USER)).thenReturn(users);
+        PublishJobDto job = PublishJobDto.builder().id(1L).total(1).pending(1).build();
+        when(publishJobService.create(tasks, users)).thenReturn(job);
 
-        taskService.publishByLessonId(1L);
+        PublishJobDto result = taskService.publishByLessonId(1L);
 
         for (Task task : tasks) {
             assertEquals(LocalDate.now(), task.getPublishDate());
             verify(taskRepository, times(1)).saveAndFlush(task);
         }
 
-        verify(gitlabService, times(1)).forkRepository(task.getRepositoryId(), "user1");
+        assertEquals(job, result);
     }
 
     @Test
@@ -0,0 +1,223 @@
+package org.example.internship.service.impl;
+
+import org.example.internship.dto.request.NewUserDto;
+import org.example.internship.dto.response.user.ProvisionReportDto;
+import org.example.internship.dto.response.user.ProvisionResultDto;
+import org.example.internship.dto.response.user.ProvisionStatus;
+import org.example.internship.exception.GitlabException;
+import org.example.internship.exception.GitlabUnavailableException;
+import org.example.internship.model.application.Application;
+import org.example.internship.model.application.ApplicationStatus;
+import org.example.internship.model.internship.Internship;
+import org.example.internship.model.user.Role;
+import org.example.internship.model.user.User;
+import org.example.internship.repository.ApplicationRepository;
+import org.example.internship.repository.InternshipRepository;
+import org.example.internship.repository.UserRepository;
+import org.example.internship.service.gitlab.GitlabLane;
+import org.example.internship.service.gitlab.GitlabService;
+import org.example.internship.service.gradebook.GradebookService;
+import org.example.internship.service.user.UserProvisionServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserProvisionServiceImplTest {
+
+    @Mock
+    private InternshipRepository internshipRepository;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private GitlabService gitlabService;
+
+    @Mock
+    private GradebookService gradebookService;
+
+    @InjectMocks
+    private UserProvisionServiceImpl userProvisionService;
+
+    private final Internship internship = Internship.builder().id(1L).build();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userProvisionService, "password", "SimplePass123#");
+        ReflectionTestUtils.setField(userProvisionService, "parallelism", 2);
+        ReflectionTestUtils.invokeMethod(userProvisionService, "start");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(userProvisionService, "stop");
+    }
+
+    private Application application(Long id, String username) {
+        return Application.builder()
+                .id(id)
+                .username(username)
+                .email(username + "@example.com")
+                .fullName("Intern " + id)
+                .status(ApplicationStatus.APPROVED)
+                .internship(internship)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<User> saveAllAssigningIds() {
+        List<User> saved = new ArrayList<>();
+        AtomicLong ids = new AtomicLong(100);
+        when(userRepository.saveAll(anyCollection())).thenAnswer(invocation -> {
+            for (User user : (Collection<User>) invocation.getArgument(0)) {
+                user.setId(ids.incrementAndGet());
+                saved.add(user);
+            }
+            return saved;
+        });
+        return saved;
+    }
+
+    @Test
+    void provision_createUsersWithSingleSaveAndHash() {
+        when(internshipRepository.findById(1L)).thenReturn(Optional.of(internship));
+        when(applicationRepository.findAllByInternshipIdAndStatus(1L, ApplicationStatus.APPROVED))
+                .thenReturn(List.of(application(1L, "alice"), application(2L, "bob")));
+        when(userRepository.findAllByUsernameInOrEmailIn(anyCollection(), anyCollection())).thenReturn(List.of());
+        when(passwordEncoder.encode("SimplePass123#")).thenReturn("hash");
+        List<User> saved = saveAllAssigningIds();
+
+        ProvisionReportDto report = userProvisionService.provision(1L);
+
+        assertEquals(2, report.getTotal());
+        assertEquals(2, report.getCreated());
+        assertEquals(0, report.getGitlabFailed());
+        assertEquals(2, saved.size());
+        assertTrue(saved.stream().allMatch(user -> "hash".equals(user.getPassword())
+                && user.getRole() == Role.USER && user.getInternship() == internship));
+        verify(passwordEncoder, times(1)).encode(any());
+        verify(userRepository, times(1)).saveAll(anyCollection());
+        verify(gitlabService, times(2)).createUser(any(NewUserDto.class), eq(GitlabLane.BULK));
+        verify(gradebookService, times(1)).invalidate(1L);
+        verify(userRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void provision_existingAndDuplicateUsers_reportAlreadyExists() {
+        Application duplicate = application(3L, "alice");
+        when(internshipRepository.findById(1L)).thenReturn(Optional.of(internship));
+        when(applicationRepository.findAllByInternshipIdAndStatus(1L, ApplicationStatus.APPROVED))
+                .thenReturn(List.of(application(1L, "alice"), application(2L, "bob"), duplicate));
+        when(userRepository.findAllByUsernameInOrEmailIn(anyCollection(), anyCollection()))
+                .thenReturn(List.of(User.builder().username("bob").email("bob@example.com").build()));
+        when(passwordEncoder.encode("SimplePass123#")).thenReturn("hash");
+        List<User> saved = saveAllAssigningIds();
+
+        ProvisionReportDto report = userProvisionService.provision(1L);
+
+        assertEquals(3, report.getTotal());
+        assertEquals(1, report.getCreated());
+        assertEquals(2, report.getAlreadyExisted());
+        assertEquals(1, saved.size());
+        assertEquals("alice", saved.get(0).getUsername());
+        verify(gitlabService, times(1)).createUser(argThat(dto -> "alice".equals(dto.getUsername())),
+                eq(GitlabLane.BULK));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void provision_gitlabFailure_deleteUserAndReportError() {
+        when(internshipRepository.findById(1L)).thenReturn(Optional.of(internship));
+        when(applicationRepository.findAllByInternshipIdAndStatus(1L, ApplicationStatus.APPROVED))
+                .thenReturn(List.of(application(1L, "alice"), application(2L, "bob")));
+        when(userRepository.findAllByUsernameInOrEmailIn(anyCollection(), anyCollection())).thenReturn(List.of());
+        when(passwordEncoder.encode("SimplePass123#")).thenReturn("hash");
+        saveAllAssigningIds();
+        doThrow(new GitlabException("Email has already been taken"))
+                .when(gitlabService).createUser(argThat(dto -> "bob".equals(dto.getUsername())), eq(GitlabLane.BULK));
+
+        ProvisionReportDto report = userProvisionService.provision(1L);
+
+        assertEquals(1, report.getCreated());
+        assertEquals(1, report.getGitlabFailed());
+        ProvisionResultDto failed = report.getResults().stream()
+                .filter(result -> result.getStatus() == ProvisionStatus.GITLAB_FAILED)
+                .findFirst().orElseThrow();
+        assertEquals("bob", failed.getUsername());
+        assertEquals("Email has already been taken", failed.getError());
+        assertNull(failed.getUserId());
+        ArgumentCaptor<Collection<Long>> deleted = ArgumentCaptor.forClass(Collection.class);
+        verify(userRepository).deleteAllByIdInBatch(deleted.capture());
+        assertEquals(List.of(102L), new ArrayList<>(deleted.getValue()));
+        verify(gradebookService, times(2)).invalidate(1L);
+    }
+
+    @Test
+    void provision_gitlabErrorButAccountCreated_keepUserAndReportCreated() {
+        when(internshipRepository.findById(1L)).thenReturn(Optional.of(internship));
+        when(applicationRepository.findAllByInternshipIdAndStatus(1L, ApplicationStatus.APPROVED))
+                .thenReturn(List.of(application(1L, "alice")));
+        when(userRepository.findAllByUsernameInOrEmailIn(anyCollection(), anyCollection())).thenReturn(List.of());
+        when(passwordEncoder.encode("SimplePass123#")).thenReturn("hash");
+        saveAllAssigningIds();
+        doThrow(new GitlabUnavailableException("GitLab request timed out"))
+                .when(gitlabService).createUser(any(NewUserDto.class), eq(GitlabLane.BULK));
+        when(gitlabService.userExists("alice", GitlabLane.BULK)).thenReturn(true);
+
+        ProvisionReportDto report = userProvisionService.provision(1L);
+
+        assertEquals(1, report.getCreated());
+        assertEquals(0, report.getGitlabFailed());
+        assertEquals(101L, report.getResults().get(0).getUserId());
+        verify(userRepository, never()).deleteAllByIdInBatch(anyCollection());
+    }
+
+    @Test
+    void provision_noApprovedApplications_returnEmptyReport() {
+        when(internshipRepository.findById(1L)).thenReturn(Optional.of(internship));
+        when(applicationRepository.findAllByInternshipIdAndStatus(1L, ApplicationStatus.APPROVED))
+                .thenReturn(List.of());
+
+        ProvisionReportDto report = userProvisionService.provision(1L);
+
+        assertEquals(0, report.getTotal());
+        assertTrue(report.getResults().isEmpty());
+        verifyNoInteractions(userRepository, passwordEncoder, gitlabService, gradebookService);
+    }
+
+    @Test
+    void provision_internshipNotFound_throwException() {
+        when(internshipRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> userProvisionService.provision(1L));
+        verifyNoInteractions(applicationRepository, userRepository, gitlabService);
+    }
+}
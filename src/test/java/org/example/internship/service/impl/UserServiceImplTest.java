@@ -1,12 +1,14 @@
 package org.example.internship.service.impl;
 
 import org.example.internship.dto.request.NewUserDto;
+import org.example.internship.dto.response.CursorPage;
 import org.example.internship.dto.response.UserDto;
 import org.example.internship.mapper.UserMapper;
 import org.example.internship.model.user.Role;
 import org.example.internship.model.user.User;
 import org.example.internship.repository.UserRepository;
 import org.example.internship.service.gitlab.GitlabService;
+import org.example.internship.service.gradebook.GradebookService;
 import org.example.internship.service.solution.SolutionService;
 import org.example.internship.service.user.UserServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 import javax.persistence.EntityNotFoundException;
 import java.util.List;
@@ -38,6 +41,9 @@ class UserServiceImplTest {
     @Mock
     private GitlabService gitlabService;
 
+    @Mock
+    private GradebookService gradebookService;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -134,13 +140,14 @@ class UserServiceImplTest {
 
     @Test
     void getAllUsers_returnListOfUsers() {
-        when(userRepository.findAll()).thenReturn(List.of(user));
-        when(userMapper.modelToDto(user)).thenReturn(userDto);
+        when(userRepository.findPageAsDto(eq(0L), any(Pageable.class))).thenReturn(List.of(userDto));
 
-        List<UserDto> result = userService.getAllUsers();
+        CursorPage<UserDto> result = userService.getAllUsers(null, null);
 
-        assertEquals(1, result.size());
-        assertEquals(userDto, result.get(0));
+        assertEquals(1, result.getItems().size());
+        assertEquals(userDto, result.getItems().get(0));
+        verify(userRepository, never()).findAll();
+        verify(userMapper, never()).modelToDto(any());
     }
 
     @Test
@@ -0,0 +1,85 @@
+package org.example.internship.utils;
+
+import org.example.internship.dto.request.solution.SolutionPushDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PushEventParserTest {
+
+    private static final String PAYLOAD = "{" +
+            "\"event_name\": \"push\"," +
+            "\"before\": \"95790bf891e76fee5e1747ab589903a6a1f80f22\"," +
+            "\"after\": \"da1560886d4f094c3e6c9ef40349f7d38b5d27d7\"," +
+            "\"ref\": \"refs/heads/master\"," +
+            "\"user_id\": 4," +
+            "\"user_name\": \"John Smith\"," +
+            "\"user_username\": \"jsmith\"," +
+            "\"project_id\": 15," +
+            "\"project\": {\"id\": 15, \"name\": \"task-1\", \"description\": null, \"namespace\": \"jsmith\"," +
+            "\"web_url\": \"https://gitlab.localhost.com/jsmith/task-1\", \"visibility_level\": 0}," +
+            "\"repository\": {\"name\": \"task-1\", \"url\": \"git@gitlab.localhost.com:jsmith/task-1.git\"}," +
+            "\"commits\": [" +
+            "{\"id\": \"c5feabde2d8cd023215af4d2ceeb7a64839fc428\", \"message\": \"First\"," +
+            "\"timestamp\": \"2024-01-01T12:00:00+03:00\", \"url\": \"https://gitlab.localhost.com/commit/1\"," +
+            "\"author\": {\"name\": \"John Smith\", \"email\": \"jsmith@example.com\"}," +
+            "\"added\": [\"a.txt\"], \"modified\": [], \"removed\": []}," +
+            "{\"id\": \"da1560886d4f094c3e6c9ef40349f7d38b5d27d7\", \"message\": \"Third\"," +
+            "\"timestamp\": \"2024-01-01T10:30:00Z\", \"url\": \"https://gitlab.localhost.com/commit/3\"," +
+            "\"author\": {\"name\": \"John Smith\", \"email\": \"jsmith@example.com\"}," +
+            "\"added\": [], \"modified\": [\"a.txt\", \"b.txt\"], \"removed\": []}," +
+            "{\"id\": \"b6568db1bc1dcd7f8b4d5a946b0b91f9dacd7327\", \"message\": \"Second\"," +
+            "\"timestamp\": \"2024-01-01T13:15:00+03:00\", \"url\": \"https://gitlab.localhost.com/commit/2\"," +
+            "\"author\": {\"name\": \"John Smith\", \"email\": \"jsmith@example.com\"}," +
+            "\"added\": [], \"modified\": [\"a.txt\"], \"removed\": []}" +
+            "]," +
+            "\"total_commits_count\": 3" +
+            "}";
+
+    private PushEventParser parser;
+
+    @BeforeEach
+    void setUp() {
+        parser = new PushEventParser();
+    }
+
+    @Test
+    void parse_returnLastCommitAndProject() {
+        SolutionPushDto push = parser.parse(PAYLOAD);
+
+        assertEquals(15L, push.getProjectId());
+        assertEquals("jsmith", push.getUsername());
+        assertEquals("da1560886d4f094c3e6c9ef40349f7d38b5d27d7", push.getAfterSha());
+        assertEquals("task-1", push.getProjectName());
+        assertEquals("https://gitlab.localhost.com/jsmith/task-1", push.getRepositoryUrl());
+        assertEquals(LocalDateTime.of(2024, 1, 1, 13, 30), push.getLastCommitTime());
+        assertEquals("https://gitlab.localhost.com/commit/3", push.getLastCommitUrl());
+    }
+
+    @Test
+    void parse_withoutCommits_returnNull() {
+        assertNull(parser.parse("{\"project_id\": 15, \"commits\": [], \"total_commits_count\": 0}"));
+        assertNull(parser.parse("{\"project_id\": 15}"));
+    }
+
+    @Test
+    void parse_withoutProjectId_throwException() {
+        assertThrows(IllegalArgumentException.class, () -> parser.parse("{\"user_username\": \"jsmith\"}"));
+    }
+
+    @Test
+    void parse_malformedJson_throwException() {
+        assertThrows(IllegalArgumentException.class, () -> parser.parse("{\"project_id\": 15, \"commits\": ["));
+        assertThrows(IllegalArgumentException.class, () -> parser.parse("[]"));
+    }
+
+    @Test
+    void write_parseBackSamePush() {
+        SolutionPushDto push = parser.parse(PAYLOAD);
+
+        assertEquals(push, parser.parse(parser.write(push)));
+    }
+}
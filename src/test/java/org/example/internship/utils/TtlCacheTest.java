@@ -0,0 +1,85 @@
+package org.example.internship.utils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TtlCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private SimpleMeterRegistry meterRegistry;
+    private TtlCache<String, Integer> cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TtlCache<>("test", 2, Duration.ofSeconds(10), meterRegistry, now::get);
+    }
+
+    private Integer load(String key) {
+        loads.incrementAndGet();
+        return key.length();
+    }
+
+    @Test
+    void get_cachedValue_loadOnceAndCountHits() {
+        assertEquals(3, cache.get("abc", this::load));
+        assertEquals(3, cache.get("abc", this::load));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "test").tag("result", "hit").counter().count());
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "test").tag("result", "miss").counter().count());
+        assertEquals(1, meterRegistry.get("cache.size").tag("cache", "test").gauge().value());
+    }
+
+    @Test
+    void get_expiredValue_loadAgain() {
+        cache.get("abc", this::load);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        cache.get("abc", this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_sizeExceeded_evictLeastRecentlyUsed() {
+        cache.get("a", this::load);
+        cache.get("bb", this::load);
+        cache.get("a", this::load);
+        cache.get("ccc", this::load);
+
+        cache.get("a", this::load);
+        cache.get("bb", this::load);
+
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void putAndInvalidate_replaceCachedValue() {
+        cache.put("abc", 10);
+        assertEquals(10, cache.get("abc", this::load));
+
+        cache.invalidate("abc");
+        assertEquals(3, cache.get("abc", this::load));
+
+        cache.put("abc", null);
+        assertEquals(3, cache.get("abc", this::load));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_nullValue_notCached() {
+        assertNull(cache.get("abc", key -> null));
+        assertEquals(3, cache.get("abc", this::load));
+    }
+}